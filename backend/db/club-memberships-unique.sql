@@ -0,0 +1,36 @@
+-- One membership per (club, user): remove duplicate rows, then add the unique index that
+-- ClubMembership declares (idx_club_membership_club_user).
+--
+-- Run once against an existing database before deploying a build with the index, with the
+-- application stopped or the club join endpoints drained. MySQL 8 and H2 2.x. The keeper of each
+-- pair is its oldest ACTIVE row, or its oldest row if none is active, and it takes the strongest
+-- role of the pair (LEADER > COORDINATOR > MEMBER), as ClubMembershipConsolidationService does.
+-- Afterwards, call POST /api/admin/clubs/memberships/consolidate once to fold any legacy
+-- club_members rows and reconcile the club member counters.
+--
+-- On a database where the index already exists (created by ddl-auto on a fresh schema), skip the
+-- last statement.
+
+create table club_membership_keepers as
+select id, best_role
+from (select id,
+             row_number() over (partition by club_id, user_id
+                                order by case when status = 'ACTIVE' then 0 else 1 end, joined_at, id) as position,
+             max(case role when 'LEADER' then 2 when 'COORDINATOR' then 1 else 0 end)
+                 over (partition by club_id, user_id) as best_role
+      from club_memberships) ranked
+where position = 1;
+
+update club_memberships
+set role = case (select k.best_role from club_membership_keepers k where k.id = club_memberships.id)
+               when 2 then 'LEADER'
+               when 1 then 'COORDINATOR'
+               else role end
+where id in (select id from club_membership_keepers);
+
+delete from club_memberships
+where id not in (select id from club_membership_keepers);
+
+drop table club_membership_keepers;
+
+create unique index idx_club_membership_club_user on club_memberships (club_id, user_id);
@@ -1,24 +1,19 @@
 package com.eventmanager;
 
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 @org.springframework.data.jpa.repository.config.EnableJpaAuditing
 public class BackendApplication {
 
-	public static void main(String[] args) {
-		SpringApplication.run(BackendApplication.class, args);
-	}
+	/** Startup steps kept for /actuator/startup and the startup report; enough for every bean. */
+	private static final int STARTUP_STEP_CAPACITY = 10000;
 
-	@Bean
-	public CommandLineRunner printUsers(com.eventmanager.repository.UserRepository repo) {
-		return args -> {
-			System.out.println("--- USERS IN DATABASE ---");
-			repo.findAll().forEach(u -> System.out.println(u.getId() + " : " + u.getName()));
-			System.out.println("-------------------------");
-		};
+	public static void main(String[] args) {
+		SpringApplication application = new SpringApplication(BackendApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 }
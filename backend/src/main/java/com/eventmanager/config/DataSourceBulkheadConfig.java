@@ -0,0 +1,176 @@
+package com.eventmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.messaging.simp.SimpAttributesContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Splits the Hikari pool into two lanes with a fair semaphore each, so that neither kind of work can
+ * take all of the connections:
+ * <ul>
+ *   <li>request: threads handling an HTTP request or a STOMP message, {@code db.bulkhead.permits}
+ *   (by default the pool minus the background lane);</li>
+ *   <li>background: everything else, such as the audit and activity writers, {@code @Scheduled} and
+ *   {@code @Async} jobs and startup work, {@code db.bulkhead.background-permits} (by default a fifth
+ *   of the pool, at least one).</li>
+ * </ul>
+ * A burst of requests then waits in its own FIFO queue and gives up after {@code db.bulkhead.max-wait-ms}
+ * (by default the pool's connection timeout) while the writers still get their connections, and a
+ * backlog of background work cannot starve requests. Off by default; the {@code virtual} profile turns
+ * it on, because with request handling on virtual threads Tomcat's thread limit no longer bounds how
+ * many requests queue up on the pool at once.
+ *
+ * A permit is taken in {@code getConnection} and given back once, when the connection is first closed.
+ */
+@Configuration
+public class DataSourceBulkheadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceBulkheadConfig.class);
+
+    enum Lane {
+        REQUEST, BACKGROUND;
+
+        static Lane current() {
+            return RequestContextHolder.getRequestAttributes() != null || SimpAttributesContextHolder.getAttributes() != null
+                    ? REQUEST : BACKGROUND;
+        }
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Bean
+    static BeanPostProcessor dataSourceBulkheadWrapper(@Value("${db.bulkhead.enabled:false}") boolean enabled,
+                                                       @Value("${db.bulkhead.permits:0}") int permits,
+                                                       @Value("${db.bulkhead.background-permits:0}") int backgroundPermits,
+                                                       @Value("${db.bulkhead.max-wait-ms:0}") long maxWaitMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+                HikariDataSource pool = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+                int poolSize = pool != null ? pool.getMaximumPoolSize() : 10;
+                int background = backgroundPermits > 0 ? backgroundPermits : Math.max(1, poolSize / 5);
+                int request = permits > 0 ? permits : Math.max(1, poolSize - background);
+                long waitMillis = maxWaitMillis > 0 ? maxWaitMillis : pool != null ? pool.getConnectionTimeout() : 30000;
+                if (request + background > poolSize) {
+                    logger.warn("Connection bulkhead on {}: {} request and {} background permits exceed the pool of {};"
+                            + " the lanes can wait on each other inside the pool", beanName, request, background, poolSize);
+                }
+                logger.info("Connection bulkhead on {}: {} request and {} background permits, {} ms max wait",
+                        beanName, request, background, waitMillis);
+                return new BulkheadDataSource(dataSource, request, background, waitMillis);
+            }
+        };
+    }
+
+    static final class BulkheadDataSource extends DelegatingDataSource {
+
+        private final Map<Lane, Semaphore> permits = new EnumMap<>(Lane.class);
+        private final Map<Lane, Integer> sizes = new EnumMap<>(Lane.class);
+        private final Map<Lane, Counter> rejected = new EnumMap<>(Lane.class);
+        private final long maxWaitMillis;
+
+        BulkheadDataSource(DataSource target, int requestPermits, int backgroundPermits, long maxWaitMillis) {
+            super(target);
+            this.maxWaitMillis = maxWaitMillis;
+            sizes.put(Lane.REQUEST, requestPermits);
+            sizes.put(Lane.BACKGROUND, backgroundPermits);
+            for (Lane lane : Lane.values()) {
+                Semaphore semaphore = new Semaphore(sizes.get(lane), true);
+                permits.put(lane, semaphore);
+                Tags tags = Tags.of("lane", lane.tag());
+                Metrics.gauge("db.bulkhead.waiting", tags, semaphore, Semaphore::getQueueLength);
+                Metrics.gauge("db.bulkhead.available", tags, semaphore, Semaphore::availablePermits);
+                rejected.put(lane, Counter.builder("db.bulkhead.rejected").tags(tags)
+                        .description("Connection requests that timed out waiting for a bulkhead permit")
+                        .register(Metrics.globalRegistry));
+            }
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Semaphore semaphore = acquire(Lane.current());
+            try {
+                return releasingOnClose(super.getConnection(), semaphore);
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            Semaphore semaphore = acquire(Lane.current());
+            try {
+                return releasingOnClose(super.getConnection(username, password), semaphore);
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        int available(Lane lane) {
+            return permits.get(lane).availablePermits();
+        }
+
+        private Semaphore acquire(Lane lane) throws SQLException {
+            Semaphore semaphore = permits.get(lane);
+            try {
+                if (!semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                    rejected.get(lane).increment();
+                    throw new SQLTransientConnectionException("Connection bulkhead full: " + sizes.get(lane) + " "
+                            + lane.tag() + " permits in use, " + semaphore.getQueueLength() + " waiting, gave up after "
+                            + maxWaitMillis + " ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted waiting for a connection bulkhead permit", e);
+            }
+            return semaphore;
+        }
+
+        private Connection releasingOnClose(Connection connection, Semaphore semaphore) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName())) {
+                            try {
+                                return SqlDiagnosticsConfig.invoke(connection, method, args);
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    semaphore.release();
+                                }
+                            }
+                        }
+                        return SqlDiagnosticsConfig.invoke(connection, method, args);
+                    });
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.eventmanager.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON handling of lazy Hibernate associations.
+ *
+ * All {@code @ManyToOne}/{@code @OneToOne} associations are lazy, and several controllers still
+ * return entities. HTTP responses are written while the open-in-view session is still open, so
+ * {@link #httpHibernateModule()} loads uninitialized associations during serialization: responses
+ * keep their shape, and the fetch plan (entity graphs on the repository methods) decides how many
+ * of those loads are already done by the query. STOMP payloads are written after the session is
+ * gone, so {@link #messagingHibernateModule()} writes unloaded associations as their id only.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module httpHibernateModule() {
+        return new Hibernate6Module()
+                .enable(Hibernate6Module.Feature.FORCE_LAZY_LOADING)
+                // @Transient fields such as User.directorRole have always been part of the JSON
+                .disable(Hibernate6Module.Feature.USE_TRANSIENT_ANNOTATION);
+    }
+
+    public static Module messagingHibernateModule() {
+        return new Hibernate6Module()
+                .enable(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS)
+                .disable(Hibernate6Module.Feature.USE_TRANSIENT_ANNOTATION);
+    }
+}
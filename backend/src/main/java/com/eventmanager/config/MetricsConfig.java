@@ -0,0 +1,67 @@
+package com.eventmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Hibernate statistics (hibernate.generate_statistics is on) as {@code hibernate_*} meters: query and
+     * statement counts, entity loads and fetches, and second-level cache hits and misses per region, plus
+     * the overall cache hit ratio.
+     */
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        return registry -> {
+            new HibernateMetrics(sessionFactory, "entityManagerFactory", Tags.empty()).bindTo(registry);
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", sessionFactory.getStatistics(),
+                            MetricsConfig::secondLevelCacheHitRatio)
+                    .description("Second-level cache hits over all second-level cache lookups since startup")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Open STOMP sessions by transport. The queues of the inbound, outbound and broker channels are
+     * already exported by Spring Boot as {@code executor_queued_tasks{name="clientInboundChannelExecutor"}}
+     * and so on.
+     */
+    @Bean
+    public MeterBinder stompSessionMetrics(@Qualifier("subProtocolWebSocketHandler") WebSocketHandler handler) {
+        return registry -> {
+            if (!(handler instanceof SubProtocolWebSocketHandler subProtocolHandler)) {
+                return;
+            }
+            SubProtocolWebSocketHandler.Stats stats = subProtocolHandler.getStats();
+            Map<String, ToDoubleFunction<SubProtocolWebSocketHandler.Stats>> transports = Map.of(
+                    "websocket", SubProtocolWebSocketHandler.Stats::getWebSocketSessions,
+                    "http-streaming", SubProtocolWebSocketHandler.Stats::getHttpStreamingSessions,
+                    "http-polling", SubProtocolWebSocketHandler.Stats::getHttpPollingSessions);
+            transports.forEach((transport, sessions) -> Gauge.builder("stomp.sessions", stats, sessions)
+                    .description("Open STOMP sessions")
+                    .tag("transport", transport)
+                    .register(registry));
+        };
+    }
+
+    private static double secondLevelCacheHitRatio(Statistics statistics) {
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long lookups = hits + statistics.getSecondLevelCacheMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
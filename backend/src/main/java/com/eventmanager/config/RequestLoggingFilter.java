@@ -8,9 +8,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 
+/**
+ * One DEBUG line per request with the matched route, status and duration. Request latency is recorded
+ * by the {@code http.server.requests} metric (see /actuator/prometheus); this is only for following
+ * individual requests, so it costs nothing unless the logger is at DEBUG.
+ */
 @Component
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
@@ -19,13 +25,17 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        long startTime = System.currentTimeMillis();
-        
-        logger.info("Incoming Request: {} {}", request.getMethod(), request.getRequestURI());
-
-        filterChain.doFilter(request, response);
-
-        long duration = System.currentTimeMillis() - startTime;
-        logger.info("Response Status: {} (Time: {}ms)", response.getStatus(), duration);
+        if (!logger.isDebugEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            logger.debug("{} {} -> {} in {} µs", request.getMethod(), route != null ? route : request.getRequestURI(),
+                    response.getStatus(), (System.nanoTime() - start) / 1000);
+        }
     }
 }
@@ -0,0 +1,30 @@
+package com.eventmanager.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * With {@code spring.main.lazy-initialization} on, a bean is only scheduled once it is created;
+     * beans with {@code @Scheduled} methods stay eager so their jobs run without a first request.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansAreEager() {
+        return (beanName, beanDefinition, beanType) -> {
+            AtomicBoolean scheduled = new AtomicBoolean();
+            ReflectionUtils.doWithMethods(beanType, method -> scheduled.set(true),
+                    method -> !scheduled.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+            return scheduled.get();
+        };
+    }
+}
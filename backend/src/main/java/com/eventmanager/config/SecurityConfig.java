@@ -1,10 +1,12 @@
 package com.eventmanager.config;
 
 import com.eventmanager.security.JwtAuthenticationFilter;
+import com.eventmanager.security.ScrapeCredentialAuthorizationManager;
 import com.eventmanager.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -26,6 +28,9 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private ScrapeCredentialAuthorizationManager scrapeCredentialAuthorizationManager;
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -56,12 +61,22 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Admins, or a scraper with the metrics.scrape credential
+                        .requestMatchers("/actuator/prometheus").access(scrapeCredentialAuthorizationManager)
+                        .requestMatchers("/actuator/**").hasAnyRole("COLLEGE_ADMIN", "SUPER_ADMIN")
                         // Governance & Approval (HOD/Faculty)
                         .requestMatchers("/api/governance/**")
                         .hasAnyRole("HOD", "FACULTY", "COLLEGE_ADMIN", "SUPER_ADMIN")
+                        // Platform administration
+                        .requestMatchers("/api/admin/**").hasAnyRole("COLLEGE_ADMIN", "SUPER_ADMIN")
                         // Judge specific routes
                         .requestMatchers("/api/judge/**").hasAnyRole("JUDGE", "DIRECTOR")
                         .requestMatchers("/api/evaluation/**").hasAnyRole("JUDGE", "DIRECTOR")
+                        // Hackathon matchmaking runs (organizers)
+                        .requestMatchers(HttpMethod.POST, "/api/hackathons/*/matchmaking/apply",
+                                "/api/hackathons/matchmaking/run")
+                        .hasAnyRole("FACULTY", "FACULTY_COORDINATOR", "HOD", "DIRECTOR", "COLLEGE_ADMIN", "SUPER_ADMIN")
                         // General API access
                         .requestMatchers("/api/clubs/**").authenticated()
                         .requestMatchers("/api/events/**").authenticated()
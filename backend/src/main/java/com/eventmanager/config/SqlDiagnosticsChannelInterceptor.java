@@ -0,0 +1,52 @@
+package com.eventmanager.config;
+
+import com.eventmanager.service.SqlDiagnosticsService;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import java.util.regex.Pattern;
+
+/**
+ * Profiles the SQL of sampled STOMP SEND frames handled by {@code @MessageMapping} methods, on the
+ * inbound channel thread that runs them. CONNECT and SUBSCRIBE frames are left out. Ids in the destination are replaced by {@code {id}}, so that
+ * {@code /app/chat/{roomId}} is one operation rather than one per room.
+ */
+public class SqlDiagnosticsChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(?:\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private final SqlDiagnosticsService sqlDiagnosticsService;
+
+    public SqlDiagnosticsChannelInterceptor(SqlDiagnosticsService sqlDiagnosticsService) {
+        this.sqlDiagnosticsService = sqlDiagnosticsService;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (profiled(message, handler)) {
+            sqlDiagnosticsService.begin();
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    Exception ex) {
+        if (profiled(message, handler)) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            sqlDiagnosticsService.end("STOMP " + (destination != null
+                    ? ID_SEGMENT.matcher(destination).replaceAll("/{id}") : "(no destination)"));
+        }
+    }
+
+    private static boolean profiled(Message<?> message, MessageHandler handler) {
+        return handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE;
+    }
+}
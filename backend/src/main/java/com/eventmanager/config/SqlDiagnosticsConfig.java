@@ -0,0 +1,99 @@
+package com.eventmanager.config;
+
+import com.eventmanager.service.SqlProfile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC side of the SQL diagnostics (see {@code SqlDiagnosticsService}). The DataSource is wrapped so that
+ * a connection taken by a thread with a {@link SqlProfile} comes back as a proxy whose statements record
+ * their SQL and execution time into that profile. Any other thread gets the pool's connection as is.
+ */
+@Configuration
+public class SqlDiagnosticsConfig {
+
+    @Bean
+    static BeanPostProcessor sqlDiagnosticsDataSourceWrapper(@Value("${sql.diagnostics.enabled:true}") boolean enabled) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProfilingDataSource) {
+                    return bean;
+                }
+                return new ProfilingDataSource(dataSource);
+            }
+        };
+    }
+
+    static final class ProfilingDataSource extends DelegatingDataSource {
+
+        ProfilingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return profiling(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return profiling(super.getConnection(username, password));
+        }
+    }
+
+    private static Connection profiling(Connection connection) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> timed(PreparedStatement.class, result, (String) args[0], profile);
+                        case "prepareCall" -> timed(CallableStatement.class, result, (String) args[0], profile);
+                        case "createStatement" -> timed(Statement.class, result, null, profile);
+                        default -> result;
+                    };
+                });
+    }
+
+    /** Times the {@code execute*} calls; a plain {@link Statement} takes its SQL from the call. */
+    private static Object timed(Class<? extends Statement> type, Object statement, String sql, SqlProfile profile) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                String executed = sql != null ? sql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                profile.record(executed, System.nanoTime() - start);
+            }
+        });
+    }
+
+    static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
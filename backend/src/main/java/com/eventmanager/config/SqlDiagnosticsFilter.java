@@ -0,0 +1,44 @@
+package com.eventmanager.config;
+
+import com.eventmanager.service.SqlDiagnosticsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Profiles the SQL of sampled HTTP requests. It runs ahead of Spring Security so that the user lookup for
+ * the token counts too, and attributes the request to its route pattern once the handler is known.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlDiagnosticsFilter extends OncePerRequestFilter {
+
+    private final SqlDiagnosticsService sqlDiagnosticsService;
+
+    public SqlDiagnosticsFilter(SqlDiagnosticsService sqlDiagnosticsService) {
+        this.sqlDiagnosticsService = sqlDiagnosticsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!sqlDiagnosticsService.begin()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sqlDiagnosticsService.end(request.getMethod() + " " + (route != null ? route : "(unmapped)"));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventmanager.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs what is in the database and where startup time went once the application is ready.
+ * Row counts come from one query; the slowest bean initializations come from the buffered startup
+ * timeline (the full timeline is at {@code /actuator/startup}).
+ */
+@Component
+public class StartupDiagnostics implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupDiagnostics.class);
+    private static final String COUNTS_SQL = "select "
+            + "(select count(*) from users), (select count(*) from colleges), (select count(*) from events), "
+            + "(select count(*) from hackathons), (select count(*) from event_registrations)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.startup.report-slowest:10}")
+    private int reportSlowest;
+
+    public StartupDiagnostics(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        jdbcTemplate.query(COUNTS_SQL, rs -> {
+            logger.info("Database has {} users, {} colleges, {} events, {} hackathons, {} registrations",
+                    rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5));
+        });
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering && reportSlowest > 0) {
+            StartupTimeline timeline = buffering.getBufferedTimeline();
+            String slowest = timeline.getEvents().stream()
+                    .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(reportSlowest)
+                    .map(e -> beanName(e.getStartupStep()) + " " + e.getDuration().toMillis() + "ms")
+                    .collect(Collectors.joining(", "));
+            logger.info("Ready in {} ms; slowest bean initializations (including their dependencies): {}",
+                    event.getTimeTaken().toMillis(), slowest);
+        }
+    }
+
+    private static String beanName(StartupStep step) {
+        Map<String, String> tags = StreamSupport.stream(step.getTags().spliterator(), false)
+                .collect(Collectors.toMap(StartupStep.Tag::getKey, StartupStep.Tag::getValue, (a, b) -> a));
+        return tags.getOrDefault("beanName", "?");
+    }
+}
@@ -1,11 +1,13 @@
 package com.eventmanager.controller;
 
 import com.eventmanager.dto.ApiResponse;
-import com.eventmanager.model.Activity;
+import com.eventmanager.dto.ActivityDto;
 import com.eventmanager.service.ActivityService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -15,8 +17,21 @@ public class ActivityController {
     @Autowired
     private ActivityService activityService;
 
+    /**
+     * Newest first. Pass the timestamp and id of the last item received to get the next page.
+     */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<List<Activity>>> getUserTimeline(@PathVariable String userId) {
-        return ResponseEntity.ok(ApiResponse.success(activityService.getUserTimeline(userId)));
+    public ResponseEntity<ApiResponse<List<ActivityDto>>> getUserTimeline(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeTimestamp,
+            @RequestParam(required = false) String beforeId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                activityService.getUserTimeline(userId, limit, beforeTimestamp, beforeId)));
+    }
+
+    @GetMapping("/user/{userId}/recent")
+    public ResponseEntity<ApiResponse<List<ActivityDto>>> getRecentActivities(@PathVariable String userId) {
+        return ResponseEntity.ok(ApiResponse.success(activityService.getRecentActivities(userId)));
     }
 }
@@ -0,0 +1,76 @@
+package com.eventmanager.controller;
+
+import com.eventmanager.dto.ApiResponse;
+import com.eventmanager.model.AuditLog;
+import com.eventmanager.service.AuditArchiveService;
+import com.eventmanager.service.AuditLogService;
+import com.eventmanager.service.AuditLogWriter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+public class AuditAdminController {
+
+    private final AuditLogService auditLogService;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditArchiveService auditArchiveService;
+
+    public AuditAdminController(AuditLogService auditLogService, AuditLogWriter auditLogWriter,
+                                AuditArchiveService auditArchiveService) {
+        this.auditLogService = auditLogService;
+        this.auditLogWriter = auditLogWriter;
+        this.auditArchiveService = auditArchiveService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<AuditLog>>> getRecent(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<AuditLog> logs = entityType != null ? auditLogService.getLogsByEntityType(entityType, pageable)
+                : userId != null ? auditLogService.getLogsByUser(userId, pageable)
+                : auditLogService.getRecentLogs(pageable);
+        return ResponseEntity.ok(ApiResponse.success(logs));
+    }
+
+    /**
+     * Compliance export of the audit or governance stream as JSON lines, for whole days. Served from
+     * the log store's segment files, not the database.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = AuditArchiveService.AUDIT) String stream,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!auditArchiveService.isEnabled()) {
+            throw new IllegalArgumentException("The audit log store is disabled");
+        }
+        if (!AuditArchiveService.AUDIT.equals(stream) && !AuditArchiveService.GOVERNANCE.equals(stream)) {
+            throw new IllegalArgumentException("Unknown log stream: " + stream);
+        }
+        StreamingResponseBody body = out -> auditArchiveService.export(stream, from, to, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + stream + "-" + from + "-" + to + ".jsonl\"")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /** Queue depth, drop/spill counters and flush latency of the audit writer. */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(auditLogWriter.getStats()));
+    }
+}
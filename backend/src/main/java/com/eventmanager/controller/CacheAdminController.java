@@ -0,0 +1,30 @@
+package com.eventmanager.controller;
+
+import com.eventmanager.dto.ApiResponse;
+import com.eventmanager.service.ReferenceDataCacheService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+public class CacheAdminController {
+
+    private final ReferenceDataCacheService referenceDataCacheService;
+
+    public CacheAdminController(ReferenceDataCacheService referenceDataCacheService) {
+        this.referenceDataCacheService = referenceDataCacheService;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(referenceDataCacheService.getStats()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<String>> evictAll() {
+        referenceDataCacheService.evictAll();
+        return ResponseEntity.ok(ApiResponse.success("Reference data cache cleared", null));
+    }
+}
@@ -18,12 +18,12 @@ public class CertificateVerificationController {
      * Public endpoint to verify certificate by ID and verification code
      */
     @GetMapping("/verify/{certificateId}/{verificationCode}")
-    public ResponseEntity<ApiResponse<Certificate>> verifyCertificate(
+    public ResponseEntity<ApiResponse<CertificateRepository.VerificationView>> verifyCertificate(
             @PathVariable String certificateId,
             @PathVariable String verificationCode) {
         
-        Certificate certificate = certificateRepository
-                .findByCertificateIdAndVerificationCode(certificateId, verificationCode)
+        CertificateRepository.VerificationView certificate = certificateRepository
+                .findVerificationByCertificateIdAndVerificationCode(certificateId, verificationCode)
                 .orElse(null);
         
         if (certificate == null) {
@@ -45,11 +45,11 @@ public class CertificateVerificationController {
      * Public endpoint to verify certificate by certificate ID only
      */
     @GetMapping("/verify/{certificateId}")
-    public ResponseEntity<ApiResponse<Certificate>> verifyCertificateById(
+    public ResponseEntity<ApiResponse<CertificateRepository.VerificationView>> verifyCertificateById(
             @PathVariable String certificateId) {
         
-        Certificate certificate = certificateRepository
-                .findByCertificateId(certificateId)
+        CertificateRepository.VerificationView certificate = certificateRepository
+                .findVerificationByCertificateId(certificateId)
                 .orElse(null);
         
         if (certificate == null) {
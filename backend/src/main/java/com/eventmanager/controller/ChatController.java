@@ -1,5 +1,6 @@
 package com.eventmanager.controller;
 
+import com.eventmanager.dto.ChatMessageDto;
 import com.eventmanager.model.ChatMessage;
 import com.eventmanager.model.ChatRoom;
 import com.eventmanager.service.ChatService;
@@ -23,7 +24,7 @@ public class ChatController {
 
     @MessageMapping("/chat/{roomId}")
     @SendTo("/topic/messages/{roomId}")
-    public ChatMessage sendMessage(@DestinationVariable String roomId, ChatMessage message) {
+    public ChatMessageDto sendMessage(@DestinationVariable String roomId, ChatMessage message) {
         return chatService.saveMessage(roomId, message.getSender().getId(), message.getContent(), message.getType());
     }
 
@@ -33,7 +34,7 @@ public class ChatController {
     }
 
     @GetMapping("/messages/{roomId}")
-    public List<ChatMessage> getMessages(@PathVariable String roomId) {
+    public List<ChatMessageDto> getMessages(@PathVariable String roomId) {
         return chatService.getMessages(roomId);
     }
 }
@@ -0,0 +1,24 @@
+package com.eventmanager.controller;
+
+import com.eventmanager.dto.ApiResponse;
+import com.eventmanager.service.ClubMembershipConsolidationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/clubs")
+public class ClubAdminController {
+
+    private final ClubMembershipConsolidationService consolidationService;
+
+    public ClubAdminController(ClubMembershipConsolidationService consolidationService) {
+        this.consolidationService = consolidationService;
+    }
+
+    @PostMapping("/memberships/consolidate")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> consolidateMemberships() {
+        return ResponseEntity.ok(ApiResponse.success(consolidationService.consolidate()));
+    }
+}
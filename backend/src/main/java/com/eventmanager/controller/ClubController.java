@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -82,6 +83,10 @@ public class ClubController {
         dto.setAchievements(club.getAchievements());
         dto.setActive(club.isActive());
         dto.setCreatedAt(club.getCreatedAt());
+        dto.setMemberCount(club.getActiveMemberCount());
+        dto.setPendingMemberCount(club.getPendingMemberCount());
+        dto.setEventsHostedCount(club.getEventsHostedCount());
+        dto.setAnnouncementCount(club.getAnnouncementCount());
 
         if (club.getCollege() != null) {
             dto.setCollegeId(club.getCollege().getId());
@@ -183,4 +188,12 @@ public class ClubController {
             @RequestParam String status) {
         return ResponseEntity.ok(ApiResponse.success(clubService.updateJoinRequestStatus(requestId, status)));
     }
+
+    @PostMapping("/{id}/join-requests/approve")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> approveJoinRequests(
+            @PathVariable String id,
+            @RequestBody(required = false) List<String> requestIds) {
+        int approved = clubService.approveJoinRequests(id, requestIds);
+        return ResponseEntity.ok(ApiResponse.success("Join requests approved", Map.of("approved", approved)));
+    }
 }
@@ -1,5 +1,6 @@
 package com.eventmanager.controller;
 
+import com.eventmanager.dto.JudgeScoreDto;
 import com.eventmanager.model.JudgeScore;
 import com.eventmanager.model.ScoreLock;
 import com.eventmanager.service.EvaluationService;
@@ -38,7 +39,7 @@ public class EvaluationController {
         Boolean isDraft = (Boolean) payload.get("isDraft");
 
         JudgeScore score = evaluationService.submitScore(submissionId, criteriaScores, totalScore, feedback, isDraft);
-        return ResponseEntity.ok(score);
+        return ResponseEntity.ok(JudgeScoreDto.from(score));
     }
 
     @GetMapping("/submission/{submissionId}")
@@ -97,7 +98,7 @@ public class EvaluationController {
 
     @GetMapping("/pending/{eventId}")
     @PreAuthorize("hasAnyRole('HOD', 'DIRECTOR')")
-    public ResponseEntity<java.util.List<com.eventmanager.model.JudgeScore>> getPendingScores(
+    public ResponseEntity<java.util.List<JudgeScoreDto>> getPendingScores(
             @PathVariable String eventId) {
         return ResponseEntity.ok(evaluationService.getSubmittedScoresByEvent(eventId));
     }
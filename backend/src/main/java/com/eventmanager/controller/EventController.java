@@ -6,6 +6,7 @@ import com.eventmanager.model.EventRegistration;
 import com.eventmanager.repository.EventRepository;
 import com.eventmanager.repository.EventRegistrationRepository;
 import com.eventmanager.repository.UserRepository;
+import com.eventmanager.service.ClubStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,17 +27,22 @@ public class EventController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ClubStatsService clubStatsService;
+
     @GetMapping
-    public ResponseEntity<ApiResponse<org.springframework.data.domain.Page<Event>>> getAllEvents(
+    public ResponseEntity<ApiResponse<org.springframework.data.domain.Page<EventRepository.EventSummaryView>>> getAllEvents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        return ResponseEntity.ok(ApiResponse.success(eventRepository.findAll(pageable)));
+        return ResponseEntity.ok(ApiResponse.success(eventRepository.findSummaries(pageable)));
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<Event>> createEvent(@RequestBody Event event) {
-        return ResponseEntity.ok(ApiResponse.success(eventRepository.save(event)));
+        Event savedEvent = eventRepository.save(event);
+        clubStatsService.onEventHosted(savedEvent.getClubId());
+        return ResponseEntity.ok(ApiResponse.success(savedEvent));
     }
 
     // Register for an event
@@ -141,11 +147,8 @@ public class EventController {
 
     // Get events organized by faculty
     @GetMapping("/organizer/{organizerId}")
-    public ResponseEntity<ApiResponse<List<Event>>> getEventsByOrganizer(@PathVariable String organizerId) {
-        List<Event> events = eventRepository.findAll().stream()
-            .filter(e -> e.getOrganizer() != null && e.getOrganizer().getId().equals(organizerId))
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(ApiResponse.success(events));
+    public ResponseEntity<ApiResponse<List<EventRepository.EventSummaryView>>> getEventsByOrganizer(@PathVariable String organizerId) {
+        return ResponseEntity.ok(ApiResponse.success(eventRepository.findSummariesByOrganizerId(organizerId)));
     }
 
     @PostMapping("/seed-registrations")
@@ -1,11 +1,15 @@
 package com.eventmanager.controller;
 
 import com.eventmanager.dto.ApiResponse;
+import com.eventmanager.dto.ForumFeedDto;
+import com.eventmanager.dto.ForumVoteDto;
 import com.eventmanager.model.ForumComment;
 import com.eventmanager.model.ForumPost;
+import com.eventmanager.security.CustomUserDetails;
 import com.eventmanager.service.ForumService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
@@ -26,6 +30,16 @@ public class ForumController {
         return ResponseEntity.ok(ApiResponse.success(forumService.getAllPosts()));
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<ForumFeedDto>> getFeed(@RequestParam(defaultValue = "new") String sort,
+                                                             @RequestParam(required = false) String category,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             Authentication authentication) {
+        String userId = ((CustomUserDetails) authentication.getPrincipal()).getUser().getId();
+        return ResponseEntity.ok(ApiResponse.success(forumService.getFeed(sort, category, cursor, size, userId)));
+    }
+
     @GetMapping("/posts/category/{category}")
     public ResponseEntity<ApiResponse<List<ForumPost>>> getPostsByCategory(@PathVariable String category) {
         return ResponseEntity.ok(ApiResponse.success(forumService.getPostsByCategory(category)));
@@ -37,13 +51,21 @@ public class ForumController {
     }
 
     @PostMapping("/posts/{id}/upvote")
-    public ResponseEntity<ApiResponse<ForumPost>> upvotePost(@PathVariable String id) {
-        return ResponseEntity.ok(ApiResponse.success(forumService.upvotePost(id)));
+    public ResponseEntity<ApiResponse<ForumVoteDto>> upvotePost(@PathVariable String id, Authentication authentication) {
+        String userId = ((CustomUserDetails) authentication.getPrincipal()).getUser().getId();
+        return ResponseEntity.ok(ApiResponse.success(forumService.votePost(id, userId, 1)));
     }
 
     @PostMapping("/posts/{id}/downvote")
-    public ResponseEntity<ApiResponse<ForumPost>> downvotePost(@PathVariable String id) {
-        return ResponseEntity.ok(ApiResponse.success(forumService.downvotePost(id)));
+    public ResponseEntity<ApiResponse<ForumVoteDto>> downvotePost(@PathVariable String id, Authentication authentication) {
+        String userId = ((CustomUserDetails) authentication.getPrincipal()).getUser().getId();
+        return ResponseEntity.ok(ApiResponse.success(forumService.votePost(id, userId, -1)));
+    }
+
+    @DeleteMapping("/posts/{id}/vote")
+    public ResponseEntity<ApiResponse<ForumVoteDto>> clearVote(@PathVariable String id, Authentication authentication) {
+        String userId = ((CustomUserDetails) authentication.getPrincipal()).getUser().getId();
+        return ResponseEntity.ok(ApiResponse.success(forumService.votePost(id, userId, 0)));
     }
 
     @PostMapping("/posts/{id}/comments")
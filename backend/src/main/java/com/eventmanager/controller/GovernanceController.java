@@ -6,6 +6,7 @@ import com.eventmanager.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -20,7 +21,7 @@ public class GovernanceController {
 
     @PostMapping("/approve/event/{id}")
     public ResponseEntity<?> approveEvent(@PathVariable String id, @RequestParam String comments,
-            @AuthenticationPrincipal org.springframework.security.core.userdetails.User userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails) {
         User actor = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
         governanceService.approveEvent(id, actor, comments);
         return ResponseEntity.ok("Event Approved");
@@ -28,7 +29,7 @@ public class GovernanceController {
 
     @PostMapping("/approve/hackathon/{id}")
     public ResponseEntity<?> approveHackathon(@PathVariable String id, @RequestParam String comments,
-            @AuthenticationPrincipal org.springframework.security.core.userdetails.User userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails) {
         User actor = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
         governanceService.approveHackathon(id, actor, comments);
         return ResponseEntity.ok("Hackathon Approved");
@@ -36,7 +37,7 @@ public class GovernanceController {
 
     @PostMapping("/assign-judge/{eventId}")
     public ResponseEntity<?> assignJudge(@PathVariable String eventId, @RequestParam String judgeId,
-            @AuthenticationPrincipal org.springframework.security.core.userdetails.User userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails) {
         User actor = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
         governanceService.assignJudge(eventId, judgeId, actor);
         return ResponseEntity.ok("Judge Assigned");
@@ -44,7 +45,7 @@ public class GovernanceController {
 
     @PostMapping("/submit-score/{submissionId}")
     public ResponseEntity<?> submitScore(@PathVariable String submissionId, @RequestBody JudgeScore scoreDetails,
-            @AuthenticationPrincipal org.springframework.security.core.userdetails.User userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails) {
         User judge = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
         governanceService.submitScore(submissionId, scoreDetails, judge);
         return ResponseEntity.ok("Score Submitted");
@@ -52,7 +53,7 @@ public class GovernanceController {
 
     @PostMapping("/lock-scores/{id}")
     public ResponseEntity<?> lockScores(@PathVariable String id, @RequestParam String comments,
-            @AuthenticationPrincipal org.springframework.security.core.userdetails.User userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails) {
         User actor = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
         governanceService.lockScores(id, actor, comments);
         return ResponseEntity.ok("Scores Locked & Finalized");
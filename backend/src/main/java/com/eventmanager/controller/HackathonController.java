@@ -3,7 +3,12 @@ package com.eventmanager.controller;
 import com.eventmanager.dto.ApiResponse;
 import com.eventmanager.model.*;
 import com.eventmanager.repository.*;
+import com.eventmanager.dto.HackathonDto;
+import com.eventmanager.dto.TeamDto;
+import com.eventmanager.dto.TeamMatchProposalDto;
 import com.eventmanager.service.HackathonService;
+import com.eventmanager.service.TeamMatchmakingService;
+import com.eventmanager.service.TeamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,22 +26,28 @@ public class HackathonController {
     private final UserRepository userRepository;
     private final BookmarkRepository bookmarkRepository;
     private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
+    private final TeamMatchmakingService teamMatchmakingService;
+    private final TeamService teamService;
 
     @Autowired
     public HackathonController(HackathonService hackathonService,
                                HackathonRepository hackathonRepository,
                                UserRepository userRepository,
                                BookmarkRepository bookmarkRepository,
-                               org.springframework.security.crypto.password.PasswordEncoder passwordEncoder) {
+                               org.springframework.security.crypto.password.PasswordEncoder passwordEncoder,
+                               TeamMatchmakingService teamMatchmakingService,
+                               TeamService teamService) {
         this.hackathonService = hackathonService;
         this.hackathonRepository = hackathonRepository;
         this.userRepository = userRepository;
         this.bookmarkRepository = bookmarkRepository;
         this.passwordEncoder = passwordEncoder;
+        this.teamMatchmakingService = teamMatchmakingService;
+        this.teamService = teamService;
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Hackathon>>> getAllHackathons() {
+    public ResponseEntity<ApiResponse<List<HackathonDto>>> getAllHackathons() {
         return ResponseEntity.ok(ApiResponse.success(hackathonService.getAllHackathons()));
     }
 
@@ -46,27 +57,27 @@ public class HackathonController {
     }
 
     @GetMapping("/student/{userId}")
-    public ResponseEntity<ApiResponse<List<Hackathon>>> getHackathonsByStudent(@PathVariable String userId) {
+    public ResponseEntity<ApiResponse<List<HackathonDto>>> getHackathonsByStudent(@PathVariable String userId) {
         return ResponseEntity.ok(ApiResponse.success(hackathonService.getHackathonsByStudent(userId)));
     }
 
     @GetMapping("/organizer/{organizerId}")
-    public ResponseEntity<ApiResponse<List<Hackathon>>> getHackathonsByOrganizer(@PathVariable String organizerId) {
+    public ResponseEntity<ApiResponse<List<HackathonDto>>> getHackathonsByOrganizer(@PathVariable String organizerId) {
         return ResponseEntity.ok(ApiResponse.success(hackathonService.getHackathonsByOrganizer(organizerId)));
     }
 
     @GetMapping("/student/{userId}/registered")
-    public ResponseEntity<ApiResponse<List<Hackathon>>> getRegisteredHackathons(@PathVariable String userId) {
+    public ResponseEntity<ApiResponse<List<HackathonDto>>> getRegisteredHackathons(@PathVariable String userId) {
         return ResponseEntity.ok(ApiResponse.success(hackathonService.getRegisteredHackathons(userId)));
     }
 
     @GetMapping("/student/{userId}/completed")
-    public ResponseEntity<ApiResponse<List<Hackathon>>> getCompletedHackathons(@PathVariable String userId) {
+    public ResponseEntity<ApiResponse<List<HackathonDto>>> getCompletedHackathons(@PathVariable String userId) {
         return ResponseEntity.ok(ApiResponse.success(hackathonService.getCompletedHackathons(userId)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Hackathon>> getHackathonById(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<HackathonDto>> getHackathonById(@PathVariable String id) {
         return hackathonService.getHackathonById(id)
                 .map(h -> ResponseEntity.ok(ApiResponse.success(h)))
                 .orElse(ResponseEntity.status(404).body(ApiResponse.error("Hackathon not found")));
@@ -108,8 +119,8 @@ public class HackathonController {
     }
 
     @GetMapping("/teams/student/{userId}")
-    public ResponseEntity<ApiResponse<List<Team>>> getTeamsByStudent(@PathVariable String userId) {
-        return ResponseEntity.ok(ApiResponse.success(hackathonService.getTeamsByStudent(userId)));
+    public ResponseEntity<ApiResponse<List<TeamDto>>> getTeamsByStudent(@PathVariable String userId) {
+        return ResponseEntity.ok(ApiResponse.success(teamService.getStudentTeams(userId)));
     }
 
     @GetMapping("/teams/{teamId}/members")
@@ -117,6 +128,38 @@ public class HackathonController {
         return ResponseEntity.ok(ApiResponse.success(hackathonService.getTeamMembers(teamId)));
     }
 
+    @PostMapping("/{id}/matchmaking/pool")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> joinMatchmakingPool(@PathVariable String id, @RequestParam String userId) {
+        try {
+            SoloRegistration registration = teamMatchmakingService.joinPool(id, userId);
+            return ResponseEntity.ok(ApiResponse.success(Map.of("status", registration.getStatus(),
+                    "poolSize", teamMatchmakingService.getPoolSize(id))));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}/matchmaking/pool")
+    public ResponseEntity<ApiResponse<Void>> leaveMatchmakingPool(@PathVariable String id, @RequestParam String userId) {
+        teamMatchmakingService.leavePool(id, userId);
+        return ResponseEntity.ok(ApiResponse.success("Left matchmaking pool", null));
+    }
+
+    @GetMapping("/{id}/matchmaking/proposals")
+    public ResponseEntity<ApiResponse<List<TeamMatchProposalDto>>> getMatchProposals(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(teamMatchmakingService.proposeMatches(id)));
+    }
+
+    @PostMapping("/{id}/matchmaking/apply")
+    public ResponseEntity<ApiResponse<List<TeamMatchProposalDto>>> applyMatchProposals(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success("Match invites sent", teamMatchmakingService.applyProposals(id)));
+    }
+
+    @PostMapping("/matchmaking/run")
+    public ResponseEntity<ApiResponse<Map<String, List<TeamMatchProposalDto>>>> runMatchmaking() {
+        return ResponseEntity.ok(ApiResponse.success(teamMatchmakingService.proposeAllMatches()));
+    }
+
     @GetMapping("/{id}/results")
     public ResponseEntity<ApiResponse<List<HackathonResult>>> getResults(@PathVariable String id) {
         return ResponseEntity.ok(ApiResponse.success(hackathonService.getResults(id)));
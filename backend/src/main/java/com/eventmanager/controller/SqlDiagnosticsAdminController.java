@@ -0,0 +1,33 @@
+package com.eventmanager.controller;
+
+import com.eventmanager.dto.ApiResponse;
+import com.eventmanager.service.SqlDiagnosticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/sql")
+public class SqlDiagnosticsAdminController {
+
+    private final SqlDiagnosticsService sqlDiagnosticsService;
+
+    public SqlDiagnosticsAdminController(SqlDiagnosticsService sqlDiagnosticsService) {
+        this.sqlDiagnosticsService = sqlDiagnosticsService;
+    }
+
+    /** Routes and STOMP destinations ranked by SQL time ({@code sort=time}), statements or flagged requests. */
+    @GetMapping("/offenders")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTopOffenders(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "time") String sort) {
+        return ResponseEntity.ok(ApiResponse.success(sqlDiagnosticsService.getTopOffenders(limit, sort)));
+    }
+
+    @DeleteMapping("/offenders")
+    public ResponseEntity<ApiResponse<String>> reset() {
+        sqlDiagnosticsService.reset();
+        return ResponseEntity.ok(ApiResponse.success("SQL diagnostics reset", null));
+    }
+}
@@ -72,14 +72,14 @@ public class TeamController {
     }
 
     @PostMapping("/team/{id}/chat")
-    public ResponseEntity<ApiResponse<com.eventmanager.model.ChatMessage>> sendChatMessage(@PathVariable String id, @RequestBody Map<String, String> payload, @RequestParam String userId) {
+    public ResponseEntity<ApiResponse<com.eventmanager.dto.ChatMessageDto>> sendChatMessage(@PathVariable String id, @RequestBody Map<String, String> payload, @RequestParam String userId) {
         String content = payload.get("content");
         String type = payload.get("type"); // TEXT, IMAGE, FILE
         
         // Find or create the team chat room correctly
         com.eventmanager.model.ChatRoom room = chatService.getOrCreateRoom("TEAM", id, "TEAM_" + id);
         
-        com.eventmanager.model.ChatMessage message = chatService.saveMessage(room.getId(), userId, content, type);
+        com.eventmanager.dto.ChatMessageDto message = chatService.saveMessage(room.getId(), userId, content, type);
         messagingTemplate.convertAndSend("/topic/messages/TEAM_" + id, message);
         
         return ResponseEntity.ok(ApiResponse.success(message));
@@ -0,0 +1,20 @@
+package com.eventmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityDto {
+    private String id;
+    private String userId;
+    private String activityType;
+    private String description;
+    private String targetId;
+    private String targetName;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,22 @@
+package com.eventmanager.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * An audit record as captured on the request thread: everything that needs the security context
+ * or the servlet request is resolved before it is queued.
+ */
+public record AuditEventDto(
+        String action,
+        String entityType,
+        String entityId,
+        String userId,
+        String username,
+        String userRole,
+        String details,
+        String ipAddress,
+        String userAgent,
+        String status,
+        String errorMessage,
+        LocalDateTime timestamp) {
+}
@@ -0,0 +1,27 @@
+package com.eventmanager.dto;
+
+import com.eventmanager.model.ChatMessage;
+import com.eventmanager.model.User;
+
+import java.time.LocalDateTime;
+
+public record ChatMessageDto(String id, String roomId, Sender sender, String content, String type,
+                             LocalDateTime createdAt) {
+
+    public record Sender(String id, String name, String avatar) {
+    }
+
+    /** Flat form used by the JPQL constructor expression in {@code ChatMessageRepository}. */
+    public ChatMessageDto(String id, String roomId, String senderId, String senderName, String senderAvatar,
+                          String content, String type, LocalDateTime createdAt) {
+        this(id, roomId, senderId != null ? new Sender(senderId, senderName, senderAvatar) : null,
+                content, type, createdAt);
+    }
+
+    public static ChatMessageDto from(ChatMessage message) {
+        User sender = message.getSender();
+        return new ChatMessageDto(message.getId(), message.getRoom() != null ? message.getRoom().getId() : null,
+                sender != null ? new Sender(sender.getId(), sender.getName(), sender.getAvatar()) : null,
+                message.getContent(), message.getType(), message.getCreatedAt());
+    }
+}
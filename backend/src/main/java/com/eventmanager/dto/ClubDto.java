@@ -21,6 +21,10 @@ public class ClubDto {
     private String achievements;
     private boolean isActive;
     private LocalDateTime createdAt;
+    private Integer memberCount;
+    private Integer pendingMemberCount;
+    private Integer eventsHostedCount;
+    private Integer announcementCount;
 
     public String getCollegeId() {
         return collegeId;
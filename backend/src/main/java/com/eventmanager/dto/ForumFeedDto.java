@@ -0,0 +1,16 @@
+package com.eventmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForumFeedDto {
+    private String sort;
+    private List<ForumPostSummaryDto> posts;
+    private String nextCursor; // null on the last page
+}
@@ -0,0 +1,33 @@
+package com.eventmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForumPostSummaryDto {
+    private String id;
+    private String title;
+    private String excerpt; // first 280 characters; the full post comes from /api/forum/posts/{id}
+    private String category;
+    private Integer upvotes;
+    private Integer downvotes;
+    private Integer commentCount;
+    private LocalDateTime createdAt;
+    private Author author;
+    private Integer userVote; // the requesting user's vote: 1, -1 or 0
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Author {
+        private String id;
+        private String name;
+        private String avatar;
+        private String collegeName;
+    }
+}
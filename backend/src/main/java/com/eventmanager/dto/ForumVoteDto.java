@@ -0,0 +1,15 @@
+package com.eventmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForumVoteDto {
+    private String postId;
+    private Integer vote;         // 1, -1, or 0 when the vote was cleared
+    private Integer previousVote; // what the user had before this request
+    private Boolean changed;      // false when the request repeated the user's current vote
+}
@@ -0,0 +1,13 @@
+package com.eventmanager.dto;
+
+import com.eventmanager.repository.HackathonRepository;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+/**
+ * A hackathon projection plus its tags, which a JPQL projection cannot carry; serialized as one
+ * flat object.
+ */
+public record HackathonDto(@JsonUnwrapped HackathonRepository.HackathonSummaryView hackathon, List<String> tags) {
+}
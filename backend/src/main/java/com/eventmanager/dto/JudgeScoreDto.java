@@ -0,0 +1,43 @@
+package com.eventmanager.dto;
+
+import com.eventmanager.model.JudgeScore;
+import com.eventmanager.model.Submission;
+
+import java.time.LocalDateTime;
+
+public record JudgeScoreDto(String id, JudgeRef judge, SubmissionRef submission, String criteriaScores,
+                            Double totalScore, String feedback, String status, Boolean isDraft,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public record JudgeRef(String id, String name) {
+    }
+
+    public record SubmissionRef(String id, String projectTitle, String teamId, String teamName, EventRef event) {
+    }
+
+    public record EventRef(String id, String title) {
+    }
+
+    /** Flat form used by the JPQL constructor expressions in {@code JudgeScoreRepository}. */
+    public JudgeScoreDto(String id, String judgeId, String judgeName, String submissionId, String projectTitle,
+                         String teamId, String teamName, String eventId, String eventTitle, String criteriaScores,
+                         Double totalScore, String feedback, String status, Boolean isDraft,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, new JudgeRef(judgeId, judgeName),
+                new SubmissionRef(submissionId, projectTitle, teamId, teamName,
+                        eventId != null ? new EventRef(eventId, eventTitle) : null),
+                criteriaScores, totalScore, feedback, status, isDraft, createdAt, updatedAt);
+    }
+
+    public static JudgeScoreDto from(JudgeScore score) {
+        Submission submission = score.getSubmission();
+        return new JudgeScoreDto(score.getId(), score.getJudge().getId(), score.getJudge().getName(),
+                submission.getId(), submission.getProjectTitle(),
+                submission.getTeam() != null ? submission.getTeam().getId() : null,
+                submission.getTeam() != null ? submission.getTeam().getName() : null,
+                submission.getEvent() != null ? submission.getEvent().getId() : null,
+                submission.getEvent() != null ? submission.getEvent().getTitle() : null,
+                score.getCriteriaScores(), score.getTotalScore(), score.getFeedback(), score.getStatus(),
+                score.getIsDraft(), score.getCreatedAt(), score.getUpdatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.eventmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMatchProposalDto {
+    private String hackathonId;
+    private String teamId; // null when the proposal is a new team
+    private String teamName;
+    private List<String> userIds;
+    private Double score;
+}
@@ -0,0 +1,62 @@
+package com.eventmanager.listener;
+
+import com.eventmanager.model.Certificate;
+import com.eventmanager.model.EventRegistration;
+import com.eventmanager.model.Submission;
+import com.eventmanager.service.FacultyRollupService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * JPA listener that marks the faculty rollup slice of a written registration, certificate or
+ * submission dirty. Marking waits for commit so the rebuild sees the new row.
+ */
+@Component
+public class FacultyRollupListener {
+
+    private final ObjectProvider<FacultyRollupService> rollupService;
+
+    public FacultyRollupListener(ObjectProvider<FacultyRollupService> rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        String eventId = null;
+        LocalDateTime at = null;
+        if (entity instanceof EventRegistration r) {
+            eventId = r.getEvent() != null ? r.getEvent().getId() : null;
+            at = r.getCreatedAt();
+        } else if (entity instanceof Certificate c) {
+            eventId = c.getEvent() != null ? c.getEvent().getId() : null;
+            at = c.getIssuedAt();
+        } else if (entity instanceof Submission s) {
+            eventId = s.getEvent() != null ? s.getEvent().getId() : null;
+            at = s.getSubmittedAt();
+        }
+        if (eventId == null || at == null) return;
+
+        String dirtyEventId = eventId;
+        LocalDate day = at.toLocalDate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rollupService.ifAvailable(rollups -> rollups.markDirty(dirtyEventId, day));
+                }
+            });
+        } else {
+            rollupService.ifAvailable(rollups -> rollups.markDirty(dirtyEventId, day));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.eventmanager.listener;
+
+import com.eventmanager.model.*;
+import com.eventmanager.service.CollegeRankingService;
+import com.eventmanager.service.StudentStatsService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener that keeps {@link StudentStatsService} and {@link CollegeRankingService} in step
+ * with the entities the student dashboard is built from.
+ *
+ * The cached stats are dropped as soon as the write is flushed and again after commit, so a
+ * concurrent read that reloaded the old rows in between does not survive the commit. Services are
+ * looked up lazily because Hibernate creates listeners while the entity manager factory is built.
+ */
+@Component
+public class StudentStatsListener {
+
+    private final ObjectProvider<StudentStatsService> statsService;
+    private final ObjectProvider<CollegeRankingService> rankingService;
+
+    public StudentStatsListener(ObjectProvider<StudentStatsService> statsService,
+                                ObjectProvider<CollegeRankingService> rankingService) {
+        this.statsService = statsService;
+        this.rankingService = rankingService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Object entity) {
+        if (entity instanceof User user) {
+            rankingService.ifAvailable(ranking -> ranking.onUserChanged(user));
+        }
+        invalidate(userIdOf(entity));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof User user) {
+            rankingService.ifAvailable(ranking -> ranking.onUserRemoved(user.getId()));
+        }
+        invalidate(userIdOf(entity));
+    }
+
+    private void invalidate(String userId) {
+        if (userId == null) return;
+        statsService.ifAvailable(stats -> {
+            stats.invalidate(userId);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        stats.invalidate(userId);
+                    }
+                });
+            }
+        });
+    }
+
+    private static String userIdOf(Object entity) {
+        User user = null;
+        if (entity instanceof User u) user = u;
+        else if (entity instanceof EventRegistration r) user = r.getUser();
+        else if (entity instanceof WebinarRegistration r) user = r.getStudent();
+        else if (entity instanceof TeamMember m) user = m.getUser();
+        else if (entity instanceof ClubMembership m) user = m.getUser();
+        else if (entity instanceof Certificate c) user = c.getUser();
+        else if (entity instanceof UserBadge b) user = b.getUser();
+        return user != null ? user.getId() : null;
+    }
+}
@@ -6,13 +6,15 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "activities")
+@Table(name = "activities", indexes = {
+        @Index(name = "idx_activity_user_timestamp", columnList = "user_id, timestamp, id")
+})
 public class Activity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -3,13 +3,16 @@ package com.eventmanager.model;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+/**
+ * One audited action. Rows are written in JDBC batches by {@code AuditLogWriter}, never through
+ * this entity; it maps the table for reads.
+ */
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_events", indexes = @Index(name = "idx_audit_events_timestamp", columnList = "timestamp"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,14 +28,12 @@ public class AuditLog {
     @Column(nullable = false)
     private String entityType;
     
-    private Long entityId;
+    private String entityId;
     
-    @Column(nullable = false)
-    private Long userId;
+    private String userId;
     
     private String username;
     
-    @Column(nullable = false)
     private String userRole;
     
     @Column(columnDefinition = "TEXT")
@@ -42,7 +43,6 @@ public class AuditLog {
     
     private String userAgent;
     
-    @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime timestamp;
     
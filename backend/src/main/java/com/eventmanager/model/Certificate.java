@@ -2,6 +2,8 @@ package com.eventmanager.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import com.eventmanager.listener.FacultyRollupListener;
+import com.eventmanager.listener.StudentStatsListener;
 import lombok.Data;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -9,35 +11,41 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Data
 @Entity
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, StudentStatsListener.class, FacultyRollupListener.class})
 @Table(name = "certificates")
+@NamedEntityGraph(name = "Certificate.detail", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("event"),
+        @NamedAttributeNode("hackathon"),
+        @NamedAttributeNode("issuer")
+})
 public class Certificate {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
     
     @Column(name = "user_id", insertable = false, updatable = false)
     private String userId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private Event event;
     
     @Column(name = "event_id", insertable = false, updatable = false)
     private String eventId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hackathon_id")
     private Hackathon hackathon;
     
     @Column(name = "hackathon_id", insertable = false, updatable = false)
     private String hackathonId; // Read-only denormalized field
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "issuer_id")
     private User issuer; // Faculty who issued the certificate
     
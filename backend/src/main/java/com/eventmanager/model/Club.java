@@ -18,19 +18,19 @@ public class Club {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "college_id", nullable = false)
     private College college;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "faculty_advisor_id")
     private User facultyAdvisor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "president_id")
     private User president;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
@@ -101,6 +101,18 @@ public class Club {
         isActive = active;
     }
 
+    // Denormalized counters; only written by ClubStatsService through atomic updates
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private Integer activeMemberCount = 0;
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private Integer pendingMemberCount = 0;
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private Integer inactiveMemberCount = 0;
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private Integer eventsHostedCount = 0;
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private Integer announcementCount = 0;
+
     private LocalDateTime createdAt = LocalDateTime.now();
     private LocalDateTime updatedAt = LocalDateTime.now();
 
@@ -1,22 +1,40 @@
 package com.eventmanager.model;
 
 import jakarta.persistence.*;
+import com.eventmanager.listener.StudentStatsListener;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "club_memberships")
+@EntityListeners(StudentStatsListener.class)
+@Table(name = "club_memberships", indexes = {
+        @Index(name = "idx_club_membership_club_user", columnList = "club_id, user_id", unique = true)
+})
+@NamedEntityGraph(name = "ClubMembership.withUser", attributeNodes = {
+        @NamedAttributeNode(value = "user", subgraph = "user")
+}, subgraphs = @NamedSubgraph(name = "user", attributeNodes = {
+                @NamedAttributeNode("college"),
+                @NamedAttributeNode("departmentEntity")
+        }))
+@NamedEntityGraph(name = "ClubMembership.withClub", attributeNodes = {
+        @NamedAttributeNode(value = "club", subgraph = "club")
+}, subgraphs = @NamedSubgraph(name = "club", attributeNodes = {
+        @NamedAttributeNode("college"),
+        @NamedAttributeNode("department"),
+        @NamedAttributeNode("facultyAdvisor"),
+        @NamedAttributeNode("president")
+}))
 public class ClubMembership {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "club_id", nullable = false)
     private Club club;
 
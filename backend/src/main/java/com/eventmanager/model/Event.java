@@ -10,6 +10,11 @@ import lombok.Data;
         @Index(name = "idx_event_status", columnList = "status"),
         @Index(name = "idx_event_type", columnList = "eventType")
 })
+@NamedEntityGraph(name = "Event.summary", attributeNodes = {
+        @NamedAttributeNode("college"),
+        @NamedAttributeNode("department"),
+        @NamedAttributeNode("organizer")
+})
 public class Event {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -20,18 +25,21 @@ public class Event {
     private String description;
     private String bannerImage;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "college_id")
     private College college;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organizer_id")
     private User organizer;
 
+    @Column(name = "club_id")
+    private String clubId; // Hosting club, if any
+
     private String eventType;
     private String mode;
     private String location;
@@ -7,16 +7,30 @@ import java.time.LocalDateTime;
 @Data
 @Entity
 @Table(name = "event_feedback")
+@NamedEntityGraph(name = "EventFeedback.detail", attributeNodes = {
+        @NamedAttributeNode(value = "event", subgraph = "event"),
+        @NamedAttributeNode(value = "student", subgraph = "user")
+}, subgraphs = {
+        @NamedSubgraph(name = "event", attributeNodes = {
+                @NamedAttributeNode("college"),
+                @NamedAttributeNode("department"),
+                @NamedAttributeNode("organizer")
+        }),
+        @NamedSubgraph(name = "user", attributeNodes = {
+                        @NamedAttributeNode("college"),
+                        @NamedAttributeNode("departmentEntity")
+                })
+})
 public class EventFeedback {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User student;
 
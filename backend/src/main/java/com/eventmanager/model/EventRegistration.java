@@ -1,28 +1,40 @@
 package com.eventmanager.model;
 
 import jakarta.persistence.*;
+import com.eventmanager.listener.FacultyRollupListener;
+import com.eventmanager.listener.StudentStatsListener;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
+@EntityListeners({StudentStatsListener.class, FacultyRollupListener.class})
 @Table(name = "event_registrations", indexes = {
     @Index(name = "idx_eventregistration_user", columnList = "user_id"),
     @Index(name = "idx_eventregistration_event", columnList = "event_id")
 })
+@NamedEntityGraph(name = "EventRegistration.withEvent", attributeNodes = {
+        @NamedAttributeNode(value = "event", subgraph = "event")
+}, subgraphs = @NamedSubgraph(name = "event", attributeNodes = {
+        @NamedAttributeNode("organizer"),
+        @NamedAttributeNode("college")
+}))
+@NamedEntityGraph(name = "EventRegistration.withUser", attributeNodes = {
+        @NamedAttributeNode(value = "user", subgraph = "user")
+}, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("college")))
 public class EventRegistration {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
     
     @Column(name = "event_id", insertable = false, updatable = false)
     private String eventId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
@@ -0,0 +1,41 @@
+package com.eventmanager.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+
+/**
+ * Daily totals for one event's participants from one department, pre-aggregated for the faculty
+ * analytics page. Rows are written by {@code FacultyRollupService} only, which replaces whole
+ * (event, day) slices, so they are never updated in place.
+ *
+ * Registrations and attendance are bucketed by registration day, certificates by issue day and
+ * submissions by submission day; the department is the participant's at the time of the rollup.
+ */
+@Data
+@Entity
+@Table(name = "faculty_daily_rollups", indexes = {
+        @Index(name = "idx_rollup_event_dept_day", columnList = "event_id, department, rollup_day", unique = true),
+        @Index(name = "idx_rollup_organizer_day", columnList = "organizer_id, rollup_day")
+})
+public class FacultyDailyRollup {
+    @Id
+    private String id;
+
+    @Column(name = "organizer_id", nullable = false)
+    private String organizerId;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(nullable = false)
+    private String department;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    private Integer registrations = 0;
+    private Integer attended = 0;
+    private Integer certificates = 0;
+    private Integer submissions = 0;
+}
@@ -8,17 +8,23 @@ import java.time.LocalDateTime;
 @Data
 @Entity
 @Table(name = "forum_comments")
+@NamedEntityGraph(name = "ForumComment.withAuthor", attributeNodes = {
+        @NamedAttributeNode(value = "author", subgraph = "user")
+}, subgraphs = @NamedSubgraph(name = "user", attributeNodes = {
+                @NamedAttributeNode("college"),
+                @NamedAttributeNode("departmentEntity")
+        }))
 public class ForumComment {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     @JsonIgnore
     private ForumPost post;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private User author;
 
@@ -1,5 +1,6 @@
 package com.eventmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
@@ -7,7 +8,10 @@ import java.util.List;
 
 @Data
 @Entity
-@Table(name = "forum_posts")
+@Table(name = "forum_posts", indexes = {
+        @Index(name = "idx_forum_post_created", columnList = "created_at, id"),
+        @Index(name = "idx_forum_post_category_created", columnList = "category, created_at, id")
+})
 public class ForumPost {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -20,17 +24,25 @@ public class ForumPost {
 
     private String category;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private User author;
 
+    // Aggregates of forum_votes; only written through ForumPostRepository.adjustVotes after insert
+    @Column(updatable = false)
     private Integer upvotes = 0;
+    @Column(updatable = false)
     private Integer downvotes = 0;
 
+    // Denormalized; only written through ForumPostRepository.adjustCommentCount
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private Integer commentCount = 0;
+
     private LocalDateTime createdAt = LocalDateTime.now();
     private LocalDateTime updatedAt = LocalDateTime.now();
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
+    @JsonIgnore
     private List<ForumComment> comments;
 
     public String getId() { return id; }
@@ -54,6 +66,9 @@ public class ForumPost {
     public Integer getDownvotes() { return downvotes; }
     public void setDownvotes(Integer downvotes) { this.downvotes = downvotes; }
 
+    public Integer getCommentCount() { return commentCount; }
+    public void setCommentCount(Integer commentCount) { this.commentCount = commentCount; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -0,0 +1,56 @@
+package com.eventmanager.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * One user's vote on a forum post: +1 or -1. The unique (post_id, user_id) index makes a
+ * user's vote idempotent; {@code ForumPost.upvotes/downvotes} are aggregates of these rows.
+ */
+@Data
+@Entity
+@Table(name = "forum_votes", indexes = {
+        @Index(name = "idx_forum_vote_post_user", columnList = "post_id, user_id", unique = true),
+        @Index(name = "idx_forum_vote_user", columnList = "user_id")
+})
+public class ForumVote {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private ForumPost post;
+
+    @Column(name = "post_id", insertable = false, updatable = false)
+    private String postId; // Read-only denormalized field
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private String userId; // Read-only denormalized field
+
+    @Column(name = "vote_value", nullable = false)
+    private Integer value;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public ForumPost getPost() { return post; }
+    public void setPost(ForumPost post) { this.post = post; }
+    public String getPostId() { return postId; }
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+    public String getUserId() { return userId; }
+    public Integer getValue() { return value; }
+    public void setValue(Integer value) { this.value = value; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -4,24 +4,32 @@ import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 
+/**
+ * One governance action (approval, judge assignment, score lock, ...) on an event or hackathon.
+ * The target and actor are kept as ids rather than associations since the target may be either
+ * entity and the row must outlive both; older rows are moved to the governance log store.
+ */
 @Data
 @Entity
-@Table(name = "governance_logs")
+@Table(name = "governance_events", indexes = @Index(name = "idx_governance_events_created_at", columnList = "created_at"))
 public class GovernanceLog {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
-    @JoinColumn(name = "target_id", nullable = false)
-    private Event targetEvent; // The event or hackathon being approved/reviewed
+    @Column(name = "entity_type")
+    private String entityType; // EVENT, HACKATHON
 
-    @ManyToOne
-    @JoinColumn(name = "action_by_id", nullable = false)
-    private User actionBy;
+    @Column(name = "entity_id")
+    private String entityId;
 
     private String actionType; // APPROVAL, REJECTION, OVERRIDE, SCORE_FINALIZATION
 
+    @Column(name = "actor_id")
+    private String actorId;
+
+    private String actorEmail;
+
     private String fromStatus;
     private String toStatus;
 
@@ -31,104 +39,6 @@ public class GovernanceLog {
     @Column(columnDefinition = "TEXT")
     private String metadata; // For any additional data like override reasons
 
+    @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
-
-    public String getId() {
-        return id;
-    }
-
-    public void setId(String id) {
-        this.id = id;
-    }
-
-    public Event getTargetEvent() {
-        return targetEvent;
-    }
-
-    public void setTargetEvent(Event targetEvent) {
-        this.targetEvent = targetEvent;
-    }
-
-    public User getActionBy() {
-        return actionBy;
-    }
-
-    public void setActionBy(User actionBy) {
-        this.actionBy = actionBy;
-    }
-
-    public String getActionType() {
-        return actionType;
-    }
-
-    public void setActionType(String actionType) {
-        this.actionType = actionType;
-    }
-
-    public String getFromStatus() {
-        return fromStatus;
-    }
-
-    public void setFromStatus(String fromStatus) {
-        this.fromStatus = fromStatus;
-    }
-
-    public String getToStatus() {
-        return toStatus;
-    }
-
-    public void setToStatus(String toStatus) {
-        this.toStatus = toStatus;
-    }
-
-    public String getComments() {
-        return comments;
-    }
-
-    public void setComments(String comments) {
-        this.comments = comments;
-    }
-
-    public String getMetadata() {
-        return metadata;
-    }
-
-    public void setMetadata(String metadata) {
-        this.metadata = metadata;
-    }
-
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-
-    // --- Compatibility Methods for Service ---
-    public void setEntityId(String entityId) {
-        // basic mapping, though targetEvent is preferred for events
-    }
-
-    public void setEntityType(String entityType) {
-        // generic type
-    }
-
-    public void setAction(String action) {
-        this.actionType = action;
-    }
-
-    public void setActor(User actor) {
-        this.actionBy = actor;
-    }
-
-    public void setTimestamp(LocalDateTime timestamp) {
-        this.createdAt = timestamp;
-    }
-
-    @Column(name = "entity_id")
-    private String entityId;
-
-    @Column(name = "entity_type")
-    private String entityType;
 }
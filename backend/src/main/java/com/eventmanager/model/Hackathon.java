@@ -13,6 +13,21 @@ import lombok.Data;
         @Index(name = "idx_hackathon_country", columnList = "country"),
         @Index(name = "idx_hackathon_mode", columnList = "mode")
 })
+@NamedEntityGraph(name = "Hackathon.summary", attributeNodes = {
+        @NamedAttributeNode("college"),
+        @NamedAttributeNode("department"),
+        @NamedAttributeNode("organizer"),
+        @NamedAttributeNode("tags")
+})
+// For pages: fetching the tags collection would make Hibernate paginate in memory, so they are loaded in one query per page
+@NamedEntityGraph(name = "Hackathon.page", attributeNodes = {
+        @NamedAttributeNode("college"),
+        @NamedAttributeNode("department"),
+        @NamedAttributeNode(value = "organizer", subgraph = "organizer")
+}, subgraphs = @NamedSubgraph(name = "organizer", attributeNodes = {
+        @NamedAttributeNode("college"),
+        @NamedAttributeNode("departmentEntity")
+}))
 public class Hackathon {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -24,15 +39,15 @@ public class Hackathon {
     private String shortDescription;
     private String bannerImage;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "college_id")
     private College college;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organizer_id")
     private User organizer;
 
@@ -7,16 +7,23 @@ import java.time.LocalDateTime;
 @Data
 @Entity
 @Table(name = "judge_scores")
+@NamedEntityGraph(name = "JudgeScore.detail", attributeNodes = {
+        @NamedAttributeNode("judge"),
+        @NamedAttributeNode(value = "submission", subgraph = "submission")
+}, subgraphs = @NamedSubgraph(name = "submission", attributeNodes = {
+        @NamedAttributeNode("event"),
+        @NamedAttributeNode("team")
+}))
 public class JudgeScore {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "judge_id", nullable = false)
     private User judge;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "submission_id", nullable = false)
     private Submission submission;
 
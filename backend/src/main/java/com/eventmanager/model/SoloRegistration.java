@@ -0,0 +1,54 @@
+package com.eventmanager.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * A student who registered for a hackathon without a team and wants to be matched into one.
+ */
+@Data
+@Entity
+@Table(name = "solo_registrations", indexes = {
+        @Index(name = "idx_solo_hackathon_user", columnList = "hackathon_id, user_id", unique = true),
+        @Index(name = "idx_solo_hackathon_status", columnList = "hackathon_id, status")
+})
+public class SoloRegistration {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hackathon_id", nullable = false)
+    private Hackathon hackathon;
+
+    @Column(name = "hackathon_id", insertable = false, updatable = false)
+    private String hackathonId; // Read-only denormalized field
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private String userId; // Read-only denormalized field
+
+    private String status = "WAITING"; // WAITING, PROPOSED, MATCHED, WITHDRAWN
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public Hackathon getHackathon() { return hackathon; }
+    public void setHackathon(Hackathon hackathon) { this.hackathon = hackathon; }
+    public String getHackathonId() { return hackathonId; }
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+    public String getUserId() { return userId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
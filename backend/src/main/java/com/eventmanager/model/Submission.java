@@ -1,39 +1,47 @@
 package com.eventmanager.model;
 
 import jakarta.persistence.*;
+import com.eventmanager.listener.FacultyRollupListener;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
+@EntityListeners(FacultyRollupListener.class)
 @Table(name = "submissions")
+@NamedEntityGraph(name = "Submission.detail", attributeNodes = {
+        @NamedAttributeNode("hackathon"),
+        @NamedAttributeNode("event"),
+        @NamedAttributeNode("team"),
+        @NamedAttributeNode("user")
+})
 public class Submission {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hackathon_id")
     private Hackathon hackathon;
     
     @Column(name = "hackathon_id", insertable = false, updatable = false)
     private String hackathonId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private Event event;
     
     @Column(name = "event_id", insertable = false, updatable = false)
     private String eventId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
     
     @Column(name = "team_id", insertable = false, updatable = false)
     private String teamId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
     
@@ -2,18 +2,30 @@ package com.eventmanager.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
 @Entity
 @Table(name = "support_tickets")
+@NamedEntityGraph(name = "SupportTicket.detail", attributeNodes = {
+        @NamedAttributeNode(value = "user", subgraph = "user"),
+        @NamedAttributeNode(value = "messages", subgraph = "message")
+}, subgraphs = {
+        @NamedSubgraph(name = "user", attributeNodes = {
+                @NamedAttributeNode("college"),
+                @NamedAttributeNode("departmentEntity")
+        }),
+        @NamedSubgraph(name = "message", attributeNodes = @NamedAttributeNode(value = "sender", subgraph = "user"))
+})
 public class SupportTicket {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -40,6 +52,8 @@ public class SupportTicket {
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<SupportMessage> messages;
 
+    // Only one list can be fetched with the ticket graph; a subselect loads this one for a whole ticket list at once
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private List<SupportAttachment> attachments;
 }
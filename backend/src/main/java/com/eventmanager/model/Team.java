@@ -6,28 +6,30 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+        @Index(name = "idx_team_hackathon_join_code", columnList = "hackathon_id, join_code", unique = true)
+})
 public class Team {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
     private String name;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hackathon_id")
     private Hackathon hackathon;
     
     @Column(name = "hackathon_id", insertable = false, updatable = false)
     private String hackathonId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "leader_id")
     private User leader;
     
     @Column(name = "leader_id", insertable = false, updatable = false)
     private String leaderId; // Read-only denormalized field
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private Event event;
     
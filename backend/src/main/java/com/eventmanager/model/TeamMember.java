@@ -1,11 +1,14 @@
 package com.eventmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import com.eventmanager.listener.StudentStatsListener;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
+@EntityListeners(StudentStatsListener.class)
 @Table(name = "team_members", indexes = {
     @Index(name = "idx_teammember_user", columnList = "user_id"),
     @Index(name = "idx_teammember_team", columnList = "team_id")
@@ -15,11 +18,12 @@ public class TeamMember {
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false)
+    @JsonIgnore
     private Team team;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -2,10 +2,12 @@ package com.eventmanager.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import com.eventmanager.listener.StudentStatsListener;
 import lombok.Data;
 
 @Data
 @Entity
+@EntityListeners(StudentStatsListener.class)
 @Table(name = "users", indexes = {
         @Index(name = "idx_user_email", columnList = "email", unique = true)
 })
@@ -28,11 +30,11 @@ public class User {
     @Transient // Not stored in DB anymore if we migrate fully, but for now let's map it
     private String directorRole;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "college_id")
     private College college;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department departmentEntity;
 
@@ -1,22 +1,24 @@
 package com.eventmanager.model;
 
 import jakarta.persistence.*;
+import com.eventmanager.listener.StudentStatsListener;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
+@EntityListeners(StudentStatsListener.class)
 @Table(name = "user_badges")
 public class UserBadge {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "badge_id", nullable = false)
     private Badge badge;
 
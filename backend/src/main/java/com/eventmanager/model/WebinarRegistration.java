@@ -1,24 +1,27 @@
 package com.eventmanager.model;
 
 import jakarta.persistence.*;
+import com.eventmanager.listener.StudentStatsListener;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
+@EntityListeners(StudentStatsListener.class)
 @Table(name = "webinar_registrations", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"webinar_id", "user_id"})
 })
+@NamedEntityGraph(name = "WebinarRegistration.withWebinar", attributeNodes = @NamedAttributeNode("webinar"))
 public class WebinarRegistration {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "webinar_id", nullable = false)
     private Webinar webinar;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User student;
 
@@ -1,11 +1,47 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.Activity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ActivityRepository extends JpaRepository<Activity, String> {
     List<Activity> findByUserIdOrderByTimestampDesc(String userId);
+
+    /** An activity without its user. */
+    interface ActivityView {
+        String getId();
+        String getUserId();
+        String getActivityType();
+        String getDescription();
+        String getTargetId();
+        String getTargetName();
+        LocalDateTime getTimestamp();
+    }
+
+    String VIEW_SELECT = "select a.id as id, a.user.id as userId, a.activityType as activityType, "
+            + "a.description as description, a.targetId as targetId, a.targetName as targetName, "
+            + "a.timestamp as timestamp from Activity a ";
+
+    @Query("select year(a.timestamp) as bucketYear, month(a.timestamp) as bucketMonth, count(a) as total "
+            + "from Activity a where a.user.id = :userId and a.timestamp >= :since "
+            + "group by year(a.timestamp), month(a.timestamp)")
+    List<EventRegistrationRepository.MonthlyCountView> countMonthlyByUserId(@Param("userId") String userId,
+                                                                          @Param("since") LocalDateTime since);
+
+    // Keyset pages ordered by (timestamp, id) descending; the newest-N read is the first page
+    @Query(VIEW_SELECT + "where a.user.id = :userId order by a.timestamp desc, a.id desc")
+    List<ActivityView> findTimelinePage(@Param("userId") String userId, Pageable page);
+
+    @Query(VIEW_SELECT + "where a.user.id = :userId "
+            + "and (a.timestamp < :timestamp or (a.timestamp = :timestamp and a.id < :id)) "
+            + "order by a.timestamp desc, a.id desc")
+    List<ActivityView> findTimelinePageBefore(@Param("userId") String userId,
+                                              @Param("timestamp") LocalDateTime timestamp,
+                                              @Param("id") String id, Pageable page);
 }
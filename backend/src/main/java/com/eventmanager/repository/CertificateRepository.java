@@ -1,17 +1,59 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.Certificate;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CertificateRepository extends JpaRepository<Certificate, String> {
+
+    /** What the public verification page shows; no user, issuer or verification code. */
+    interface VerificationView {
+        String getId();
+        String getCertificateId();
+        String getTitle();
+        String getCategory();
+        String getStudentName();
+        String getRole();
+        LocalDateTime getIssuedAt();
+        Certificate.CertificateStatus getStatus();
+        String getEventId();
+        String getEventTitle();
+        String getHackathonId();
+        String getHackathonTitle();
+        String getIssuerName();
+    }
+
+    String VERIFICATION_SELECT = "select c.id as id, c.certificateId as certificateId, c.title as title, "
+            + "c.category as category, c.studentName as studentName, c.role as role, c.issuedAt as issuedAt, "
+            + "c.status as status, e.id as eventId, e.title as eventTitle, h.id as hackathonId, "
+            + "h.title as hackathonTitle, i.name as issuerName "
+            + "from Certificate c left join c.event e left join c.hackathon h left join c.issuer i ";
+
+    @Query(VERIFICATION_SELECT + "where c.certificateId = :certificateId")
+    Optional<VerificationView> findVerificationByCertificateId(@Param("certificateId") String certificateId);
+
+    @Query(VERIFICATION_SELECT + "where c.certificateId = :certificateId and c.verificationCode = :verificationCode")
+    Optional<VerificationView> findVerificationByCertificateIdAndVerificationCode(
+            @Param("certificateId") String certificateId, @Param("verificationCode") String verificationCode);
+
+    @EntityGraph("Certificate.detail")
     List<Certificate> findByUserId(String userId);
+
     java.util.Optional<Certificate> findByCertificateId(String certificateId);
     long countByIssuerId(String issuerId);
     long countByUserId(String userId);
     boolean existsByUserIdAndEventId(String userId, String eventId);
+
+    @Query("select c.user.id from Certificate c where c.event.id = :eventId")
+    java.util.Set<String> findUserIdsByEventId(@Param("eventId") String eventId);
+    @EntityGraph("Certificate.detail")
     org.springframework.data.domain.Page<Certificate> findByIssuerId(String issuerId, org.springframework.data.domain.Pageable pageable);
-    java.util.Optional<Certificate> findByCertificateIdAndVerificationCode(String certificateId, String verificationCode);
 }
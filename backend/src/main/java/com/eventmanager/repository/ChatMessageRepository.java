@@ -1,11 +1,16 @@
 package com.eventmanager.repository;
 
+import com.eventmanager.dto.ChatMessageDto;
 import com.eventmanager.model.ChatMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, String> {
-    List<ChatMessage> findByRoomIdOrderByCreatedAtAsc(String roomId);
+    @Query("select new com.eventmanager.dto.ChatMessageDto(m.id, r.id, s.id, s.name, s.avatar, m.content, m.type, m.createdAt) "
+            + "from ChatMessage m join m.room r left join m.sender s where r.id = :roomId order by m.createdAt asc")
+    List<ChatMessageDto> findDtosByRoomId(@Param("roomId") String roomId);
 }
@@ -2,10 +2,14 @@ package com.eventmanager.repository;
 
 import com.eventmanager.model.ClubAnnouncement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ClubAnnouncementRepository extends JpaRepository<ClubAnnouncement, String> {
     List<ClubAnnouncement> findByClubIdOrderByCreatedAtDesc(String clubId);
+
+    @Query("select a.club.id as clubId, count(a) as total from ClubAnnouncement a group by a.club.id")
+    List<ClubRepository.ClubCountView> countGroupedByClub();
 }
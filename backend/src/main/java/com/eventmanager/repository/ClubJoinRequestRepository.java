@@ -2,12 +2,35 @@ package com.eventmanager.repository;
 
 import com.eventmanager.model.ClubJoinRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ClubJoinRequestRepository extends JpaRepository<ClubJoinRequest, String> {
+
+    /** Request id and requester, without loading the club or user entities. */
+    interface PendingRequestView {
+        String getId();
+        String getUserId();
+    }
+
     List<ClubJoinRequest> findByClubIdOrderByCreatedAtDesc(String clubId);
 
     List<ClubJoinRequest> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    @Query("select r.id as id, r.user.id as userId from ClubJoinRequest r "
+            + "where r.club.id = :clubId and r.status = 'PENDING'")
+    List<PendingRequestView> findPendingViews(@Param("clubId") String clubId);
+
+    @Query("select r.id as id, r.user.id as userId from ClubJoinRequest r "
+            + "where r.club.id = :clubId and r.status = 'PENDING' and r.id in :ids")
+    List<PendingRequestView> findPendingViews(@Param("clubId") String clubId, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("update ClubJoinRequest r set r.status = :status where r.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<String> ids, @Param("status") String status);
 }
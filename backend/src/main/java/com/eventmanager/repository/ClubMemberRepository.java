@@ -0,0 +1,9 @@
+package com.eventmanager.repository;
+
+import com.eventmanager.model.ClubMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClubMemberRepository extends JpaRepository<ClubMember, Long> {
+}
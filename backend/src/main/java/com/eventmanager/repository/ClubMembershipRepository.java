@@ -1,16 +1,65 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.ClubMembership;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ClubMembershipRepository extends JpaRepository<ClubMembership, String> {
+
+    /** Membership count for one club and status. */
+    interface ClubStatusCountView {
+        String getClubId();
+        String getStatus();
+        long getTotal();
+    }
+
+    /** Just enough of a membership to decide whether an approval inserts or activates. */
+    interface MembershipStatusView {
+        String getId();
+        String getUserId();
+        String getStatus();
+    }
+
+    /** A (club, user) pair that has more than one membership row. */
+    interface DuplicatePairView {
+        String getClubId();
+        String getUserId();
+    }
+
+    @EntityGraph("ClubMembership.withClub")
     List<ClubMembership> findByUserId(String userId);
 
+    long countByUserId(String userId);
+
+    @EntityGraph("ClubMembership.withUser")
     List<ClubMembership> findByClubId(String clubId);
 
     Optional<ClubMembership> findByUserIdAndClubId(String userId, String clubId);
+
+    List<ClubMembership> findAllByUserIdAndClubIdOrderByJoinedAtAsc(String userId, String clubId);
+
+    @Query("select m.id as id, m.user.id as userId, m.status as status from ClubMembership m "
+            + "where m.club.id = :clubId and m.user.id in :userIds")
+    List<MembershipStatusView> findStatusViews(@Param("clubId") String clubId,
+                                               @Param("userIds") Collection<String> userIds);
+
+    @Modifying
+    @Query("update ClubMembership m set m.status = :status where m.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<String> ids, @Param("status") String status);
+
+    @Query("select m.club.id as clubId, m.user.id as userId from ClubMembership m "
+            + "group by m.club.id, m.user.id having count(m) > 1")
+    List<DuplicatePairView> findDuplicatePairs();
+
+    @Query("select m.club.id as clubId, m.status as status, count(m) as total from ClubMembership m "
+            + "group by m.club.id, m.status")
+    List<ClubStatusCountView> countGroupedByClubAndStatus();
 }
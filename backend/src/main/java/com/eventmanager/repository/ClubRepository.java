@@ -2,12 +2,66 @@ package com.eventmanager.repository;
 
 import com.eventmanager.model.Club;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, String> {
+
+    /** A per-club count produced by a grouped query. */
+    interface ClubCountView {
+        String getClubId();
+        long getTotal();
+    }
+
+    /** The denormalized counters of a club without loading the entity graph. */
+    interface ClubCounterView {
+        String getId();
+        Integer getActiveMemberCount();
+        Integer getPendingMemberCount();
+        Integer getInactiveMemberCount();
+        Integer getEventsHostedCount();
+        Integer getAnnouncementCount();
+    }
+
     List<Club> findByCollegeId(String collegeId);
 
     List<Club> findByIsActiveTrue();
+
+    @Query("select c.id as id, c.activeMemberCount as activeMemberCount, c.pendingMemberCount as pendingMemberCount, "
+            + "c.inactiveMemberCount as inactiveMemberCount, c.eventsHostedCount as eventsHostedCount, "
+            + "c.announcementCount as announcementCount from Club c where c.id = :clubId")
+    Optional<ClubCounterView> findCounterViewById(@Param("clubId") String clubId);
+
+    @Query("select c.id as id, c.activeMemberCount as activeMemberCount, c.pendingMemberCount as pendingMemberCount, "
+            + "c.inactiveMemberCount as inactiveMemberCount, c.eventsHostedCount as eventsHostedCount, "
+            + "c.announcementCount as announcementCount from Club c")
+    List<ClubCounterView> findAllCounterViews();
+
+    @Modifying
+    @Query("update Club c set c.activeMemberCount = coalesce(c.activeMemberCount, 0) + :active, "
+            + "c.pendingMemberCount = coalesce(c.pendingMemberCount, 0) + :pending, "
+            + "c.inactiveMemberCount = coalesce(c.inactiveMemberCount, 0) + :inactive where c.id = :clubId")
+    int adjustMemberCounts(@Param("clubId") String clubId, @Param("active") int active,
+                           @Param("pending") int pending, @Param("inactive") int inactive);
+
+    @Modifying
+    @Query("update Club c set c.eventsHostedCount = coalesce(c.eventsHostedCount, 0) + :delta where c.id = :clubId")
+    int adjustEventsHostedCount(@Param("clubId") String clubId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Club c set c.announcementCount = coalesce(c.announcementCount, 0) + :delta where c.id = :clubId")
+    int adjustAnnouncementCount(@Param("clubId") String clubId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Club c set c.activeMemberCount = :active, c.pendingMemberCount = :pending, "
+            + "c.inactiveMemberCount = :inactive, c.eventsHostedCount = :events, c.announcementCount = :announcements "
+            + "where c.id = :clubId")
+    int setCounters(@Param("clubId") String clubId, @Param("active") int active, @Param("pending") int pending,
+                    @Param("inactive") int inactive, @Param("events") int events,
+                    @Param("announcements") int announcements);
 }
@@ -1,11 +1,13 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.EventFeedback;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface EventFeedbackRepository extends JpaRepository<EventFeedback, String> {
+    @EntityGraph("EventFeedback.detail")
     List<EventFeedback> findByEventId(String eventId);
 }
@@ -1,17 +1,35 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.EventRegistration;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface EventRegistrationRepository extends JpaRepository<EventRegistration, String> {
+
+    /**
+     * A count per calendar month. Grouping on year() and month() is the portable form of
+     * truncating the timestamp to the month.
+     */
+    interface MonthlyCountView {
+        int getBucketYear();
+        int getBucketMonth();
+        long getTotal();
+    }
+
+    @EntityGraph("EventRegistration.withEvent")
     List<EventRegistration> findByUserId(String userId);
 
     List<EventRegistration> findByEventId(String eventId);
 
+    @EntityGraph("EventRegistration.withUser")
+    List<EventRegistration> findWithUserByEventId(String eventId);
+
     long countByEventId(String eventId);
     
     List<EventRegistration> findByEventIdIn(List<String> eventIds);
@@ -25,4 +43,9 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     List<EventRegistration> findByUserIdAndEventIdIn(String userId, List<String> eventIds);
     
     boolean existsByUserIdAndEventId(String userId, String eventId);
+
+    @Query("select year(r.registrationDate) as bucketYear, month(r.registrationDate) as bucketMonth, count(r) as total "
+            + "from EventRegistration r where r.userId = :userId and r.registrationDate >= :since "
+            + "group by year(r.registrationDate), month(r.registrationDate)")
+    List<MonthlyCountView> countMonthlyByUserId(@Param("userId") String userId, @Param("since") LocalDateTime since);
 }
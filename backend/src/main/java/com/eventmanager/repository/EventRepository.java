@@ -3,17 +3,141 @@ package com.eventmanager.repository;
 import com.eventmanager.model.Event;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, String> {
+
+    interface StatusCountView {
+        String getStatus();
+        long getTotal();
+    }
+
+    interface TypeCountView {
+        String getType();
+        long getTotal();
+    }
+
+    interface FacultyTotalsView {
+        long getEvents();
+        long getHackathons();
+        long getRegistrations();
+        long getAttended();
+        long getStudents();
+        long getPendingApprovals();
+        long getCertificates();
+        long getRecentRegistrations();
+        long getEventsLastMonth();
+        long getEventsPreviousMonth();
+        long getTeamsLastMonth();
+        long getTeamsPreviousMonth();
+    }
+
+    interface DailyCountView {
+        LocalDate getDay();
+        long getTotal();
+    }
+
+    /** Event list row with its college, department and organizer flattened to ids and names. */
+    interface EventSummaryView {
+        String getId();
+        String getTitle();
+        String getDescription();
+        String getBannerImage();
+        String getCollegeId();
+        String getCollegeName();
+        String getDepartmentId();
+        String getDepartmentName();
+        String getOrganizerId();
+        String getOrganizerName();
+        String getClubId();
+        String getEventType();
+        String getMode();
+        String getLocation();
+        LocalDateTime getStartDate();
+        LocalDateTime getEndDate();
+        LocalDateTime getRegistrationDeadline();
+        Integer getCapacity();
+        Integer getRegisteredCount();
+        String getStatus();
+        Boolean getIsPublic();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    String SUMMARY_SELECT = "select e.id as id, e.title as title, e.description as description, "
+            + "e.bannerImage as bannerImage, c.id as collegeId, c.name as collegeName, "
+            + "d.id as departmentId, d.name as departmentName, o.id as organizerId, o.name as organizerName, "
+            + "e.clubId as clubId, e.eventType as eventType, e.mode as mode, e.location as location, "
+            + "e.startDate as startDate, e.endDate as endDate, e.registrationDeadline as registrationDeadline, "
+            + "e.capacity as capacity, e.registeredCount as registeredCount, e.status as status, "
+            + "e.isPublic as isPublic, e.createdAt as createdAt, e.updatedAt as updatedAt "
+            + "from Event e left join e.college c left join e.department d left join e.organizer o ";
+
     List<Event> findByOrganizer_Id(String organizerId);
+    @EntityGraph("Event.summary")
     Page<Event> findByOrganizer_Id(String organizerId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT, countQuery = "select count(e) from Event e")
+    Page<EventSummaryView> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where o.id = :organizerId")
+    List<EventSummaryView> findSummariesByOrganizerId(@Param("organizerId") String organizerId);
+
     long countByOrganizer_Id(String organizerId);
     long countByOrganizer_IdAndStatus(String organizerId, String status);
     long countByOrganizer_IdAndCreatedAtAfter(String organizerId, java.time.LocalDateTime createdAt);
     long countByOrganizer_IdAndCreatedAtBetween(String organizerId, java.time.LocalDateTime start, java.time.LocalDateTime end);
+
+    @Query("select e.clubId as clubId, count(e) as total from Event e where e.clubId is not null group by e.clubId")
+    List<ClubRepository.ClubCountView> countGroupedByClub();
+
+    @Query("select e.status as status, count(e) as total from Event e "
+            + "where e.organizer.id = :organizerId group by e.status")
+    List<StatusCountView> countByStatusForOrganizer(@Param("organizerId") String organizerId);
+
+    @Query("select coalesce(e.eventType, 'Other') as type, count(e) as total from Event e "
+            + "where e.organizer.id = :organizerId group by coalesce(e.eventType, 'Other') order by count(e) desc")
+    List<TypeCountView> countByTypeForOrganizer(@Param("organizerId") String organizerId);
+
+    @Query("select cast(e.createdAt as LocalDate) as day, count(e) as total from Event e "
+            + "where e.organizer.id = :organizerId and e.createdAt >= :since "
+            + "group by cast(e.createdAt as LocalDate) order by cast(e.createdAt as LocalDate)")
+    List<DailyCountView> countCreatedDailyForOrganizer(@Param("organizerId") String organizerId,
+                                                       @Param("since") LocalDateTime since);
+
+    /** Every faculty dashboard counter in one round trip, as scalar subqueries. */
+    @Query("select "
+            + "(select count(e) from Event e where e.organizer.id = :organizerId) as events, "
+            + "(select count(h) from Hackathon h where h.organizer.id = :organizerId) as hackathons, "
+            + "(select count(r) from EventRegistration r where r.event.organizer.id = :organizerId) as registrations, "
+            + "(select count(r) from EventRegistration r where r.event.organizer.id = :organizerId "
+            + "and r.attended = true) as attended, "
+            + "(select count(distinct r.userId) from EventRegistration r "
+            + "where r.event.organizer.id = :organizerId) as students, "
+            + "(select count(e) from Event e where e.organizer.id = :organizerId "
+            + "and e.status = 'PENDING') as pendingApprovals, "
+            + "(select count(c) from Certificate c where c.issuerId = :organizerId) as certificates, "
+            + "(select count(r) from EventRegistration r where r.event.organizer.id = :organizerId "
+            + "and r.createdAt > :recentSince) as recentRegistrations, "
+            + "(select count(e) from Event e where e.organizer.id = :organizerId "
+            + "and e.createdAt > :lastMonth) as eventsLastMonth, "
+            + "(select count(e) from Event e where e.organizer.id = :organizerId "
+            + "and e.createdAt between :previousMonth and :lastMonth) as eventsPreviousMonth, "
+            + "(select count(t) from Team t where t.hackathon.organizer.id = :organizerId "
+            + "and t.createdAt > :lastMonth) as teamsLastMonth, "
+            + "(select count(t) from Team t where t.hackathon.organizer.id = :organizerId "
+            + "and t.createdAt between :previousMonth and :lastMonth) as teamsPreviousMonth")
+    FacultyTotalsView findFacultyTotals(@Param("organizerId") String organizerId,
+                                        @Param("recentSince") LocalDateTime recentSince,
+                                        @Param("lastMonth") LocalDateTime lastMonth,
+                                        @Param("previousMonth") LocalDateTime previousMonth);
 }
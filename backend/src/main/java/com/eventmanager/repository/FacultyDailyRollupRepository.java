@@ -0,0 +1,48 @@
+package com.eventmanager.repository;
+
+import com.eventmanager.model.FacultyDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FacultyDailyRollupRepository extends JpaRepository<FacultyDailyRollup, String> {
+
+    interface RollupTotalsView {
+        long getRegistrations();
+        long getAttended();
+        long getCertificates();
+        long getSubmissions();
+    }
+
+    interface DailyRollupView extends RollupTotalsView {
+        LocalDate getDay();
+    }
+
+    interface DepartmentRollupView extends RollupTotalsView {
+        String getDepartment();
+    }
+
+    String TOTALS_SELECT = "coalesce(sum(r.registrations), 0) as registrations, "
+            + "coalesce(sum(r.attended), 0) as attended, "
+            + "coalesce(sum(r.certificates), 0) as certificates, "
+            + "coalesce(sum(r.submissions), 0) as submissions ";
+
+    @Query("select " + TOTALS_SELECT + "from FacultyDailyRollup r where r.organizerId = :organizerId")
+    RollupTotalsView sumByOrganizerId(@Param("organizerId") String organizerId);
+
+    @Query("select r.day as day, " + TOTALS_SELECT + "from FacultyDailyRollup r "
+            + "where r.organizerId = :organizerId and r.day >= :from group by r.day order by r.day")
+    List<DailyRollupView> sumDailyByOrganizerIdSince(@Param("organizerId") String organizerId,
+                                                     @Param("from") LocalDate from);
+
+    @Query("select r.department as department, " + TOTALS_SELECT + "from FacultyDailyRollup r "
+            + "where r.organizerId = :organizerId and r.day >= :from group by r.department "
+            + "order by sum(r.registrations) desc")
+    List<DepartmentRollupView> sumByDepartmentSince(@Param("organizerId") String organizerId,
+                                                    @Param("from") LocalDate from);
+}
@@ -1,11 +1,22 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.ForumComment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ForumCommentRepository extends JpaRepository<ForumComment, String> {
+    @EntityGraph("ForumComment.withAuthor")
     List<ForumComment> findByPostIdOrderByCreatedAtAsc(String postId);
+
+    interface PostCommentCountView {
+        String getPostId();
+        long getTotal();
+    }
+
+    @Query("select c.post.id as postId, count(c) as total from ForumComment c group by c.post.id")
+    List<PostCommentCountView> countGroupedByPost();
 }
@@ -1,8 +1,14 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.ForumPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -10,4 +16,99 @@ public interface ForumPostRepository extends JpaRepository<ForumPost, String> {
     List<ForumPost> findByCategoryOrderByCreatedAtDesc(String category);
 
     List<ForumPost> findAllByOrderByCreatedAtDesc();
+
+    /** A feed card: post fields, a content excerpt and the author, without the comments collection. */
+    interface PostSummaryView {
+        String getId();
+        String getTitle();
+        String getExcerpt();
+        String getCategory();
+        Integer getUpvotes();
+        Integer getDownvotes();
+        Integer getCommentCount();
+        LocalDateTime getCreatedAt();
+        String getAuthorId();
+        String getAuthorName();
+        String getAuthorAvatar();
+        String getAuthorCollegeName();
+    }
+
+    /** What the hot ranking needs to score a post. */
+    interface HotRankView {
+        String getId();
+        String getCategory();
+        Integer getUpvotes();
+        Integer getDownvotes();
+        Integer getCommentCount();
+        LocalDateTime getCreatedAt();
+    }
+
+    interface CommentCountView {
+        String getId();
+        Integer getCommentCount();
+    }
+
+    String SUMMARY_SELECT = "select p.id as id, p.title as title, substring(p.content, 1, 280) as excerpt, "
+            + "p.category as category, p.upvotes as upvotes, p.downvotes as downvotes, "
+            + "p.commentCount as commentCount, p.createdAt as createdAt, a.id as authorId, a.name as authorName, "
+            + "a.avatar as authorAvatar, c.name as authorCollegeName "
+            + "from ForumPost p left join p.author a left join a.college c ";
+
+    // Keyset pages ordered by (createdAt, id) descending; callers pass size + 1 to detect a next page
+    @Query(SUMMARY_SELECT + "order by p.createdAt desc, p.id desc")
+    List<PostSummaryView> findFeedPage(Pageable page);
+
+    @Query(SUMMARY_SELECT + "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) "
+            + "order by p.createdAt desc, p.id desc")
+    List<PostSummaryView> findFeedPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") String id,
+                                            Pageable page);
+
+    @Query(SUMMARY_SELECT + "where p.category = :category order by p.createdAt desc, p.id desc")
+    List<PostSummaryView> findFeedPageByCategory(@Param("category") String category, Pageable page);
+
+    @Query(SUMMARY_SELECT + "where p.category = :category "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<PostSummaryView> findFeedPageByCategoryAfter(@Param("category") String category,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") String id, Pageable page);
+
+    @Query(SUMMARY_SELECT + "where p.id in :ids")
+    List<PostSummaryView> findSummaryViewsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("select p.id as id, p.category as category, p.upvotes as upvotes, p.downvotes as downvotes, "
+            + "p.commentCount as commentCount, p.createdAt as createdAt from ForumPost p where p.createdAt >= :since")
+    List<HotRankView> findHotRankViewsCreatedSince(@Param("since") LocalDateTime since);
+
+    @Query("select p.id as id, p.commentCount as commentCount from ForumPost p")
+    List<CommentCountView> findAllCommentCountViews();
+
+    interface VoteCountView {
+        String getId();
+        Integer getUpvotes();
+        Integer getDownvotes();
+    }
+
+    @Query("select p.id as id, p.upvotes as upvotes, p.downvotes as downvotes from ForumPost p")
+    List<VoteCountView> findAllVoteCountViews();
+
+    @Query("select p.id as id, p.upvotes as upvotes, p.downvotes as downvotes from ForumPost p where p.id in :ids")
+    List<VoteCountView> findVoteCountViews(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("update ForumPost p set p.commentCount = coalesce(p.commentCount, 0) + :delta where p.id = :postId")
+    int adjustCommentCount(@Param("postId") String postId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update ForumPost p set p.upvotes = coalesce(p.upvotes, 0) + :upvotes, "
+            + "p.downvotes = coalesce(p.downvotes, 0) + :downvotes where p.id = :postId")
+    int adjustVotes(@Param("postId") String postId, @Param("upvotes") int upvotes, @Param("downvotes") int downvotes);
+
+    @Modifying
+    @Query("update ForumPost p set p.upvotes = :upvotes, p.downvotes = :downvotes where p.id = :postId")
+    int setVotes(@Param("postId") String postId, @Param("upvotes") int upvotes, @Param("downvotes") int downvotes);
+
+    @Modifying
+    @Query("update ForumPost p set p.commentCount = :count where p.id = :postId")
+    int setCommentCount(@Param("postId") String postId, @Param("count") int count);
 }
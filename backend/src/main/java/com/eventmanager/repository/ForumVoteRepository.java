@@ -0,0 +1,62 @@
+package com.eventmanager.repository;
+
+import com.eventmanager.model.ForumVote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ForumVoteRepository extends JpaRepository<ForumVote, String> {
+
+    interface UserVoteView {
+        String getPostId();
+        Integer getValue();
+    }
+
+    interface PostVoteCountView {
+        String getPostId();
+        long getUpvotes();
+        long getDownvotes();
+    }
+
+    String COUNT_COLUMNS = "select v.postId as postId, sum(case when v.value = 1 then 1 else 0 end) as upvotes, "
+            + "sum(case when v.value = -1 then 1 else 0 end) as downvotes from ForumVote v ";
+
+    @Query("select v.value from ForumVote v where v.postId = :postId and v.userId = :userId")
+    Optional<Integer> findValue(@Param("postId") String postId, @Param("userId") String userId);
+
+    @Query("select v.postId as postId, v.value as value from ForumVote v "
+            + "where v.userId = :userId and v.postId in :postIds")
+    List<UserVoteView> findUserVotes(@Param("userId") String userId, @Param("postIds") Collection<String> postIds);
+
+    @Query(COUNT_COLUMNS + "group by v.postId")
+    List<PostVoteCountView> countGroupedByPost();
+
+    @Query(COUNT_COLUMNS + "where v.postId in :postIds group by v.postId")
+    List<PostVoteCountView> countGroupedByPost(@Param("postIds") Collection<String> postIds);
+
+    @Query("select distinct v.postId from ForumVote v where v.updatedAt >= :since")
+    List<String> findPostIdsVotedSince(@Param("since") LocalDateTime since);
+
+    // Compare-and-set on the user's row: 0 rows updated means a concurrent request changed it first
+    @Modifying
+    @Transactional
+    @Query("update ForumVote v set v.value = :value, v.updatedAt = :now "
+            + "where v.postId = :postId and v.userId = :userId and v.value = :expected")
+    int compareAndSetValue(@Param("postId") String postId, @Param("userId") String userId,
+                           @Param("expected") int expected, @Param("value") int value,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from ForumVote v where v.postId = :postId and v.userId = :userId and v.value = :expected")
+    int deleteIfValue(@Param("postId") String postId, @Param("userId") String userId,
+                      @Param("expected") int expected);
+}
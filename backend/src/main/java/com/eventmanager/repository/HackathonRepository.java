@@ -3,15 +3,113 @@ package com.eventmanager.repository;
 import com.eventmanager.model.Hackathon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 @Repository
 public interface HackathonRepository extends JpaRepository<Hackathon, String>, JpaSpecificationExecutor<Hackathon> {
+
+    /** Hackathon list row with its college, department and organizer flattened to ids and names. */
+    interface HackathonSummaryView {
+        String getId();
+        String getTitle();
+        String getDescription();
+        String getShortDescription();
+        String getBannerImage();
+        String getCollegeId();
+        String getCollegeName();
+        String getDepartmentId();
+        String getDepartmentName();
+        String getOrganizerId();
+        String getOrganizerName();
+        String getMode();
+        String getLocation();
+        String getCountry();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+        LocalDate getRegistrationDeadline();
+        String getPrizePool();
+        String getCurrency();
+        Integer getMinTeamSize();
+        Integer getMaxTeamSize();
+        Integer getMaxSpots();
+        Integer getRegisteredCount();
+        String getApprovalStatus();
+        String getStatus();
+        Boolean getResultsPublished();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface HackathonDetailView extends HackathonSummaryView {
+        String getRules();
+        String getSponsors();
+        String getFaqs();
+        String getJudges();
+    }
+
+    interface TagView {
+        String getHackathonId();
+        String getTag();
+    }
+
+    String SUMMARY_COLUMNS = "h.id as id, h.title as title, h.description as description, "
+            + "h.shortDescription as shortDescription, h.bannerImage as bannerImage, "
+            + "c.id as collegeId, c.name as collegeName, d.id as departmentId, d.name as departmentName, "
+            + "o.id as organizerId, o.name as organizerName, h.mode as mode, h.location as location, "
+            + "h.country as country, h.startDate as startDate, h.endDate as endDate, "
+            + "h.registrationDeadline as registrationDeadline, h.prizePool as prizePool, h.currency as currency, "
+            + "h.minTeamSize as minTeamSize, h.maxTeamSize as maxTeamSize, h.maxSpots as maxSpots, "
+            + "h.registeredCount as registeredCount, h.approvalStatus as approvalStatus, h.status as status, "
+            + "h.resultsPublished as resultsPublished, h.createdAt as createdAt, h.updatedAt as updatedAt ";
+
+    String SUMMARY_FROM = "from Hackathon h left join h.college c left join h.department d left join h.organizer o ";
+
+    @Query("select " + SUMMARY_COLUMNS + SUMMARY_FROM)
+    List<HackathonSummaryView> findAllSummaries();
+
+    @Query("select " + SUMMARY_COLUMNS + SUMMARY_FROM + "where o.id = :organizerId")
+    List<HackathonSummaryView> findSummariesByOrganizerId(@Param("organizerId") String organizerId);
+
+    @Query("select " + SUMMARY_COLUMNS + SUMMARY_FROM + "where h.id in "
+            + "(select t.hackathon.id from TeamMember tm join tm.team t where tm.user.id = :userId)")
+    List<HackathonSummaryView> findSummariesByMemberId(@Param("userId") String userId);
+
+    @Query("select " + SUMMARY_COLUMNS + ", h.rules as rules, h.sponsors as sponsors, h.faqs as faqs, "
+            + "h.judges as judges " + SUMMARY_FROM + "where h.id = :id")
+    Optional<HackathonDetailView> findDetailById(@Param("id") String id);
+
+    @Query("select h.id as hackathonId, t as tag from Hackathon h join h.tags t where h.id in :ids")
+    List<TagView> findTagsByHackathonIds(@Param("ids") Collection<String> ids);
+
+    /** Initializes the tags of hackathons already loaded in the current session in one statement. */
+    @Query("select distinct h from Hackathon h left join fetch h.tags where h.id in :ids")
+    List<Hackathon> fetchTags(@Param("ids") Collection<String> ids);
+
     List<Hackathon> findByOrganizer_Id(String organizerId);
+    @EntityGraph("Hackathon.summary")
     Page<Hackathon> findByOrganizer_Id(String organizerId, Pageable pageable);
+
+    @EntityGraph("Hackathon.summary")
+    List<Hackathon> findAll();
+
+    @EntityGraph("Hackathon.page")
+    Page<Hackathon> findAll(Specification<Hackathon> spec, Pageable pageable);
+
     long countByOrganizer_Id(String organizerId);
+
+    @Query("select h.status as status, count(h) as total from Hackathon h "
+            + "where h.organizer.id = :organizerId group by h.status")
+    List<EventRepository.StatusCountView> countByStatusForOrganizer(@Param("organizerId") String organizerId);
 }
@@ -1,14 +1,43 @@
 package com.eventmanager.repository;
 
+import com.eventmanager.dto.JudgeScoreDto;
 import com.eventmanager.model.JudgeScore;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface JudgeScoreRepository extends JpaRepository<JudgeScore, String> {
+
+    interface EventScoreCountView {
+        String getEventId();
+        long getTotal();
+    }
+
     List<JudgeScore> findBySubmission_Id(String submissionId);
 
+    @EntityGraph("JudgeScore.detail")
+    List<JudgeScore> findBySubmission_Event_Id(String eventId);
+
+    String DTO_SELECT = "select new com.eventmanager.dto.JudgeScoreDto(s.id, j.id, j.name, sub.id, "
+            + "sub.projectTitle, t.id, t.name, e.id, e.title, s.criteriaScores, s.totalScore, s.feedback, "
+            + "s.status, s.isDraft, s.createdAt, s.updatedAt) "
+            + "from JudgeScore s join s.judge j join s.submission sub left join sub.team t left join sub.event e ";
+
+    @Query(DTO_SELECT + "where e.id = :eventId and s.isDraft = false")
+    List<JudgeScoreDto> findSubmittedDtosByEventId(@Param("eventId") String eventId);
+
+    @Query(DTO_SELECT + "where j.id = :judgeId and sub.id = :submissionId")
+    java.util.Optional<JudgeScoreDto> findDtoByJudgeIdAndSubmissionId(@Param("judgeId") String judgeId,
+            @Param("submissionId") String submissionId);
+
+    @Query("select s.submission.event.id as eventId, count(s) as total from JudgeScore s "
+            + "where s.isDraft = false and s.submission.event is not null group by s.submission.event.id")
+    List<EventScoreCountView> countSubmittedGroupedByEvent();
+
     List<JudgeScore> findByJudge_Id(String judgeId);
 
     java.util.Optional<JudgeScore> findByJudgeAndSubmission(com.eventmanager.model.User judge,
@@ -2,6 +2,7 @@ package com.eventmanager.repository;
 
 import com.eventmanager.model.ScoreLock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -9,4 +10,7 @@ public interface ScoreLockRepository extends JpaRepository<ScoreLock, String> {
     boolean existsByEventId(String eventId);
 
     java.util.Optional<ScoreLock> findByEventId(String eventId);
+
+    @Query("select l.event.id from ScoreLock l where l.isLocked = true")
+    java.util.Set<String> findLockedEventIds();
 }
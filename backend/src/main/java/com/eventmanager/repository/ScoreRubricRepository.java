@@ -1,11 +1,15 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.ScoreRubric;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ScoreRubricRepository extends JpaRepository<ScoreRubric, String> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ScoreRubric> findByEventId(String eventId);
 }
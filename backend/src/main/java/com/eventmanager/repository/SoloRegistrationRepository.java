@@ -0,0 +1,36 @@
+package com.eventmanager.repository;
+
+import com.eventmanager.model.SoloRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SoloRegistrationRepository extends JpaRepository<SoloRegistration, String> {
+
+    /** Column-only view of a pooled participant so the matcher never hydrates {@code User} entities. */
+    interface CandidateView {
+        String getUserId();
+        String getSkills();
+    }
+
+    Optional<SoloRegistration> findByHackathonIdAndUserId(String hackathonId, String userId);
+
+    List<SoloRegistration> findByHackathonIdAndStatus(String hackathonId, String status);
+
+    List<SoloRegistration> findByStatusAndUpdatedAtBefore(String status, LocalDateTime before);
+
+    long countByHackathonIdAndStatus(String hackathonId, String status);
+
+    @Query("select s.userId as userId, u.skills as skills from SoloRegistration s join s.user u "
+            + "where s.hackathonId = :hackathonId and s.status = 'WAITING' order by s.createdAt")
+    List<CandidateView> findWaitingCandidates(@Param("hackathonId") String hackathonId);
+
+    @Query("select distinct s.hackathonId from SoloRegistration s where s.status = 'WAITING'")
+    List<String> findHackathonIdsWithWaitingParticipants();
+}
@@ -1,6 +1,7 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.Submission;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.List;
 public interface SubmissionRepository extends JpaRepository<Submission, String> {
     List<Submission> findByHackathonId(String hackathonId);
 
+    @EntityGraph("Submission.detail")
     List<Submission> findByEventId(String eventId);
 
     List<Submission> findByTeamId(String teamId);
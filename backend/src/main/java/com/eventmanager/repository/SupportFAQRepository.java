@@ -1,12 +1,18 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.SupportFAQ;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface SupportFAQRepository extends JpaRepository<SupportFAQ, String> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<SupportFAQ> findByIsActiveTrueOrderByDisplayOrderAsc();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<SupportFAQ> findByCategoryAndIsActiveTrue(String category);
 }
@@ -1,13 +1,18 @@
 package com.eventmanager.repository;
 
 import com.eventmanager.model.SupportTicket;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface SupportTicketRepository extends JpaRepository<SupportTicket, String> {
+    @EntityGraph("SupportTicket.detail")
     List<SupportTicket> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    @EntityGraph("SupportTicket.detail")
+    List<SupportTicket> findAllByOrderByCreatedAtDesc();
     List<SupportTicket> findByStatus(String status);
     List<SupportTicket> findByCategory(String category);
 }
@@ -4,17 +4,69 @@ import com.eventmanager.model.Team;
 import com.eventmanager.model.TeamMember;
 import com.eventmanager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TeamMemberRepository extends JpaRepository<TeamMember, String> {
+
+    /** Team id plus the member's skills, enough to work out a team's current skill coverage. */
+    interface MemberSkillView {
+        String getTeamId();
+        String getStatus();
+        String getSkills();
+    }
+
+    /** Member row with the user columns a team card shows. */
+    interface MemberCardView {
+        String getTeamId();
+        String getUserId();
+        String getName();
+        String getEmail();
+        String getAvatar();
+        String getRole();
+        String getStatus();
+    }
+
     List<TeamMember> findByTeamId(String teamId);
 
+    @Query("select tm.team.id as teamId, u.id as userId, u.name as name, u.email as email, u.avatar as avatar, "
+            + "tm.role as role, tm.status as status from TeamMember tm join tm.user u "
+            + "where tm.team.id in :teamIds order by tm.joinedAt")
+    List<MemberCardView> findCardViewsByTeamIdIn(@Param("teamIds") Collection<String> teamIds);
+
+    @Query("select tm.team.id from TeamMember tm where tm.user.id = :userId and tm.status = :status order by tm.joinedAt")
+    List<String> findTeamIdsByUserIdAndStatus(@Param("userId") String userId, @Param("status") String status);
+
+    @Query("select tm.team.id from TeamMember tm where tm.user.id = :userId order by tm.joinedAt")
+    List<String> findTeamIdsByUserId(@Param("userId") String userId);
+
     Optional<TeamMember> findByTeamAndUser(Team team, User user);
 
     List<TeamMember> findByUserId(String userId);
 
+    @Query("select count(distinct t.hackathonId) from TeamMember tm join tm.team t "
+            + "where tm.user.id = :userId and t.hackathonId is not null")
+    long countDistinctHackathonsByUserId(@Param("userId") String userId);
+
+    @Query("select year(tm.joinedAt) as bucketYear, month(tm.joinedAt) as bucketMonth, count(tm) as total "
+            + "from TeamMember tm where tm.user.id = :userId and tm.joinedAt >= :since "
+            + "group by year(tm.joinedAt), month(tm.joinedAt)")
+    List<EventRegistrationRepository.MonthlyCountView> countMonthlyByUserId(@Param("userId") String userId,
+                                                                          @Param("since") LocalDateTime since);
+
     List<TeamMember> findByUserIdAndStatus(String userId, String status);
+
+    boolean existsByUserIdAndTeam_HackathonId(String userId, String hackathonId);
+
+    Optional<TeamMember> findFirstByUserIdAndTeam_HackathonId(String userId, String hackathonId);
+
+    @Query("select tm.team.id as teamId, tm.status as status, u.skills as skills from TeamMember tm join tm.user u "
+            + "where tm.team.hackathonId = :hackathonId and tm.status in ('ACCEPTED', 'PENDING')")
+    List<MemberSkillView> findMemberSkillsByHackathonId(@Param("hackathonId") String hackathonId);
 }
@@ -2,13 +2,67 @@ package com.eventmanager.repository;
 
 import com.eventmanager.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, String> {
+
+    /** Column-only view of a team used when matching solo participants into open slots. */
+    interface OpenSlotView {
+        String getId();
+        String getName();
+        Integer getMaxMembers();
+        String getRequiredSkills();
+    }
+
     List<Team> findByHackathonId(String hackathonId);
 
     List<Team> findByLeaderId(String leaderId);
+
+    /** Flat team row with hackathon, event and leader names resolved by join. */
+    interface TeamCardView {
+        String getId();
+        String getName();
+        String getHackathonId();
+        String getHackathonName();
+        String getEventId();
+        String getEventName();
+        String getLeaderId();
+        String getLeaderName();
+        String getProjectName();
+        String getProjectDescription();
+        String getGithubUrl();
+        String getSubmissionStatus();
+        String getJoinCode();
+        String getStatus();
+        Integer getMaxMembers();
+        String getRequiredSkills();
+        String getDemoUrl();
+        String getFileUrl();
+        LocalDateTime getCreatedAt();
+    }
+
+    @Query("select t.id as id, t.name as name, h.id as hackathonId, h.title as hackathonName, "
+            + "e.id as eventId, e.title as eventName, l.id as leaderId, l.name as leaderName, "
+            + "t.projectName as projectName, t.projectDescription as projectDescription, t.githubUrl as githubUrl, "
+            + "t.submissionStatus as submissionStatus, t.joinCode as joinCode, t.status as status, "
+            + "t.maxMembers as maxMembers, t.requiredSkills as requiredSkills, t.demoUrl as demoUrl, "
+            + "t.fileUrl as fileUrl, t.createdAt as createdAt "
+            + "from Team t left join t.hackathon h left join t.event e left join t.leader l where t.id in :ids")
+    List<TeamCardView> findCardViewsByIdIn(@Param("ids") Collection<String> ids);
+
+    Optional<Team> findByHackathonIdAndJoinCode(String hackathonId, String joinCode);
+
+    boolean existsByHackathonIdAndJoinCode(String hackathonId, String joinCode);
+
+    @Query("select t.id as id, t.name as name, t.maxMembers as maxMembers, t.requiredSkills as requiredSkills "
+            + "from Team t where t.hackathonId = :hackathonId and t.status = 'ACTIVE'")
+    List<OpenSlotView> findActiveSlotViewsByHackathonId(@Param("hackathonId") String hackathonId);
 }
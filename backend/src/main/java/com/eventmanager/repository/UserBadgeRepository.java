@@ -2,10 +2,24 @@ package com.eventmanager.repository;
 
 import com.eventmanager.model.UserBadge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface UserBadgeRepository extends JpaRepository<UserBadge, String> {
     List<UserBadge> findByUserId(String userId);
+
+    interface EarnedBadgeView {
+        String getId();
+        String getName();
+        String getIcon();
+        LocalDateTime getEarnedAt();
+    }
+
+    @Query("select b.id as id, b.name as name, b.iconUrl as icon, ub.awardedAt as earnedAt "
+            + "from UserBadge ub join ub.badge b where ub.user.id = :userId")
+    List<EarnedBadgeView> findEarnedBadgeViews(@Param("userId") String userId);
 }
@@ -2,7 +2,9 @@ package com.eventmanager.repository;
 
 import com.eventmanager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +12,15 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /** What the per-college ranking needs for one student. */
+    interface StudentPointsView {
+        String getId();
+        String getCollegeId();
+        Integer getPoints();
+    }
+
+    @Query("select u.id as id, u.college.id as collegeId, u.points as points from User u "
+            + "where upper(u.role) = 'STUDENT' and u.college is not null")
+    List<StudentPointsView> findStudentPointsViews();
 }
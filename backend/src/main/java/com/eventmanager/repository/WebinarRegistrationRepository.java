@@ -3,15 +3,30 @@ package com.eventmanager.repository;
 import com.eventmanager.model.Webinar;
 import com.eventmanager.model.WebinarRegistration;
 import com.eventmanager.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface WebinarRegistrationRepository extends JpaRepository<WebinarRegistration, String> {
+    @EntityGraph("WebinarRegistration.withWebinar")
     List<WebinarRegistration> findByStudentId(String studentId);
     List<WebinarRegistration> findByWebinarId(String webinarId);
     Optional<WebinarRegistration> findByWebinarAndStudent(Webinar webinar, User student);
     long countByWebinarId(String webinarId);
+
+    @Query("select r.webinar.id from WebinarRegistration r where r.student.id = :studentId")
+    Set<String> findWebinarIdsByStudentId(@Param("studentId") String studentId);
+
+    @Query("select year(r.registeredAt) as bucketYear, month(r.registeredAt) as bucketMonth, count(r) as total "
+            + "from WebinarRegistration r where r.student.id = :studentId and r.registeredAt >= :since "
+            + "group by year(r.registeredAt), month(r.registeredAt)")
+    List<EventRegistrationRepository.MonthlyCountView> countMonthlyByStudentId(@Param("studentId") String studentId,
+                                                                             @Param("since") LocalDateTime since);
 }
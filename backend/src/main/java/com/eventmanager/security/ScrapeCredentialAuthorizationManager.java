@@ -0,0 +1,50 @@
+package com.eventmanager.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * Access to {@code /actuator/prometheus}: an admin's JWT, or HTTP Basic with the scrape credential
+ * from {@code metrics.scrape.username} / {@code metrics.scrape.password}. The credential only opens
+ * this endpoint and is off while the password is empty. Basic rather than a bearer token, because
+ * {@link JwtAuthenticationFilter} reads every bearer token as a JWT.
+ */
+@Component
+public class ScrapeCredentialAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final AuthorizationManager<RequestAuthorizationContext> admins =
+            AuthorityAuthorizationManager.hasAnyRole("COLLEGE_ADMIN", "SUPER_ADMIN");
+    private final byte[] expected;
+
+    public ScrapeCredentialAuthorizationManager(
+            @Value("${metrics.scrape.username:prometheus}") String username,
+            @Value("${metrics.scrape.password:}") String password) {
+        this.expected = password.isEmpty() ? null
+                : ("Basic " + Base64.getEncoder().encodeToString(
+                        (username + ":" + password).getBytes(StandardCharsets.UTF_8)))
+                        .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        if (presentsScrapeCredential(context.getRequest())) return new AuthorizationDecision(true);
+        return admins.check(authentication, context);
+    }
+
+    private boolean presentsScrapeCredential(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (expected == null || header == null) return false;
+        return MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.ActivityDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind for {@code activities}. Callers enqueue and return; a single writer thread drains
+ * the queue and inserts in JDBC batches keyed by user id, so no user row is loaded.
+ *
+ * When the queue is full the caller writes its own row synchronously rather than dropping it.
+ * A failed batch is retried row by row so one bad row (e.g. a deleted user) does not lose the rest.
+ * Remaining rows are written on shutdown. Written users' dashboard stats are invalidated once their
+ * rows are in, since the stats count activities per month.
+ */
+@Component
+public class ActivityBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityBatchWriter.class);
+    private static final String INSERT_SQL = "insert into activities "
+            + "(id, user_id, activity_type, description, target_id, target_name, timestamp) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<StudentStatsService> studentStatsService;
+    private final BlockingQueue<ActivityDto> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private Thread writer;
+    private volatile boolean running;
+
+    public ActivityBatchWriter(JdbcTemplate jdbcTemplate,
+                               ObjectProvider<StudentStatsService> studentStatsService,
+                               @Value("${activities.writer.queue-capacity:10000}") int queueCapacity,
+                               @Value("${activities.writer.batch-size:200}") int batchSize,
+                               @Value("${activities.writer.flush-interval-ms:500}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.studentStatsService = studentStatsService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "activity-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(5000);
+        List<ActivityDto> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int i = 0; i < rest.size(); i += batchSize) {
+            write(rest.subList(i, Math.min(rest.size(), i + batchSize)));
+        }
+    }
+
+    public void submit(ActivityDto activity) {
+        if (!queue.offer(activity)) {
+            write(List.of(activity));
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<ActivityDto> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ActivityDto first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Activity writer failed to write {} row(s)", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ActivityDto> batch) {
+        try {
+            insert(batch);
+            studentStatsService.ifAvailable(stats -> batch.forEach(a -> stats.invalidate(a.getUserId())));
+        } catch (DataAccessException e) {
+            if (batch.size() == 1) {
+                logger.warn("Dropping activity {} for user {}: {}", batch.get(0).getActivityType(),
+                        batch.get(0).getUserId(), e.getMostSpecificCause().getMessage());
+                return;
+            }
+            batch.forEach(activity -> write(List.of(activity)));
+        }
+    }
+
+    private void insert(List<ActivityDto> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, a) -> {
+            ps.setString(1, a.getId());
+            ps.setString(2, a.getUserId());
+            ps.setString(3, a.getActivityType());
+            ps.setString(4, a.getDescription());
+            ps.setString(5, a.getTargetId());
+            ps.setString(6, a.getTargetName());
+            ps.setTimestamp(7, Timestamp.valueOf(a.getTimestamp()));
+        });
+    }
+}
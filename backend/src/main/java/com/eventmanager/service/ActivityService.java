@@ -1,10 +1,23 @@
 package com.eventmanager.service;
 
-import com.eventmanager.model.Activity;
+import com.eventmanager.dto.ActivityDto;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ActivityService {
-    Activity logActivity(String userId, String type, String description, String targetId, String targetName);
+    /**
+     * Record an activity. The row is written asynchronously, after the caller's transaction commits.
+     */
+    void logActivity(String userId, String type, String description, String targetId, String targetName);
 
-    List<Activity> getUserTimeline(String userId);
+    /**
+     * One page of the user's timeline, newest first.
+     *
+     * @param beforeTimestamp timestamp of the last activity already shown, or null for the first page
+     * @param beforeId        id of the last activity already shown, or null for the first page
+     */
+    List<ActivityDto> getUserTimeline(String userId, int limit, LocalDateTime beforeTimestamp, String beforeId);
+
+    /** The user's newest activities, served from memory after the first read. */
+    List<ActivityDto> getRecentActivities(String userId);
 }
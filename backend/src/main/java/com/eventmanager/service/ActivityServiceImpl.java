@@ -1,38 +1,72 @@
 package com.eventmanager.service;
 
-import com.eventmanager.model.Activity;
-import com.eventmanager.model.User;
+import com.eventmanager.dto.ActivityDto;
 import com.eventmanager.repository.ActivityRepository;
-import com.eventmanager.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class ActivityServiceImpl implements ActivityService {
 
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
     @Autowired
     private ActivityRepository activityRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private ActivityBatchWriter activityWriter;
+
+    @Autowired
+    private RecentActivityCache recentActivityCache;
 
     @Override
-    public Activity logActivity(String userId, String type, String description, String targetId, String targetName) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+    public void logActivity(String userId, String type, String description, String targetId, String targetName) {
+        ActivityDto activity = new ActivityDto(UUID.randomUUID().toString(), userId, type, description,
+                targetId, targetName, LocalDateTime.now());
 
-        Activity activity = new Activity();
-        activity.setUser(user);
-        activity.setActivityType(type);
-        activity.setDescription(description);
-        activity.setTargetId(targetId);
-        activity.setTargetName(targetName);
+        // Don't publish activities of work that is later rolled back
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(activity);
+                }
+            });
+        } else {
+            publish(activity);
+        }
+    }
 
-        return activityRepository.save(activity);
+    @Override
+    public List<ActivityDto> getUserTimeline(String userId, int limit, LocalDateTime beforeTimestamp, String beforeId) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_TIMELINE_PAGE_SIZE)));
+        List<ActivityRepository.ActivityView> rows = beforeTimestamp == null || beforeId == null
+                ? activityRepository.findTimelinePage(userId, page)
+                : activityRepository.findTimelinePageBefore(userId, beforeTimestamp, beforeId, page);
+        return rows.stream().map(this::toDto).collect(Collectors.toList());
     }
 
     @Override
-    public List<Activity> getUserTimeline(String userId) {
-        return activityRepository.findByUserIdOrderByTimestampDesc(userId);
+    public List<ActivityDto> getRecentActivities(String userId) {
+        return recentActivityCache.getRecent(userId, () -> activityRepository
+                .findTimelinePage(userId, PageRequest.of(0, RecentActivityCache.CAPACITY))
+                .stream().map(this::toDto).collect(Collectors.toList()));
+    }
+
+    private void publish(ActivityDto activity) {
+        recentActivityCache.record(activity);
+        activityWriter.submit(activity);
+    }
+
+    private ActivityDto toDto(ActivityRepository.ActivityView row) {
+        return new ActivityDto(row.getId(), row.getUserId(), row.getActivityType(), row.getDescription(),
+                row.getTargetId(), row.getTargetName(), row.getTimestamp());
     }
 }
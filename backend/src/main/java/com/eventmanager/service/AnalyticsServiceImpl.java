@@ -29,7 +29,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     private TeamMemberRepository teamMemberRepository;
 
     @Autowired
-    private ActivityRepository activityRepository;
+    private ActivityService activityService;
 
     @Autowired
     private ClubMembershipRepository clubMembershipRepository;
@@ -37,51 +37,21 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Autowired
     private UserBadgeRepository userBadgeRepository;
 
+    @Autowired
+    private ClubStatsService clubStatsService;
+
+    @Autowired
+    private StudentStatsService studentStatsService;
+
     @Override
     public Map<String, Object> getStudentDashboardStats(String userId) {
-        Map<String, Object> stats = new HashMap<>();
-
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
+        Map<String, Object> stats = studentStatsService.getStats(userId);
+        if (stats.isEmpty()) {
             return stats;
         }
 
-        // Basic stats
-        stats.put("totalPoints", user.getPoints() != null ? user.getPoints() : 0);
-
-        // Certificate count
-        long certificateCount = certificateRepository.findByUserId(userId).size();
-        stats.put("certificatesEarned", certificateCount);
-
-        // Hackathon participation
-        long hackathonCount = teamMemberRepository.findByUserId(userId).stream()
-                .map(tm -> tm.getTeam())
-                .filter(team -> team.getHackathon() != null)
-                .distinct()
-                .count();
-        stats.put("hackathonsParticipated", hackathonCount);
-
-        // Club memberships
-        long clubCount = clubMembershipRepository.findByUserId(userId).size();
-        stats.put("clubsJoined", clubCount);
-
-        // Badges
-        List<Map<String, Object>> badges = userBadgeRepository.findByUserId(userId).stream()
-                .map(ub -> {
-                    Map<String, Object> badge = new HashMap<>();
-                    badge.put("id", ub.getBadge().getId());
-                    badge.put("name", ub.getBadge().getName());
-                    badge.put("icon", ub.getBadge().getIconUrl());
-                    badge.put("earnedAt", ub.getAwardedAt());
-                    return badge;
-                })
-                .collect(Collectors.toList());
-        stats.put("badges", badges);
-
         // Recent activities
-        List<Map<String, Object>> recentActivities = activityRepository.findByUserIdOrderByTimestampDesc(userId)
-                .stream()
-                .limit(10)
+        List<Map<String, Object>> recentActivities = activityService.getRecentActivities(userId).stream()
                 .map(activity -> {
                     Map<String, Object> act = new HashMap<>();
                     act.put("id", activity.getId());
@@ -94,32 +64,12 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                 .collect(Collectors.toList());
         stats.put("recentActivities", recentActivities);
 
-        // Participation trends (last 6 months)
-        List<Map<String, Object>> participationTrends = new ArrayList<>();
-        for (int i = 5; i >= 0; i--) {
-            Map<String, Object> monthData = new HashMap<>();
-            monthData.put("month", java.time.LocalDate.now().minusMonths(i).getMonth().toString());
-            monthData.put("events", (int) (Math.random() * 5));
-            participationTrends.add(monthData);
-        }
-        stats.put("participationTrends", participationTrends);
-
-        // College rank
-        stats.put("collegeRank", (int) (Math.random() * 100) + 1);
-
         return stats;
     }
 
     @Override
     public Map<String, Object> getClubAnalytics(String clubId) {
-        Map<String, Object> stats = new HashMap<>();
-
-        long memberCount = clubMembershipRepository.findByClubId(clubId).size();
-        stats.put("totalMembers", memberCount);
-        stats.put("activeMembers", (int) (memberCount * 0.7));
-        stats.put("eventsHosted", (int) (Math.random() * 20));
-
-        return stats;
+        return clubStatsService.getClubStats(clubId);
     }
 
     @Override
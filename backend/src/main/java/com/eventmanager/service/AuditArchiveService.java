@@ -0,0 +1,272 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.AuditEventDto;
+import com.eventmanager.model.AuditLog;
+import com.eventmanager.model.GovernanceLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only storage mode for audit and governance logs ({@code audit.store.enabled}, on by
+ * default). Every audit event and governance action is appended to a {@link SegmentedLogStore}
+ * under {@code audit.store.dir} ({@code audit/} and {@code governance/}), and audit reads are served
+ * from there. The {@code audit_events} and {@code governance_events} tables keep only the last
+ * {@code audit.store.hot-days} days: a nightly job deletes older rows one day at a time. It stops at
+ * the first day for which the store holds fewer records than the table, and before the oldest
+ * record whose append failed since startup, so a row is only deleted once it is archived. Exports
+ * read segment files only, so a year-long export puts no load on the database.
+ *
+ * Rows older than the store's first record are copied into it on startup.
+ */
+@Service
+public class AuditArchiveService {
+
+    public static final String AUDIT = "audit";
+    public static final String GOVERNANCE = "governance";
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchiveService.class);
+    private static final String AUDIT_BACKFILL_SQL = "select action, entity_type, entity_id, user_id, username, "
+            + "user_role, details, ip_address, user_agent, status, error_message, timestamp "
+            + "from audit_events %s order by timestamp";
+    private static final String GOVERNANCE_BACKFILL_SQL = "select id, entity_type, entity_id, action_type, actor_id, "
+            + "actor_email, from_status, to_status, comments, metadata, created_at "
+            + "from governance_events %s order by created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int hotDays;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final SegmentedLogStore auditStore;
+    private final SegmentedLogStore governanceStore;
+    // Per stream, the oldest timestamp (epoch millis) whose append failed since startup
+    private final Map<String, Long> failedFrom = new ConcurrentHashMap<>();
+
+    public AuditArchiveService(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${audit.store.enabled:true}") boolean enabled,
+                               @Value("${audit.store.dir:./data/audit-store}") Path dir,
+                               @Value("${audit.store.hot-days:30}") int hotDays) throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.hotDays = hotDays;
+        this.auditStore = enabled ? new SegmentedLogStore(dir.resolve(AUDIT), zone) : null;
+        this.governanceStore = enabled ? new SegmentedLogStore(dir.resolve(GOVERNANCE), zone) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Called by {@link AuditLogWriter} once a batch is in the database. */
+    public void archive(List<AuditEventDto> events) {
+        if (!enabled) return;
+        for (AuditEventDto event : events) {
+            append(auditStore, event.timestamp(), event.entityType(), event.userId(), event);
+        }
+    }
+
+    /** Archive a governance action once the surrounding transaction (if any) commits. */
+    public void archive(GovernanceLog log) {
+        if (!enabled) return;
+        Runnable append = () -> append(governanceStore, log.getCreatedAt(), log.getEntityType(), log.getActorId(), log);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append.run();
+                }
+            });
+        } else {
+            append.run();
+        }
+    }
+
+    /**
+     * Audit events in [from, to] (either bound may be null), optionally of one entity type and/or
+     * user, newest first.
+     */
+    public Page<AuditLog> findAudit(LocalDateTime from, LocalDateTime to, String entityType, String userId,
+                                    Pageable pageable) {
+        SegmentedLogStore.Slice slice = auditStore.query(
+                from == null ? 0 : toMillis(from), to == null ? Long.MAX_VALUE : toMillis(to),
+                entityType, userId, (int) pageable.getOffset(), pageable.getPageSize());
+        List<AuditLog> content = new ArrayList<>(slice.payloads().size());
+        for (byte[] payload : slice.payloads()) {
+            content.add(toAuditLog(read(payload, AuditEventDto.class)));
+        }
+        return new PageImpl<>(content, pageable, slice.total());
+    }
+
+    /** Write the stream's records for the given days (inclusive) as JSON lines. */
+    public long export(String stream, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        if (!enabled) {
+            throw new IllegalArgumentException("The audit log store is disabled");
+        }
+        SegmentedLogStore store = switch (stream) {
+            case AUDIT -> auditStore;
+            case GOVERNANCE -> governanceStore;
+            default -> throw new IllegalArgumentException("Unknown log stream: " + stream);
+        };
+        return store.export(toMillis(from.atStartOfDay()), toMillis(to.plusDays(1).atStartOfDay()) - 1, out);
+    }
+
+    @Scheduled(cron = "${audit.store.prune-cron:0 15 3 * * *}")
+    public void pruneHotWindow() {
+        if (!enabled) return;
+        LocalDateTime cutoff = LocalDate.now().minusDays(hotDays).atStartOfDay();
+        int audit = prune(AUDIT, "audit_events", "timestamp", cutoff, auditStore);
+        int governance = prune(GOVERNANCE, "governance_events", "created_at", cutoff, governanceStore);
+        if (audit + governance > 0) {
+            logger.info("Pruned {} audit and {} governance row(s) older than {}", audit, governance, cutoff.toLocalDate());
+        }
+    }
+
+    /**
+     * Copy rows older than each store's first record into it: everything on the first start, and
+     * rows that were never archived on a later one. Runs even if the writer has appended first.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOlderRows() {
+        if (!enabled) return;
+        long auditFirst = auditStore.firstTimestamp();
+        int[] audit = {0};
+        jdbcTemplate.query(olderThan(AUDIT_BACKFILL_SQL, "timestamp", auditFirst), rs -> {
+            archive(List.of(new AuditEventDto(rs.getString(1), rs.getString(2), rs.getString(3),
+                    rs.getString(4), rs.getString(5), rs.getString(6), rs.getString(7), rs.getString(8),
+                    rs.getString(9), rs.getString(10), rs.getString(11), rs.getTimestamp(12).toLocalDateTime())));
+            audit[0]++;
+        }, olderThanArgs(auditFirst));
+        if (audit[0] > 0) logger.info("Copied {} audit row(s) into the audit log store", audit[0]);
+
+        long governanceFirst = governanceStore.firstTimestamp();
+        int[] governance = {0};
+        jdbcTemplate.query(olderThan(GOVERNANCE_BACKFILL_SQL, "created_at", governanceFirst), rs -> {
+            GovernanceLog log = new GovernanceLog();
+            log.setId(rs.getString(1));
+            log.setEntityType(rs.getString(2));
+            log.setEntityId(rs.getString(3));
+            log.setActionType(rs.getString(4));
+            log.setActorId(rs.getString(5));
+            log.setActorEmail(rs.getString(6));
+            log.setFromStatus(rs.getString(7));
+            log.setToStatus(rs.getString(8));
+            log.setComments(rs.getString(9));
+            log.setMetadata(rs.getString(10));
+            log.setCreatedAt(rs.getTimestamp(11).toLocalDateTime());
+            append(governanceStore, log.getCreatedAt(), log.getEntityType(), log.getActorId(), log);
+            governance[0]++;
+        }, olderThanArgs(governanceFirst));
+        if (governance[0] > 0) logger.info("Copied {} governance row(s) into the governance log store", governance[0]);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) return;
+        auditStore.close();
+        governanceStore.close();
+    }
+
+    /**
+     * Delete rows older than the cutoff one day per statement. A day is only deleted if the store
+     * holds at least as many of its records as the table, and never at or after a failed append.
+     */
+    private int prune(String stream, String table, String column, LocalDateTime cutoff, SegmentedLogStore store) {
+        LocalDateTime end = cutoff;
+        Long failed = failedFrom.get(stream);
+        if (failed != null && toLocalDateTime(failed).isBefore(end)) {
+            end = toLocalDateTime(failed);
+            logger.warn("Pruning {} only up to {}: an append to the {} log store failed there", table, end, stream);
+        }
+        Timestamp oldest = jdbcTemplate.queryForObject("select min(" + column + ") from " + table, Timestamp.class);
+        if (oldest == null) return 0;
+        String count = "select count(*) from " + table + " where " + column + " >= ? and " + column + " < ?";
+        String delete = "delete from " + table + " where " + column + " >= ? and " + column + " < ?";
+        int deleted = 0;
+        for (LocalDateTime from = oldest.toLocalDateTime(); from.isBefore(end); ) {
+            LocalDateTime to = from.toLocalDate().plusDays(1).atStartOfDay();
+            if (to.isAfter(end)) to = end;
+            Integer rows = jdbcTemplate.queryForObject(count, Integer.class, Timestamp.valueOf(from), Timestamp.valueOf(to));
+            if (rows != null && rows > 0) {
+                long archived = store.query(toMillis(from), toMillis(to) - 1, null, null, 0, 0).total();
+                if (archived < rows) {
+                    logger.warn("Stopped pruning {} at {}: {} row(s) in the table but {} in the log store",
+                            table, from, rows, archived);
+                    break;
+                }
+                deleted += jdbcTemplate.update(delete, Timestamp.valueOf(from), Timestamp.valueOf(to));
+            }
+            from = to;
+        }
+        return deleted;
+    }
+
+    /** The backfill query, limited to rows before the store's first record if it has one. */
+    private static String olderThan(String sql, String column, long first) {
+        return String.format(sql, first == Long.MAX_VALUE ? "" : "where " + column + " < ?");
+    }
+
+    private Object[] olderThanArgs(long first) {
+        return first == Long.MAX_VALUE ? new Object[0] : new Object[]{Timestamp.valueOf(toLocalDateTime(first))};
+    }
+
+    private void append(SegmentedLogStore store, LocalDateTime timestamp, String entityType, String userId, Object payload) {
+        try {
+            store.append(new SegmentedLogStore.Entry(toMillis(timestamp), entityType, userId,
+                    objectMapper.writeValueAsBytes(payload)));
+        } catch (IOException e) {
+            String stream = store == auditStore ? AUDIT : GOVERNANCE;
+            failedFrom.merge(stream, toMillis(timestamp), Math::min);
+            logger.error("Failed to append to the {} log store; pruning stops before {}", stream, timestamp, e);
+        }
+    }
+
+    private <T> T read(byte[] payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+    }
+
+    private static AuditLog toAuditLog(AuditEventDto e) {
+        return new AuditLog(null, e.action(), e.entityType(), e.entityId(), e.userId(), e.username(), e.userRole(),
+                e.details(), e.ipAddress(), e.userAgent(), e.timestamp(), e.status(), e.errorMessage());
+    }
+}
@@ -1,102 +1,128 @@
 package com.eventmanager.service;
 
+import com.eventmanager.dto.AuditEventDto;
 import com.eventmanager.model.AuditLog;
+import com.eventmanager.model.User;
 import com.eventmanager.repository.AuditLogRepository;
+import com.eventmanager.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 
+/**
+ * Records audit events. The caller's identity and request details are captured on the calling
+ * thread and the event is handed to {@link AuditLogWriter}, which writes it in the background; a
+ * call costs a few microseconds. Inside a transaction the event is queued after commit, so
+ * rolled-back actions are not audited. Reads come from the append-only store when it is enabled
+ * (see {@link AuditArchiveService}), since the table only keeps recent rows.
+ */
 @Service
 @RequiredArgsConstructor
 public class AuditLogService {
-    
+
     private final AuditLogRepository auditLogRepository;
-    
-    @Async
-    @Transactional
-    public void log(String action, String entityType, Long entityId, String details, HttpServletRequest request) {
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            
-            AuditLog log = new AuditLog();
-            log.setAction(action);
-            log.setEntityType(entityType);
-            log.setEntityId(entityId);
-            log.setDetails(details);
-            log.setStatus("SUCCESS");
-            
-            if (auth != null && auth.isAuthenticated()) {
-                log.setUsername(auth.getName());
-                log.setUserRole(auth.getAuthorities().toString());
-                // Extract user ID from authentication if available
-                // log.setUserId(extractUserId(auth));
-            }
-            
-            if (request != null) {
-                log.setIpAddress(getClientIpAddress(request));
-                log.setUserAgent(request.getHeader("User-Agent"));
-            }
-            
-            auditLogRepository.save(log);
-        } catch (Exception e) {
-            // Log error but don't fail the main operation
-            System.err.println("Failed to create audit log: " + e.getMessage());
-        }
+    private final AuditLogWriter auditLogWriter;
+    private final AuditArchiveService auditArchiveService;
+
+    public void log(String action, String entityType, String entityId, String details, HttpServletRequest request) {
+        submit(capture(action, entityType, entityId, details, "SUCCESS", null, null, request));
     }
-    
-    @Async
-    @Transactional
-    public void logFailure(String action, String entityType, Long entityId, String errorMessage, HttpServletRequest request) {
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            
-            AuditLog log = new AuditLog();
-            log.setAction(action);
-            log.setEntityType(entityType);
-            log.setEntityId(entityId);
-            log.setStatus("FAILURE");
-            log.setErrorMessage(errorMessage);
-            
-            if (auth != null && auth.isAuthenticated()) {
-                log.setUsername(auth.getName());
-                log.setUserRole(auth.getAuthorities().toString());
-            }
-            
-            if (request != null) {
-                log.setIpAddress(getClientIpAddress(request));
-                log.setUserAgent(request.getHeader("User-Agent"));
-            }
-            
-            auditLogRepository.save(log);
-        } catch (Exception e) {
-            System.err.println("Failed to create audit log: " + e.getMessage());
-        }
+
+    public void log(String action, String details, User actor, String entityType, String entityId) {
+        submit(capture(action, entityType, entityId, details, "SUCCESS", null, actor, null));
     }
-    
+
+    public void logFailure(String action, String entityType, String entityId, String errorMessage, HttpServletRequest request) {
+        submit(capture(action, entityType, entityId, null, "FAILURE", errorMessage, null, request));
+    }
+
     public Page<AuditLog> getRecentLogs(Pageable pageable) {
-        return auditLogRepository.findAll(pageable);
+        if (auditArchiveService.isEnabled()) {
+            return auditArchiveService.findAudit(null, null, null, null, pageable);
+        }
+        return auditLogRepository.findAllByOrderByTimestampDesc(pageable);
     }
-    
-    public Page<AuditLog> getLogsByUser(Long userId, Pageable pageable) {
+
+    public Page<AuditLog> getLogsByUser(String userId, Pageable pageable) {
+        if (auditArchiveService.isEnabled()) {
+            return auditArchiveService.findAudit(null, null, null, userId, pageable);
+        }
         return auditLogRepository.findByUserIdOrderByTimestampDesc(userId, pageable);
     }
-    
+
     public Page<AuditLog> getLogsByEntityType(String entityType, Pageable pageable) {
+        if (auditArchiveService.isEnabled()) {
+            return auditArchiveService.findAudit(null, null, entityType, null, pageable);
+        }
         return auditLogRepository.findByEntityTypeOrderByTimestampDesc(entityType, pageable);
     }
-    
+
     public Page<AuditLog> getLogsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        if (auditArchiveService.isEnabled()) {
+            return auditArchiveService.findAudit(start, end, null, null, pageable);
+        }
         return auditLogRepository.findByTimestampBetweenOrderByTimestampDesc(start, end, pageable);
     }
-    
+
+    /**
+     * Resolve who did it and from where while the security context and request are still bound
+     * to this thread. An explicit actor wins over the authenticated principal.
+     */
+    private AuditEventDto capture(String action, String entityType, String entityId, String details,
+                                  String status, String errorMessage, User actor, HttpServletRequest request) {
+        String userId = null;
+        String username = null;
+        String userRole = null;
+        if (actor != null) {
+            userId = actor.getId();
+            username = actor.getEmail();
+            userRole = actor.getRole();
+        } else {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated()) {
+                username = auth.getName();
+                if (auth.getPrincipal() instanceof CustomUserDetails principal) {
+                    userId = principal.getUser().getId();
+                    userRole = principal.getUser().getRole();
+                } else {
+                    userRole = auth.getAuthorities().toString();
+                }
+            }
+        }
+
+        if (request == null && RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            request = attributes.getRequest();
+        }
+        String ipAddress = request != null ? getClientIpAddress(request) : null;
+        String userAgent = request != null ? request.getHeader("User-Agent") : null;
+
+        return new AuditEventDto(action, entityType, entityId, userId, username, userRole, details,
+                ipAddress, userAgent, status, errorMessage, LocalDateTime.now());
+    }
+
+    private void submit(AuditEventDto event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditLogWriter.submit(event);
+                }
+            });
+        } else {
+            auditLogWriter.submit(event);
+        }
+    }
+
     private String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
@@ -0,0 +1,442 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.AuditEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind for {@code audit_events}. Callers enqueue and return; a single writer thread drains
+ * the queue every {@code audit.writer.flush-interval-ms} (or as soon as a batch is full) and inserts
+ * in JDBC batches.
+ *
+ * The queue is a {@link ConcurrentLinkedQueue} bounded by a CAS-reserved slot counter, so
+ * {@link #submit} never takes a lock. When it is full {@code audit.writer.overload-policy} decides:
+ * <ul>
+ *   <li>{@code BLOCK} (default) waits up to {@code audit.writer.block-timeout-ms} for a slot, then
+ *       writes the row on the caller's thread</li>
+ *   <li>{@code DROP} discards the row and counts it</li>
+ *   <li>{@code SPILL} appends the row as a JSON line under {@code audit.writer.spill-dir}; the
+ *       writer replays the spill file once the queue is empty</li>
+ * </ul>
+ * A batch that fails because the database is unreachable is spilled the same way, whatever the
+ * policy, and replayed once it is back; rows are then only lost if the spill file cannot be written
+ * either. A batch rejected by the database is retried row by row so one bad row does not lose the
+ * rest. Written rows are then appended to the {@link AuditArchiveService} store. Remaining rows are
+ * written on shutdown.
+ *
+ * Replay renames the spill file to {@code audit-spill.jsonl.replaying} first, so new spills start a
+ * fresh file. A replaying file found at startup (left by a crash) is replayed before anything else,
+ * and if the database goes away mid-replay the rows not yet written are kept in it for the next try.
+ * The file is streamed line by line. While the database is unreachable, replays back off from one
+ * second up to a minute. The first write that goes through resets the backoff.
+ */
+@Component
+public class AuditLogWriter {
+
+    public enum OverloadPolicy { BLOCK, DROP, SPILL }
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+    private static final String INSERT_SQL = "insert into audit_events "
+            + "(action, entity_type, entity_id, user_id, username, user_role, details, ip_address, user_agent, "
+            + "status, error_message, timestamp) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SPILL_FILE = "audit-spill.jsonl";
+    private static final String REPLAYING_FILE = SPILL_FILE + ".replaying";
+    private static final long MIN_REPLAY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_REPLAY_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditArchiveService auditArchiveService;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentLinkedQueue<AuditEventDto> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long blockTimeoutNanos;
+    private final OverloadPolicy overloadPolicy;
+    private final Path spillFile;
+    private final Path replayingFile;
+    // Taken by request threads when the queue is full; a monitor held across file I/O would pin them
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong writtenByCaller = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushNanosTotal = new AtomicLong();
+    private volatile long flushNanosMax;
+    private volatile long lastFlushNanos;
+    private volatile long lastQueueLagNanos;
+    // Set when the database was found unreachable; replays wait until replayNotBefore (System.nanoTime)
+    private volatile long replayBackoffNanos;
+    private volatile long replayNotBefore;
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          AuditArchiveService auditArchiveService,
+                          ObjectMapper objectMapper,
+                          @Value("${audit.writer.queue-capacity:10000}") int capacity,
+                          @Value("${audit.writer.batch-size:200}") int batchSize,
+                          @Value("${audit.writer.flush-interval-ms:200}") long flushIntervalMs,
+                          @Value("${audit.writer.overload-policy:BLOCK}") OverloadPolicy overloadPolicy,
+                          @Value("${audit.writer.block-timeout-ms:100}") long blockTimeoutMs,
+                          @Value("${audit.writer.spill-dir:./data/audit-spill}") Path spillDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditArchiveService = auditArchiveService;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.overloadPolicy = overloadPolicy;
+        this.spillFile = spillDir.resolve(SPILL_FILE);
+        this.replayingFile = spillDir.resolve(REPLAYING_FILE);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(5000);
+        List<AuditEventDto> rest = new ArrayList<>();
+        while (drain(rest) > 0) {
+            write(rest);
+            rest.clear();
+        }
+        // One last attempt, whatever the backoff
+        replaySpill();
+    }
+
+    public void submit(AuditEventDto event) {
+        if (offer(event)) return;
+        switch (overloadPolicy) {
+            case DROP -> {
+                if (dropped.incrementAndGet() % 1000 == 1) {
+                    logger.warn("Audit queue full ({} rows); dropping {} ({} dropped so far)",
+                            capacity, event.action(), dropped.get());
+                }
+            }
+            case SPILL -> spill(event);
+            case BLOCK -> {
+                blocked.incrementAndGet();
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                while (System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                    if (offer(event)) return;
+                }
+                writtenByCaller.incrementAndGet();
+                write(List.of(event));
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    public Map<String, Object> getStats() {
+        long flushCount = flushes.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("overloadPolicy", overloadPolicy);
+        stats.put("queueDepth", depth.get());
+        stats.put("queueCapacity", capacity);
+        stats.put("written", written.get());
+        stats.put("dropped", dropped.get());
+        stats.put("spilled", spilled.get());
+        stats.put("blockedSubmits", blocked.get());
+        stats.put("writtenByCaller", writtenByCaller.get());
+        stats.put("failed", failed.get());
+        stats.put("flushes", flushCount);
+        stats.put("flushMillisAvg", flushCount == 0 ? 0.0 : flushNanosTotal.get() / 1e6 / flushCount);
+        stats.put("flushMillisMax", flushNanosMax / 1e6);
+        stats.put("flushMillisLast", lastFlushNanos / 1e6);
+        stats.put("queueLagMillisLast", lastQueueLagNanos / 1e6);
+        stats.put("spillPending", Files.exists(spillFile) || Files.exists(replayingFile));
+        return stats;
+    }
+
+    /** Reserve a slot with CAS, then enqueue; wakes the writer once a full batch is waiting. */
+    private boolean offer(AuditEventDto event) {
+        int current;
+        do {
+            current = depth.get();
+            if (current >= capacity) return false;
+        } while (!depth.compareAndSet(current, current + 1));
+        queue.offer(event);
+        if (current + 1 == batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    private int drain(List<AuditEventDto> batch) {
+        AuditEventDto event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            depth.decrementAndGet();
+            batch.add(event);
+        }
+        return batch.size();
+    }
+
+    private void run() {
+        List<AuditEventDto> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (drain(batch) == 0) {
+                    if (replayBackoffNanos == 0 || System.nanoTime() - replayNotBefore >= 0) {
+                        replaySpill();
+                    }
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                    continue;
+                }
+                lastQueueLagNanos = Duration.between(batch.get(0).timestamp(), LocalDateTime.now()).toNanos();
+                write(batch);
+            } catch (RuntimeException e) {
+                logger.error("Audit writer failed to write {} row(s)", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** Insert a batch, spilling it if the database is unreachable. */
+    private void write(List<AuditEventDto> batch) {
+        List<AuditEventDto> unwritten = insertOrDrop(batch);
+        if (unwritten.isEmpty()) {
+            replayBackoffNanos = 0;
+            return;
+        }
+        backOffReplay();
+        if (appendToSpill(unwritten)) {
+            spilled.addAndGet(unwritten.size());
+            logger.warn("Database unavailable; spilled {} audit row(s) to {}", unwritten.size(), spillFile);
+        } else {
+            failed.addAndGet(unwritten.size());
+            logger.error("Database unavailable and spill failed; lost {} audit row(s)", unwritten.size());
+        }
+    }
+
+    /**
+     * @return the tail of the batch that was not written because the database is unreachable,
+     *         empty if every row was written or rejected
+     */
+    private List<AuditEventDto> insertOrDrop(List<AuditEventDto> batch) {
+        long start = System.nanoTime();
+        try {
+            insert(batch);
+            written.addAndGet(batch.size());
+        } catch (DataAccessException e) {
+            if (isUnavailable(e)) {
+                return batch;
+            }
+            if (batch.size() == 1) {
+                failed.incrementAndGet();
+                logger.warn("Dropping audit event {} on {} {}: {}", batch.get(0).action(), batch.get(0).entityType(),
+                        batch.get(0).entityId(), e.getMostSpecificCause().getMessage());
+                return List.of();
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                if (!insertOrDrop(List.of(batch.get(i))).isEmpty()) {
+                    return new ArrayList<>(batch.subList(i, batch.size()));
+                }
+            }
+            return List.of();
+        }
+        long elapsed = System.nanoTime() - start;
+        flushes.incrementAndGet();
+        flushNanosTotal.addAndGet(elapsed);
+        lastFlushNanos = elapsed;
+        if (elapsed > flushNanosMax) flushNanosMax = elapsed;
+        auditArchiveService.archive(batch);
+        return List.of();
+    }
+
+    private static boolean isUnavailable(DataAccessException e) {
+        return e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException;
+    }
+
+    private void insert(List<AuditEventDto> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, e) -> {
+            ps.setString(1, e.action());
+            ps.setString(2, e.entityType());
+            ps.setString(3, e.entityId());
+            ps.setString(4, e.userId());
+            ps.setString(5, e.username());
+            ps.setString(6, e.userRole());
+            ps.setString(7, e.details());
+            ps.setString(8, e.ipAddress());
+            ps.setString(9, e.userAgent());
+            ps.setString(10, e.status());
+            ps.setString(11, e.errorMessage());
+            ps.setTimestamp(12, Timestamp.valueOf(e.timestamp()));
+        });
+    }
+
+    private void spill(AuditEventDto event) {
+        if (appendToSpill(List.of(event))) {
+            spilled.incrementAndGet();
+            return;
+        }
+        writtenByCaller.incrementAndGet();
+        write(List.of(event));
+    }
+
+    private boolean appendToSpill(List<AuditEventDto> events) {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (AuditEventDto event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            }
+            spillLock.lock();
+            try {
+                Files.createDirectories(spillFile.getParent());
+                Files.writeString(spillFile, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } finally {
+                spillLock.unlock();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to spill {} audit row(s) to {}", events.size(), spillFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Write back a replaying file left by an earlier run, or else move the spill file aside and
+     * write it back in batches, reading it line by line. Stops at the first batch the database cannot
+     * take, keeps the unwritten lines in the replaying file and backs off.
+     */
+    private void replaySpill() {
+        try {
+            spillLock.lock();
+            try {
+                if (!Files.exists(replayingFile)) {
+                    if (!Files.exists(spillFile)) return;
+                    Files.move(spillFile, replayingFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } finally {
+                spillLock.unlock();
+            }
+            Path remainder = null;
+            long kept = 0;
+            try (BufferedReader reader = Files.newBufferedReader(replayingFile, StandardCharsets.UTF_8)) {
+                List<AuditEventDto> batch = new ArrayList<>(batchSize);
+                List<String> batchLines = new ArrayList<>(batchSize);
+                long number = 0;
+                boolean more = true;
+                while (more) {
+                    String line = reader.readLine();
+                    more = line != null;
+                    if (more) {
+                        number++;
+                        if (line.isBlank()) continue;
+                        try {
+                            batch.add(objectMapper.readValue(line, AuditEventDto.class));
+                            batchLines.add(line);
+                        } catch (IOException e) {
+                            failed.incrementAndGet();
+                            logger.warn("Skipping unreadable line {} of {}: {}", number, replayingFile, e.getMessage());
+                            continue;
+                        }
+                        if (batch.size() < batchSize) continue;
+                    }
+                    if (batch.isEmpty()) continue;
+                    List<AuditEventDto> unwritten = insertOrDrop(batch);
+                    if (!unwritten.isEmpty()) {
+                        remainder = replayingFile.resolveSibling(REPLAYING_FILE + ".tmp");
+                        kept = keepUnwritten(batchLines.subList(batch.size() - unwritten.size(), batch.size()),
+                                reader, remainder);
+                        break;
+                    }
+                    batch.clear();
+                    batchLines.clear();
+                }
+            }
+            if (remainder == null) {
+                Files.delete(replayingFile);
+                replayBackoffNanos = 0;
+                return;
+            }
+            Files.move(remainder, replayingFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            backOffReplay();
+            logger.warn("Database unavailable; {} line(s) left in {}, next replay in {} ms", kept, replayingFile,
+                    TimeUnit.NANOSECONDS.toMillis(replayBackoffNanos));
+        } catch (IOException e) {
+            logger.error("Failed to replay audit spill file {}; will retry", replayingFile, e);
+        }
+    }
+
+    /** Copy the unwritten lines of the current batch and the rest of the file to {@code target}. */
+    private static long keepUnwritten(List<String> unwritten, BufferedReader rest, Path target) throws IOException {
+        long kept = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            for (String line : unwritten) {
+                out.write(line);
+                out.newLine();
+                kept++;
+            }
+            String line;
+            while ((line = rest.readLine()) != null) {
+                if (line.isBlank()) continue;
+                out.write(line);
+                out.newLine();
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    private void backOffReplay() {
+        long backoff = replayBackoffNanos;
+        replayBackoffNanos = backoff == 0 ? MIN_REPLAY_BACKOFF_NANOS : Math.min(backoff * 2, MAX_REPLAY_BACKOFF_NANOS);
+        replayNotBefore = System.nanoTime() + replayBackoffNanos;
+    }
+}
@@ -11,6 +11,8 @@ import com.lowagie.text.*;
 import com.lowagie.text.Font;
 import com.lowagie.text.Image;
 import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +27,10 @@ import java.util.stream.Collectors;
 @Service
 public class CertificateServiceImpl implements CertificateService {
 
+    private static final Timer PDF_TIMER = Timer.builder("certificate.pdf")
+            .description("Certificate PDF rendering")
+            .register(Metrics.globalRegistry);
+
     @Autowired
     private CertificateRepository certificateRepository;
 
@@ -177,7 +183,11 @@ public class CertificateServiceImpl implements CertificateService {
         return dto;
     }
 
-    private byte[] generatePdf(Certificate cert) {
+    byte[] generatePdf(Certificate cert) {
+        return PDF_TIMER.record(() -> renderPdf(cert));
+    }
+
+    private byte[] renderPdf(Certificate cert) {
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
             Document document = new Document(PageSize.A4.rotate());
             PdfWriter.getInstance(document, out);
@@ -1,5 +1,6 @@
 package com.eventmanager.service;
 
+import com.eventmanager.dto.ChatMessageDto;
 import com.eventmanager.model.ChatMessage;
 import com.eventmanager.model.ChatRoom;
 import com.eventmanager.model.User;
@@ -35,7 +36,7 @@ public class ChatServiceImpl implements ChatService {
     }
 
     @Override
-    public ChatMessage saveMessage(String roomId, String senderId, String content, String type) {
+    public ChatMessageDto saveMessage(String roomId, String senderId, String content, String type) {
         ChatRoom room = roomRepository.findById(roomId).orElseThrow(() -> new RuntimeException("Room not found"));
         User sender = userRepository.findById(senderId).orElseThrow(() -> new RuntimeException("Sender not found"));
 
@@ -45,12 +46,12 @@ public class ChatServiceImpl implements ChatService {
         message.setContent(content);
         message.setType(type);
 
-        return messageRepository.save(message);
+        return ChatMessageDto.from(messageRepository.save(message));
     }
 
     @Override
-    public List<ChatMessage> getMessages(String roomId) {
-        return messageRepository.findByRoomIdOrderByCreatedAtAsc(roomId);
+    public List<ChatMessageDto> getMessages(String roomId) {
+        return messageRepository.findDtosByRoomId(roomId);
     }
 
     @Override
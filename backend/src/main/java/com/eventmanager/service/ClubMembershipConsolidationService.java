@@ -0,0 +1,154 @@
+package com.eventmanager.service;
+
+import com.eventmanager.model.ClubMember;
+import com.eventmanager.model.ClubMembership;
+import com.eventmanager.repository.ClubMemberRepository;
+import com.eventmanager.repository.ClubMembershipRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Folds the legacy {@code club_members} table into {@code club_memberships} and removes
+ * duplicate (club, user) rows. The unique membership index is added by the manual step in
+ * {@code backend/db/club-memberships-unique.sql}, which removes duplicates the same way first;
+ * run {@link #consolidate()} once afterwards (POST /api/admin/clubs/memberships/consolidate).
+ */
+@Service
+public class ClubMembershipConsolidationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClubMembershipConsolidationService.class);
+    private static final int LEGACY_PAGE_SIZE = 500;
+
+    private final ClubMembershipRepository membershipRepository;
+    private final ClubMemberRepository legacyMemberRepository;
+    private final ClubStatsService clubStatsService;
+
+    @Value("${clubs.membership.consolidate-on-startup:false}")
+    private boolean consolidateOnStartup;
+
+    public ClubMembershipConsolidationService(ClubMembershipRepository membershipRepository,
+                                              ClubMemberRepository legacyMemberRepository,
+                                              ClubStatsService clubStatsService) {
+        this.membershipRepository = membershipRepository;
+        this.legacyMemberRepository = legacyMemberRepository;
+        this.clubStatsService = clubStatsService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void consolidateOnStartup() {
+        if (!consolidateOnStartup) return;
+        Map<String, Integer> result = consolidate();
+        if (result.get("duplicatesRemoved") > 0 || result.get("legacyMigrated") > 0) {
+            logger.info("Club membership consolidation: {}", result);
+        }
+    }
+
+    @Transactional
+    public Map<String, Integer> consolidate() {
+        int duplicatesRemoved = removeDuplicates();
+        int legacyMigrated = migrateLegacyMembers();
+        if (duplicatesRemoved > 0 || legacyMigrated > 0) {
+            clubStatsService.reconcileCounters();
+        }
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("duplicatesRemoved", duplicatesRemoved);
+        result.put("legacyMigrated", legacyMigrated);
+        return result;
+    }
+
+    // Keep the oldest ACTIVE row (or the oldest row) of each pair, with the strongest role seen
+    private int removeDuplicates() {
+        int removed = 0;
+        for (ClubMembershipRepository.DuplicatePairView pair : membershipRepository.findDuplicatePairs()) {
+            List<ClubMembership> rows = membershipRepository
+                    .findAllByUserIdAndClubIdOrderByJoinedAtAsc(pair.getUserId(), pair.getClubId());
+            ClubMembership keeper = rows.stream()
+                    .filter(m -> "ACTIVE".equals(m.getStatus()))
+                    .findFirst()
+                    .orElse(rows.get(0));
+            for (ClubMembership row : rows) {
+                if (row == keeper) continue;
+                if (roleRank(row.getRole()) > roleRank(keeper.getRole())) {
+                    keeper.setRole(row.getRole());
+                }
+                membershipRepository.delete(row);
+                removed++;
+            }
+            membershipRepository.save(keeper);
+        }
+        membershipRepository.flush();
+        return removed;
+    }
+
+    private int migrateLegacyMembers() {
+        int migrated = 0;
+        List<ClubMember> page = legacyMemberRepository.findAll(PageRequest.of(0, LEGACY_PAGE_SIZE)).getContent();
+        while (!page.isEmpty()) {
+            List<ClubMembership> inserts = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            for (ClubMember legacy : page) {
+                String clubId = legacy.getClub().getId();
+                String userId = legacy.getUser().getId();
+                String status = mapStatus(legacy.getStatus());
+                Optional<ClubMembership> current = membershipRepository.findByUserIdAndClubId(userId, clubId);
+                if (current.isPresent()) {
+                    ClubMembership membership = current.get();
+                    if ("ACTIVE".equals(status) && !"ACTIVE".equals(membership.getStatus())) {
+                        membership.setStatus("ACTIVE");
+                    }
+                    if (roleRank(mapRole(legacy.getRole())) > roleRank(membership.getRole())) {
+                        membership.setRole(mapRole(legacy.getRole()));
+                    }
+                    membershipRepository.save(membership);
+                } else if (seen.add(clubId + ":" + userId)) {
+                    ClubMembership membership = new ClubMembership();
+                    membership.setClub(legacy.getClub());
+                    membership.setUser(legacy.getUser());
+                    membership.setRole(mapRole(legacy.getRole()));
+                    membership.setStatus(status);
+                    if (legacy.getJoinedAt() != null) {
+                        membership.setJoinedAt(legacy.getJoinedAt());
+                    }
+                    inserts.add(membership);
+                }
+                migrated++;
+            }
+            membershipRepository.saveAllAndFlush(inserts);
+            legacyMemberRepository.deleteAllInBatch(page);
+            page = legacyMemberRepository.findAll(PageRequest.of(0, LEGACY_PAGE_SIZE)).getContent();
+        }
+        return migrated;
+    }
+
+    private static String mapRole(ClubMember.MemberRole role) {
+        if (role == null) return "MEMBER";
+        return switch (role) {
+            case PRESIDENT -> "LEADER";
+            case VICE_PRESIDENT, SECRETARY, TREASURER, CORE_MEMBER -> "COORDINATOR";
+            default -> "MEMBER";
+        };
+    }
+
+    private static String mapStatus(ClubMember.MemberStatus status) {
+        if (status == null) return "ACTIVE";
+        return switch (status) {
+            case PENDING -> "PENDING";
+            case INACTIVE, REMOVED -> "INACTIVE";
+            default -> "ACTIVE";
+        };
+    }
+
+    private static int roleRank(String role) {
+        if ("LEADER".equals(role)) return 2;
+        if ("COORDINATOR".equals(role)) return 1;
+        return 0;
+    }
+}
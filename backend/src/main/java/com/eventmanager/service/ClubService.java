@@ -48,4 +48,6 @@ public interface ClubService {
     List<ClubJoinRequest> getClubJoinRequests(String clubId);
 
     ClubJoinRequest updateJoinRequestStatus(String requestId, String status);
+
+    int approveJoinRequests(String clubId, List<String> requestIds);
 }
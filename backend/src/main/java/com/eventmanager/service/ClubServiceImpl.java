@@ -3,10 +3,11 @@ package com.eventmanager.service;
 import com.eventmanager.model.*;
 import com.eventmanager.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 public class ClubServiceImpl implements ClubService {
@@ -35,6 +36,9 @@ public class ClubServiceImpl implements ClubService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ClubStatsService clubStatsService;
+
     @Override
     public List<Club> getAllClubs() {
         return clubRepository.findAll();
@@ -89,6 +93,7 @@ public class ClubServiceImpl implements ClubService {
         announcement.setContent(content);
 
         ClubAnnouncement savedAnnouncement = announcementRepository.save(announcement);
+        clubStatsService.onAnnouncementPosted(clubId);
 
         activityService.logActivity(authorId, "CLUB_POST", "Posted an announcement in " + club.getName(),
                 savedAnnouncement.getId(), title);
@@ -103,6 +108,12 @@ public class ClubServiceImpl implements ClubService {
 
     @Override
     public ClubMembership joinClub(String clubId, String userId) {
+        // Joining is idempotent: repeated clicks return the existing membership
+        Optional<ClubMembership> existing = membershipRepository.findByUserIdAndClubId(userId, clubId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
         Club club = clubRepository.findById(clubId).orElseThrow(() -> new RuntimeException("Club not found"));
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -112,7 +123,14 @@ public class ClubServiceImpl implements ClubService {
         membership.setRole("MEMBER");
         membership.setStatus("PENDING");
 
-        ClubMembership savedMembership = membershipRepository.save(membership);
+        ClubMembership savedMembership;
+        try {
+            savedMembership = membershipRepository.saveAndFlush(membership);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent join; the unique (club_id, user_id) index kept one row
+            return membershipRepository.findByUserIdAndClubId(userId, clubId).orElseThrow(() -> e);
+        }
+        clubStatsService.onMembershipAdded(clubId, savedMembership.getStatus());
 
         activityService.logActivity(userId, "JOINED_CLUB", "Joined " + club.getName(),
                 club.getId(), club.getName());
@@ -200,13 +218,8 @@ public class ClubServiceImpl implements ClubService {
         request.setStatus(status);
 
         if ("APPROVED".equals(status)) {
-            // Automatically add as member
-            ClubMembership membership = new ClubMembership();
-            membership.setClub(request.getClub());
-            membership.setUser(request.getUser());
-            membership.setRole("MEMBER");
-            membership.setStatus("ACTIVE");
-            membershipRepository.save(membership);
+            // Automatically add as member, activating an earlier pending membership if there is one
+            upsertActiveMembership(request.getClub(), request.getUser());
 
             notificationService.createNotification(request.getUser().getId(), "Club Request Approved",
                     "You are now a member of " + request.getClub().getName(), "SUCCESS", "CLUB");
@@ -218,4 +231,87 @@ public class ClubServiceImpl implements ClubService {
 
         return joinRequestRepository.save(request);
     }
+
+    /**
+     * Approve many join requests of one club at once: a fixed number of statements for
+     * lookups, inserts (one saveAll), status updates and counters, however many requests.
+     * Passing no request ids approves every pending request of the club.
+     */
+    @Override
+    @Transactional
+    public int approveJoinRequests(String clubId, List<String> requestIds) {
+        Club club = clubRepository.findById(clubId).orElseThrow(() -> new RuntimeException("Club not found"));
+        List<ClubJoinRequestRepository.PendingRequestView> requests = requestIds == null || requestIds.isEmpty()
+                ? joinRequestRepository.findPendingViews(clubId)
+                : joinRequestRepository.findPendingViews(clubId, requestIds);
+        if (requests.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> userIds = new LinkedHashSet<>();
+        requests.forEach(r -> userIds.add(r.getUserId()));
+
+        Set<String> withMembership = new HashSet<>();
+        List<String> toActivate = new ArrayList<>();
+        List<String> previousStatuses = new ArrayList<>();
+        for (ClubMembershipRepository.MembershipStatusView m : membershipRepository.findStatusViews(clubId, userIds)) {
+            withMembership.add(m.getUserId());
+            if (!"ACTIVE".equals(m.getStatus()) && m.getStatus() != null) {
+                toActivate.add(m.getId());
+                previousStatuses.add(m.getStatus());
+            }
+        }
+        if (!toActivate.isEmpty()) {
+            membershipRepository.updateStatusByIdIn(toActivate, "ACTIVE");
+        }
+
+        List<ClubMembership> created = new ArrayList<>();
+        for (String userId : userIds) {
+            if (withMembership.contains(userId)) continue;
+            ClubMembership membership = new ClubMembership();
+            membership.setClub(club);
+            membership.setUser(userRepository.getReferenceById(userId));
+            membership.setRole("MEMBER");
+            membership.setStatus("ACTIVE");
+            created.add(membership);
+        }
+        membershipRepository.saveAll(created);
+
+        List<String> approvedIds = new ArrayList<>();
+        requests.forEach(r -> approvedIds.add(r.getId()));
+        joinRequestRepository.updateStatusByIdIn(approvedIds, "APPROVED");
+
+        clubStatsService.onMembershipsActivated(clubId, previousStatuses, created.size());
+        notificationService.createNotifications(new ArrayList<>(userIds), "Club Request Approved",
+                "You are now a member of " + club.getName(), "SUCCESS", "CLUB");
+
+        return approvedIds.size();
+    }
+
+    private ClubMembership upsertActiveMembership(Club club, User user) {
+        Optional<ClubMembership> existing = membershipRepository.findByUserIdAndClubId(user.getId(), club.getId());
+        if (existing.isPresent()) {
+            ClubMembership membership = existing.get();
+            String oldStatus = membership.getStatus();
+            if (!"ACTIVE".equals(oldStatus)) {
+                membership.setStatus("ACTIVE");
+                membershipRepository.save(membership);
+                clubStatsService.onMembershipStatusChanged(club.getId(), oldStatus, "ACTIVE");
+            }
+            return membership;
+        }
+
+        ClubMembership membership = new ClubMembership();
+        membership.setClub(club);
+        membership.setUser(user);
+        membership.setRole("MEMBER");
+        membership.setStatus("ACTIVE");
+        try {
+            membership = membershipRepository.saveAndFlush(membership);
+        } catch (DataIntegrityViolationException e) {
+            return membershipRepository.findByUserIdAndClubId(user.getId(), club.getId()).orElseThrow(() -> e);
+        }
+        clubStatsService.onMembershipAdded(club.getId(), membership.getStatus());
+        return membership;
+    }
 }
@@ -0,0 +1,158 @@
+package com.eventmanager.service;
+
+import com.eventmanager.repository.ClubAnnouncementRepository;
+import com.eventmanager.repository.ClubMembershipRepository;
+import com.eventmanager.repository.ClubRepository;
+import com.eventmanager.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the denormalized counters on {@code Club} in step with memberships, hosted events and
+ * announcements. Write paths adjust counters with atomic UPDATEs; a scheduled verifier
+ * recomputes them from grouped count queries and repairs any drift.
+ */
+@Service
+public class ClubStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClubStatsService.class);
+
+    private final ClubRepository clubRepository;
+    private final ClubMembershipRepository membershipRepository;
+    private final ClubAnnouncementRepository announcementRepository;
+    private final EventRepository eventRepository;
+
+    public ClubStatsService(ClubRepository clubRepository,
+                            ClubMembershipRepository membershipRepository,
+                            ClubAnnouncementRepository announcementRepository,
+                            EventRepository eventRepository) {
+        this.clubRepository = clubRepository;
+        this.membershipRepository = membershipRepository;
+        this.announcementRepository = announcementRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    @Transactional
+    public void onMembershipAdded(String clubId, String status) {
+        adjustMembers(clubId, status, 1);
+    }
+
+    @Transactional
+    public void onMembershipStatusChanged(String clubId, String oldStatus, String newStatus) {
+        if (bucket(oldStatus) == bucket(newStatus)) return;
+        adjustMembers(clubId, oldStatus, -1);
+        adjustMembers(clubId, newStatus, 1);
+    }
+
+    /**
+     * Existing memberships with the given statuses were set to ACTIVE and {@code created} new ACTIVE
+     * ones were added. Statuses are bucketed as in {@link #reconcileCounters()}: a status already
+     * counted as active (REJECTED, LEFT, ...) changes nothing. Applied in one statement.
+     */
+    @Transactional
+    public void onMembershipsActivated(String clubId, Collection<String> previousStatuses, int created) {
+        int[] deltas = {created, 0, 0};
+        for (String status : previousStatuses) {
+            int bucket = bucket(status);
+            if (bucket == 0) continue;
+            deltas[bucket]--;
+            deltas[0]++;
+        }
+        if (deltas[0] != 0 || deltas[1] != 0 || deltas[2] != 0) {
+            clubRepository.adjustMemberCounts(clubId, deltas[0], deltas[1], deltas[2]);
+        }
+    }
+
+    @Transactional
+    public void onEventHosted(String clubId) {
+        if (clubId != null) {
+            clubRepository.adjustEventsHostedCount(clubId, 1);
+        }
+    }
+
+    @Transactional
+    public void onAnnouncementPosted(String clubId) {
+        clubRepository.adjustAnnouncementCount(clubId, 1);
+    }
+
+    public Map<String, Object> getClubStats(String clubId) {
+        Map<String, Object> stats = new HashMap<>();
+        clubRepository.findCounterViewById(clubId).ifPresent(c -> {
+            int active = value(c.getActiveMemberCount());
+            int pending = value(c.getPendingMemberCount());
+            int inactive = value(c.getInactiveMemberCount());
+            stats.put("totalMembers", active + pending + inactive);
+            stats.put("activeMembers", active);
+            stats.put("pendingMembers", pending);
+            stats.put("inactiveMembers", inactive);
+            stats.put("eventsHosted", value(c.getEventsHostedCount()));
+            stats.put("announcements", value(c.getAnnouncementCount()));
+        });
+        return stats;
+    }
+
+    /**
+     * Recompute every club's counters with three grouped queries and rewrite the ones that drifted.
+     * Also serves as the backfill for clubs created before the counters existed.
+     *
+     * @return number of clubs whose counters were corrected
+     */
+    @Scheduled(initialDelayString = "${clubs.counters.verify-initial-delay-ms:60000}",
+            fixedDelayString = "${clubs.counters.verify-interval-ms:3600000}")
+    @Transactional
+    public int reconcileCounters() {
+        Map<String, int[]> expected = new HashMap<>();
+        membershipRepository.countGroupedByClubAndStatus().forEach(row ->
+                expected.computeIfAbsent(row.getClubId(), id -> new int[5])[bucket(row.getStatus())] += (int) row.getTotal());
+        eventRepository.countGroupedByClub().forEach(row ->
+                expected.computeIfAbsent(row.getClubId(), id -> new int[5])[3] = (int) row.getTotal());
+        announcementRepository.countGroupedByClub().forEach(row ->
+                expected.computeIfAbsent(row.getClubId(), id -> new int[5])[4] = (int) row.getTotal());
+
+        int corrected = 0;
+        for (ClubRepository.ClubCounterView club : clubRepository.findAllCounterViews()) {
+            int[] want = expected.getOrDefault(club.getId(), new int[5]);
+            int[] have = {
+                    value(club.getActiveMemberCount()), value(club.getPendingMemberCount()),
+                    value(club.getInactiveMemberCount()), value(club.getEventsHostedCount()),
+                    value(club.getAnnouncementCount())
+            };
+            if (!Arrays.equals(want, have)) {
+                clubRepository.setCounters(club.getId(), want[0], want[1], want[2], want[3], want[4]);
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            logger.warn("Club counter verifier corrected {} club(s)", corrected);
+        }
+        return corrected;
+    }
+
+    private void adjustMembers(String clubId, String status, int delta) {
+        switch (bucket(status)) {
+            case 1 -> clubRepository.adjustMemberCounts(clubId, 0, delta, 0);
+            case 2 -> clubRepository.adjustMemberCounts(clubId, 0, 0, delta);
+            default -> clubRepository.adjustMemberCounts(clubId, delta, 0, 0);
+        }
+    }
+
+    // 0 = active (including legacy rows without a status), 1 = pending, 2 = inactive
+    private static int bucket(String status) {
+        if (Objects.equals(status, "PENDING")) return 1;
+        if (Objects.equals(status, "INACTIVE")) return 2;
+        return 0;
+    }
+
+    private static int value(Integer counter) {
+        return counter != null ? counter : 0;
+    }
+}
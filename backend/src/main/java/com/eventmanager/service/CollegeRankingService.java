@@ -0,0 +1,197 @@
+package com.eventmanager.service;
+
+import com.eventmanager.listener.StudentStatsListener;
+import com.eventmanager.model.User;
+import com.eventmanager.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Each student's rank by points within their college.
+ *
+ * Every college keeps its students' points in a sorted array, so a rank is one binary search
+ * (1 + number of students with strictly more points). A points or college change moves one value
+ * within the array. User writes reach this service through {@link StudentStatsListener}; a
+ * scheduled rebuild from the database covers anything written around JPA.
+ *
+ * The rebuild queries without the lock. User changes that arrive meanwhile are recorded and
+ * replayed onto the rebuilt ladders before they are published, so none is lost to the swap.
+ */
+@Service
+public class CollegeRankingService {
+
+    private final UserRepository userRepository;
+
+    // Swapped wholesale on rebuild; individual updates are serialized on the lock
+    private volatile Map<String, Standing> standings = new ConcurrentHashMap<>();
+    private volatile Map<String, PointsLadder> ladders = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // Users changed while a rebuild is querying, with their new standing (empty if dropped); guarded by lock
+    private Map<String, Optional<Standing>> changedDuringRebuild;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public CollegeRankingService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    private record Standing(String collegeId, int points) {
+    }
+
+    /** Ascending points of one college's students. */
+    static final class PointsLadder {
+        private int[] points;
+        private int size;
+
+        PointsLadder(int[] sorted) {
+            this.points = sorted.length == 0 ? new int[8] : sorted;
+            this.size = sorted.length;
+        }
+
+        synchronized void add(int value) {
+            if (size == points.length) {
+                points = Arrays.copyOf(points, size * 2);
+            }
+            int at = upperBound(value);
+            System.arraycopy(points, at, points, at + 1, size - at);
+            points[at] = value;
+            size++;
+        }
+
+        synchronized void remove(int value) {
+            int at = upperBound(value) - 1;
+            if (at >= 0 && points[at] == value) {
+                System.arraycopy(points, at + 1, points, at, size - at - 1);
+                size--;
+            }
+        }
+
+        synchronized int countAbove(int value) {
+            return size - upperBound(value);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        // First index holding a value greater than the given one
+        private int upperBound(int value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (points[mid] <= value) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${students.ranking.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${students.ranking.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            lock.lock();
+            try {
+                changedDuringRebuild = new HashMap<>();
+            } finally {
+                lock.unlock();
+            }
+            Map<String, Standing> nextStandings = new ConcurrentHashMap<>();
+            Map<String, List<Integer>> byCollege = new HashMap<>();
+            for (UserRepository.StudentPointsView view : userRepository.findStudentPointsViews()) {
+                int value = view.getPoints() != null ? view.getPoints() : 0;
+                nextStandings.put(view.getId(), new Standing(view.getCollegeId(), value));
+                byCollege.computeIfAbsent(view.getCollegeId(), id -> new ArrayList<>()).add(value);
+            }
+            Map<String, PointsLadder> nextLadders = new ConcurrentHashMap<>();
+            byCollege.forEach((collegeId, values) -> {
+                int[] sorted = values.stream().mapToInt(Integer::intValue).sorted().toArray();
+                nextLadders.put(collegeId, new PointsLadder(sorted));
+            });
+
+            lock.lock();
+            try {
+                changedDuringRebuild.forEach((userId, next) ->
+                        place(nextStandings, nextLadders, userId, next.orElse(null)));
+                standings = nextStandings;
+                ladders = nextLadders;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /** Re-place a user after an insert or update; non-students and users without a college are dropped. */
+    public void onUserChanged(User user) {
+        Standing next = null;
+        if ("STUDENT".equalsIgnoreCase(user.getRole()) && user.getCollege() != null) {
+            next = new Standing(user.getCollege().getId(), user.getPoints() != null ? user.getPoints() : 0);
+        }
+        apply(user.getId(), next);
+    }
+
+    public void onUserRemoved(String userId) {
+        apply(userId, null);
+    }
+
+    private void apply(String userId, Standing next) {
+        lock.lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(userId, Optional.ofNullable(next));
+            }
+            place(standings, ladders, userId, next);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void place(Map<String, Standing> standings, Map<String, PointsLadder> ladders,
+                              String userId, Standing next) {
+        Standing previous = standings.get(userId);
+        if (Objects.equals(previous, next)) return;
+        if (previous != null) {
+            ladders.get(previous.collegeId()).remove(previous.points());
+            standings.remove(userId);
+        }
+        if (next != null) {
+            ladders.computeIfAbsent(next.collegeId(), id -> new PointsLadder(new int[0])).add(next.points());
+            standings.put(userId, next);
+        }
+    }
+
+    /** 1-based rank with ties sharing a rank, or null if the user is not a ranked student. */
+    public Integer getRank(String userId) {
+        Standing standing = standings.get(userId);
+        if (standing == null) return null;
+        PointsLadder ladder = ladders.get(standing.collegeId());
+        return ladder == null ? null : ladder.countAbove(standing.points()) + 1;
+    }
+
+    public int getCollegeSize(String collegeId) {
+        PointsLadder ladder = ladders.get(collegeId);
+        return ladder == null ? 0 : ladder.size();
+    }
+
+    public String getCollegeId(String userId) {
+        Standing standing = standings.get(userId);
+        return standing == null ? null : standing.collegeId();
+    }
+}
@@ -1,5 +1,6 @@
 package com.eventmanager.service;
 
+import com.eventmanager.dto.JudgeScoreDto;
 import com.eventmanager.model.*;
 import com.eventmanager.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -87,27 +88,19 @@ public class EvaluationService {
     }
 
     public List<JudgeScore> getScoresForEvent(String eventId) {
-        return judgeScoreRepository.findAll().stream()
-                .filter(s -> s.getSubmission().getEvent().getId().equals(eventId))
-                .toList();
+        return judgeScoreRepository.findBySubmission_Event_Id(eventId);
     }
 
-    public Optional<JudgeScore> getScoreForSubmission(String submissionId) {
+    public Optional<JudgeScoreDto> getScoreForSubmission(String submissionId) {
         User judge = getCurrentUser();
-        Submission submission = submissionRepository.findById(submissionId)
-                .orElseThrow(() -> new RuntimeException("Submission not found"));
-        return judgeScoreRepository.findByJudgeAndSubmission(judge, submission);
+        if (!submissionRepository.existsById(submissionId)) {
+            throw new RuntimeException("Submission not found");
+        }
+        return judgeScoreRepository.findDtoByJudgeIdAndSubmissionId(judge.getId(), submissionId);
     }
 
-    public List<JudgeScore> getSubmittedScoresByEvent(String eventId) {
-        // We can get all submissions for the event, then find scores for them
-        // Or find all scores where isDraft = false and submission.event.id = eventId
-        return judgeScoreRepository.findAll().stream()
-                .filter(score -> !score.getIsDraft() &&
-                        score.getSubmission() != null &&
-                        score.getSubmission().getEvent() != null &&
-                        score.getSubmission().getEvent().getId().equals(eventId))
-                .collect(java.util.stream.Collectors.toList());
+    public List<JudgeScoreDto> getSubmittedScoresByEvent(String eventId) {
+        return judgeScoreRepository.findSubmittedDtosByEventId(eventId);
     }
 
     @Autowired
@@ -115,18 +108,16 @@ public class EvaluationService {
 
     public List<java.util.Map<String, Object>> getPendingSummaryForHOD() {
         List<Event> events = eventRepository.findAll();
+        java.util.Map<String, Long> submittedByEvent = new java.util.HashMap<>();
+        judgeScoreRepository.countSubmittedGroupedByEvent()
+                .forEach(row -> submittedByEvent.put(row.getEventId(), row.getTotal()));
+        java.util.Set<String> lockedEventIds = scoreLockRepository.findLockedEventIds();
         List<java.util.Map<String, Object>> summary = new java.util.ArrayList<>();
 
         for (Event event : events) {
-            long pendingCount = judgeScoreRepository.findAll().stream()
-                    .filter(score -> !score.getIsDraft() &&
-                            score.getSubmission() != null &&
-                            score.getSubmission().getEvent() != null &&
-                            score.getSubmission().getEvent().getId().equals(event.getId()))
-                    .count();
-
-            boolean isLocked = scoreLockRepository.findByEventId(event.getId())
-                    .map(ScoreLock::getIsLocked).orElse(false);
+            long pendingCount = submittedByEvent.getOrDefault(event.getId(), 0L);
+
+            boolean isLocked = lockedEventIds.contains(event.getId());
 
             if (pendingCount > 0 || isLocked) {
                 java.util.Map<String, Object> map = new java.util.HashMap<>();
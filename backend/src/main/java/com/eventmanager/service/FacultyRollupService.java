@@ -0,0 +1,231 @@
+package com.eventmanager.service;
+
+import com.eventmanager.listener.FacultyRollupListener;
+import com.eventmanager.repository.FacultyDailyRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Maintains {@code faculty_daily_rollups}, the per (organizer, event, department, day) totals that
+ * faculty analytics range queries read.
+ *
+ * A rollup slice is always rebuilt from the source tables rather than incremented, so replaying
+ * a slice is harmless: grouped queries over registrations, certificates and submissions for the
+ * given days (and optionally events) replace that slice in one transaction. Three paths feed it:
+ * <ul>
+ *   <li>writes to a source row mark its (event, day) dirty through {@link FacultyRollupListener};
+ *       dirty slices are rebuilt every {@code faculty.analytics.rollup-interval-ms}</li>
+ *   <li>a nightly job rebuilds the last {@code faculty.analytics.nightly-lookback-days} days, which
+ *       picks up writes made around JPA and participants' department changes</li>
+ *   <li>an empty table is backfilled month by month on startup</li>
+ * </ul>
+ */
+@Service
+public class FacultyRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyRollupService.class);
+    private static final int BACKFILL_CHUNK_DAYS = 31;
+    static final String UNASSIGNED = "Unassigned";
+
+    private static final String DEPARTMENT = "coalesce(nullif(u.department, ''), '" + UNASSIGNED + "')";
+
+    private static final String REGISTRATIONS_SQL = "select e.organizer_id, r.event_id, "
+            + DEPARTMENT + " as department, cast(r.created_at as date) as rollup_day, "
+            + "count(*) as total, sum(case when r.attended = true then 1 else 0 end) as attended "
+            + "from event_registrations r join events e on e.id = r.event_id "
+            + "left join users u on u.id = r.user_id "
+            + "where e.organizer_id is not null and r.created_at >= :from and r.created_at < :to %s "
+            + "group by e.organizer_id, r.event_id, " + DEPARTMENT + ", cast(r.created_at as date)";
+
+    private static final String CERTIFICATES_SQL = "select e.organizer_id, c.event_id, "
+            + DEPARTMENT + " as department, cast(c.issued_at as date) as rollup_day, count(*) as total "
+            + "from certificates c join events e on e.id = c.event_id "
+            + "left join users u on u.id = c.user_id "
+            + "where e.organizer_id is not null and c.issued_at >= :from and c.issued_at < :to %s "
+            + "group by e.organizer_id, c.event_id, " + DEPARTMENT + ", cast(c.issued_at as date)";
+
+    private static final String SUBMISSIONS_SQL = "select e.organizer_id, s.event_id, "
+            + DEPARTMENT + " as department, cast(s.submitted_at as date) as rollup_day, count(*) as total "
+            + "from submissions s join events e on e.id = s.event_id "
+            + "left join users u on u.id = s.user_id "
+            + "where e.organizer_id is not null and s.submitted_at >= :from and s.submitted_at < :to %s "
+            + "group by e.organizer_id, s.event_id, " + DEPARTMENT + ", cast(s.submitted_at as date)";
+
+    private static final String DELETE_SQL = "delete from faculty_daily_rollups "
+            + "where rollup_day >= :fromDay and rollup_day < :toDay %s";
+
+    private static final String INSERT_SQL = "insert into faculty_daily_rollups "
+            + "(id, organizer_id, event_id, department, rollup_day, registrations, attended, certificates, submissions) "
+            + "values (:id, :organizerId, :eventId, :department, :day, :registrations, :attended, :certificates, :submissions)";
+
+    private static final String EARLIEST_SQL = "select min(d) from ("
+            + "select min(created_at) as d from event_registrations "
+            + "union all select min(issued_at) from certificates where event_id is not null "
+            + "union all select min(submitted_at) from submissions where event_id is not null) t";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final FacultyDailyRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<EventDay> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Value("${faculty.analytics.nightly-lookback-days:7}")
+    private int nightlyLookbackDays;
+
+    public FacultyRollupService(NamedParameterJdbcTemplate jdbcTemplate,
+                                FacultyDailyRollupRepository rollupRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    record EventDay(String eventId, LocalDate day) {
+    }
+
+    private record SliceKey(String organizerId, String eventId, String department, LocalDate day) {
+    }
+
+    /** Queue an (event, day) slice for the next on-write rebuild. */
+    public void markDirty(String eventId, LocalDate day) {
+        if (eventId != null && day != null) {
+            dirty.add(new EventDay(eventId, day));
+        }
+    }
+
+    public int getDirtyCount() {
+        return dirty.size();
+    }
+
+    /**
+     * Rebuild the slices marked dirty since the last run, one pass per distinct day.
+     *
+     * @return number of (event, day) slices rebuilt
+     */
+    @Scheduled(fixedDelayString = "${faculty.analytics.rollup-interval-ms:30000}")
+    public int rebuildDirty() {
+        if (dirty.isEmpty()) return 0;
+        Map<LocalDate, Set<String>> byDay = new TreeMap<>();
+        for (Iterator<EventDay> it = dirty.iterator(); it.hasNext(); ) {
+            EventDay key = it.next();
+            it.remove();
+            byDay.computeIfAbsent(key.day(), d -> new HashSet<>()).add(key.eventId());
+        }
+        int rebuilt = 0;
+        for (Map.Entry<LocalDate, Set<String>> entry : byDay.entrySet()) {
+            LocalDate day = entry.getKey();
+            try {
+                rebuild(day, day.plusDays(1), entry.getValue());
+                rebuilt += entry.getValue().size();
+            } catch (RuntimeException e) {
+                logger.warn("Faculty rollup rebuild failed for {}; retrying next run", day, e);
+                entry.getValue().forEach(eventId -> dirty.add(new EventDay(eventId, day)));
+            }
+        }
+        return rebuilt;
+    }
+
+    @Scheduled(cron = "${faculty.analytics.nightly-cron:0 30 2 * * *}")
+    public void rebuildRecent() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        rebuild(tomorrow.minusDays(nightlyLookbackDays + 1L), tomorrow, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() > 0) return;
+        Timestamp earliest = jdbcTemplate.getJdbcTemplate().queryForObject(EARLIEST_SQL, Timestamp.class);
+        if (earliest == null) return;
+        LocalDate end = LocalDate.now().plusDays(1);
+        int chunks = 0;
+        for (LocalDate from = earliest.toLocalDateTime().toLocalDate(); from.isBefore(end); from = from.plusDays(BACKFILL_CHUNK_DAYS)) {
+            LocalDate to = from.plusDays(BACKFILL_CHUNK_DAYS);
+            rebuild(from, to.isAfter(end) ? end : to, null);
+            chunks++;
+        }
+        logger.info("Backfilled faculty rollups from {} in {} chunk(s)", earliest.toLocalDateTime().toLocalDate(), chunks);
+    }
+
+    /**
+     * Replace every rollup row for days in [from, to), restricted to the given events unless null.
+     * Rebuilds run one at a time; the lock is not a monitor because it is held across queries.
+     */
+    public void rebuild(LocalDate from, LocalDate to, Collection<String> eventIds) {
+        rebuildLock.lock();
+        try {
+            rebuildSlices(from, to, eventIds);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildSlices(LocalDate from, LocalDate to, Collection<String> eventIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(from.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(to.atStartOfDay()))
+                .addValue("fromDay", Date.valueOf(from))
+                .addValue("toDay", Date.valueOf(to));
+        if (eventIds != null) {
+            params.addValue("eventIds", eventIds);
+        }
+
+        Map<SliceKey, int[]> slices = new HashMap<>();
+        jdbcTemplate.query(withEventFilter(REGISTRATIONS_SQL, "r.event_id", eventIds), params, rs -> {
+            int[] counts = slices.computeIfAbsent(sliceKey(rs), k -> new int[4]);
+            counts[0] += rs.getInt("total");
+            counts[1] += rs.getInt("attended");
+        });
+        jdbcTemplate.query(withEventFilter(CERTIFICATES_SQL, "c.event_id", eventIds), params, rs -> {
+            slices.computeIfAbsent(sliceKey(rs), k -> new int[4])[2] += rs.getInt("total");
+        });
+        jdbcTemplate.query(withEventFilter(SUBMISSIONS_SQL, "s.event_id", eventIds), params, rs -> {
+            slices.computeIfAbsent(sliceKey(rs), k -> new int[4])[3] += rs.getInt("total");
+        });
+
+        MapSqlParameterSource[] rows = slices.entrySet().stream().map(e -> new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID().toString())
+                .addValue("organizerId", e.getKey().organizerId())
+                .addValue("eventId", e.getKey().eventId())
+                .addValue("department", e.getKey().department())
+                .addValue("day", Date.valueOf(e.getKey().day()))
+                .addValue("registrations", e.getValue()[0])
+                .addValue("attended", e.getValue()[1])
+                .addValue("certificates", e.getValue()[2])
+                .addValue("submissions", e.getValue()[3]))
+                .toArray(MapSqlParameterSource[]::new);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(withEventFilter(DELETE_SQL, "event_id", eventIds), params);
+            if (rows.length > 0) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+        });
+    }
+
+    private static String withEventFilter(String sql, String column, Collection<String> eventIds) {
+        return String.format(sql, eventIds == null ? "" : "and " + column + " in (:eventIds)");
+    }
+
+    private static SliceKey sliceKey(ResultSet rs) throws SQLException {
+        return new SliceKey(rs.getString(1), rs.getString(2), rs.getString(3), rs.getDate(4).toLocalDate());
+    }
+}
@@ -7,13 +7,18 @@ import com.eventmanager.model.*;
 import com.eventmanager.repository.*;
 import com.eventmanager.util.QRCodeGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,52 +32,37 @@ public class FacultyServiceImpl implements FacultyService {
     private final UserRepository userRepository;
     private final SubmissionRepository submissionRepository;
     private final TeamRepository teamRepository;
+    private final FacultyDailyRollupRepository rollupRepository;
     private final QRCodeGenerator qrCodeGenerator;
 
-    @Override
-    public FacultyStatsDto getDashboardStats(String facultyId) {
-        FacultyStatsDto stats = new FacultyStatsDto();
-
-        // Count events created by faculty
-        stats.setMyEventsCount(eventRepository.countByOrganizer_Id(facultyId));
+    private record CachedTotals(EventRepository.FacultyTotalsView totals, long expiresAt) {
+    }
 
-        // Count hackathons created by faculty
-        stats.setMyHackathonsCount(hackathonRepository.countByOrganizer_Id(facultyId));
+    private final Map<String, CachedTotals> dashboardTotals = new ConcurrentHashMap<>();
 
-        // Count active registrations across all faculty events
-        List<Event> facultyEvents = eventRepository.findByOrganizer_Id(facultyId);
-        long activeRegistrations = facultyEvents.stream()
-                .mapToLong(event -> eventRegistrationRepository.countByEventId(event.getId()))
-                .sum();
-        stats.setActiveRegistrationsCount(activeRegistrations);
+    @Value("${faculty.dashboard.cache-ttl-ms:30000}")
+    private long dashboardCacheTtlMs;
 
-        // Count pending approvals (events in PENDING status)
-        stats.setPendingApprovalsCount(
-                eventRepository.countByOrganizer_IdAndStatus(facultyId, "PENDING")
-        );
+    @Override
+    public FacultyStatsDto getDashboardStats(String facultyId) {
+        EventRepository.FacultyTotalsView totals = getFacultyTotals(facultyId);
+        FacultyStatsDto stats = new FacultyStatsDto();
 
-        // Count resources uploaded (placeholder)
+        stats.setMyEventsCount(totals.getEvents());
+        stats.setMyHackathonsCount(totals.getHackathons());
+        stats.setActiveRegistrationsCount(totals.getRegistrations());
+        stats.setPendingApprovalsCount(totals.getPendingApprovals());
         stats.setResourcesUploadedCount(0L);
+        stats.setCertificatesIssuedCount(totals.getCertificates());
+        stats.setStudentParticipationCount(totals.getStudents());
 
-        // Count certificates issued by faculty
-        stats.setCertificatesIssuedCount(certificateRepository.countByIssuerId(facultyId));
-
-        // Count unique students who participated
-        stats.setStudentParticipationCount(activeRegistrations);
-
-        // Calculate growth metrics
-        stats.setEventRegistrationGrowth(calculateGrowthRate(facultyId, "events"));
+        // Growth metrics
+        stats.setEventRegistrationGrowth(calculateGrowthRate(totals.getEventsLastMonth(), totals.getEventsPreviousMonth()));
         stats.setContentDownloadGrowth(18.0);
-        stats.setHackathonTeamGrowth(calculateGrowthRate(facultyId, "hackathons"));
+        stats.setHackathonTeamGrowth(calculateGrowthRate(totals.getTeamsLastMonth(), totals.getTeamsPreviousMonth()));
 
         // Recent activity counts (last 7 days)
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        stats.setRecentEventRegistrations(
-                eventRegistrationRepository.countByEventIdInAndCreatedAtAfter(
-                        facultyEvents.stream().map(Event::getId).toList(),
-                        weekAgo
-                )
-        );
+        stats.setRecentEventRegistrations(totals.getRecentRegistrations());
         stats.setRecentSubmissions(0L);
         stats.setRecentFeedback(0L);
 
@@ -81,42 +71,24 @@ public class FacultyServiceImpl implements FacultyService {
 
     @Override
     public DashboardSummaryDto getDashboardSummary(String facultyId) {
+        EventRepository.FacultyTotalsView totals = getFacultyTotals(facultyId);
         DashboardSummaryDto summary = new DashboardSummaryDto();
 
-        // Basic counts
-        summary.setTotalEvents(eventRepository.countByOrganizer_Id(facultyId));
-        summary.setTotalHackathons(hackathonRepository.countByOrganizer_Id(facultyId));
-
-        // Active registrations
-        List<Event> facultyEvents = eventRepository.findByOrganizer_Id(facultyId);
-        long activeRegistrations = facultyEvents.stream()
-                .mapToLong(event -> eventRegistrationRepository.countByEventId(event.getId()))
-                .sum();
-        summary.setActiveRegistrations(activeRegistrations);
-
-        // Pending approvals
-        summary.setPendingApprovals(
-                eventRepository.countByOrganizer_IdAndStatus(facultyId, "PENDING")
-        );
-
-        // Resources and certificates
+        summary.setTotalEvents(totals.getEvents());
+        summary.setTotalHackathons(totals.getHackathons());
+        summary.setActiveRegistrations(totals.getRegistrations());
+        summary.setPendingApprovals(totals.getPendingApprovals());
         summary.setResourcesUploaded(0L); // TODO: Implement when ResourceRepository is available
-        summary.setCertificatesIssued(certificateRepository.countByIssuerId(facultyId));
-        summary.setStudentParticipationCount(activeRegistrations);
+        summary.setCertificatesIssued(totals.getCertificates());
+        summary.setStudentParticipationCount(totals.getStudents());
 
         // Growth metrics
-        summary.setEventRegistrationGrowth(calculateGrowthRate(facultyId, "events"));
-        summary.setHackathonTeamGrowth(calculateGrowthRate(facultyId, "hackathons"));
+        summary.setEventRegistrationGrowth(calculateGrowthRate(totals.getEventsLastMonth(), totals.getEventsPreviousMonth()));
+        summary.setHackathonTeamGrowth(calculateGrowthRate(totals.getTeamsLastMonth(), totals.getTeamsPreviousMonth()));
         summary.setContentDownloadGrowth(15.0);
 
         // Recent activity
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        summary.setRecentEventRegistrations(
-                eventRegistrationRepository.countByEventIdInAndCreatedAtAfter(
-                        facultyEvents.stream().map(Event::getId).toList(),
-                        weekAgo
-                )
-        );
+        summary.setRecentEventRegistrations(totals.getRecentRegistrations());
         summary.setRecentSubmissions(0L);
         summary.setRecentFeedback(0L);
 
@@ -126,40 +98,36 @@ public class FacultyServiceImpl implements FacultyService {
     @Override
     public AnalyticsDto getAnalytics(String facultyId, int days) {
         AnalyticsDto analytics = new AnalyticsDto();
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-
-        // Overview stats
-        analytics.setTotalEvents(eventRepository.countByOrganizer_Id(facultyId));
-        analytics.setTotalHackathons(hackathonRepository.countByOrganizer_Id(facultyId));
-
-        List<Event> facultyEvents = eventRepository.findByOrganizer_Id(facultyId);
-        long totalParticipants = facultyEvents.stream()
-                .mapToLong(event -> eventRegistrationRepository.countByEventId(event.getId()))
-                .sum();
-        analytics.setTotalParticipants(totalParticipants);
-
-        // Calculate average attendance
-        long totalAttended = facultyEvents.stream()
-                .mapToLong(event -> eventRegistrationRepository.countByEventIdAndAttended(event.getId(), true))
-                .sum();
-        analytics.setAvgAttendance(totalParticipants > 0 ? (double) totalAttended / totalParticipants * 100 : 0.0);
-
-        // Event trend data
-        analytics.setEventTrend(generateEventTrendData(facultyId, days));
-
-        // Participation by department
-        analytics.setParticipationByDepartment(generateDepartmentParticipation(facultyId));
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(Math.max(days, 1));
 
-        // Event type distribution
-        analytics.setEventTypeDistribution(generateEventTypeDistribution(facultyId));
+        // Seven grouped queries regardless of how many events or days of history the faculty has
+        List<EventRepository.StatusCountView> eventStatuses = eventRepository.countByStatusForOrganizer(facultyId);
+        List<EventRepository.StatusCountView> hackathonStatuses = hackathonRepository.countByStatusForOrganizer(facultyId);
+        FacultyDailyRollupRepository.RollupTotalsView totals = rollupRepository.sumByOrganizerId(facultyId);
+        List<FacultyDailyRollupRepository.DailyRollupView> daily = rollupRepository.sumDailyByOrganizerIdSince(facultyId, from);
+        List<EventRepository.DailyCountView> eventsCreated = eventRepository.countCreatedDailyForOrganizer(facultyId, from.atStartOfDay());
 
-        // Monthly engagement
-        analytics.setMonthlyEngagement(generateMonthlyEngagement(facultyId, days));
+        // Overview stats
+        long totalEvents = eventStatuses.stream().mapToLong(EventRepository.StatusCountView::getTotal).sum();
+        long totalHackathons = hackathonStatuses.stream().mapToLong(EventRepository.StatusCountView::getTotal).sum();
+        analytics.setTotalEvents(totalEvents);
+        analytics.setTotalHackathons(totalHackathons);
+        analytics.setTotalParticipants(totals.getRegistrations());
+        double attendanceRate = percentage(totals.getAttended(), totals.getRegistrations());
+        analytics.setAvgAttendance(attendanceRate);
+
+        analytics.setEventTrend(buildEventTrend(daily, eventsCreated, from, today));
+        analytics.setParticipationByDepartment(buildDepartmentParticipation(
+                rollupRepository.sumByDepartmentSince(facultyId, from)));
+        analytics.setEventTypeDistribution(buildEventTypeDistribution(
+                eventRepository.countByTypeForOrganizer(facultyId)));
+        analytics.setMonthlyEngagement(buildMonthlyEngagement(daily));
 
         // Performance metrics
-        analytics.setEventSuccessRate(calculateEventSuccessRate(facultyId));
-        analytics.setHackathonCompletionRate(calculateHackathonCompletionRate(facultyId));
-        analytics.setStudentEngagementScore(calculateEngagementScore(facultyId));
+        analytics.setEventSuccessRate(percentage(countWithStatus(eventStatuses, "COMPLETED"), totalEvents));
+        analytics.setHackathonCompletionRate(percentage(countWithStatus(hackathonStatuses, "completed"), totalHackathons));
+        analytics.setStudentEngagementScore(attendanceRate);
 
         return analytics;
     }
@@ -238,7 +206,9 @@ public class FacultyServiceImpl implements FacultyService {
             throw new UnauthorizedException("You don't have permission to access this event");
         }
 
-        List<EventRegistration> registrations = eventRegistrationRepository.findByEventId(eventId);
+        // Users and their colleges come with the registrations; certificates are looked up once
+        List<EventRegistration> registrations = eventRegistrationRepository.findWithUserByEventId(eventId);
+        Set<String> certified = certificateRepository.findUserIdsByEventId(eventId);
 
         return registrations.stream().map(reg -> {
             EventRegistrationDto dto = new EventRegistrationDto();
@@ -248,8 +218,7 @@ public class FacultyServiceImpl implements FacultyService {
             dto.setAttended(reg.getAttended());
             dto.setRegisteredAt(reg.getCreatedAt());
 
-            // Get user details
-            User user = userRepository.findById(reg.getUserId()).orElse(null);
+            User user = reg.getUser();
             if (user != null) {
                 dto.setUserName(user.getName() != null ? user.getName() : (user.getFirstName() + " " + user.getLastName()));
                 dto.setUserEmail(user.getEmail());
@@ -257,8 +226,7 @@ public class FacultyServiceImpl implements FacultyService {
                 dto.setCollege(user.getCollege() != null ? user.getCollege().getName() : "N/A");
             }
 
-            // Check if certificate issued
-            dto.setCertificateIssued(certificateRepository.existsByUserIdAndEventId(reg.getUserId(), eventId));
+            dto.setCertificateIssued(certified.contains(reg.getUserId()));
 
             return dto;
         }).collect(Collectors.toList());
@@ -275,12 +243,12 @@ public class FacultyServiceImpl implements FacultyService {
             throw new UnauthorizedException("You don't have permission to modify this event");
         }
 
-        // Mark attendance
-        List<EventRegistration> registrations = eventRegistrationRepository.findByEventId(eventId);
-        registrations.forEach(reg -> {
-            if (userIds.contains(reg.getUserId())) {
+        // Mark attendance; the registrations are managed, so the updates are flushed (and batched)
+        // at commit
+        Set<String> attendees = new HashSet<>(userIds);
+        eventRegistrationRepository.findByEventId(eventId).forEach(reg -> {
+            if (attendees.contains(reg.getUserId())) {
                 reg.setAttended(true);
-                eventRegistrationRepository.save(reg);
             }
         });
     }
@@ -494,84 +462,121 @@ public class FacultyServiceImpl implements FacultyService {
 
     // Helper methods
 
-    private Double calculateGrowthRate(String facultyId, String type) {
-        // Simplified growth calculation
-        LocalDateTime lastMonth = LocalDateTime.now().minusMonths(1);
-        LocalDateTime twoMonthsAgo = LocalDateTime.now().minusMonths(2);
+    /**
+     * Dashboard counters for one faculty member, shared by {@link #getDashboardStats} and
+     * {@link #getDashboardSummary}, which the dashboard requests together. Cached for
+     * {@code faculty.dashboard.cache-ttl-ms}. The query runs outside the map so it does not hold a
+     * bin lock; concurrent misses may both load, and the later expiry is kept.
+     */
+    private EventRepository.FacultyTotalsView getFacultyTotals(String facultyId) {
+        long now = System.currentTimeMillis();
+        CachedTotals cached = dashboardTotals.get(facultyId);
+        if (cached != null && cached.expiresAt() > now) return cached.totals();
+        LocalDateTime current = LocalDateTime.now();
+        EventRepository.FacultyTotalsView totals = eventRepository.findFacultyTotals(
+                facultyId, current.minusDays(7), current.minusMonths(1), current.minusMonths(2));
+        dashboardTotals.merge(facultyId, new CachedTotals(totals, now + dashboardCacheTtlMs),
+                (existing, loaded) -> existing.expiresAt() >= loaded.expiresAt() ? existing : loaded);
+        return totals;
+    }
 
-        if ("events".equals(type)) {
-            long currentMonth = eventRepository.countByOrganizer_IdAndCreatedAtAfter(facultyId, lastMonth);
-            long previousMonth = eventRepository.countByOrganizer_IdAndCreatedAtBetween(facultyId, twoMonthsAgo, lastMonth);
-            return previousMonth > 0 ? ((double) (currentMonth - previousMonth) / previousMonth * 100) : 0.0;
-        }
+    @Scheduled(fixedDelayString = "${faculty.dashboard.cache-ttl-ms:30000}")
+    public void evictExpiredDashboardTotals() {
+        long now = System.currentTimeMillis();
+        dashboardTotals.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
 
-        return 0.0;
+    private static Double calculateGrowthRate(long currentMonth, long previousMonth) {
+        return previousMonth > 0 ? ((double) (currentMonth - previousMonth) / previousMonth * 100) : 0.0;
     }
 
-    private List<Map<String, Object>> generateEventTrendData(String facultyId, int days) {
-        // Generate mock trend data - TODO: Implement real SQL aggregation
-        List<Map<String, Object>> trend = new ArrayList<>();
-        for (int i = days; i >= 0; i -= 7) {
+    // One point per 7-day bucket starting at 'from', the last bucket ending today
+    private List<Map<String, Object>> buildEventTrend(List<FacultyDailyRollupRepository.DailyRollupView> daily,
+                                                      List<EventRepository.DailyCountView> eventsCreated,
+                                                      LocalDate from, LocalDate today) {
+        TreeMap<LocalDate, long[]> buckets = new TreeMap<>();
+        for (LocalDate start = from; !start.isAfter(today); start = start.plusDays(7)) {
+            buckets.put(start, new long[3]);
+        }
+        eventsCreated.forEach(row -> {
+            Map.Entry<LocalDate, long[]> bucket = buckets.floorEntry(row.getDay());
+            if (bucket != null) bucket.getValue()[0] += row.getTotal();
+        });
+        daily.forEach(row -> {
+            Map.Entry<LocalDate, long[]> bucket = buckets.floorEntry(row.getDay());
+            if (bucket != null) {
+                bucket.getValue()[1] += row.getRegistrations();
+                bucket.getValue()[2] += row.getAttended();
+            }
+        });
+
+        List<Map<String, Object>> trend = new ArrayList<>(buckets.size());
+        buckets.forEach((start, counts) -> {
             Map<String, Object> point = new HashMap<>();
-            point.put("date", LocalDateTime.now().minusDays(i).toString());
-            point.put("events", (int) (Math.random() * 10));
-            point.put("registrations", (int) (Math.random() * 50));
+            point.put("date", start.toString());
+            point.put("events", counts[0]);
+            point.put("registrations", counts[1]);
+            point.put("attended", counts[2]);
             trend.add(point);
-        }
+        });
         return trend;
     }
 
-    private List<Map<String, Object>> generateDepartmentParticipation(String facultyId) {
-        // TODO: Implement real SQL aggregation
-        return new ArrayList<>();
-    }
-
-    private List<Map<String, Object>> generateEventTypeDistribution(String facultyId) {
-        // TODO: Implement real SQL aggregation
-        return new ArrayList<>();
-    }
-
-    private List<Map<String, Object>> generateMonthlyEngagement(String facultyId, int days) {
-        // TODO: Implement real SQL aggregation
-        return new ArrayList<>();
+    private List<Map<String, Object>> buildDepartmentParticipation(
+            List<FacultyDailyRollupRepository.DepartmentRollupView> departments) {
+        return departments.stream().map(row -> {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("name", row.getDepartment());
+            entry.put("value", row.getRegistrations());
+            entry.put("attended", row.getAttended());
+            entry.put("certificates", row.getCertificates());
+            return entry;
+        }).collect(Collectors.toList());
     }
 
-    private Double calculateEventSuccessRate(String facultyId) {
-        List<Event> events = eventRepository.findByOrganizer_Id(facultyId);
-        if (events.isEmpty()) return 0.0;
-
-        long successfulEvents = events.stream()
-                .filter(e -> "COMPLETED".equals(e.getStatus()))
-                .count();
-
-        return (double) successfulEvents / events.size() * 100;
+    private List<Map<String, Object>> buildEventTypeDistribution(List<EventRepository.TypeCountView> types) {
+        return types.stream().map(row -> {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("name", row.getType());
+            entry.put("value", row.getTotal());
+            return entry;
+        }).collect(Collectors.toList());
     }
 
-    private Double calculateHackathonCompletionRate(String facultyId) {
-        List<Hackathon> hackathons = hackathonRepository.findByOrganizer_Id(facultyId);
-        if (hackathons.isEmpty()) return 0.0;
-
-        long completedHackathons = hackathons.stream()
-                .filter(h -> "completed".equals(h.getStatus()))
-                .count();
+    private List<Map<String, Object>> buildMonthlyEngagement(List<FacultyDailyRollupRepository.DailyRollupView> daily) {
+        Map<YearMonth, long[]> months = new TreeMap<>();
+        daily.forEach(row -> {
+            long[] counts = months.computeIfAbsent(YearMonth.from(row.getDay()), m -> new long[4]);
+            counts[0] += row.getRegistrations();
+            counts[1] += row.getAttended();
+            counts[2] += row.getCertificates();
+            counts[3] += row.getSubmissions();
+        });
 
-        return (double) completedHackathons / hackathons.size() * 100;
+        List<Map<String, Object>> engagement = new ArrayList<>(months.size());
+        months.forEach((month, counts) -> {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("month", month.getMonth().toString());
+            entry.put("year", month.getYear());
+            entry.put("registrations", counts[0]);
+            entry.put("attendance", counts[1]);
+            entry.put("certificates", counts[2]);
+            entry.put("submissions", counts[3]);
+            entry.put("attendanceRate", percentage(counts[1], counts[0]));
+            engagement.add(entry);
+        });
+        return engagement;
     }
 
-    private Double calculateEngagementScore(String facultyId) {
-        // Simplified engagement calculation
-        List<Event> events = eventRepository.findByOrganizer_Id(facultyId);
-        if (events.isEmpty()) return 0.0;
-
-        long totalRegistrations = events.stream()
-                .mapToLong(e -> eventRegistrationRepository.countByEventId(e.getId()))
-                .sum();
-
-        long totalAttended = events.stream()
-                .mapToLong(e -> eventRegistrationRepository.countByEventIdAndAttended(e.getId(), true))
+    private static long countWithStatus(List<EventRepository.StatusCountView> statuses, String status) {
+        return statuses.stream()
+                .filter(row -> status.equals(row.getStatus()))
+                .mapToLong(EventRepository.StatusCountView::getTotal)
                 .sum();
+    }
 
-        return totalRegistrations > 0 ? (double) totalAttended / totalRegistrations * 100 : 0.0;
+    private static double percentage(long part, long whole) {
+        return whole > 0 ? (double) part / whole * 100 : 0.0;
     }
 
     private String determinePerformanceLevel(Double attendanceRate) {
@@ -0,0 +1,225 @@
+package com.eventmanager.service;
+
+import com.eventmanager.model.ForumPost;
+import com.eventmanager.repository.ForumCommentRepository;
+import com.eventmanager.repository.ForumPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory "hot" ordering of recent forum posts.
+ *
+ * A post's score is {@code sign(s) * log10(max(|s|, 1)) + age / decaySeconds}, where s is the net
+ * vote count plus half a point per comment and age is measured from a fixed epoch. Newer posts
+ * start higher and every tenfold increase in votes is worth {@code decaySeconds} of recency.
+ * Because age is anchored to creation time, a score only changes when the post is voted on or
+ * commented, so the sorted index is updated per event instead of being re-sorted as time passes.
+ *
+ * Only posts from the last {@code forum.hot.window-days} are indexed. A periodic rebuild from
+ * the database drops expired posts and corrects any drift from missed updates.
+ */
+@Service
+public class ForumHotRankingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForumHotRankingService.class);
+    private static final long EPOCH_SECONDS = 1_704_067_200L; // 2024-01-01T00:00:00Z
+    private static final double COMMENT_WEIGHT = 0.5;
+
+    private final ForumPostRepository postRepository;
+    private final ForumCommentRepository commentRepository;
+
+    private final Map<String, RankedPost> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<RankedPost> ranking = new ConcurrentSkipListSet<>();
+
+    @Value("${forum.hot.decay-seconds:45000}")
+    private double decaySeconds;
+
+    @Value("${forum.hot.window-days:30}")
+    private int windowDays;
+
+    @Value("${forum.comment-count.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    public ForumHotRankingService(ForumPostRepository postRepository, ForumCommentRepository commentRepository) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    public static class RankedPost implements Comparable<RankedPost> {
+        private final String postId;
+        private final String category;
+        private final LocalDateTime createdAt;
+        private final int upvotes;
+        private final int downvotes;
+        private final int comments;
+        private final double score;
+
+        RankedPost(String postId, String category, LocalDateTime createdAt,
+                   int upvotes, int downvotes, int comments, double score) {
+            this.postId = postId;
+            this.category = category;
+            this.createdAt = createdAt;
+            this.upvotes = upvotes;
+            this.downvotes = downvotes;
+            this.comments = comments;
+            this.score = score;
+        }
+
+        public String getPostId() { return postId; }
+        public String getCategory() { return category; }
+        public double getScore() { return score; }
+
+        // Highest score first; ties broken by id so (score, id) is a total order usable as a cursor
+        @Override
+        public int compareTo(RankedPost other) {
+            int byScore = Double.compare(other.score, score);
+            return byScore != 0 ? byScore : other.postId.compareTo(postId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof RankedPost r && r.postId.equals(postId) && Double.compare(r.score, score) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, score);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUp() {
+        if (backfillOnStartup) {
+            int corrected = reconcileCommentCounts();
+            if (corrected > 0) {
+                logger.info("Backfilled comment counts on {} forum post(s)", corrected);
+            }
+        }
+        rebuild();
+    }
+
+    /**
+     * Reload every post inside the window and drop the ones that aged out.
+     */
+    @Scheduled(initialDelayString = "${forum.hot.rebuild-interval-ms:900000}",
+            fixedDelayString = "${forum.hot.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+        Set<String> loaded = new HashSet<>();
+        for (ForumPostRepository.HotRankView view : postRepository.findHotRankViewsCreatedSince(since)) {
+            loaded.add(view.getId());
+            put(rank(view.getId(), view.getCategory(), view.getCreatedAt(),
+                    value(view.getUpvotes()), value(view.getDownvotes()), value(view.getCommentCount())));
+        }
+        entries.keySet().removeIf(id -> {
+            if (loaded.contains(id)) return false;
+            RankedPost stale = entries.get(id);
+            if (stale != null && stale.createdAt.isAfter(since)) return false; // created while we were loading
+            if (stale != null) ranking.remove(stale);
+            return true;
+        });
+    }
+
+    public void onPostCreated(ForumPost post) {
+        put(rank(post.getId(), post.getCategory(), post.getCreatedAt(),
+                value(post.getUpvotes()), value(post.getDownvotes()), value(post.getCommentCount())));
+    }
+
+    public void onVote(String postId, int upvoteDelta, int downvoteDelta) {
+        update(postId, p -> rank(p.postId, p.category, p.createdAt,
+                p.upvotes + upvoteDelta, p.downvotes + downvoteDelta, p.comments));
+    }
+
+    public void onCommentAdded(String postId) {
+        update(postId, p -> rank(p.postId, p.category, p.createdAt, p.upvotes, p.downvotes, p.comments + 1));
+    }
+
+    /**
+     * Walk the index from just after the given position.
+     *
+     * @param afterScore score of the last post already returned, or null for the first page
+     * @param afterId    id of the last post already returned, or null for the first page
+     * @param category   restrict to one category, or null for all
+     */
+    public List<RankedPost> page(String category, Double afterScore, String afterId, int limit) {
+        NavigableSet<RankedPost> view = afterScore == null || afterId == null
+                ? ranking
+                : ranking.tailSet(new RankedPost(afterId, null, null, 0, 0, 0, afterScore), false);
+        List<RankedPost> result = new ArrayList<>(limit);
+        for (RankedPost post : view) {
+            if (category != null && !category.equals(post.category)) continue;
+            result.add(post);
+            if (result.size() == limit) break;
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Recompute {@code commentCount} from the comments table and fix the posts that differ.
+     * Also serves as the backfill for posts created before the counter existed.
+     */
+    @Transactional
+    public int reconcileCommentCounts() {
+        Map<String, Long> expected = new HashMap<>();
+        commentRepository.countGroupedByPost().forEach(row -> expected.put(row.getPostId(), row.getTotal()));
+        int corrected = 0;
+        for (ForumPostRepository.CommentCountView post : postRepository.findAllCommentCountViews()) {
+            int want = expected.getOrDefault(post.getId(), 0L).intValue();
+            if (want != value(post.getCommentCount())) {
+                postRepository.setCommentCount(post.getId(), want);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private RankedPost rank(String postId, String category, LocalDateTime createdAt,
+                            int upvotes, int downvotes, int comments) {
+        LocalDateTime created = createdAt != null ? createdAt : LocalDateTime.now();
+        double signal = upvotes - downvotes + COMMENT_WEIGHT * comments;
+        double order = Math.log10(Math.max(Math.abs(signal), 1));
+        double seconds = created.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000.0 - EPOCH_SECONDS;
+        double score = Math.signum(signal) * order + seconds / decaySeconds;
+        return new RankedPost(postId, category, created, upvotes, downvotes, comments, score);
+    }
+
+    private void put(RankedPost next) {
+        entries.compute(next.postId, (id, current) -> {
+            if (current != null) ranking.remove(current);
+            ranking.add(next);
+            return next;
+        });
+    }
+
+    // Posts outside the window are not indexed, so their events are ignored
+    private void update(String postId, UnaryOperator<RankedPost> change) {
+        entries.computeIfPresent(postId, (id, current) -> {
+            RankedPost next = change.apply(current);
+            ranking.remove(current);
+            ranking.add(next);
+            return next;
+        });
+    }
+
+    private static int value(Integer counter) {
+        return counter != null ? counter : 0;
+    }
+}
@@ -1,5 +1,7 @@
 package com.eventmanager.service;
 
+import com.eventmanager.dto.ForumFeedDto;
+import com.eventmanager.dto.ForumVoteDto;
 import com.eventmanager.model.ForumComment;
 import com.eventmanager.model.ForumPost;
 import java.util.List;
@@ -13,13 +15,25 @@ public interface ForumService {
 
     ForumPost getPostById(String id);
 
-    ForumPost upvotePost(String postId);
-
-    ForumPost downvotePost(String postId);
+    /**
+     * Set a user's vote on a post; repeating the current vote is a no-op.
+     *
+     * @param value 1 for an upvote, -1 for a downvote, 0 to clear the vote
+     */
+    ForumVoteDto votePost(String postId, String userId, int value);
 
     ForumComment addComment(String postId, String authorId, String content);
 
     List<ForumComment> getComments(String postId);
+
+    /**
+     * One page of the forum feed.
+     *
+     * @param sort   "new" (default) or "hot"
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @param userId the reader, whose votes are marked on the cards; may be null
+     */
+    ForumFeedDto getFeed(String sort, String category, String cursor, int size, String userId);
     
     void seedPosts();
 }
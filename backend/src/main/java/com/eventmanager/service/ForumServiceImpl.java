@@ -1,5 +1,8 @@
 package com.eventmanager.service;
 
+import com.eventmanager.dto.ForumFeedDto;
+import com.eventmanager.dto.ForumPostSummaryDto;
+import com.eventmanager.dto.ForumVoteDto;
 import com.eventmanager.model.ForumComment;
 import com.eventmanager.model.ForumPost;
 import com.eventmanager.model.User;
@@ -7,12 +10,21 @@ import com.eventmanager.repository.ForumCommentRepository;
 import com.eventmanager.repository.ForumPostRepository;
 import com.eventmanager.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ForumServiceImpl implements ForumService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     @Autowired
     private ForumPostRepository postRepository;
 
@@ -25,6 +37,12 @@ public class ForumServiceImpl implements ForumService {
     @Autowired
     private ActivityService activityService;
 
+    @Autowired
+    private ForumHotRankingService hotRanking;
+
+    @Autowired
+    private ForumVoteService voteService;
+
     @Override
     public ForumPost createPost(String authorId, String title, String content, String category) {
         User author = userRepository.findById(authorId).orElseThrow(() -> new RuntimeException("Author not found"));
@@ -36,6 +54,7 @@ public class ForumServiceImpl implements ForumService {
         post.setCategory(category);
 
         ForumPost savedPost = postRepository.save(post);
+        hotRanking.onPostCreated(savedPost);
         activityService.logActivity(authorId, "FORUM_POST", "Created a forum post: " + title, savedPost.getId(), title);
 
         return savedPost;
@@ -57,20 +76,12 @@ public class ForumServiceImpl implements ForumService {
     }
 
     @Override
-    public ForumPost upvotePost(String postId) {
-        ForumPost post = getPostById(postId);
-        post.setUpvotes(post.getUpvotes() + 1);
-        return postRepository.save(post);
-    }
-
-    @Override
-    public ForumPost downvotePost(String postId) {
-        ForumPost post = getPostById(postId);
-        post.setDownvotes(post.getDownvotes() + 1);
-        return postRepository.save(post);
+    public ForumVoteDto votePost(String postId, String userId, int value) {
+        return voteService.vote(postId, userId, value);
     }
 
     @Override
+    @Transactional
     public ForumComment addComment(String postId, String authorId, String content) {
         ForumPost post = getPostById(postId);
         User author = userRepository.findById(authorId).orElseThrow(() -> new RuntimeException("Author not found"));
@@ -81,6 +92,8 @@ public class ForumServiceImpl implements ForumService {
         comment.setContent(content);
 
         ForumComment savedComment = commentRepository.save(comment);
+        postRepository.adjustCommentCount(postId, 1);
+        hotRanking.onCommentAdded(postId);
         activityService.logActivity(authorId, "FORUM_COMMENT", "Commented on: " + post.getTitle(), post.getId(),
                 post.getTitle());
 
@@ -92,6 +105,117 @@ public class ForumServiceImpl implements ForumService {
         return commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
     }
 
+    @Override
+    public ForumFeedDto getFeed(String sort, String category, String cursor, int size, String userId) {
+        int limit = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        String filter = category == null || category.isBlank() || "All".equalsIgnoreCase(category) ? null : category;
+        ForumFeedDto feed = "hot".equalsIgnoreCase(sort)
+                ? getHotFeed(filter, cursor, limit)
+                : getNewFeed(filter, cursor, limit);
+        Map<String, Integer> votes = voteService.getUserVotes(userId,
+                feed.getPosts().stream().map(ForumPostSummaryDto::getId).toList());
+        feed.getPosts().forEach(post -> post.setUserVote(votes.getOrDefault(post.getId(), 0)));
+        return feed;
+    }
+
+    // Keyset over (createdAt, id): each page is an index range scan no matter how deep the reader goes
+    private ForumFeedDto getNewFeed(String category, String cursor, int limit) {
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ForumPostRepository.PostSummaryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = category == null
+                    ? postRepository.findFeedPage(page)
+                    : postRepository.findFeedPageByCategory(category, page);
+        } else {
+            String[] position = decodeCursor(cursor, "new");
+            LocalDateTime createdAt;
+            try {
+                createdAt = LocalDateTime.parse(position[0]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid feed cursor");
+            }
+            rows = category == null
+                    ? postRepository.findFeedPageAfter(createdAt, position[1], page)
+                    : postRepository.findFeedPageByCategoryAfter(category, createdAt, position[1], page);
+        }
+        boolean hasMore = rows.size() > limit;
+        List<ForumPostSummaryDto> posts = rows.stream().limit(limit).map(this::toSummaryDto).collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasMore) {
+            ForumPostSummaryDto last = posts.get(posts.size() - 1);
+            nextCursor = encodeCursor("new", last.getCreatedAt().toString(), last.getId());
+        }
+        return new ForumFeedDto("new", posts, nextCursor);
+    }
+
+    // Order comes from the in-memory index; the page itself is one projection query by id
+    private ForumFeedDto getHotFeed(String category, String cursor, int limit) {
+        Double afterScore = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor, "hot");
+            try {
+                afterScore = Double.parseDouble(position[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid feed cursor");
+            }
+            afterId = position[1];
+        }
+        List<ForumHotRankingService.RankedPost> ranked = hotRanking.page(category, afterScore, afterId, limit + 1);
+        boolean hasMore = ranked.size() > limit;
+        if (hasMore) {
+            ranked = ranked.subList(0, limit);
+        }
+        List<ForumPostSummaryDto> posts = new ArrayList<>(ranked.size());
+        if (!ranked.isEmpty()) {
+            Map<String, ForumPostRepository.PostSummaryView> byId = postRepository
+                    .findSummaryViewsByIdIn(ranked.stream().map(ForumHotRankingService.RankedPost::getPostId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(ForumPostRepository.PostSummaryView::getId, Function.identity()));
+            for (ForumHotRankingService.RankedPost post : ranked) {
+                ForumPostRepository.PostSummaryView row = byId.get(post.getPostId());
+                if (row != null) posts.add(toSummaryDto(row));
+            }
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            ForumHotRankingService.RankedPost last = ranked.get(ranked.size() - 1);
+            nextCursor = encodeCursor("hot", Double.toString(last.getScore()), last.getPostId());
+        }
+        return new ForumFeedDto("hot", posts, nextCursor);
+    }
+
+    private ForumPostSummaryDto toSummaryDto(ForumPostRepository.PostSummaryView row) {
+        ForumPostSummaryDto.Author author = row.getAuthorId() == null ? null : new ForumPostSummaryDto.Author(
+                row.getAuthorId(), row.getAuthorName(), row.getAuthorAvatar(), row.getAuthorCollegeName());
+        // Include votes that are recorded but not yet flushed to the post row
+        long[] pendingVotes = voteService.getPendingDelta(row.getId());
+        int upvotes = (row.getUpvotes() != null ? row.getUpvotes() : 0) + (int) pendingVotes[0];
+        int downvotes = (row.getDownvotes() != null ? row.getDownvotes() : 0) + (int) pendingVotes[1];
+        return new ForumPostSummaryDto(row.getId(), row.getTitle(), row.getExcerpt(), row.getCategory(),
+                upvotes, downvotes, row.getCommentCount(), row.getCreatedAt(), author, 0);
+    }
+
+    // Opaque to clients: base64url of "<sort>|<position>|<postId>"
+    private static String encodeCursor(String sort, String position, String postId) {
+        String raw = sort + "|" + position + "|" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor, String expectedSort) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid feed cursor");
+        }
+        String[] parts = raw.split("\\|", 3);
+        if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+            throw new IllegalArgumentException("Invalid feed cursor");
+        }
+        return new String[]{parts[1], parts[2]};
+    }
+
     @Override
     public void seedPosts() {
         if (postRepository.count() > 0) return;
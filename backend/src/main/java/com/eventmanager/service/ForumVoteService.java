@@ -0,0 +1,250 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.ForumVoteDto;
+import com.eventmanager.model.ForumVote;
+import com.eventmanager.repository.ForumPostRepository;
+import com.eventmanager.repository.ForumVoteRepository;
+import com.eventmanager.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Forum voting without read-modify-write on the post row.
+ *
+ * A user's vote lives in {@code forum_votes}, keyed by (post_id, user_id), and is changed with a
+ * compare-and-set update so repeated or concurrent clicks count once. The resulting change to the
+ * post's totals is added to a per-post {@link LongAdder}, which absorbs bursts without contention;
+ * a scheduled flush drains the adders and applies each post's net delta with one atomic
+ * {@code upvotes = upvotes + ?} update, all flushed posts in one transaction.
+ *
+ * Post totals therefore lag the vote table by at most one flush interval. Deltas that fail to
+ * flush are put back and retried on the next run, and a final flush runs on shutdown. Deltas lost
+ * anyway (the JVM killed before the flush) are repaired by {@link #reconcileCounts()}, which
+ * recomputes the totals from the vote table.
+ */
+@Service
+public class ForumVoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForumVoteService.class);
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ForumVoteRepository voteRepository;
+    private final ForumPostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ForumHotRankingService hotRanking;
+    private final TransactionTemplate transactionTemplate;
+
+    // One pair of adders per post voted on since startup; entries are drained, never removed
+    private final Map<String, PendingVotes> pending = new ConcurrentHashMap<>();
+    // Votes hold the read lock from their vote row change until the delta is recorded, so the verifier
+    // never sees one without the other
+    private final ReadWriteLock votesInFlight = new ReentrantReadWriteLock();
+    // Start of the last verifier run; null until the first run, which checks every post
+    private volatile LocalDateTime verifiedSince;
+
+    public ForumVoteService(ForumVoteRepository voteRepository,
+                            ForumPostRepository postRepository,
+                            UserRepository userRepository,
+                            ForumHotRankingService hotRanking,
+                            PlatformTransactionManager transactionManager) {
+        this.voteRepository = voteRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.hotRanking = hotRanking;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private static final class PendingVotes {
+        final LongAdder upvotes = new LongAdder();
+        final LongAdder downvotes = new LongAdder();
+    }
+
+    /**
+     * Set the user's vote on a post.
+     *
+     * @param value 1 for an upvote, -1 for a downvote, 0 to clear the vote
+     */
+    public ForumVoteDto vote(String postId, String userId, int value) {
+        if (value < -1 || value > 1) {
+            throw new IllegalArgumentException("Vote must be 1, -1 or 0");
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found");
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<Integer> current = voteRepository.findValue(postId, userId);
+            int previous = current.orElse(0);
+            if (previous == value) {
+                return new ForumVoteDto(postId, value, previous, false);
+            }
+            boolean applied;
+            votesInFlight.readLock().lock();
+            try {
+                if (current.isEmpty()) {
+                    applied = insert(postId, userId, value);
+                } else if (value == 0) {
+                    applied = voteRepository.deleteIfValue(postId, userId, previous) == 1;
+                } else {
+                    applied = voteRepository.compareAndSetValue(postId, userId, previous, value, LocalDateTime.now()) == 1;
+                }
+                if (applied) {
+                    record(postId, previous, value);
+                }
+            } finally {
+                votesInFlight.readLock().unlock();
+            }
+            if (applied) {
+                return new ForumVoteDto(postId, value, previous, true);
+            }
+        }
+        throw new RuntimeException("Vote could not be recorded, please retry");
+    }
+
+    /** The user's current votes on the given posts; posts without a vote are absent. */
+    public Map<String, Integer> getUserVotes(String userId, Collection<String> postIds) {
+        Map<String, Integer> votes = new HashMap<>();
+        if (userId == null || postIds.isEmpty()) return votes;
+        voteRepository.findUserVotes(userId, postIds).forEach(v -> votes.put(v.getPostId(), v.getValue()));
+        return votes;
+    }
+
+    /** Votes recorded but not yet flushed to the post row, as {upvotes, downvotes}. */
+    public long[] getPendingDelta(String postId) {
+        PendingVotes votes = pending.get(postId);
+        return votes == null ? new long[2] : new long[]{votes.upvotes.sum(), votes.downvotes.sum()};
+    }
+
+    /**
+     * Apply accumulated deltas to {@code forum_posts}.
+     *
+     * @return number of posts updated
+     */
+    @Scheduled(fixedDelayString = "${forum.votes.flush-interval-ms:1000}")
+    public int flush() {
+        Map<String, long[]> drained = new HashMap<>();
+        pending.forEach((postId, votes) -> {
+            // Subtract what was read rather than reset, so adds racing with the drain are kept
+            long up = votes.upvotes.sum();
+            long down = votes.downvotes.sum();
+            if (up == 0 && down == 0) return;
+            votes.upvotes.add(-up);
+            votes.downvotes.add(-down);
+            drained.put(postId, new long[]{up, down});
+        });
+        if (drained.isEmpty()) return 0;
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((postId, delta) ->
+                    postRepository.adjustVotes(postId, (int) delta[0], (int) delta[1])));
+        } catch (RuntimeException e) {
+            logger.warn("Forum vote flush failed for {} post(s); retrying next run", drained.size(), e);
+            drained.forEach((postId, delta) -> {
+                PendingVotes votes = pending.computeIfAbsent(postId, id -> new PendingVotes());
+                votes.upvotes.add(delta[0]);
+                votes.downvotes.add(delta[1]);
+            });
+            return 0;
+        }
+        return drained.size();
+    }
+
+    /**
+     * Recompute the totals of posts voted on since the previous run from {@code forum_votes} and
+     * rewrite the ones that drifted. The first run after startup checks every post, since deltas are
+     * only lost when the JVM dies before flushing them. Votes wait while it runs: pending deltas are
+     * flushed first, and a run is skipped when that flush fails.
+     *
+     * @return number of posts whose totals were corrected
+     */
+    @Scheduled(initialDelayString = "${forum.votes.verify-initial-delay-ms:60000}",
+            fixedDelayString = "${forum.votes.verify-interval-ms:600000}")
+    public int reconcileCounts() {
+        votesInFlight.writeLock().lock();
+        try {
+            flush();
+            if (pending.values().stream().anyMatch(v -> v.upvotes.sum() != 0 || v.downvotes.sum() != 0)) {
+                logger.warn("Forum vote verifier skipped: pending votes could not be flushed");
+                return 0;
+            }
+            LocalDateTime started = LocalDateTime.now();
+            Integer corrected = transactionTemplate.execute(status -> correctCounts(verifiedSince));
+            verifiedSince = started;
+            if (corrected != null && corrected > 0) {
+                logger.warn("Forum vote verifier corrected {} post(s)", corrected);
+            }
+            return corrected != null ? corrected : 0;
+        } finally {
+            votesInFlight.writeLock().unlock();
+        }
+    }
+
+    private int correctCounts(LocalDateTime since) {
+        Map<String, long[]> expected = new HashMap<>();
+        List<ForumPostRepository.VoteCountView> posts;
+        if (since == null) {
+            voteRepository.countGroupedByPost().forEach(row ->
+                    expected.put(row.getPostId(), new long[]{row.getUpvotes(), row.getDownvotes()}));
+            posts = postRepository.findAllVoteCountViews();
+        } else {
+            // Back off a little so votes stamped just before the last run started are not missed
+            List<String> voted = voteRepository.findPostIdsVotedSince(since.minusMinutes(1));
+            if (voted.isEmpty()) return 0;
+            voteRepository.countGroupedByPost(voted).forEach(row ->
+                    expected.put(row.getPostId(), new long[]{row.getUpvotes(), row.getDownvotes()}));
+            posts = postRepository.findVoteCountViews(voted);
+        }
+        int corrected = 0;
+        for (ForumPostRepository.VoteCountView post : posts) {
+            long[] want = expected.getOrDefault(post.getId(), new long[2]);
+            if (want[0] != value(post.getUpvotes()) || want[1] != value(post.getDownvotes())) {
+                postRepository.setVotes(post.getId(), (int) want[0], (int) want[1]);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private static long value(Integer counter) {
+        return counter != null ? counter : 0;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private boolean insert(String postId, String userId, int value) {
+        ForumVote vote = new ForumVote();
+        vote.setPost(postRepository.getReferenceById(postId));
+        vote.setUser(userRepository.getReferenceById(userId));
+        vote.setValue(value);
+        try {
+            voteRepository.saveAndFlush(vote);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request inserted the row first; re-read and apply on top of it
+            return false;
+        }
+    }
+
+    private void record(String postId, int previous, int value) {
+        int upDelta = (value == 1 ? 1 : 0) - (previous == 1 ? 1 : 0);
+        int downDelta = (value == -1 ? 1 : 0) - (previous == -1 ? 1 : 0);
+        PendingVotes votes = pending.computeIfAbsent(postId, id -> new PendingVotes());
+        if (upDelta != 0) votes.upvotes.add(upDelta);
+        if (downDelta != 0) votes.downvotes.add(downDelta);
+        hotRanking.onVote(postId, upDelta, downDelta);
+    }
+}
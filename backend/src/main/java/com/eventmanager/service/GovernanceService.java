@@ -36,6 +36,9 @@ public class GovernanceService {
     @Autowired
     private AuditLogService auditLogService;
 
+    @Autowired
+    private AuditArchiveService auditArchiveService;
+
     // --- 1. Event/Hackathon Approval Flow ---
 
     @Transactional
@@ -192,10 +195,12 @@ public class GovernanceService {
         GovernanceLog log = new GovernanceLog();
         log.setEntityId(entityId);
         log.setEntityType(entityType);
-        log.setAction(action);
-        log.setActor(actor);
+        log.setActionType(action);
+        log.setActorId(actor.getId());
+        log.setActorEmail(actor.getEmail());
         log.setComments(comments);
-        log.setTimestamp(LocalDateTime.now());
+        log.setCreatedAt(LocalDateTime.now());
         governanceLogRepository.save(log);
+        auditArchiveService.archive(log);
     }
 }
@@ -1,5 +1,6 @@
 package com.eventmanager.service;
 
+import com.eventmanager.dto.HackathonDto;
 import com.eventmanager.model.Hackathon;
 import com.eventmanager.model.ProblemStatement;
 import com.eventmanager.model.Team;
@@ -14,19 +15,19 @@ import java.util.Optional;
     public interface HackathonService {
         Hackathon createHackathon(Hackathon hackathon);
 
-        Optional<Hackathon> getHackathonById(String id);
+        Optional<HackathonDto> getHackathonById(String id);
 
-        List<Hackathon> getAllHackathons();
+        List<HackathonDto> getAllHackathons();
         
         Page<Hackathon> getHackathons(String search, String country, String mode, String status, List<String> tags, Pageable pageable);
 
-    List<Hackathon> getHackathonsByStudent(String userId);
+    List<HackathonDto> getHackathonsByStudent(String userId);
 
-    List<Hackathon> getHackathonsByOrganizer(String organizerId);
+    List<HackathonDto> getHackathonsByOrganizer(String organizerId);
 
-    List<Hackathon> getRegisteredHackathons(String userId);
+    List<HackathonDto> getRegisteredHackathons(String userId);
 
-    List<Hackathon> getCompletedHackathons(String userId);
+    List<HackathonDto> getCompletedHackathons(String userId);
 
     // Problem Statements
     ProblemStatement addProblemStatement(String hackathonId, ProblemStatement problemStatement);
@@ -1,13 +1,14 @@
 package com.eventmanager.service;
 
+import com.eventmanager.dto.HackathonDto;
 import com.eventmanager.model.*;
 import com.eventmanager.repository.*;
+import com.eventmanager.util.JoinCodeGenerator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @Transactional
@@ -21,6 +22,8 @@ public class HackathonServiceImpl implements HackathonService {
     private final ActivityService activityService;
     private final NotificationService notificationService;
     private final CertificateService certificateService;
+    private final JoinCodeGenerator joinCodeGenerator;
+    private final TeamMatchmakingService teamMatchmakingService;
 
     public HackathonServiceImpl(HackathonRepository hackathonRepository,
             TeamRepository teamRepository,
@@ -30,7 +33,9 @@ public class HackathonServiceImpl implements HackathonService {
             UserRepository userRepository,
             ActivityService activityService,
             NotificationService notificationService,
-            CertificateService certificateService) {
+            CertificateService certificateService,
+            JoinCodeGenerator joinCodeGenerator,
+            TeamMatchmakingService teamMatchmakingService) {
         this.hackathonRepository = hackathonRepository;
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
@@ -40,6 +45,8 @@ public class HackathonServiceImpl implements HackathonService {
         this.activityService = activityService;
         this.notificationService = notificationService;
         this.certificateService = certificateService;
+        this.joinCodeGenerator = joinCodeGenerator;
+        this.teamMatchmakingService = teamMatchmakingService;
     }
 
     @Override
@@ -50,18 +57,19 @@ public class HackathonServiceImpl implements HackathonService {
     }
 
     @Override
-    public Optional<Hackathon> getHackathonById(String id) {
-        return hackathonRepository.findById(id);
+    public Optional<HackathonDto> getHackathonById(String id) {
+        return hackathonRepository.findDetailById(id)
+                .map(h -> withTags(List.of(h)).get(0));
     }
 
     @Override
-    public List<Hackathon> getAllHackathons() {
-        return hackathonRepository.findAll();
+    public List<HackathonDto> getAllHackathons() {
+        return withTags(hackathonRepository.findAllSummaries());
     }
 
     @Override
     public org.springframework.data.domain.Page<Hackathon> getHackathons(String search, String country, String mode, String status, List<String> tags, org.springframework.data.domain.Pageable pageable) {
-        return hackathonRepository.findAll((root, query, cb) -> {
+        org.springframework.data.domain.Page<Hackathon> page = hackathonRepository.findAll((root, query, cb) -> {
             java.util.List<jakarta.persistence.criteria.Predicate> predicates = new java.util.ArrayList<>();
             if (search != null && !search.isEmpty()) {
                 String likeSearch = "%" + search.toLowerCase() + "%";
@@ -78,32 +86,45 @@ public class HackathonServiceImpl implements HackathonService {
             }
             return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
         }, pageable);
+        // The tags are serialized with each row; load them for the whole page instead of one query per hackathon
+        if (page.hasContent()) {
+            hackathonRepository.fetchTags(page.getContent().stream().map(Hackathon::getId).toList());
+        }
+        return page;
     }
 
     @Override
-    public List<Hackathon> getHackathonsByStudent(String userId) {
-        return teamMemberRepository.findByUserId(userId).stream()
-                .map(tm -> tm.getTeam().getHackathon())
-                .distinct()
-                .collect(java.util.stream.Collectors.toList());
+    public List<HackathonDto> getHackathonsByStudent(String userId) {
+        return withTags(hackathonRepository.findSummariesByMemberId(userId));
     }
 
     @Override
-    public List<Hackathon> getHackathonsByOrganizer(String organizerId) {
-        return hackathonRepository.findByOrganizer_Id(organizerId);
+    public List<HackathonDto> getHackathonsByOrganizer(String organizerId) {
+        return withTags(hackathonRepository.findSummariesByOrganizerId(organizerId));
     }
 
     @Override
-    public List<Hackathon> getRegisteredHackathons(String userId) {
+    public List<HackathonDto> getRegisteredHackathons(String userId) {
         return getHackathonsByStudent(userId).stream()
-                .filter(h -> !h.getStatus().equalsIgnoreCase("COMPLETED"))
+                .filter(h -> !"COMPLETED".equalsIgnoreCase(h.hackathon().getStatus()))
                 .collect(java.util.stream.Collectors.toList());
     }
 
     @Override
-    public List<Hackathon> getCompletedHackathons(String userId) {
+    public List<HackathonDto> getCompletedHackathons(String userId) {
         return getHackathonsByStudent(userId).stream()
-                .filter(h -> h.getStatus().equalsIgnoreCase("COMPLETED"))
+                .filter(h -> "COMPLETED".equalsIgnoreCase(h.hackathon().getStatus()))
+                .collect(java.util.stream.Collectors.toList());
+    }
+
+    // Tags are an element collection, so they come from one extra query for the whole list
+    private List<HackathonDto> withTags(List<? extends HackathonRepository.HackathonSummaryView> hackathons) {
+        if (hackathons.isEmpty()) return List.of();
+        java.util.Map<String, List<String>> tags = new java.util.HashMap<>();
+        hackathonRepository.findTagsByHackathonIds(hackathons.stream().map(HackathonRepository.HackathonSummaryView::getId).toList())
+                .forEach(t -> tags.computeIfAbsent(t.getHackathonId(), id -> new java.util.ArrayList<>()).add(t.getTag()));
+        return hackathons.stream()
+                .map(h -> new HackathonDto(h, tags.getOrDefault(h.getId(), List.of())))
                 .collect(java.util.stream.Collectors.toList());
     }
 
@@ -131,7 +152,7 @@ public class HackathonServiceImpl implements HackathonService {
         team.setName(teamName);
         team.setHackathon(hackathon);
         team.setLeader(leader);
-        team.setJoinCode(UUID.randomUUID().toString().substring(0, 8).toUpperCase());
+        team.setJoinCode(joinCodeGenerator.generate(hackathonId));
         team.setCreatedAt(LocalDateTime.now());
         team.setUpdatedAt(LocalDateTime.now());
 
@@ -142,6 +163,7 @@ public class HackathonServiceImpl implements HackathonService {
         member.setUser(leader);
         member.setRole("LEADER");
         teamMemberRepository.save(member);
+        teamMatchmakingService.markMatched(hackathonId, leaderId);
 
         activityService.logActivity(leaderId, "TEAM_CREATED",
                 "Created team " + teamName + " for hackathon " + hackathon.getTitle(), savedTeam.getId(), teamName);
@@ -151,25 +173,24 @@ public class HackathonServiceImpl implements HackathonService {
 
     @Override
     public Team joinTeam(String hackathonId, String userId, String joinCode) {
-        Team team = teamRepository.findAll().stream()
-                .filter(t -> t.getHackathon().getId().equals(hackathonId) && t.getJoinCode().equals(joinCode))
-                .findFirst()
+        String normalizedCode = joinCode == null ? null : joinCode.trim().toUpperCase();
+        Team team = teamRepository.findByHackathonIdAndJoinCode(hackathonId, normalizedCode)
                 .orElseThrow(() -> new RuntimeException("Invalid join code or team not found for this hackathon"));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         // Check if already in a team for this hackathon
-        Optional<Team> existing = getTeamByUser(hackathonId, userId);
-        if (existing.isPresent()) {
+        if (teamMemberRepository.existsByUserIdAndTeam_HackathonId(userId, hackathonId)) {
             throw new RuntimeException("User is already in a team for this hackathon");
         }
 
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
         TeamMember member = new TeamMember();
         member.setTeam(team);
         member.setUser(user);
         member.setRole("MEMBER");
         teamMemberRepository.save(member);
+        teamMatchmakingService.markMatched(hackathonId, userId);
 
         notificationService.createNotification(team.getLeader().getId(), "New Team Member",
                 user.getName() + " joined your team " + team.getName(), "TEAM_MEMBER_JOINED", "HACKATHON");
@@ -195,11 +216,8 @@ public class HackathonServiceImpl implements HackathonService {
 
     @Override
     public Optional<Team> getTeamByUser(String hackathonId, String userId) {
-        List<TeamMember> memberships = teamMemberRepository.findByUserId(userId);
-        return memberships.stream()
-                .map(TeamMember::getTeam)
-                .filter(t -> t.getHackathon().getId().equals(hackathonId))
-                .findFirst();
+        return teamMemberRepository.findFirstByUserIdAndTeam_HackathonId(userId, hackathonId)
+                .map(TeamMember::getTeam);
     }
 
     @Override
@@ -207,10 +225,9 @@ public class HackathonServiceImpl implements HackathonService {
         Hackathon hackathon = hackathonRepository.findById(hackathonId)
                 .orElseThrow(() -> new RuntimeException("Hackathon not found"));
 
-        results.forEach(res -> {
-            res.setHackathon(hackathon);
-            hackathonResultRepository.save(res);
-        });
+        // One transaction for all results, so the prod profile sends them as one JDBC batch
+        results.forEach(res -> res.setHackathon(hackathon));
+        hackathonResultRepository.saveAll(results);
 
         hackathon.setResultsPublished(true);
         hackathon.setStatus("COMPLETED");
@@ -274,8 +291,7 @@ public class HackathonServiceImpl implements HackathonService {
         for (Hackathon h : hackathons) {
             if (count >= 3) break;
             
-            Optional<Team> existing = getTeamByUser(h.getId(), userId);
-            if (existing.isEmpty() && !"COMPLETED".equalsIgnoreCase(h.getStatus())) {
+            if (!teamMemberRepository.existsByUserIdAndTeam_HackathonId(userId, h.getId()) && !"COMPLETED".equalsIgnoreCase(h.getStatus())) {
                 try {
                     createTeam(h.getId(), user.getName() + "'s Team for " + h.getTitle(), userId);
                     count++;
@@ -5,12 +5,10 @@ import com.eventmanager.model.ScoreLock;
 import com.eventmanager.model.Submission;
 import com.eventmanager.repository.JudgeScoreRepository;
 import com.eventmanager.repository.ScoreLockRepository;
-import com.eventmanager.repository.SubmissionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class LeaderboardService {
@@ -21,9 +19,6 @@ public class LeaderboardService {
     @Autowired
     private ScoreLockRepository scoreLockRepository;
 
-    @Autowired
-    private SubmissionRepository submissionRepository;
-
     public List<Map<String, Object>> getLeaderboard(String eventId) {
         // 1. Check if scores are locked (approved by HOD)
         // Only show leaderboard if locked? Or allow preview?
@@ -42,24 +37,20 @@ public class LeaderboardService {
             return new ArrayList<>();
         }
 
-        // 2. Fetch all scores for the event
-        List<Submission> submissions = submissionRepository.findAll().stream()
-                .filter(s -> s.getEvent().getId().equals(eventId))
-                .collect(Collectors.toList());
-
-        List<Map<String, Object>> leaderboard = new ArrayList<>();
-
-        for (Submission submission : submissions) {
-            List<JudgeScore> scores = judgeScoreRepository.findBySubmission_Id(submission.getId());
-
+        // 2. Fetch all scores for the event, with their submissions and teams, in one query
+        // (keyed by id: Submission's equals and hashCode cover its lazy associations)
+        Map<String, List<JudgeScore>> scoresBySubmission = new LinkedHashMap<>();
+        for (JudgeScore score : judgeScoreRepository.findBySubmission_Event_Id(eventId)) {
             // Filter only SUBMITTED scores
-            List<JudgeScore> finalScores = scores.stream()
-                    .filter(s -> !s.getIsDraft())
-                    .collect(Collectors.toList());
+            if (!score.getIsDraft()) {
+                scoresBySubmission.computeIfAbsent(score.getSubmission().getId(), id -> new ArrayList<>()).add(score);
+            }
+        }
 
-            if (finalScores.isEmpty())
-                continue;
+        List<Map<String, Object>> leaderboard = new ArrayList<>();
 
+        for (List<JudgeScore> finalScores : scoresBySubmission.values()) {
+            Submission submission = finalScores.get(0).getSubmission();
             double averageScore = finalScores.stream()
                     .mapToDouble(JudgeScore::getTotalScore)
                     .average()
@@ -75,14 +66,15 @@ public class LeaderboardService {
             leaderboard.add(entry);
         }
 
-        // 3. Sort by Score Descending
-        leaderboard.sort((a, b) -> Double.compare((Double) b.get("score"), (Double) a.get("score")));
+        sortAndRank(leaderboard);
+        return leaderboard;
+    }
 
-        // 4. Assign Ranks
+    /** Sort entries by score, highest first, and number them from 1. */
+    static void sortAndRank(List<Map<String, Object>> leaderboard) {
+        leaderboard.sort((a, b) -> Double.compare((Double) b.get("score"), (Double) a.get("score")));
         for (int i = 0; i < leaderboard.size(); i++) {
             leaderboard.get(i).put("rank", i + 1);
         }
-
-        return leaderboard;
     }
 }
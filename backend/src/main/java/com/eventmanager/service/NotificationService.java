@@ -6,6 +6,8 @@ import java.util.List;
 public interface NotificationService {
     Notification createNotification(String userId, String title, String message, String type, String category);
 
+    void createNotifications(List<String> userIds, String title, String message, String type, String category);
+
     List<Notification> getUserNotifications(String userId);
 
     void markAsRead(String notificationId);
@@ -4,13 +4,24 @@ import com.eventmanager.model.Notification;
 import com.eventmanager.model.User;
 import com.eventmanager.repository.NotificationRepository;
 import com.eventmanager.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final Timer FANOUT_TIMER = Timer.builder("notification.fanout")
+            .description("Creating one notification for many users")
+            .register(Metrics.globalRegistry);
+    private static final DistributionSummary FANOUT_RECIPIENTS = DistributionSummary.builder("notification.recipients")
+            .description("Users per notification fan-out")
+            .register(Metrics.globalRegistry);
+
     @Autowired
     private NotificationRepository notificationRepository;
 
@@ -31,6 +42,28 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository.save(notification);
     }
 
+    /**
+     * Fan the same notification out to many users in one saveAll, using user references
+     * instead of loading each user.
+     */
+    @Override
+    public void createNotifications(List<String> userIds, String title, String message, String type, String category) {
+        Timer.Sample sample = Timer.start();
+        List<Notification> notifications = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            Notification notification = new Notification();
+            notification.setUser(userRepository.getReferenceById(userId));
+            notification.setTitle(title);
+            notification.setMessage(message);
+            notification.setType(type);
+            notification.setCategory(category);
+            notifications.add(notification);
+        }
+        notificationRepository.saveAll(notifications);
+        sample.stop(FANOUT_TIMER);
+        FANOUT_RECIPIENTS.record(userIds.size());
+    }
+
     @Override
     public List<Notification> getUserNotifications(String userId) {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
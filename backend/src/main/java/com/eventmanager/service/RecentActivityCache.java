@@ -0,0 +1,110 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.ActivityDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * The last {@link #CAPACITY} activities of recently active users, newest first.
+ *
+ * Each user gets a fixed-size ring that new activities overwrite. A ring starts incomplete: it
+ * only holds what was logged since it was created. The first read loads the newest rows from the
+ * database, merges in anything logged meanwhile (rows may still be in the write-behind queue) and
+ * marks it complete; after that reads never touch the database. Users are evicted least recently
+ * used beyond {@code activities.recent.max-users}.
+ */
+@Component
+public class RecentActivityCache {
+
+    public static final int CAPACITY = 10;
+
+    private final Map<String, Ring> rings;
+
+    public RecentActivityCache(@Value("${activities.recent.max-users:5000}") int maxUsers) {
+        this.rings = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Ring> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    /** Guarded by a lock; the database loader runs outside it and its rows are merged in afterwards. */
+    private static final class Ring {
+        private final ActivityDto[] slots = new ActivityDto[CAPACITY];
+        private final ReentrantLock lock = new ReentrantLock();
+        private int next;
+        private int size;
+        private boolean complete;
+
+        void push(ActivityDto activity) {
+            lock.lock();
+            try {
+                slots[next] = activity;
+                next = (next + 1) % CAPACITY;
+                size = Math.min(size + 1, CAPACITY);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<ActivityDto> newestFirst() {
+            lock.lock();
+            try {
+                List<ActivityDto> result = new ArrayList<>(size);
+                for (int i = 1; i <= size; i++) {
+                    result.add(slots[(next - i + CAPACITY) % CAPACITY]);
+                }
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<ActivityDto> completeWith(Supplier<List<ActivityDto>> loader) {
+            lock.lock();
+            try {
+                if (complete) return newestFirst();
+            } finally {
+                lock.unlock();
+            }
+            // Load without the lock so pushes and other readers are not held up by the query
+            List<ActivityDto> loaded = loader.get();
+            lock.lock();
+            try {
+                if (!complete) {
+                    Map<String, ActivityDto> merged = new HashMap<>();
+                    loaded.forEach(a -> merged.put(a.getId(), a));
+                    newestFirst().forEach(a -> merged.put(a.getId(), a));
+                    List<ActivityDto> ordered = new ArrayList<>(merged.values());
+                    ordered.sort(Comparator.comparing(ActivityDto::getTimestamp).thenComparing(ActivityDto::getId));
+                    Arrays.fill(slots, null);
+                    next = 0;
+                    size = 0;
+                    ordered.subList(Math.max(0, ordered.size() - CAPACITY), ordered.size()).forEach(this::push);
+                    complete = true;
+                }
+                return newestFirst();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public void record(ActivityDto activity) {
+        rings.computeIfAbsent(activity.getUserId(), id -> new Ring()).push(activity);
+    }
+
+    /**
+     * @param loader the user's newest {@link #CAPACITY} activities from the database, called until the
+     *               user's ring is complete; concurrent first reads may each call it, and only the
+     *               first result to finish is merged
+     */
+    public List<ActivityDto> getRecent(String userId, Supplier<List<ActivityDto>> loader) {
+        return rings.computeIfAbsent(userId, id -> new Ring()).completeWith(loader);
+    }
+}
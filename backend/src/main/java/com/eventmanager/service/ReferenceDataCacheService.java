@@ -0,0 +1,81 @@
+package com.eventmanager.service;
+
+import com.eventmanager.model.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Hit metrics and manual eviction for the second-level cache regions holding reference data.
+ *
+ * Writes through JPA keep the regions and cached queries consistent on their own: entity regions
+ * are read-write and Hibernate invalidates cached query results whenever one of their tables is
+ * written. {@link #evictAll()} is for changes made around JPA, such as SQL run against the
+ * database directly.
+ */
+@Service
+public class ReferenceDataCacheService {
+
+    /** Cache region of each cached entity, as declared on the entity's {@code @Cache}. */
+    static final Map<String, Class<?>> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put("reference.colleges", College.class);
+        REGIONS.put("reference.departments", Department.class);
+        REGIONS.put("reference.badges", Badge.class);
+        REGIONS.put("reference.faqs", SupportFAQ.class);
+        REGIONS.put("reference.rubrics", ScoreRubric.class);
+    }
+
+    private final SessionFactory sessionFactory;
+
+    public ReferenceDataCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public Map<String, Object> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        List<Map<String, Object>> regions = new ArrayList<>();
+        REGIONS.keySet().forEach(name -> {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(name);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("region", name);
+            entry.put("hits", region.getHitCount());
+            entry.put("misses", region.getMissCount());
+            entry.put("puts", region.getPutCount());
+            entry.put("hitRatio", ratio(region.getHitCount(), region.getMissCount()));
+            regions.add(entry);
+        });
+        result.put("regions", regions);
+
+        Map<String, Object> queries = new LinkedHashMap<>();
+        queries.put("hits", statistics.getQueryCacheHitCount());
+        queries.put("misses", statistics.getQueryCacheMissCount());
+        queries.put("puts", statistics.getQueryCachePutCount());
+        queries.put("hitRatio", ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()));
+        result.put("queryCache", queries);
+
+        result.put("secondLevelHits", statistics.getSecondLevelCacheHitCount());
+        result.put("secondLevelMisses", statistics.getSecondLevelCacheMissCount());
+        result.put("statementsPrepared", statistics.getPrepareStatementCount());
+        result.put("statisticsSince", statistics.getStart());
+        return result;
+    }
+
+    public void evictAll() {
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        REGIONS.values().forEach(cache::evictEntityData);
+        cache.evictDefaultQueryRegion();
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+}
@@ -0,0 +1,469 @@
+package com.eventmanager.service;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Append-only record log kept as one memory-mapped segment file per day ({@code yyyy-MM-dd.seg}).
+ *
+ * A record is {@code [int length][long key][long timestamp][entity type][user id][payload]}. A
+ * record always goes to the segment of its own timestamp's day, so a late one (a spill replay, a
+ * backfill) is still found by its real time. The key is the timestamp clamped so it never goes
+ * backwards within the segment, which keeps every segment sorted by key even when records arrive
+ * out of order; the largest clamp seen in a segment ({@code maxSkew}) bounds how far past a
+ * range's end a scan has to look. Appends for the newest day and for one older day can be open at
+ * a time, so a backfill running next to live appends does not reopen segments per record. Per segment the
+ * store keeps a sparse index (every {@value #INDEX_INTERVAL}th key and its offset) and, per entity
+ * type, the offsets of that type's records. Range queries binary search the sparse index and read
+ * sequentially from there; entity type queries binary search the type's postings. A sealed
+ * segment's index is saved next to it ({@code .idx}); the segment being appended to is re-scanned
+ * on startup.
+ *
+ * Appends are serialized on the store; reads never block appends. The class holds no Spring state.
+ */
+public class SegmentedLogStore implements Closeable {
+
+    static final int INDEX_INTERVAL = 64;
+    private static final int INITIAL_CAPACITY = 4 << 20;
+    private static final int INDEX_MAGIC = 0x4C4F4732;
+
+    /** One stored record as read back. */
+    public record Entry(long timestamp, String entityType, String userId, byte[] payload) {
+    }
+
+    /** A page of payloads, newest first, plus the number of records matching in total. */
+    public record Slice(List<byte[]> payloads, long total) {
+    }
+
+    private final Path dir;
+    private final ZoneId zone;
+    private final ConcurrentSkipListMap<LocalDate, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+    private Segment late;
+
+    public SegmentedLogStore(Path dir, ZoneId zone) throws IOException {
+        this.dir = dir;
+        this.zone = zone;
+        Files.createDirectories(dir);
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(f -> f.getFileName().toString())
+                    .filter(name -> name.endsWith(".seg"))
+                    .forEach(name -> {
+                        LocalDate day = LocalDate.parse(name.substring(0, name.length() - 4));
+                        segments.put(day, new Segment(day));
+                    });
+        }
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /** Timestamp of the oldest record, or {@link Long#MAX_VALUE} if there is none. */
+    public long firstTimestamp() {
+        for (Segment segment : segments.values()) {
+            segment.load();
+            if (segment.count > 0) return segment.minTimestamp;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public synchronized void append(Entry entry) throws IOException {
+        Segment segment = openFor(Instant.ofEpochMilli(entry.timestamp()).atZone(zone).toLocalDate());
+        segment.append(Math.max(entry.timestamp(), segment.lastKey), entry);
+    }
+
+    /** The day's segment, opened in the active slot if it is the newest day, else in the late slot. */
+    private Segment openFor(LocalDate day) throws IOException {
+        if (active != null && active.day.equals(day)) return active;
+        if (late != null && late.day.equals(day)) return late;
+        LocalDate newest = active != null ? active.day : segments.isEmpty() ? null : segments.lastKey();
+        // Opened before it is published, so readers never see a segment without a file
+        Segment segment = segments.get(day);
+        if (segment == null) {
+            segment = new Segment(day);
+            segment.openForAppend();
+            segments.put(day, segment);
+        } else {
+            segment.openForAppend();
+        }
+        if (newest == null || !day.isBefore(newest)) {
+            if (active != null) active.seal();
+            active = segment;
+        } else {
+            if (late != null) late.seal();
+            late = segment;
+        }
+        return segment;
+    }
+
+    /**
+     * Records with a timestamp in [from, to] (epoch millis, inclusive), optionally of one entity type
+     * and/or user, newest first, skipping {@code offset} and returning at most {@code limit}.
+     */
+    public Slice query(long from, long to, String entityType, String userId, int offset, int limit) {
+        List<byte[]> payloads = new ArrayList<>(Math.min(limit, 256));
+        long total = 0;
+        for (Segment segment : segmentsFor(from, to).descendingMap().values()) {
+            segment.load();
+            int count = segment.count(from, to, entityType, userId);
+            if (count > 0 && total + count > offset && payloads.size() < limit) {
+                IntList matches = segment.matches(from, to, entityType, userId);
+                for (int i = matches.size - 1; i >= 0 && payloads.size() < limit; i--) {
+                    if (total + (matches.size - 1 - i) >= offset) {
+                        payloads.add(segment.read(matches.values[i]).payload());
+                    }
+                }
+            }
+            total += count;
+        }
+        return new Slice(payloads, total);
+    }
+
+    /** Write the payloads of records in [from, to], oldest first, one per line. */
+    public long export(long from, long to, OutputStream out) throws IOException {
+        long written = 0;
+        for (Segment segment : segmentsFor(from, to).values()) {
+            segment.load();
+            IntList matches = segment.matches(from, to, null, null);
+            for (int i = 0; i < matches.size; i++) {
+                out.write(segment.read(matches.values[i]).payload());
+                out.write('\n');
+            }
+            written += matches.size;
+        }
+        return written;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (active != null) {
+            active.seal();
+            active = null;
+        }
+        if (late != null) {
+            late.seal();
+            late = null;
+        }
+    }
+
+    /** Days that can hold [from, to]. */
+    private NavigableMap<LocalDate, Segment> segmentsFor(long from, long to) {
+        LocalDate first = Instant.ofEpochMilli(from).atZone(zone).toLocalDate();
+        LocalDate last = Instant.ofEpochMilli(to).atZone(zone).toLocalDate();
+        return segments.subMap(first, true, last, true);
+    }
+
+    private final class Segment {
+        final LocalDate day;
+        final Path file;
+        final Path indexFile;
+
+        private volatile ByteBuffer buffer;
+        private volatile int size;
+        private FileChannel channel;
+        private boolean loaded;
+
+        private int count;
+        private long lastKey = Long.MIN_VALUE;
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxSkew;
+        private final IntList sparseOffsets = new IntList();
+        private long[] sparseKeys = new long[16];
+        private final Map<String, IntList> postings = new HashMap<>();
+
+        Segment(LocalDate day) {
+            this.day = day;
+            this.file = dir.resolve(day + ".seg");
+            this.indexFile = dir.resolve(day + ".idx");
+        }
+
+        /** Map a sealed segment read-only and load (or rebuild) its index. */
+        synchronized void load() {
+            if (loaded) return;
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot map log segment " + file, e);
+            }
+            if (!readIndex()) {
+                scan();
+                writeIndex();
+            }
+            loaded = true;
+        }
+
+        synchronized void openForAppend() throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(INITIAL_CAPACITY, channel.size()));
+            if (!loaded) {
+                scan();
+                loaded = true;
+            }
+            Files.deleteIfExists(indexFile);
+        }
+
+        synchronized void seal() throws IOException {
+            if (channel == null) return;
+            ((MappedByteBuffer) buffer).force();
+            channel.close();
+            channel = null;
+            writeIndex();
+        }
+
+        synchronized void append(long key, Entry entry) throws IOException {
+            byte[] type = bytes(entry.entityType());
+            byte[] user = bytes(entry.userId());
+            int length = 8 + 8 + 2 + len(type) + 2 + len(user) + 4 + entry.payload().length;
+            if (size + 4 + length + 4 > buffer.capacity()) {
+                long capacity = buffer.capacity();
+                while (size + 4 + length + 4 > capacity) capacity *= 2;
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+            ByteBuffer out = buffer.duplicate();
+            out.position(size);
+            out.putInt(length).putLong(key).putLong(entry.timestamp());
+            putString(out, type);
+            putString(out, user);
+            out.putInt(entry.payload().length).put(entry.payload());
+            index(size, key, entry.timestamp(), entry.entityType());
+            size = out.position();
+        }
+
+        Entry read(int offset) {
+            ByteBuffer in = buffer.duplicate();
+            in.position(offset + 4 + 8);
+            long timestamp = in.getLong();
+            String type = getString(in);
+            String user = getString(in);
+            byte[] payload = new byte[in.getInt()];
+            in.get(payload);
+            return new Entry(timestamp, type, user, payload);
+        }
+
+        /** Matching records; answered from the index alone when the range covers the whole segment. */
+        int count(long from, long to, String entityType, String userId) {
+            synchronized (this) {
+                if (userId == null && count > 0 && from <= minTimestamp && to >= lastKey) {
+                    if (entityType == null) return count;
+                    IntList offsets = postings.get(entityType);
+                    return offsets == null ? 0 : offsets.size;
+                }
+            }
+            return matches(from, to, entityType, userId).size;
+        }
+
+        /** Offsets of matching records in key order. */
+        IntList matches(long from, long to, String entityType, String userId) {
+            IntList result = new IntList();
+            long end = to > Long.MAX_VALUE - maxSkew ? Long.MAX_VALUE : to + maxSkew;
+            int limit = size;
+            if (entityType != null) {
+                IntList offsets;
+                synchronized (this) {
+                    IntList all = postings.get(entityType);
+                    if (all == null) return result;
+                    offsets = all.copy();
+                }
+                for (int i = firstAtOrAfter(offsets, from); i < offsets.size; i++) {
+                    int offset = offsets.values[i];
+                    if (keyAt(offset) > end) break;
+                    if (accept(offset, from, to, userId)) result.add(offset);
+                }
+                return result;
+            }
+            ByteBuffer in = buffer.duplicate();
+            int offset = startOffset(from);
+            while (offset < limit) {
+                int length = in.getInt(offset);
+                long key = in.getLong(offset + 4);
+                if (key > end) break;
+                if (key >= from && accept(offset, from, to, userId)) result.add(offset);
+                offset += 4 + length;
+            }
+            return result;
+        }
+
+        private boolean accept(int offset, long from, long to, String userId) {
+            ByteBuffer in = buffer.duplicate();
+            long timestamp = in.getLong(offset + 12);
+            if (timestamp < from || timestamp > to) return false;
+            if (userId == null) return true;
+            in.position(offset + 20);
+            short typeLength = in.getShort();
+            in.position(in.position() + Math.max(0, typeLength));
+            return userId.equals(getString(in));
+        }
+
+        private long keyAt(int offset) {
+            return buffer.getLong(offset + 4);
+        }
+
+        /** Offset of the last sparse entry with a key below {@code from}, or 0. */
+        private synchronized int startOffset(long from) {
+            int lo = 0, hi = sparseOffsets.size - 1, found = 0;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sparseKeys[mid] < from) {
+                    found = sparseOffsets.values[mid];
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        private int firstAtOrAfter(IntList offsets, long from) {
+            int lo = 0, hi = offsets.size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keyAt(offsets.values[mid]) < from) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        private void index(int offset, long key, long timestamp, String entityType) {
+            if (count % INDEX_INTERVAL == 0) {
+                if (sparseOffsets.size == sparseKeys.length) sparseKeys = Arrays.copyOf(sparseKeys, sparseKeys.length * 2);
+                sparseKeys[sparseOffsets.size] = key;
+                sparseOffsets.add(offset);
+            }
+            if (entityType != null) postings.computeIfAbsent(entityType, t -> new IntList()).add(offset);
+            maxSkew = Math.max(maxSkew, key - timestamp);
+            minTimestamp = Math.min(minTimestamp, timestamp);
+            lastKey = key;
+            count++;
+        }
+
+        /** Rebuild the index by reading records until the zero-filled tail. */
+        private void scan() {
+            ByteBuffer in = buffer.duplicate();
+            int offset = 0;
+            while (offset + 4 <= in.capacity()) {
+                int length = in.getInt(offset);
+                if (length <= 0 || offset + 4 + length > in.capacity()) break;
+                Entry entry = read(offset);
+                index(offset, in.getLong(offset + 4), entry.timestamp(), entry.entityType());
+                offset += 4 + length;
+            }
+            size = offset;
+        }
+
+        private boolean readIndex() {
+            if (!Files.exists(indexFile)) return false;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                if (in.readInt() != INDEX_MAGIC) return false;
+                size = in.readInt();
+                count = in.readInt();
+                lastKey = in.readLong();
+                minTimestamp = in.readLong();
+                maxSkew = in.readLong();
+                int sparse = in.readInt();
+                sparseKeys = new long[Math.max(16, sparse)];
+                for (int i = 0; i < sparse; i++) {
+                    sparseKeys[i] = in.readLong();
+                    sparseOffsets.add(in.readInt());
+                }
+                int types = in.readInt();
+                for (int t = 0; t < types; t++) {
+                    IntList offsets = new IntList();
+                    postings.put(in.readUTF(), offsets);
+                    int n = in.readInt();
+                    for (int i = 0; i < n; i++) offsets.add(in.readInt());
+                }
+                return true;
+            } catch (IOException e) {
+                sparseOffsets.size = 0;
+                postings.clear();
+                count = 0;
+                lastKey = Long.MIN_VALUE;
+                minTimestamp = Long.MAX_VALUE;
+                maxSkew = 0;
+                return false;
+            }
+        }
+
+        private void writeIndex() {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(size);
+                out.writeInt(count);
+                out.writeLong(lastKey);
+                out.writeLong(minTimestamp);
+                out.writeLong(maxSkew);
+                out.writeInt(sparseOffsets.size);
+                for (int i = 0; i < sparseOffsets.size; i++) {
+                    out.writeLong(sparseKeys[i]);
+                    out.writeInt(sparseOffsets.values[i]);
+                }
+                out.writeInt(postings.size());
+                for (Map.Entry<String, IntList> entry : postings.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().size);
+                    for (int i = 0; i < entry.getValue().size; i++) out.writeInt(entry.getValue().values[i]);
+                }
+            } catch (IOException e) {
+                // The index is rebuilt from the segment on the next load
+                try {
+                    Files.deleteIfExists(indexFile);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int len(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void putString(ByteBuffer out, byte[] value) {
+        if (value == null) {
+            out.putShort((short) -1);
+        } else {
+            out.putShort((short) value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer in) {
+        short length = in.getShort();
+        if (length < 0) return null;
+        byte[] value = new byte[length];
+        in.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class IntList {
+        int[] values = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        IntList copy() {
+            IntList copy = new IntList();
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.eventmanager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request SQL attribution. A sampled share of HTTP requests and STOMP messages runs with a
+ * {@link SqlProfile}; at the end the profile is added to its operation's totals (keyed on the route or
+ * destination pattern), and logged at WARN when it ran more statements, spent more time in SQL, or
+ * repeated one statement more often than the thresholds allow. A statement repeated once per row is
+ * the usual sign of an N+1.
+ *
+ * Unsampled work gets plain connections from the pool, so its only cost is the sampling decision.
+ */
+@Service
+public class SqlDiagnosticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlDiagnosticsService.class);
+
+    private static final int MAX_OPERATIONS = 1000;
+    private static final int MAX_FINGERPRINTS_PER_OPERATION = 50;
+    private static final int SQL_PREVIEW_LENGTH = 120;
+    private static final String OTHER_OPERATIONS = "(other)";
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final int maxStatements;
+    private final long maxSqlMillis;
+    private final int maxRepeats;
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    public SqlDiagnosticsService(@Value("${sql.diagnostics.enabled:true}") boolean enabled,
+                                 @Value("${sql.diagnostics.sample-rate:1.0}") double sampleRate,
+                                 @Value("${sql.diagnostics.max-statements:50}") int maxStatements,
+                                 @Value("${sql.diagnostics.max-sql-ms:500}") long maxSqlMillis,
+                                 @Value("${sql.diagnostics.max-repeats:20}") int maxRepeats) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.maxStatements = maxStatements;
+        this.maxSqlMillis = maxSqlMillis;
+        this.maxRepeats = maxRepeats;
+    }
+
+    /**
+     * Starts a profile on the current thread if diagnostics are on and this unit of work is sampled.
+     * Returns whether it did; only then must the caller call {@link #end(String)}.
+     */
+    public boolean begin() {
+        if (!enabled || SqlProfile.current() != null) {
+            return false;
+        }
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        SqlProfile.set(new SqlProfile());
+        return true;
+    }
+
+    /** Ends the current thread's profile and attributes it to {@code operation}. */
+    public void end(String operation) {
+        SqlProfile profile = SqlProfile.current();
+        SqlProfile.set(null);
+        if (profile == null) {
+            return;
+        }
+        Map.Entry<String, SqlProfile.Executions> mostRepeated = profile.byFingerprint().entrySet().stream()
+                .max(Comparator.comparingInt(entry -> entry.getValue().count))
+                .orElse(null);
+        int repeats = mostRepeated != null ? mostRepeated.getValue().count : 0;
+        boolean flagged = profile.statements() > maxStatements
+                || TimeUnit.NANOSECONDS.toMillis(profile.sqlNanos()) > maxSqlMillis
+                || repeats > maxRepeats;
+
+        String key = operations.size() >= MAX_OPERATIONS && !operations.containsKey(operation)
+                ? OTHER_OPERATIONS : operation;
+        operations.computeIfAbsent(key, k -> new OperationStats()).add(profile, flagged);
+
+        if (flagged) {
+            logger.warn("SQL over threshold in {}: {}", operation, summary(profile));
+        }
+    }
+
+    /**
+     * Operations ranked by {@code sort}: total SQL time ({@code time}, the default), average statements
+     * per request ({@code statements}) or number of requests over a threshold ({@code flagged}).
+     */
+    public Map<String, Object> getTopOffenders(int limit, String sort) {
+        Comparator<Map<String, Object>> order = switch (sort) {
+            case "statements" -> Comparator.comparingDouble(entry -> (double) entry.get("avgStatements"));
+            case "flagged" -> Comparator.comparingLong(entry -> (long) entry.get("flagged"));
+            default -> Comparator.comparingDouble(entry -> (double) entry.get("totalSqlMillis"));
+        };
+        List<Map<String, Object>> offenders = new ArrayList<>();
+        operations.forEach((operation, stats) -> offenders.add(stats.toMap(operation)));
+        offenders.sort(order.reversed());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("sampleRate", sampleRate);
+        result.put("maxStatements", maxStatements);
+        result.put("maxSqlMillis", maxSqlMillis);
+        result.put("maxRepeats", maxRepeats);
+        result.put("operations", offenders.size());
+        result.put("offenders", offenders.subList(0, Math.min(limit, offenders.size())));
+        return result;
+    }
+
+    public void reset() {
+        operations.clear();
+    }
+
+    /** "134 statements, 87 ms SQL of 210 ms; 100x [3fa2c1d0] select ... | 20x [...] ..." */
+    private static String summary(SqlProfile profile) {
+        StringBuilder summary = new StringBuilder()
+                .append(profile.statements()).append(" statements, ")
+                .append(TimeUnit.NANOSECONDS.toMillis(profile.sqlNanos())).append(" ms SQL of ")
+                .append(TimeUnit.NANOSECONDS.toMillis(profile.elapsedNanos())).append(" ms");
+        String separator = "; ";
+        for (Map.Entry<String, SqlProfile.Executions> entry : profile.byFingerprint().entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, SqlProfile.Executions> e) -> e.getValue().count)
+                        .reversed())
+                .limit(3)
+                .toList()) {
+            summary.append(separator).append(entry.getValue().count).append("x [")
+                    .append(SqlProfile.id(entry.getKey())).append("] ").append(preview(entry.getKey()));
+            separator = " | ";
+        }
+        return summary.toString();
+    }
+
+    private static String preview(String fingerprint) {
+        return fingerprint.length() <= SQL_PREVIEW_LENGTH ? fingerprint
+                : fingerprint.substring(0, SQL_PREVIEW_LENGTH) + "...";
+    }
+
+    /** Totals of one operation over all its sampled requests. */
+    private static final class OperationStats {
+
+        private long samples;
+        private long flagged;
+        private long statements;
+        private long sqlNanos;
+        private int maxStatements;
+        private LocalDateTime lastFlagged;
+        private final Map<String, FingerprintStats> fingerprints = new HashMap<>();
+
+        synchronized void add(SqlProfile profile, boolean overThreshold) {
+            samples++;
+            statements += profile.statements();
+            sqlNanos += profile.sqlNanos();
+            maxStatements = Math.max(maxStatements, profile.statements());
+            if (overThreshold) {
+                flagged++;
+                lastFlagged = LocalDateTime.now();
+            }
+            profile.byFingerprint().forEach((fingerprint, executions) -> {
+                FingerprintStats stats = fingerprints.get(fingerprint);
+                if (stats == null) {
+                    if (fingerprints.size() >= MAX_FINGERPRINTS_PER_OPERATION) {
+                        return;
+                    }
+                    stats = new FingerprintStats();
+                    fingerprints.put(fingerprint, stats);
+                }
+                stats.executions += executions.count;
+                stats.nanos += executions.nanos;
+                stats.maxPerRequest = Math.max(stats.maxPerRequest, executions.count);
+            });
+        }
+
+        synchronized Map<String, Object> toMap(String operation) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("operation", operation);
+            entry.put("samples", samples);
+            entry.put("flagged", flagged);
+            entry.put("avgStatements", round((double) statements / samples));
+            entry.put("maxStatements", maxStatements);
+            entry.put("avgSqlMillis", round(sqlNanos / 1e6 / samples));
+            entry.put("totalSqlMillis", round(sqlNanos / 1e6));
+            entry.put("lastFlagged", lastFlagged);
+
+            List<Map<String, Object>> repeated = new ArrayList<>();
+            fingerprints.entrySet().stream()
+                    .sorted(Comparator.comparingInt((Map.Entry<String, FingerprintStats> e) -> e.getValue().maxPerRequest)
+                            .reversed())
+                    .limit(3)
+                    .forEach(fingerprint -> {
+                        FingerprintStats stats = fingerprint.getValue();
+                        Map<String, Object> statement = new LinkedHashMap<>();
+                        statement.put("id", SqlProfile.id(fingerprint.getKey()));
+                        statement.put("sql", preview(fingerprint.getKey()));
+                        statement.put("maxPerRequest", stats.maxPerRequest);
+                        statement.put("executions", stats.executions);
+                        statement.put("avgMillis", round(stats.nanos / 1e6 / stats.executions));
+                        repeated.add(statement);
+                    });
+            entry.put("topStatements", repeated);
+            return entry;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+
+    private static final class FingerprintStats {
+        private long executions;
+        private long nanos;
+        private int maxPerRequest;
+    }
+}
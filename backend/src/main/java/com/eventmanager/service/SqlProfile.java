@@ -0,0 +1,98 @@
+package com.eventmanager.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The SQL run by one sampled unit of work (an HTTP request or a STOMP message): statement count, time
+ * spent executing, and executions per statement fingerprint. It lives in a thread-local between
+ * {@link SqlDiagnosticsService#begin()} and {@link SqlDiagnosticsService#end(String)}; the JDBC wrapper
+ * from {@code SqlDiagnosticsConfig} records into it. Not thread-safe, as it is only used by its own thread.
+ */
+public final class SqlProfile {
+
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int FINGERPRINT_CACHE_SIZE = 5000;
+    private static final Map<String, String> FINGERPRINTS = new ConcurrentHashMap<>();
+
+    /** Executions and nanoseconds of one fingerprint. */
+    static final class Executions {
+        int count;
+        long nanos;
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Executions> byFingerprint = new HashMap<>();
+    private int statements;
+    private long sqlNanos;
+
+    public static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    static void set(SqlProfile profile) {
+        if (profile == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(profile);
+        }
+    }
+
+    public void record(String sql, long nanos) {
+        statements++;
+        sqlNanos += nanos;
+        Executions executions = byFingerprint.computeIfAbsent(fingerprint(sql), key -> new Executions());
+        executions.count++;
+        executions.nanos += nanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    Map<String, Executions> byFingerprint() {
+        return byFingerprint;
+    }
+
+    /**
+     * The statement with literals replaced by {@code ?} and parameter lists of any length collapsed, so
+     * that the same query with different values or a different number of ids counts as one statement.
+     */
+    static String fingerprint(String sql) {
+        if (sql == null) {
+            return "(batch)";
+        }
+        String fingerprint = FINGERPRINTS.get(sql);
+        if (fingerprint == null) {
+            fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+            fingerprint = NUMBER.matcher(fingerprint).replaceAll("?");
+            fingerprint = PARAMETER_LIST.matcher(fingerprint).replaceAll("(?...)");
+            fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+            if (FINGERPRINTS.size() >= FINGERPRINT_CACHE_SIZE) {
+                FINGERPRINTS.clear();
+            }
+            FINGERPRINTS.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /** Short stable id for a fingerprint, used in log lines and the admin endpoint. */
+    static String id(String fingerprint) {
+        return String.format("%08x", fingerprint.hashCode());
+    }
+}
@@ -0,0 +1,178 @@
+package com.eventmanager.service;
+
+import com.eventmanager.listener.StudentStatsListener;
+import com.eventmanager.model.User;
+import com.eventmanager.repository.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-student dashboard numbers: counts, earned badges and six months of participation.
+ *
+ * Everything is computed with count and grouped queries and cached per student. Entries are
+ * invalidated by {@link StudentStatsListener} when one of the student's registrations,
+ * memberships, certificates or badges changes, and by {@link ActivityService} when an activity is
+ * logged; the TTL only bounds the staleness of writes made around JPA. College rank is not cached
+ * because other students' points move it; it comes from {@link CollegeRankingService}.
+ */
+@Service
+public class StudentStatsService {
+
+    static final int TREND_MONTHS = 6;
+    static final int INVALIDATION_STRIPES = 1024;
+
+    private final UserRepository userRepository;
+    private final CertificateRepository certificateRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ClubMembershipRepository clubMembershipRepository;
+    private final UserBadgeRepository userBadgeRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final WebinarRegistrationRepository webinarRegistrationRepository;
+    private final ActivityRepository activityRepository;
+    private final CollegeRankingService collegeRankingService;
+
+    private final Map<String, CachedStats> cache = new ConcurrentHashMap<>();
+    // Bumped before an entry is invalidated; a load only stays published if its stripe did not move
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    @Value("${students.stats.cache-ttl-ms:300000}")
+    private long ttlMs;
+
+    public StudentStatsService(UserRepository userRepository,
+                               CertificateRepository certificateRepository,
+                               TeamMemberRepository teamMemberRepository,
+                               ClubMembershipRepository clubMembershipRepository,
+                               UserBadgeRepository userBadgeRepository,
+                               EventRegistrationRepository eventRegistrationRepository,
+                               WebinarRegistrationRepository webinarRegistrationRepository,
+                               ActivityRepository activityRepository,
+                               CollegeRankingService collegeRankingService) {
+        this.userRepository = userRepository;
+        this.certificateRepository = certificateRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.clubMembershipRepository = clubMembershipRepository;
+        this.userBadgeRepository = userBadgeRepository;
+        this.eventRegistrationRepository = eventRegistrationRepository;
+        this.webinarRegistrationRepository = webinarRegistrationRepository;
+        this.activityRepository = activityRepository;
+        this.collegeRankingService = collegeRankingService;
+    }
+
+    private record CachedStats(Map<String, Object> stats, long expiresAt) {
+    }
+
+    /**
+     * @return a fresh mutable map, empty if the user does not exist
+     */
+    public Map<String, Object> getStats(String userId) {
+        long now = System.currentTimeMillis();
+        CachedStats cached = cache.get(userId);
+        if (cached == null || cached.expiresAt() <= now) {
+            // Load outside the map so the bin lock is not held across queries; an invalidate() that
+            // lands during the load bumps the stripe, and the stale result is withdrawn after publishing
+            int stripe = stripe(userId);
+            long stamp = invalidations.get(stripe);
+            CachedStats loaded = load(userId, now);
+            cache.merge(userId, loaded, (current, fresh) -> current.expiresAt() >= fresh.expiresAt() ? current : fresh);
+            if (invalidations.get(stripe) != stamp) {
+                cache.remove(userId, loaded);
+            }
+            cached = loaded;
+        }
+        Map<String, Object> stats = new HashMap<>(cached.stats());
+        if (!stats.isEmpty()) {
+            Integer rank = collegeRankingService.getRank(userId);
+            String collegeId = collegeRankingService.getCollegeId(userId);
+            stats.put("collegeRank", rank);
+            stats.put("collegeStudents", collegeId != null ? collegeRankingService.getCollegeSize(collegeId) : 0);
+        }
+        return stats;
+    }
+
+    public void invalidate(String userId) {
+        if (userId != null) {
+            invalidations.incrementAndGet(stripe(userId));
+            cache.remove(userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${students.stats.cache-ttl-ms:300000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private static int stripe(String userId) {
+        return (userId.hashCode() & 0x7fffffff) % INVALIDATION_STRIPES;
+    }
+
+    private CachedStats load(String userId, long now) {
+        Map<String, Object> stats = new HashMap<>();
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return new CachedStats(stats, now + ttlMs);
+        }
+        stats.put("totalPoints", user.getPoints() != null ? user.getPoints() : 0);
+        stats.put("certificatesEarned", certificateRepository.countByUserId(userId));
+        stats.put("hackathonsParticipated", teamMemberRepository.countDistinctHackathonsByUserId(userId));
+        stats.put("clubsJoined", clubMembershipRepository.countByUserId(userId));
+
+        List<Map<String, Object>> badges = new ArrayList<>();
+        userBadgeRepository.findEarnedBadgeViews(userId).forEach(b -> {
+            Map<String, Object> badge = new HashMap<>();
+            badge.put("id", b.getId());
+            badge.put("name", b.getName());
+            badge.put("icon", b.getIcon());
+            badge.put("earnedAt", b.getEarnedAt());
+            badges.add(badge);
+        });
+        stats.put("badges", badges);
+        stats.put("participationTrends", participationTrends(userId));
+        return new CachedStats(stats, now + ttlMs);
+    }
+
+    // One grouped query per source over the last TREND_MONTHS calendar months, oldest month first
+    private List<Map<String, Object>> participationTrends(String userId) {
+        YearMonth current = YearMonth.now();
+        YearMonth first = current.minusMonths(TREND_MONTHS - 1);
+        LocalDateTime since = first.atDay(1).atStartOfDay();
+
+        Map<YearMonth, long[]> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < TREND_MONTHS; i++) {
+            buckets.put(first.plusMonths(i), new long[4]);
+        }
+        addMonthly(buckets, 0, eventRegistrationRepository.countMonthlyByUserId(userId, since));
+        addMonthly(buckets, 1, webinarRegistrationRepository.countMonthlyByStudentId(userId, since));
+        addMonthly(buckets, 2, teamMemberRepository.countMonthlyByUserId(userId, since));
+        addMonthly(buckets, 3, activityRepository.countMonthlyByUserId(userId, since));
+
+        List<Map<String, Object>> trends = new ArrayList<>(TREND_MONTHS);
+        buckets.forEach((month, counts) -> {
+            Map<String, Object> monthData = new HashMap<>();
+            monthData.put("month", month.getMonth().toString());
+            monthData.put("year", month.getYear());
+            monthData.put("events", counts[0]);
+            monthData.put("webinars", counts[1]);
+            monthData.put("teams", counts[2]);
+            monthData.put("activities", counts[3]);
+            monthData.put("total", counts[0] + counts[1] + counts[2] + counts[3]);
+            trends.add(monthData);
+        });
+        return trends;
+    }
+
+    private static void addMonthly(Map<YearMonth, long[]> buckets, int index,
+                                   List<EventRegistrationRepository.MonthlyCountView> rows) {
+        for (EventRegistrationRepository.MonthlyCountView row : rows) {
+            long[] counts = buckets.get(YearMonth.of(row.getBucketYear(), row.getBucketMonth()));
+            if (counts != null) counts[index] += row.getTotal();
+        }
+    }
+}
@@ -58,7 +58,7 @@ public class SupportServiceImpl implements SupportService {
 
     @Override
     public List<SupportTicket> getAllTickets() {
-        return ticketRepository.findAll();
+        return ticketRepository.findAllByOrderByCreatedAtDesc();
     }
 
     @Override
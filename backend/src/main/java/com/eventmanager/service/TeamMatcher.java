@@ -0,0 +1,278 @@
+package com.eventmanager.service;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Batch matcher that places solo hackathon participants into teams.
+ *
+ * Skills are interned into a per-run vocabulary and held as bitsets, so scoring a
+ * participant against a team is a handful of popcounts. Each participant keeps only
+ * its best few teams; those candidate edges are then assigned greedily by score while
+ * teams have open slots. Whoever is left over is grouped into new teams by picking
+ * the participant that adds the most uncovered skills.
+ *
+ * The class holds no Spring or JPA state so it can be benchmarked and run off-thread.
+ */
+public class TeamMatcher {
+
+    static final int CANDIDATES_PER_PARTICIPANT = 3;
+    static final int NEW_TEAM_WINDOW = 256;
+
+    private final int candidatesPerParticipant;
+    private final int newTeamWindow;
+
+    public TeamMatcher() {
+        this(CANDIDATES_PER_PARTICIPANT, NEW_TEAM_WINDOW);
+    }
+
+    public TeamMatcher(int candidatesPerParticipant, int newTeamWindow) {
+        this.candidatesPerParticipant = candidatesPerParticipant;
+        this.newTeamWindow = newTeamWindow;
+    }
+
+    public static class Participant {
+        private final String userId;
+        private final String skills;
+
+        public Participant(String userId, String skills) {
+            this.userId = userId;
+            this.skills = skills;
+        }
+
+        public String getUserId() { return userId; }
+        public String getSkills() { return skills; }
+    }
+
+    public static class OpenTeam {
+        private final String teamId;
+        private final String name;
+        private final String requiredSkills;
+        private final List<String> memberSkills;
+        private final int openSlots;
+
+        public OpenTeam(String teamId, String name, String requiredSkills, List<String> memberSkills, int openSlots) {
+            this.teamId = teamId;
+            this.name = name;
+            this.requiredSkills = requiredSkills;
+            this.memberSkills = memberSkills;
+            this.openSlots = openSlots;
+        }
+
+        public String getTeamId() { return teamId; }
+        public String getName() { return name; }
+        public String getRequiredSkills() { return requiredSkills; }
+        public List<String> getMemberSkills() { return memberSkills; }
+        public int getOpenSlots() { return openSlots; }
+    }
+
+    public static class Assignment {
+        private final String teamId; // null when a new team is proposed
+        private final String teamName;
+        private final List<String> userIds;
+        private final double score;
+
+        public Assignment(String teamId, String teamName, List<String> userIds, double score) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+            this.userIds = userIds;
+            this.score = score;
+        }
+
+        public String getTeamId() { return teamId; }
+        public String getTeamName() { return teamName; }
+        public List<String> getUserIds() { return userIds; }
+        public double getScore() { return score; }
+    }
+
+    /**
+     * Propose assignments for one hackathon.
+     *
+     * @param newTeamSize size of teams formed from leftover participants; groups smaller than 2 are not proposed
+     */
+    public List<Assignment> match(List<Participant> participants, List<OpenTeam> teams, int newTeamSize) {
+        Map<String, Integer> vocabulary = new HashMap<>();
+        long[][] participantSkills = new long[participants.size()][];
+        for (int i = 0; i < participants.size(); i++) {
+            participantSkills[i] = encode(participants.get(i).getSkills(), vocabulary);
+        }
+        long[][] required = new long[teams.size()][];
+        long[][] covered = new long[teams.size()][];
+        for (int t = 0; t < teams.size(); t++) {
+            OpenTeam team = teams.get(t);
+            required[t] = encode(team.getRequiredSkills(), vocabulary);
+            long[] union = new long[0];
+            for (String skills : team.getMemberSkills()) {
+                union = or(union, encode(skills, vocabulary));
+            }
+            covered[t] = union;
+        }
+
+        // 1. Top-K teams per participant; scoring is independent per participant
+        int k = Math.max(1, candidatesPerParticipant);
+        long[][] edges = new long[participants.size()][];
+        double[][] edgeScores = new double[participants.size()][];
+        IntStream.range(0, participants.size()).parallel().forEach(p -> {
+            int[] bestTeams = new int[k];
+            double[] bestScores = new double[k];
+            Arrays.fill(bestScores, -1);
+            for (int t = 0; t < teams.size(); t++) {
+                if (teams.get(t).getOpenSlots() <= 0) continue;
+                double s = score(participantSkills[p], required[t], covered[t]);
+                if (s <= bestScores[k - 1]) continue;
+                int pos = k - 1;
+                while (pos > 0 && bestScores[pos - 1] < s) {
+                    bestScores[pos] = bestScores[pos - 1];
+                    bestTeams[pos] = bestTeams[pos - 1];
+                    pos--;
+                }
+                bestScores[pos] = s;
+                bestTeams[pos] = t;
+            }
+            int found = 0;
+            while (found < k && bestScores[found] > 0) found++;
+            long[] e = new long[found];
+            double[] es = new double[found];
+            for (int i = 0; i < found; i++) {
+                e[i] = ((long) p << 32) | bestTeams[i];
+                es[i] = bestScores[i];
+            }
+            edges[p] = e;
+            edgeScores[p] = es;
+        });
+
+        // 2. Greedy assignment over all candidate edges, best score first
+        int edgeCount = 0;
+        for (long[] e : edges) edgeCount += e.length;
+        long[] allEdges = new long[edgeCount];
+        double[] allScores = new double[edgeCount];
+        int idx = 0;
+        for (int p = 0; p < edges.length; p++) {
+            for (int i = 0; i < edges[p].length; i++) {
+                allEdges[idx] = edges[p][i];
+                allScores[idx++] = edgeScores[p][i];
+            }
+        }
+        Integer[] order = new Integer[edgeCount];
+        for (int i = 0; i < edgeCount; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(allScores[b], allScores[a]));
+
+        int[] slots = new int[teams.size()];
+        for (int t = 0; t < teams.size(); t++) slots[t] = teams.get(t).getOpenSlots();
+        boolean[] placed = new boolean[participants.size()];
+        Map<Integer, List<Integer>> teamPicks = new LinkedHashMap<>();
+        Map<Integer, Double> teamScoreSum = new HashMap<>();
+        for (int i : order) {
+            int p = (int) (allEdges[i] >>> 32);
+            int t = (int) allEdges[i];
+            if (placed[p] || slots[t] == 0) continue;
+            placed[p] = true;
+            slots[t]--;
+            teamPicks.computeIfAbsent(t, x -> new ArrayList<>()).add(p);
+            teamScoreSum.merge(t, allScores[i], Double::sum);
+        }
+
+        List<Assignment> result = new ArrayList<>();
+        teamPicks.forEach((t, picks) -> {
+            List<String> userIds = new ArrayList<>(picks.size());
+            picks.forEach(p -> userIds.add(participants.get(p).getUserId()));
+            OpenTeam team = teams.get(t);
+            result.add(new Assignment(team.getTeamId(), team.getName(), userIds, teamScoreSum.get(t) / picks.size()));
+        });
+
+        // 3. Leftovers form new teams, each pick maximizing newly covered skills within a bounded window
+        List<Integer> leftovers = new ArrayList<>();
+        for (int p = 0; p < participants.size(); p++) {
+            if (!placed[p]) leftovers.add(p);
+        }
+        leftovers.sort((a, b) -> Integer.compare(cardinality(participantSkills[b]), cardinality(participantSkills[a])));
+        LinkedList<Integer> remaining = new LinkedList<>(leftovers);
+        int size = Math.max(2, newTeamSize);
+        int groupNumber = 1;
+        while (remaining.size() >= 2) {
+            List<Integer> group = new ArrayList<>(size);
+            group.add(remaining.removeFirst());
+            long[] groupSkills = participantSkills[group.get(0)];
+            int totalSkills = cardinality(groupSkills);
+            while (group.size() < size && !remaining.isEmpty()) {
+                ListIterator<Integer> it = remaining.listIterator();
+                int bestIndex = 0;
+                int bestGain = -1;
+                for (int w = 0; w < newTeamWindow && it.hasNext(); w++) {
+                    int candidate = it.next();
+                    int gain = andNotCount(participantSkills[candidate], groupSkills);
+                    if (gain > bestGain) {
+                        bestGain = gain;
+                        bestIndex = w;
+                    }
+                }
+                int chosen = remaining.remove(bestIndex);
+                group.add(chosen);
+                totalSkills += cardinality(participantSkills[chosen]);
+                groupSkills = or(groupSkills, participantSkills[chosen]);
+            }
+            List<String> userIds = new ArrayList<>(group.size());
+            group.forEach(p -> userIds.add(participants.get(p).getUserId()));
+            double diversity = totalSkills == 0 ? 0 : (double) cardinality(groupSkills) / totalSkills;
+            result.add(new Assignment(null, "Matched Team " + groupNumber++, userIds, diversity));
+        }
+        return result;
+    }
+
+    /**
+     * Score in [0, 1]. With required skills, 70% rewards covering skills the team still lacks
+     * (complementarity) and 30% rewards overall overlap with what the team asked for. Without
+     * required skills only complementarity to current members counts, at half weight.
+     */
+    static double score(long[] participant, long[] required, long[] covered) {
+        int requiredCount = cardinality(required);
+        if (requiredCount > 0) {
+            int overlap = 0;
+            int gain = 0;
+            for (int i = 0; i < Math.min(participant.length, required.length); i++) {
+                long wanted = participant[i] & required[i];
+                overlap += Long.bitCount(wanted);
+                gain += Long.bitCount(i < covered.length ? wanted & ~covered[i] : wanted);
+            }
+            return 0.7 * gain / requiredCount + 0.3 * overlap / requiredCount;
+        }
+        int own = cardinality(participant);
+        if (own == 0) return 0;
+        return 0.5 * andNotCount(participant, covered) / own;
+    }
+
+    static long[] encode(String skills, Map<String, Integer> vocabulary) {
+        if (skills == null || skills.isBlank()) return new long[0];
+        long[] bits = new long[0];
+        for (String raw : skills.split(",")) {
+            String skill = raw.trim().toLowerCase(Locale.ROOT);
+            if (skill.isEmpty()) continue;
+            int index = vocabulary.computeIfAbsent(skill, s -> vocabulary.size());
+            int word = index >>> 6;
+            if (word >= bits.length) bits = Arrays.copyOf(bits, word + 1);
+            bits[word] |= 1L << index;
+        }
+        return bits;
+    }
+
+    private static long[] or(long[] a, long[] b) {
+        long[] out = Arrays.copyOf(a.length >= b.length ? a : b, Math.max(a.length, b.length));
+        long[] other = a.length >= b.length ? b : a;
+        for (int i = 0; i < other.length; i++) out[i] |= other[i];
+        return out;
+    }
+
+    private static int andNotCount(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(i < b.length ? a[i] & ~b[i] : a[i]);
+        }
+        return count;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        return count;
+    }
+}
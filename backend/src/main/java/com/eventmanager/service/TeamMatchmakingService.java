@@ -0,0 +1,260 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.TeamMatchProposalDto;
+import com.eventmanager.model.*;
+import com.eventmanager.repository.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Service
+public class TeamMatchmakingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamMatchmakingService.class);
+    private static final int DEFAULT_TEAM_SIZE = 4;
+
+    private final SoloRegistrationRepository soloRegistrationRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final HackathonRepository hackathonRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long proposalTtlHours;
+    private final TeamMatcher matcher = new TeamMatcher();
+    private final ExecutorService matchExecutor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+
+    public TeamMatchmakingService(SoloRegistrationRepository soloRegistrationRepository,
+                                  TeamRepository teamRepository,
+                                  TeamMemberRepository teamMemberRepository,
+                                  HackathonRepository hackathonRepository,
+                                  UserRepository userRepository,
+                                  NotificationService notificationService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${teams.matchmaking.proposal-ttl-hours:72}") long proposalTtlHours) {
+        this.soloRegistrationRepository = soloRegistrationRepository;
+        this.teamRepository = teamRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.hackathonRepository = hackathonRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.proposalTtlHours = proposalTtlHours;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matchExecutor.shutdownNow();
+    }
+
+    @Transactional
+    public SoloRegistration joinPool(String hackathonId, String userId) {
+        if (teamMemberRepository.existsByUserIdAndTeam_HackathonId(userId, hackathonId)) {
+            throw new RuntimeException("User is already in a team for this hackathon");
+        }
+        Optional<SoloRegistration> existing = soloRegistrationRepository.findByHackathonIdAndUserId(hackathonId, userId);
+        if (existing.isPresent()) {
+            SoloRegistration registration = existing.get();
+            if ("WITHDRAWN".equals(registration.getStatus())) {
+                registration.setStatus("WAITING");
+                registration.setUpdatedAt(LocalDateTime.now());
+                return soloRegistrationRepository.save(registration);
+            }
+            return registration;
+        }
+
+        Hackathon hackathon = hackathonRepository.findById(hackathonId)
+                .orElseThrow(() -> new RuntimeException("Hackathon not found"));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        SoloRegistration registration = new SoloRegistration();
+        registration.setHackathon(hackathon);
+        registration.setUser(user);
+        return soloRegistrationRepository.save(registration);
+    }
+
+    @Transactional
+    public void leavePool(String hackathonId, String userId) {
+        soloRegistrationRepository.findByHackathonIdAndUserId(hackathonId, userId).ifPresent(registration -> {
+            registration.setStatus("WITHDRAWN");
+            registration.setUpdatedAt(LocalDateTime.now());
+            soloRegistrationRepository.save(registration);
+        });
+    }
+
+    /**
+     * Take a participant out of the pool once they are on a team by any route.
+     */
+    @Transactional
+    public void markMatched(String hackathonId, String userId) {
+        if (hackathonId == null) return;
+        soloRegistrationRepository.findByHackathonIdAndUserId(hackathonId, userId)
+                .filter(registration -> !"MATCHED".equals(registration.getStatus()))
+                .ifPresent(registration -> {
+                    registration.setStatus("MATCHED");
+                    registration.setUpdatedAt(LocalDateTime.now());
+                    soloRegistrationRepository.save(registration);
+                });
+    }
+
+    public long getPoolSize(String hackathonId) {
+        return soloRegistrationRepository.countByHackathonIdAndStatus(hackathonId, "WAITING");
+    }
+
+    /**
+     * Propose assignments for one hackathon. Reads only projected columns, so the cost is
+     * three queries regardless of pool size.
+     */
+    @Transactional(readOnly = true)
+    public List<TeamMatchProposalDto> proposeMatches(String hackathonId) {
+        return buildProposals(hackathonId);
+    }
+
+    // Runs in the caller's transaction; self-invocation would bypass the proxy
+    private List<TeamMatchProposalDto> buildProposals(String hackathonId) {
+        List<TeamMatcher.Participant> participants = soloRegistrationRepository.findWaitingCandidates(hackathonId).stream()
+                .map(c -> new TeamMatcher.Participant(c.getUserId(), c.getSkills()))
+                .collect(Collectors.toList());
+        if (participants.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int defaultSize = hackathonRepository.findById(hackathonId)
+                .map(Hackathon::getMaxTeamSize)
+                .filter(size -> size != null && size > 1)
+                .orElse(DEFAULT_TEAM_SIZE);
+
+        Map<String, List<String>> acceptedSkills = new HashMap<>();
+        Map<String, Integer> occupied = new HashMap<>();
+        for (TeamMemberRepository.MemberSkillView member : teamMemberRepository.findMemberSkillsByHackathonId(hackathonId)) {
+            // Pending invites hold a slot but do not yet contribute skills
+            occupied.merge(member.getTeamId(), 1, Integer::sum);
+            if ("ACCEPTED".equals(member.getStatus())) {
+                acceptedSkills.computeIfAbsent(member.getTeamId(), id -> new ArrayList<>()).add(member.getSkills());
+            }
+        }
+
+        List<TeamMatcher.OpenTeam> teams = new ArrayList<>();
+        for (TeamRepository.OpenSlotView team : teamRepository.findActiveSlotViewsByHackathonId(hackathonId)) {
+            int max = team.getMaxMembers() != null ? team.getMaxMembers() : defaultSize;
+            int open = max - occupied.getOrDefault(team.getId(), 0);
+            if (open > 0) {
+                teams.add(new TeamMatcher.OpenTeam(team.getId(), team.getName(), team.getRequiredSkills(),
+                        acceptedSkills.getOrDefault(team.getId(), Collections.emptyList()), open));
+            }
+        }
+
+        return matcher.match(participants, teams, defaultSize).stream()
+                .map(a -> new TeamMatchProposalDto(hackathonId, a.getTeamId(), a.getTeamName(), a.getUserIds(), a.getScore()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Run the matcher for every hackathon with waiting participants, one hackathon per worker,
+     * each in its own read-only transaction.
+     */
+    public Map<String, List<TeamMatchProposalDto>> proposeAllMatches() {
+        List<String> hackathonIds = soloRegistrationRepository.findHackathonIdsWithWaitingParticipants();
+        Map<String, CompletableFuture<List<TeamMatchProposalDto>>> futures = new LinkedHashMap<>();
+        for (String hackathonId : hackathonIds) {
+            futures.put(hackathonId, CompletableFuture.supplyAsync(
+                    () -> readOnlyTransaction.execute(status -> buildProposals(hackathonId)), matchExecutor));
+        }
+        Map<String, List<TeamMatchProposalDto>> result = new LinkedHashMap<>();
+        futures.forEach((hackathonId, future) -> result.put(hackathonId, future.join()));
+        return result;
+    }
+
+    /**
+     * Turn the proposals for existing teams into pending invites, which the students accept
+     * through the regular team invite flow. New-team proposals are left for students to act on.
+     * Invites that are left unanswered expire, see {@link #expireStaleProposals()}.
+     */
+    @Transactional
+    public List<TeamMatchProposalDto> applyProposals(String hackathonId) {
+        List<TeamMatchProposalDto> proposals = buildProposals(hackathonId);
+        Map<String, SoloRegistration> registrations = soloRegistrationRepository
+                .findByHackathonIdAndStatus(hackathonId, "WAITING").stream()
+                .collect(Collectors.toMap(SoloRegistration::getUserId, r -> r));
+
+        List<TeamMatchProposalDto> applied = new ArrayList<>();
+        for (TeamMatchProposalDto proposal : proposals) {
+            if (proposal.getTeamId() == null) continue;
+            Team team = teamRepository.findById(proposal.getTeamId())
+                    .orElseThrow(() -> new RuntimeException("Team not found"));
+            for (String userId : proposal.getUserIds()) {
+                SoloRegistration registration = registrations.get(userId);
+                if (registration == null) continue;
+
+                TeamMember member = new TeamMember();
+                member.setTeam(team);
+                member.setUser(registration.getUser());
+                member.setRole("MEMBER");
+                member.setStatus("PENDING");
+                teamMemberRepository.save(member);
+
+                registration.setStatus("PROPOSED");
+                registration.setUpdatedAt(LocalDateTime.now());
+                soloRegistrationRepository.save(registration);
+
+                notificationService.createNotification(userId, "Team Match Found",
+                        "You have been matched with team " + team.getName(), "TEAM_INVITE", team.getId());
+            }
+            applied.add(proposal);
+        }
+        return applied;
+    }
+
+    /**
+     * Put a participant whose match invite was declined back into the pool.
+     */
+    @Transactional
+    public void releaseProposal(String hackathonId, String userId) {
+        if (hackathonId == null) return;
+        soloRegistrationRepository.findByHackathonIdAndUserId(hackathonId, userId)
+                .filter(registration -> "PROPOSED".equals(registration.getStatus()))
+                .ifPresent(registration -> {
+                    registration.setStatus("WAITING");
+                    registration.setUpdatedAt(LocalDateTime.now());
+                    soloRegistrationRepository.save(registration);
+                });
+    }
+
+    /**
+     * Withdraw match invites nobody answered within the proposal TTL and return those
+     * participants to the pool, so the next run can place them elsewhere.
+     */
+    @Scheduled(fixedDelayString = "${teams.matchmaking.expire-interval-ms:3600000}")
+    @Transactional
+    public void expireStaleProposals() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(proposalTtlHours);
+        List<SoloRegistration> stale = soloRegistrationRepository.findByStatusAndUpdatedAtBefore("PROPOSED", cutoff);
+        for (SoloRegistration registration : stale) {
+            teamMemberRepository.findFirstByUserIdAndTeam_HackathonId(registration.getUserId(), registration.getHackathonId())
+                    .filter(member -> "PENDING".equals(member.getStatus()))
+                    .ifPresent(teamMemberRepository::delete);
+            registration.setStatus("WAITING");
+            registration.setUpdatedAt(LocalDateTime.now());
+            soloRegistrationRepository.save(registration);
+        }
+        if (!stale.isEmpty()) {
+            logger.info("Returned {} participant(s) with unanswered match invites to the pool", stale.size());
+        }
+    }
+}
@@ -6,6 +6,8 @@ import java.util.List;
 public interface TeamService {
     List<TeamDto> getMyTeams(String userId);
     List<TeamDto> getMyInvites(String userId);
+    List<TeamDto> getStudentTeams(String userId);
+    List<TeamDto> getTeamsByIds(List<String> teamIds);
     TeamDto getTeam(String teamId);
     TeamDto createTeam(String userId, CreateTeamRequest request);
     void inviteMember(String teamId, String email);
@@ -3,12 +3,11 @@ package com.eventmanager.service;
 import com.eventmanager.dto.*;
 import com.eventmanager.model.*;
 import com.eventmanager.repository.*;
+import com.eventmanager.util.JoinCodeGenerator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,11 +22,14 @@ public class TeamServiceImpl implements TeamService {
     private final NotificationService notificationService;
     private final ActivityService activityService;
     private final ChatService chatService;
+    private final JoinCodeGenerator joinCodeGenerator;
+    private final TeamMatchmakingService teamMatchmakingService;
 
     public TeamServiceImpl(TeamRepository teamRepository, TeamMemberRepository teamMemberRepository, 
                            UserRepository userRepository, HackathonRepository hackathonRepository,
                            EventRepository eventRepository, NotificationService notificationService,
-                           ActivityService activityService, ChatService chatService) {
+                           ActivityService activityService, ChatService chatService,
+                           JoinCodeGenerator joinCodeGenerator, TeamMatchmakingService teamMatchmakingService) {
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.userRepository = userRepository;
@@ -36,27 +38,86 @@ public class TeamServiceImpl implements TeamService {
         this.notificationService = notificationService;
         this.activityService = activityService;
         this.chatService = chatService;
+        this.joinCodeGenerator = joinCodeGenerator;
+        this.teamMatchmakingService = teamMatchmakingService;
     }
 
     @Override
     public List<TeamDto> getMyTeams(String userId) {
-        return teamMemberRepository.findByUserIdAndStatus(userId, "ACCEPTED").stream()
-                .map(tm -> convertToDto(tm.getTeam()))
-                .collect(Collectors.toList());
+        return getTeamsByIds(teamMemberRepository.findTeamIdsByUserIdAndStatus(userId, "ACCEPTED"));
     }
 
     @Override
     public List<TeamDto> getMyInvites(String userId) {
-        return teamMemberRepository.findByUserIdAndStatus(userId, "PENDING").stream()
-                .map(tm -> convertToDto(tm.getTeam()))
+        return getTeamsByIds(teamMemberRepository.findTeamIdsByUserIdAndStatus(userId, "PENDING"));
+    }
+
+    @Override
+    public List<TeamDto> getStudentTeams(String userId) {
+        return getTeamsByIds(teamMemberRepository.findTeamIdsByUserId(userId));
+    }
+
+    /**
+     * Build DTOs for many teams with two projection queries (teams, then members) instead of
+     * walking each team's members and users. Result order follows {@code teamIds}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamDto> getTeamsByIds(List<String> teamIds) {
+        if (teamIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<String> ids = new LinkedHashSet<>(teamIds);
+
+        Map<String, List<TeamDto.TeamMemberDto>> membersByTeam = new HashMap<>();
+        for (TeamMemberRepository.MemberCardView m : teamMemberRepository.findCardViewsByTeamIdIn(ids)) {
+            TeamDto.TeamMemberDto md = new TeamDto.TeamMemberDto();
+            md.setUserId(m.getUserId());
+            md.setName(m.getName());
+            md.setEmail(m.getEmail());
+            md.setRole(m.getRole());
+            md.setStatus(m.getStatus());
+            md.setAvatar(m.getAvatar());
+            membersByTeam.computeIfAbsent(m.getTeamId(), k -> new ArrayList<>()).add(md);
+        }
+
+        Map<String, TeamDto> byId = new HashMap<>();
+        for (TeamRepository.TeamCardView t : teamRepository.findCardViewsByIdIn(ids)) {
+            TeamDto dto = new TeamDto();
+            dto.setId(t.getId());
+            dto.setName(t.getName());
+            dto.setHackathonId(t.getHackathonId());
+            dto.setHackathonName(t.getHackathonName());
+            dto.setEventId(t.getEventId());
+            dto.setEventName(t.getEventName());
+            dto.setLeaderId(t.getLeaderId());
+            dto.setLeaderName(t.getLeaderName());
+            dto.setProjectName(t.getProjectName());
+            dto.setProjectDescription(t.getProjectDescription());
+            dto.setGithubUrl(t.getGithubUrl());
+            dto.setSubmissionStatus(t.getSubmissionStatus());
+            dto.setJoinCode(t.getJoinCode());
+            dto.setStatus(t.getStatus());
+            dto.setMaxMembers(t.getMaxMembers());
+            dto.setRequiredSkills(t.getRequiredSkills());
+            dto.setDemoUrl(t.getDemoUrl());
+            dto.setFileUrl(t.getFileUrl());
+            dto.setCreatedAt(t.getCreatedAt());
+            dto.setMembers(membersByTeam.getOrDefault(t.getId(), new ArrayList<>()));
+            byId.put(t.getId(), dto);
+        }
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     @Override
     public TeamDto getTeam(String teamId) {
-        Team team = teamRepository.findById(teamId)
+        return getTeamsByIds(List.of(teamId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new RuntimeException("Team not found"));
-        return convertToDto(team);
     }
 
     @Override
@@ -70,7 +131,6 @@ public class TeamServiceImpl implements TeamService {
         team.setMaxMembers(request.getMaxMembers());
         team.setRequiredSkills(request.getRequiredSkills());
         team.setProjectDescription(request.getDescription());
-        team.setJoinCode(UUID.randomUUID().toString().substring(0, 8).toUpperCase());
         team.setCreatedAt(LocalDateTime.now());
         team.setUpdatedAt(LocalDateTime.now());
         team.setStatus("ACTIVE");
@@ -80,11 +140,15 @@ public class TeamServiceImpl implements TeamService {
             Hackathon h = hackathonRepository.findById(request.getHackathonId())
                     .orElseThrow(() -> new RuntimeException("Hackathon not found"));
             team.setHackathon(h);
+            team.setJoinCode(joinCodeGenerator.generate(h.getId()));
         } else if (request.getEventId() != null) {
             Event e = eventRepository.findById(request.getEventId())
                     .orElseThrow(() -> new RuntimeException("Event not found"));
             team.setEvent(e);
         }
+        if (team.getJoinCode() == null) {
+            team.setJoinCode(joinCodeGenerator.generate(null));
+        }
 
         Team savedTeam = teamRepository.save(team);
 
@@ -94,6 +158,9 @@ public class TeamServiceImpl implements TeamService {
         member.setRole("LEADER");
         member.setStatus("ACCEPTED");
         teamMemberRepository.save(member);
+        if (team.getHackathon() != null) {
+            teamMatchmakingService.markMatched(team.getHackathon().getId(), userId);
+        }
 
         activityService.logActivity(userId, "TEAM_CREATED",
                 "Created team " + team.getName(), savedTeam.getId(), team.getName());
@@ -143,6 +210,7 @@ public class TeamServiceImpl implements TeamService {
 
         member.setStatus("ACCEPTED");
         teamMemberRepository.save(member);
+        teamMatchmakingService.markMatched(team.getHackathonId(), userId);
 
         notificationService.createNotification(team.getLeader().getId(), "Invite Accepted", 
             user.getName() + " accepted your invite to " + team.getName(), "INVITE_ACCEPTED", teamId);
@@ -165,6 +233,10 @@ public class TeamServiceImpl implements TeamService {
         }
 
         teamMemberRepository.delete(member);
+        if ("PENDING".equals(member.getStatus())) {
+            // Declining a match invite puts the participant back in the pool
+            teamMatchmakingService.releaseProposal(team.getHackathonId(), userId);
+        }
         
         notificationService.createNotification(team.getLeader().getId(), "Member Left", 
             user.getName() + " left the team " + team.getName(), "TEAM_LEFT", teamId);
@@ -185,7 +257,7 @@ public class TeamServiceImpl implements TeamService {
         teamRepository.save(team);
     }
 
-    private TeamDto convertToDto(Team team) {
+    TeamDto convertToDto(Team team) {
         TeamDto dto = new TeamDto();
         dto.setId(team.getId());
         dto.setName(team.getName());
@@ -46,8 +46,9 @@ public class WebinarServiceImpl implements WebinarService {
 
     @Override
     public List<WebinarDto> getAllWebinars(String userId) {
+        Set<String> registered = registeredWebinarIds(userId);
         return webinarRepository.findAll().stream()
-                .map(w -> convertToDto(w, userId))
+                .map(w -> convertToDto(w, registered))
                 .collect(Collectors.toList());
     }
 
@@ -55,7 +56,7 @@ public class WebinarServiceImpl implements WebinarService {
     public WebinarDto getWebinar(String id, String userId) {
         Webinar webinar = webinarRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Webinar not found"));
-        return convertToDto(webinar, userId);
+        return convertToDto(webinar, registeredWebinarIds(userId));
     }
 
     @Override
@@ -79,7 +80,7 @@ public class WebinarServiceImpl implements WebinarService {
         Webinar saved = webinarRepository.save(webinar);
         activityService.logActivity(userId, "WEBINAR_CREATED", "Created webinar: " + saved.getTitle(), saved.getId(), saved.getTitle());
         
-        return convertToDto(saved, userId);
+        return convertToDto(saved, registeredWebinarIds(userId));
     }
 
     @Override
@@ -101,7 +102,7 @@ public class WebinarServiceImpl implements WebinarService {
         if (request.getBannerImage() != null) webinar.setBannerImage(request.getBannerImage());
         if (request.getAgenda() != null) webinar.setAgenda(request.getAgenda());
         
-        return convertToDto(webinarRepository.save(webinar), webinar.getCreatedBy());
+        return convertToDto(webinarRepository.save(webinar), registeredWebinarIds(webinar.getCreatedBy()));
     }
 
     @Override
@@ -199,8 +200,9 @@ public class WebinarServiceImpl implements WebinarService {
 
     @Override
     public List<WebinarDto> getUpcomingWebinars(String userId) {
+        Set<String> registered = registeredWebinarIds(userId);
         return webinarRepository.findByStatus("UPCOMING").stream()
-                .map(w -> convertToDto(w, userId))
+                .map(w -> convertToDto(w, registered))
                 .collect(Collectors.toList());
     }
 
@@ -285,7 +287,12 @@ public class WebinarServiceImpl implements WebinarService {
         }
     }
 
-    private WebinarDto convertToDto(Webinar w, String userId) {
+    /** The webinars the user is registered for, or null for an anonymous caller. */
+    private Set<String> registeredWebinarIds(String userId) {
+        return userId != null ? registrationRepository.findWebinarIdsByStudentId(userId) : null;
+    }
+
+    WebinarDto convertToDto(Webinar w, Set<String> registeredWebinarIds) {
         WebinarDto dto = new WebinarDto();
         dto.setId(w.getId());
         dto.setTitle(w.getTitle());
@@ -306,9 +313,8 @@ public class WebinarServiceImpl implements WebinarService {
         dto.setCreatedAt(w.getCreatedAt());
         dto.setAgenda(w.getAgenda());
         
-        if (userId != null) {
-            dto.setIsRegistered(registrationRepository.findByWebinarId(w.getId()).stream()
-                .anyMatch(r -> r.getStudent().getId().equals(userId)));
+        if (registeredWebinarIds != null) {
+            dto.setIsRegistered(registeredWebinarIds.contains(w.getId()));
         }
         
         return dto;
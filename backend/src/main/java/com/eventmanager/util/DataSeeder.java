@@ -2,16 +2,42 @@ package com.eventmanager.util;
 
 import com.eventmanager.model.*;
 import com.eventmanager.repository.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.Arrays;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+/**
+ * Demo data for development. Opt-in with {@code app.seed.enabled} (on in application.properties,
+ * off in the prod profile). Which tables are empty is read in one query, and everything missing
+ * is inserted in one transaction with JDBC batching, so a seeded database costs one statement.
+ */
 @Component
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true")
 public class DataSeeder implements CommandLineRunner {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
+    private static final int BATCH_SIZE = 50;
+    private static final String COUNTS_SQL = "select "
+            + "(select count(*) from colleges), (select count(*) from users), (select count(*) from hackathons), "
+            + "(select count(*) from events), (select count(*) from forum_posts), (select count(*) from clubs)";
+
+    private record SeedCounts(long colleges, long users, long hackathons, long events, long posts, long clubs) {
+        boolean complete() {
+            return colleges > 0 && users > 0 && hackathons > 0 && events > 0 && posts > 0 && clubs > 0;
+        }
+    }
+
     private final CollegeRepository collegeRepository;
     private final UserRepository userRepository;
     private final HackathonRepository hackathonRepository;
@@ -20,11 +46,15 @@ public class DataSeeder implements CommandLineRunner {
     private final ForumPostRepository postRepository;
     private final ForumCommentRepository commentRepository;
     private final ProblemStatementRepository problemStatementRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
 
     public DataSeeder(CollegeRepository collegeRepository, UserRepository userRepository,
             HackathonRepository hackathonRepository, EventRepository eventRepository,
             ClubRepository clubRepository, ForumPostRepository postRepository,
-            ForumCommentRepository commentRepository, ProblemStatementRepository problemStatementRepository) {
+            ForumCommentRepository commentRepository, ProblemStatementRepository problemStatementRepository,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, EntityManager entityManager) {
         this.collegeRepository = collegeRepository;
         this.userRepository = userRepository;
         this.hackathonRepository = hackathonRepository;
@@ -33,14 +63,35 @@ public class DataSeeder implements CommandLineRunner {
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.problemStatementRepository = problemStatementRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
     }
 
     @Override
-    public void run(String... args) throws Exception {
+    public void run(String... args) {
+        SeedCounts counts = jdbcTemplate.queryForObject(COUNTS_SQL, (rs, i) -> new SeedCounts(
+                rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6)));
+        if (counts.complete()) {
+            logger.info("Seed data present; skipping");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(BATCH_SIZE);
+            seed(counts);
+        });
+        logger.info("Seeded demo data in {} ms", System.currentTimeMillis() - start);
+    }
+
+    private void seed(SeedCounts counts) {
+        // Every demo account has the same password; BCrypt is deliberately slow, so hash it once
+        String password = new BCryptPasswordEncoder().encode("password");
+
         College c1;
         College c2;
 
-        if (collegeRepository.count() == 0) {
+        if (counts.colleges() == 0) {
             // Seed Colleges
             c1 = new College();
             c1.setName("Tech University");
@@ -65,14 +116,14 @@ public class DataSeeder implements CommandLineRunner {
         User faculty;
         User admin;
 
-        if (userRepository.count() == 0) {
+        if (counts.users() == 0) {
             // Seed Users matching Frontend Demo Accounts
 
             // 1. Student
             student = new User();
             student.setName("Alex Johnson");
             student.setEmail("student@college.edu");
-            student.setPassword(new BCryptPasswordEncoder().encode("password"));
+            student.setPassword(password);
             student.setRole("student");
             student.setCollege(c1);
             student.setPoints(1250);
@@ -84,7 +135,7 @@ public class DataSeeder implements CommandLineRunner {
             faculty = new User();
             faculty.setName("Dr. Sarah Chen");
             faculty.setEmail("faculty@college.edu");
-            faculty.setPassword(new BCryptPasswordEncoder().encode("password"));
+            faculty.setPassword(password);
             faculty.setRole("faculty");
             faculty.setCollege(c1);
             faculty.setPoints(500);
@@ -96,7 +147,7 @@ public class DataSeeder implements CommandLineRunner {
             admin = new User();
             admin.setName("Michael Roberts");
             admin.setEmail("admin@college.edu");
-            admin.setPassword(new BCryptPasswordEncoder().encode("password"));
+            admin.setPassword(password);
             admin.setRole("college_admin");
             admin.setCollege(c1);
             admin.setPoints(1000);
@@ -108,7 +159,7 @@ public class DataSeeder implements CommandLineRunner {
             User superAdmin = new User();
             superAdmin.setName("Emma Wilson");
             superAdmin.setEmail("super@platform.com");
-            superAdmin.setPassword(new BCryptPasswordEncoder().encode("password"));
+            superAdmin.setPassword(password);
             superAdmin.setRole("super_admin");
             superAdmin.setPoints(2000);
             superAdmin.setStreak(30);
@@ -119,7 +170,7 @@ public class DataSeeder implements CommandLineRunner {
             User judge = new User();
             judge.setName("David Park");
             judge.setEmail("judge@hackathon.com");
-            judge.setPassword(new BCryptPasswordEncoder().encode("password"));
+            judge.setPassword(password);
             judge.setRole("judge");
             judge.setPoints(800);
             judge.setStreak(15);
@@ -129,15 +180,9 @@ public class DataSeeder implements CommandLineRunner {
             student = userRepository.findByEmail("student@college.edu").orElse(null);
             faculty = userRepository.findByEmail("faculty@college.edu").orElse(null);
             admin = userRepository.findByEmail("admin@college.edu").orElse(null);
-
-            // Fallback if records exist but emails don't match (shouldn't happen with count check)
-            if (student == null) {
-                student = userRepository.findAll().stream()
-                    .filter(u -> "student".equals(u.getRole())).findFirst().orElse(null);
-            }
         }
 
-        if (hackathonRepository.count() == 0) {
+        if (counts.hackathons() == 0) {
             // 1. AI Innovation Challenge
             Hackathon h1 = new Hackathon();
             h1.setTitle("Neural Nexus: AI Agents 2024");
@@ -372,7 +417,7 @@ public class DataSeeder implements CommandLineRunner {
 
         }
 
-        if (eventRepository.count() == 0) {
+        if (counts.events() == 0) {
             // Seed Events
             Event e1 = new Event();
             e1.setTitle("Tech Talk: AI Ethics");
@@ -387,7 +432,7 @@ public class DataSeeder implements CommandLineRunner {
         }
 
         // Seed Forum Posts and Comments
-        if (postRepository.count() == 0) {
+        if (counts.posts() == 0) {
             ForumPost p1 = new ForumPost();
             p1.setTitle("Best resources for learning React?");
             p1.setContent("I'm starting with React and looking for good tutorials or courses. Any recommendations?");
@@ -415,7 +460,7 @@ public class DataSeeder implements CommandLineRunner {
             
             System.out.println("Seeded Forum Posts and Comments");
         }
-        if (clubRepository.count() == 0) {
+        if (counts.clubs() == 0) {
             Club club1 = new Club();
             club1.setName("AI & Machine Learning Club");
             club1.setDescription("Explore the fascinating world of Artificial Intelligence and Machine Learning. Join us for workshops, hackathons, and research projects in cutting-edge AI technologies.");
@@ -0,0 +1,44 @@
+package com.eventmanager.util;
+
+import com.eventmanager.repository.TeamRepository;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+@Component
+public class JoinCodeGenerator {
+
+    // Crockford-style alphabet: no 0/O or 1/I/L so codes survive being read aloud
+    private static final char[] ALPHABET = "23456789ABCDEFGHJKMNPQRSTUVWXYZ".toCharArray();
+    private static final int CODE_LENGTH = 8;
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final SecureRandom random = new SecureRandom();
+    private final TeamRepository teamRepository;
+
+    public JoinCodeGenerator(TeamRepository teamRepository) {
+        this.teamRepository = teamRepository;
+    }
+
+    /**
+     * Generate a join code that is not yet used by any team of the given hackathon.
+     * The unique (hackathon_id, join_code) index remains the final guard against races.
+     */
+    public String generate(String hackathonId) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String code = randomCode();
+            if (hackathonId == null || !teamRepository.existsByHackathonIdAndJoinCode(hackathonId, code)) {
+                return code;
+            }
+        }
+        throw new IllegalStateException("Unable to generate a unique join code for hackathon " + hackathonId);
+    }
+
+    private String randomCode() {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(code);
+    }
+}
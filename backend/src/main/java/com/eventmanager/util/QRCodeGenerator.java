@@ -6,6 +6,8 @@ import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
@@ -19,18 +21,28 @@ import java.util.UUID;
 public class QRCodeGenerator {
     
     private static final int QR_CODE_SIZE = 300;
+
+    /** Registered on the global registry so that the static method below is timed too. */
+    private static final Timer GENERATE_TIMER = Timer.builder("qrcode.generate")
+            .description("QR code encoding and PNG rendering")
+            .register(Metrics.globalRegistry);
     
     /**
      * Generate QR code image (legacy method for backward compatibility)
      */
     public static String generateQRCodeImage(String text, int width, int height) throws Exception {
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        BitMatrix bitMatrix = qrCodeWriter.encode(text, BarcodeFormat.QR_CODE, width, height);
+        Timer.Sample sample = Timer.start();
+        try {
+            QRCodeWriter qrCodeWriter = new QRCodeWriter();
+            BitMatrix bitMatrix = qrCodeWriter.encode(text, BarcodeFormat.QR_CODE, width, height);
 
-        ByteArrayOutputStream pngOutputStream = new ByteArrayOutputStream();
-        MatrixToImageWriter.writeToStream(bitMatrix, "PNG", pngOutputStream);
-        byte[] pngData = pngOutputStream.toByteArray();
-        return "data:image/png;base64," + Base64.getEncoder().encodeToString(pngData);
+            ByteArrayOutputStream pngOutputStream = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", pngOutputStream);
+            byte[] pngData = pngOutputStream.toByteArray();
+            return "data:image/png;base64," + Base64.getEncoder().encodeToString(pngData);
+        } finally {
+            sample.stop(GENERATE_TIMER);
+        }
     }
     
     /**
@@ -44,19 +56,24 @@ public class QRCodeGenerator {
      * Generate QR code image as Base64 string
      */
     public String generateQRCodeBase64(String data) throws WriterException, IOException {
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        
-        Map<EncodeHintType, Object> hints = new HashMap<>();
-        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
-        hints.put(EncodeHintType.MARGIN, 1);
-        
-        BitMatrix bitMatrix = qrCodeWriter.encode(data, BarcodeFormat.QR_CODE, QR_CODE_SIZE, QR_CODE_SIZE, hints);
-        
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
-        
-        byte[] qrCodeBytes = outputStream.toByteArray();
-        return "data:image/png;base64," + Base64.getEncoder().encodeToString(qrCodeBytes);
+        Timer.Sample sample = Timer.start();
+        try {
+            QRCodeWriter qrCodeWriter = new QRCodeWriter();
+
+            Map<EncodeHintType, Object> hints = new HashMap<>();
+            hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+            hints.put(EncodeHintType.MARGIN, 1);
+
+            BitMatrix bitMatrix = qrCodeWriter.encode(data, BarcodeFormat.QR_CODE, QR_CODE_SIZE, QR_CODE_SIZE, hints);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
+
+            byte[] qrCodeBytes = outputStream.toByteArray();
+            return "data:image/png;base64," + Base64.getEncoder().encodeToString(qrCodeBytes);
+        } finally {
+            sample.stop(GENERATE_TIMER);
+        }
     }
     
     /**
@@ -0,0 +1,553 @@
+package com.eventmanager.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Production-scale synthetic data for load tests and benchmarks, written with plain JDBC batches.
+ *
+ * Output depends only on the seed and the {@link Volume}: ids are derived from (seed, table, row
+ * index), and every partition has its own random stream, so the thread count only changes how fast
+ * it runs. Partitions of a table are inserted in parallel, each on its own connection; a partition
+ * inserts its children (registrations, chat messages, team members, submissions, judge scores)
+ * right after its parents, so foreign keys hold without a global ordering.
+ *
+ * Accounts are {@code user<i>@synthetic.test} with the password {@value #PASSWORD}. Every user
+ * index that is a multiple of {@value #FACULTY_EVERY} is faculty, {@value #JUDGE_EVERY}-th users
+ * (offset by one) are judges, the rest are students. BCrypt runs once per role, not per user.
+ *
+ * Entity listeners do not see these rows, so the caller rebuilds derived data afterwards (see
+ * {@link SyntheticDataLoader}).
+ */
+public class SyntheticDataGenerator {
+
+    public static final String PASSWORD = "password";
+    public static final String EMAIL_DOMAIN = "synthetic.test";
+    public static final int FACULTY_EVERY = 25;
+    public static final int JUDGE_EVERY = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final int USERS_PER_PARTITION = 10_000;
+    private static final int EVENTS_PER_PARTITION = 50;
+    private static final int NOTIFICATIONS_PER_PARTITION = 20_000;
+    private static final int JUDGES_PER_SUBMISSION = 3;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Maya", "Liam", "Priya", "Noah", "Zara", "Ethan",
+            "Ananya", "Lucas", "Sofia", "Arjun", "Emma", "Kabir", "Isha", "Omar", "Chloe"};
+    private static final String[] LAST_NAMES = {"Sharma", "Chen", "Patel", "Garcia", "Kim", "Singh", "Okafor",
+            "Nguyen", "Rossi", "Khan", "Silva", "Müller", "Reddy", "Cohen"};
+    private static final String[] DEPARTMENTS = {"Computer Science", "Electronics", "Mechanical", "Civil",
+            "Mathematics", "Physics", "Business"};
+    private static final String[] SKILLS = {"Java", "Python", "React", "ML", "Design", "Cloud", "Embedded", "Data"};
+    private static final String[] EVENT_TYPES = {"workshop", "tech_talk", "seminar", "competition", "cultural", "sports"};
+    private static final String[] MODES = {"online", "offline", "hybrid"};
+    private static final String[] NOTIFICATION_TYPES = {"INFO", "SUCCESS", "WARNING"};
+    private static final String[] NOTIFICATION_CATEGORIES = {"EVENT", "CLUB", "SYSTEM"};
+
+    private static final String COLLEGE_SQL = "insert into colleges (id, name, short_name, location, description, "
+            + "founded_year, student_count, faculty_count, is_active, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String USER_SQL = "insert into users (id, name, first_name, last_name, email, password, role, "
+            + "college_id, department, study_year, academic_year, skills, points, streak, joined_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String EVENT_SQL = "insert into events (id, title, description, college_id, organizer_id, "
+            + "event_type, mode, location, start_date, end_date, registration_deadline, capacity, registered_count, "
+            + "status, is_public, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String REGISTRATION_SQL = "insert into event_registrations (id, event_id, user_id, "
+            + "registration_date, created_at, status, attended, certificate_issued) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CHAT_ROOM_SQL = "insert into chat_rooms (id, name, type, target_id, created_at) "
+            + "values (?, ?, ?, ?, ?)";
+    private static final String CHAT_MESSAGE_SQL = "insert into chat_messages (id, room_id, sender_id, content, type, "
+            + "created_at) values (?, ?, ?, ?, ?, ?)";
+    private static final String HACKATHON_SQL = "insert into hackathons (id, title, short_description, description, "
+            + "college_id, organizer_id, mode, location, start_date, end_date, registration_deadline, min_team_size, "
+            + "max_team_size, max_spots, registered_count, approval_status, status, results_published, created_at, "
+            + "updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String TEAM_SQL = "insert into teams (id, name, hackathon_id, leader_id, project_name, "
+            + "join_code, max_members, member_count, status, submission_status, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String TEAM_MEMBER_SQL = "insert into team_members (id, team_id, user_id, role, status, "
+            + "joined_at) values (?, ?, ?, ?, ?, ?)";
+    private static final String SUBMISSION_SQL = "insert into submissions (id, hackathon_id, team_id, user_id, "
+            + "project_title, description, github_url, status, innovation_score, implementation_score, "
+            + "presentation_score, impact_score, total_score, score, submitted_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String JUDGE_SCORE_SQL = "insert into judge_scores (id, submission_id, judge_id, "
+            + "criteria_scores, total_score, feedback, is_draft, status, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String NOTIFICATION_SQL = "insert into notifications (id, user_id, title, message, type, "
+            + "category, is_read, created_at) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** How much to generate. Judge scores follow from the teams (three judges per submission). */
+    public record Volume(int colleges, int users, int events, int registrations, int hackathons,
+                         int teamsPerHackathon, int chatMessages, int notifications) {
+
+        public Volume {
+            if (colleges < 1 || users < FACULTY_EVERY * 2 || events < 1 || hackathons < 0 || teamsPerHackathon < 0
+                    || registrations < 0 || chatMessages < 0 || notifications < 0) {
+                throw new IllegalArgumentException("Synthetic data volumes must be positive, with at least "
+                        + FACULTY_EVERY * 2 + " users");
+            }
+            if ((long) teamsPerHackathon * 4 > users) {
+                throw new IllegalArgumentException(users + " users cannot fill " + teamsPerHackathon + " teams of four");
+            }
+            if (registrations > (long) events * users) {
+                throw new IllegalArgumentException(registrations + " registrations do not fit " + events + " events x "
+                        + users + " users");
+            }
+        }
+
+        /** 100k users, 5k events, 1M registrations. */
+        public static Volume large() {
+            return new Volume(20, 100_000, 5_000, 1_000_000, 50, 100, 500_000, 1_000_000);
+        }
+    }
+
+    /** Rows inserted per table and the wall time. */
+    public record Result(Map<String, Long> rows, long millis, LocalDate earliestDay) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final long seed;
+    private final int threads;
+    private final LocalDateTime now;
+    private final long[] idPrefixes = new long[Table.values().length];
+    private final Map<String, AtomicLong> counters = new LinkedHashMap<>();
+
+    /**
+     * @param now the reference time dates are spread around; pass a fixed value for byte-identical output
+     */
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                                  long seed, int threads, LocalDateTime now) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        this.passwordEncoder = passwordEncoder;
+        this.seed = seed;
+        this.threads = Math.max(1, threads);
+        this.now = now.truncatedTo(ChronoUnit.MINUTES);
+        SplittableRandom prefixes = new SplittableRandom(seed);
+        for (Table table : Table.values()) {
+            // version 4 and IETF variant bits, so the ids look like the UUIDs Hibernate generates
+            idPrefixes[table.ordinal()] = (prefixes.nextLong() & ~0xF000L) | 0x4000L;
+            counters.put(table.name, new AtomicLong());
+        }
+    }
+
+    public static String email(int userIndex) {
+        return "user" + userIndex + "@" + EMAIL_DOMAIN;
+    }
+
+    public static String role(int userIndex) {
+        if (userIndex % FACULTY_EVERY == 0) return "faculty";
+        if (userIndex % JUDGE_EVERY == 1) return "judge";
+        return "student";
+    }
+
+    /** Ids of generated rows by index, for tests and load scripts that need to address them. */
+    public String userId(int userIndex) {
+        return id(Table.USER, userIndex);
+    }
+
+    public String collegeId(int collegeIndex) {
+        return id(Table.COLLEGE, collegeIndex);
+    }
+
+    public String eventId(int eventIndex) {
+        return id(Table.EVENT, eventIndex);
+    }
+
+    /** The event's chat room. */
+    public String chatRoomId(int eventIndex) {
+        return id(Table.CHAT_ROOM, eventIndex);
+    }
+
+    public String hackathonId(int hackathonIndex) {
+        return id(Table.HACKATHON, hackathonIndex);
+    }
+
+    /** Team {@code t} of hackathon {@code h}. */
+    public String teamId(Volume volume, int hackathonIndex, int teamIndex) {
+        return id(Table.TEAM, (long) hackathonIndex * volume.teamsPerHackathon() + teamIndex);
+    }
+
+    /** True if this generator's users are already in the database. */
+    public boolean isPresent() {
+        Integer found = jdbcTemplate.queryForObject("select count(*) from users where email = ?", Integer.class, email(0));
+        return found != null && found > 0;
+    }
+
+    public Result generate(Volume volume) {
+        long start = System.currentTimeMillis();
+        Map<String, String> passwords = Map.of(
+                "student", passwordEncoder.encode(PASSWORD),
+                "faculty", passwordEncoder.encode(PASSWORD),
+                "judge", passwordEncoder.encode(PASSWORD));
+        int[] registrationsPerEvent = spread(volume.registrations(), volume.events(), volume.users(), 0.8);
+        int[] messagesPerEvent = spread(volume.chatMessages(), volume.events(), Integer.MAX_VALUE, 0.8);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "synthetic-data");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Runnable> stage = new ArrayList<>();
+            stage.add(() -> insertColleges(volume));
+            run(pool, stage, "colleges");
+
+            stage.clear();
+            for (int from = 0; from < volume.users(); from += USERS_PER_PARTITION) {
+                int lo = from;
+                int hi = Math.min(volume.users(), from + USERS_PER_PARTITION);
+                stage.add(() -> insertUsers(volume, passwords, lo, hi));
+            }
+            run(pool, stage, "users");
+
+            stage.clear();
+            for (int from = 0; from < volume.events(); from += EVENTS_PER_PARTITION) {
+                int lo = from;
+                int hi = Math.min(volume.events(), from + EVENTS_PER_PARTITION);
+                stage.add(() -> insertEvents(volume, registrationsPerEvent, messagesPerEvent, lo, hi));
+            }
+            for (int h = 0; h < volume.hackathons(); h++) {
+                int hackathon = h;
+                stage.add(() -> insertHackathon(volume, hackathon));
+            }
+            for (long from = 0; from < volume.notifications(); from += NOTIFICATIONS_PER_PARTITION) {
+                long lo = from;
+                long hi = Math.min(volume.notifications(), from + NOTIFICATIONS_PER_PARTITION);
+                stage.add(() -> insertNotifications(volume, lo, hi));
+            }
+            run(pool, stage, "events, hackathons and notifications");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Map<String, Long> rows = new LinkedHashMap<>();
+        counters.forEach((table, count) -> rows.put(table, count.get()));
+        long millis = System.currentTimeMillis() - start;
+        logger.info("Generated synthetic data (seed {}) in {} ms: {}", seed, millis, rows);
+        return new Result(rows, millis, now.minusDays(211).toLocalDate());
+    }
+
+    private void insertColleges(Volume volume) {
+        SplittableRandom random = random(Table.COLLEGE, 0);
+        List<Object[]> rows = new ArrayList<>(volume.colleges());
+        for (int c = 0; c < volume.colleges(); c++) {
+            rows.add(new Object[]{id(Table.COLLEGE, c), "Synthetic College " + c, "SC" + c,
+                    "Campus " + c, "Generated college " + c, 1950 + random.nextInt(70),
+                    volume.users() / volume.colleges(), volume.users() / volume.colleges() / FACULTY_EVERY,
+                    true, ts(now.minusYears(2))});
+        }
+        batch(Table.COLLEGE, COLLEGE_SQL, rows);
+    }
+
+    private void insertUsers(Volume volume, Map<String, String> passwords, int from, int to) {
+        SplittableRandom random = random(Table.USER, from / USERS_PER_PARTITION);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = from; i < to; i++) {
+            String role = role(i);
+            String first = pick(random, FIRST_NAMES);
+            String last = pick(random, LAST_NAMES);
+            boolean student = "student".equals(role);
+            Integer year = student ? 1 + random.nextInt(4) : null;
+            rows.add(new Object[]{id(Table.USER, i), first + " " + last, first, last, email(i), passwords.get(role),
+                    role, collegeId(volume, i), pick(random, DEPARTMENTS), year, year,
+                    pick(random, SKILLS) + "," + pick(random, SKILLS), student ? skewed(random, 5000) : 0,
+                    student ? random.nextInt(30) : 0, ts(now.minusDays(30 + random.nextInt(700)))});
+            flushIfFull(Table.USER, USER_SQL, rows);
+        }
+        batch(Table.USER, USER_SQL, rows);
+    }
+
+    /** Events in [from, to), then their registrations, chat room and chat messages. */
+    private void insertEvents(Volume volume, int[] registrationsPerEvent, int[] messagesPerEvent, int from, int to) {
+        SplittableRandom random = random(Table.EVENT, from / EVENTS_PER_PARTITION);
+        int faculty = facultyCount(volume);
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> rooms = new ArrayList<>();
+        LocalDateTime[] starts = new LocalDateTime[to - from];
+        for (int e = from; e < to; e++) {
+            int organizer = (e % faculty) * FACULTY_EVERY;
+            LocalDateTime startDate = now.minusDays(180).plusMinutes(random.nextLong(240L * 24 * 60));
+            starts[e - from] = startDate;
+            int registered = registrationsPerEvent[e];
+            events.add(new Object[]{id(Table.EVENT, e), "Synthetic Event " + e, "Generated event " + e,
+                    collegeId(volume, organizer), id(Table.USER, organizer), pick(random, EVENT_TYPES),
+                    pick(random, MODES), "Hall " + random.nextInt(40), ts(startDate), ts(startDate.plusHours(2)),
+                    ts(startDate.minusDays(1)), Math.max(50, registered + registered / 5), registered,
+                    startDate.isBefore(now) ? "completed" : "registration_open", true,
+                    ts(startDate.minusDays(45)), ts(startDate.minusDays(45))});
+            rooms.add(new Object[]{id(Table.CHAT_ROOM, e), "Synthetic Event " + e, "EVENT", id(Table.EVENT, e),
+                    ts(startDate.minusDays(45))});
+        }
+        batch(Table.EVENT, EVENT_SQL, events);
+        batch(Table.CHAT_ROOM, CHAT_ROOM_SQL, rooms);
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        long registrationIndex = offset(registrationsPerEvent, from);
+        for (int e = from; e < to; e++) {
+            LocalDateTime startDate = starts[e - from];
+            boolean past = startDate.isBefore(now);
+            // start + j * stride (mod users) with a stride coprime to users never repeats a user
+            int first = random.nextInt(volume.users());
+            int stride = coprimeStride(random, volume.users());
+            for (int j = 0; j < registrationsPerEvent[e]; j++) {
+                int user = (int) ((first + (long) j * stride) % volume.users());
+                LocalDateTime at = startDate.minusMinutes(60 + random.nextInt(30 * 24 * 60));
+                boolean attended = past && random.nextInt(10) < 7;
+                rows.add(new Object[]{id(Table.REGISTRATION, registrationIndex++), id(Table.EVENT, e),
+                        id(Table.USER, user), ts(at), ts(at), attended ? "ATTENDED" : "REGISTERED", attended,
+                        attended && random.nextInt(2) == 0});
+                flushIfFull(Table.REGISTRATION, REGISTRATION_SQL, rows);
+            }
+        }
+        batch(Table.REGISTRATION, REGISTRATION_SQL, rows);
+        rows.clear();
+
+        long messageIndex = offset(messagesPerEvent, from);
+        for (int e = from; e < to; e++) {
+            LocalDateTime opened = starts[e - from].minusDays(45);
+            for (int m = 0; m < messagesPerEvent[e]; m++) {
+                rows.add(new Object[]{id(Table.CHAT_MESSAGE, messageIndex++), id(Table.CHAT_ROOM, e),
+                        id(Table.USER, random.nextInt(volume.users())), "Message " + m + " in event " + e, "TEXT",
+                        ts(opened.plusMinutes(random.nextInt(60 * 24 * 45)))});
+                flushIfFull(Table.CHAT_MESSAGE, CHAT_MESSAGE_SQL, rows);
+            }
+        }
+        batch(Table.CHAT_MESSAGE, CHAT_MESSAGE_SQL, rows);
+    }
+
+    /** One hackathon with its teams, members, one submission per team and three judge scores each. */
+    private void insertHackathon(Volume volume, int h) {
+        SplittableRandom random = random(Table.HACKATHON, h);
+        int faculty = facultyCount(volume);
+        int organizer = ((h * 7) % faculty) * FACULTY_EVERY;
+        LocalDate startDate = now.toLocalDate().minusDays(120).plusDays(random.nextInt(180));
+        boolean finished = startDate.plusDays(2).isBefore(now.toLocalDate());
+        int teams = volume.teamsPerHackathon();
+        batch(Table.HACKATHON, HACKATHON_SQL, List.<Object[]>of(new Object[]{id(Table.HACKATHON, h),
+                "Synthetic Hackathon " + h, "Generated hackathon " + h, "Generated hackathon " + h,
+                collegeId(volume, organizer), id(Table.USER, organizer), pick(random, MODES), "Campus " + h,
+                Date.valueOf(startDate), Date.valueOf(startDate.plusDays(2)), Date.valueOf(startDate.minusDays(7)),
+                2, 4, teams * 4, teams, "APPROVED", finished ? "completed" : "registration_open", false,
+                ts(startDate.minusDays(60).atStartOfDay()), ts(startDate.minusDays(60).atStartOfDay())}));
+
+        int judges = judgeCount(volume);
+        int first = random.nextInt(volume.users());
+        int stride = coprimeStride(random, volume.users());
+        int member = 0;
+        LocalDateTime created = startDate.minusDays(20).atStartOfDay();
+        List<Object[]> teamRows = new ArrayList<>();
+        List<Object[]> memberRows = new ArrayList<>();
+        List<Object[]> submissionRows = new ArrayList<>();
+        List<Object[]> scoreRows = new ArrayList<>();
+        for (int t = 0; t < teams; t++) {
+            long team = (long) h * teams + t;
+            int size = 2 + random.nextInt(3);
+            int leader = -1;
+            for (int m = 0; m < size && member < volume.users(); m++, member++) {
+                int user = (int) ((first + (long) member * stride) % volume.users());
+                if (leader < 0) leader = user;
+                memberRows.add(new Object[]{id(Table.TEAM_MEMBER, team * 4 + m), id(Table.TEAM, team),
+                        id(Table.USER, user), m == 0 ? "LEADER" : "MEMBER", "ACTIVE", ts(created)});
+            }
+            teamRows.add(new Object[]{id(Table.TEAM, team), "Team " + h + "-" + t, id(Table.HACKATHON, h),
+                    id(Table.USER, leader), "Project " + h + "-" + t, joinCode(team), 4, size, "ACTIVE",
+                    finished ? "SUBMITTED" : "PENDING", ts(created), ts(created)});
+            if (!finished || judges == 0) continue;
+
+            int[] criteria = {random.nextInt(11), random.nextInt(11), random.nextInt(11), random.nextInt(11)};
+            int total = criteria[0] + criteria[1] + criteria[2] + criteria[3];
+            submissionRows.add(new Object[]{id(Table.SUBMISSION, team), id(Table.HACKATHON, h), id(Table.TEAM, team),
+                    id(Table.USER, leader), "Project " + h + "-" + t, "Generated submission",
+                    "https://github.com/synthetic/project-" + team, "EVALUATED", criteria[0], criteria[1],
+                    criteria[2], criteria[3], total, (double) total, ts(startDate.plusDays(2).atStartOfDay())});
+            for (int j = 0; j < Math.min(JUDGES_PER_SUBMISSION, judges); j++) {
+                int judge = ((h + t + j) % judges) * JUDGE_EVERY + 1;
+                int score = Math.max(0, Math.min(40, total + random.nextInt(7) - 3));
+                LocalDateTime scoredAt = startDate.plusDays(3).atStartOfDay();
+                scoreRows.add(new Object[]{id(Table.JUDGE_SCORE, team * JUDGES_PER_SUBMISSION + j),
+                        id(Table.SUBMISSION, team), id(Table.USER, judge),
+                        "{\"innovation\":" + criteria[0] + ",\"implementation\":" + criteria[1]
+                                + ",\"presentation\":" + criteria[2] + ",\"impact\":" + criteria[3] + "}",
+                        score, "Generated feedback", false, "SUBMITTED", ts(scoredAt), ts(scoredAt)});
+            }
+        }
+        batch(Table.TEAM, TEAM_SQL, teamRows);
+        batch(Table.TEAM_MEMBER, TEAM_MEMBER_SQL, memberRows);
+        batch(Table.SUBMISSION, SUBMISSION_SQL, submissionRows);
+        batch(Table.JUDGE_SCORE, JUDGE_SCORE_SQL, scoreRows);
+    }
+
+    private void insertNotifications(Volume volume, long from, long to) {
+        SplittableRandom random = random(Table.NOTIFICATION, (int) (from / NOTIFICATIONS_PER_PARTITION));
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long n = from; n < to; n++) {
+            rows.add(new Object[]{id(Table.NOTIFICATION, n), id(Table.USER, (int) (n % volume.users())),
+                    "Update " + n, "Generated notification " + n, pick(random, NOTIFICATION_TYPES),
+                    pick(random, NOTIFICATION_CATEGORIES), random.nextInt(3) > 0,
+                    ts(now.minusMinutes(random.nextInt(90 * 24 * 60)))});
+            flushIfFull(Table.NOTIFICATION, NOTIFICATION_SQL, rows);
+        }
+        batch(Table.NOTIFICATION, NOTIFICATION_SQL, rows);
+    }
+
+    private enum Table {
+        COLLEGE("colleges"), USER("users"), EVENT("events"), REGISTRATION("event_registrations"),
+        CHAT_ROOM("chat_rooms"), CHAT_MESSAGE("chat_messages"), HACKATHON("hackathons"), TEAM("teams"),
+        TEAM_MEMBER("team_members"), SUBMISSION("submissions"), JUDGE_SCORE("judge_scores"),
+        NOTIFICATION("notifications");
+
+        final String name;
+
+        Table(String name) {
+            this.name = name;
+        }
+    }
+
+    private String id(Table table, long index) {
+        return new UUID(idPrefixes[table.ordinal()], (index & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L).toString();
+    }
+
+    private SplittableRandom random(Table table, int partition) {
+        return new SplittableRandom(seed * 1_000_003L + table.ordinal() * 65_537L + partition);
+    }
+
+    private String collegeId(Volume volume, int userIndex) {
+        return id(Table.COLLEGE, userIndex % volume.colleges());
+    }
+
+    private static int facultyCount(Volume volume) {
+        return (volume.users() - 1) / FACULTY_EVERY + 1;
+    }
+
+    private static int judgeCount(Volume volume) {
+        return volume.users() > 1 ? (volume.users() - 2) / JUDGE_EVERY + 1 : 0;
+    }
+
+    /**
+     * Split {@code total} over {@code buckets} with Zipf-like weights 1 / (rank + 10)^exponent, so a
+     * few events are much busier than the rest, without any bucket going over {@code cap}.
+     */
+    static int[] spread(int total, int buckets, int cap, double exponent) {
+        double[] weights = new double[buckets];
+        double sum = 0;
+        for (int i = 0; i < buckets; i++) {
+            weights[i] = 1 / Math.pow(i + 10, exponent);
+            sum += weights[i];
+        }
+        int[] counts = new int[buckets];
+        long assigned = 0;
+        for (int i = 0; i < buckets; i++) {
+            counts[i] = (int) Math.min(cap, Math.floor(total * weights[i] / sum));
+            assigned += counts[i];
+        }
+        // Hand out the rounding remainder (and anything the cap cut off) from the quietest bucket up
+        for (int i = buckets - 1; assigned < total; i = i == 0 ? buckets - 1 : i - 1) {
+            if (counts[i] < cap) {
+                counts[i]++;
+                assigned++;
+            }
+        }
+        return counts;
+    }
+
+    private static long offset(int[] counts, int upTo) {
+        long sum = 0;
+        for (int i = 0; i < upTo; i++) sum += counts[i];
+        return sum;
+    }
+
+    private static int coprimeStride(SplittableRandom random, int modulus) {
+        if (modulus == 1) return 1;
+        while (true) {
+            int stride = 1 + random.nextInt(modulus - 1);
+            if (gcd(stride, modulus) == 1) return stride;
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /** Points are mostly low with a long tail, like real engagement. */
+    private static int skewed(SplittableRandom random, int max) {
+        double u = random.nextDouble();
+        return (int) (max * u * u * u);
+    }
+
+    private static String joinCode(long team) {
+        return Long.toString(team + 1_679_616L, 36).toUpperCase();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Timestamp ts(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+
+    private void flushIfFull(Table table, String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            batch(table, sql, rows);
+            rows.clear();
+        }
+    }
+
+    private void batch(Table table, String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        // One commit per batch instead of relying on how the driver commits a batch in auto-commit mode
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        counters.get(table.name).addAndGet(rows.size());
+    }
+
+    private void run(ExecutorService pool, List<Runnable> tasks, String stage) {
+        long start = System.currentTimeMillis();
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(pool.submit(task));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Synthetic data generation was interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Synthetic data generation failed", e.getCause());
+        }
+        logger.info("Inserted {} in {} partition(s) in {} ms", stage, tasks.size(), System.currentTimeMillis() - start);
+    }
+}
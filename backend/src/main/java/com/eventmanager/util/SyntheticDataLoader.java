@@ -0,0 +1,62 @@
+package com.eventmanager.util;
+
+import com.eventmanager.service.FacultyRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Fills the database with {@link SyntheticDataGenerator} output on startup. Opt-in with
+ * {@code app.synthetic.enabled}; volumes default to {@link SyntheticDataGenerator.Volume#large()}.
+ * Does nothing if the synthetic users are already there, so restarts keep the data set.
+ */
+@Component
+@ConditionalOnProperty(name = "app.synthetic.enabled", havingValue = "true")
+public class SyntheticDataLoader implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    private final SyntheticDataGenerator generator;
+    private final SyntheticDataGenerator.Volume volume;
+    private final FacultyRollupService facultyRollupService;
+
+    public SyntheticDataLoader(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                               FacultyRollupService facultyRollupService,
+                               @Value("${app.synthetic.seed:42}") long seed,
+                               @Value("${app.synthetic.threads:8}") int threads,
+                               @Value("${app.synthetic.colleges:20}") int colleges,
+                               @Value("${app.synthetic.users:100000}") int users,
+                               @Value("${app.synthetic.events:5000}") int events,
+                               @Value("${app.synthetic.registrations:1000000}") int registrations,
+                               @Value("${app.synthetic.hackathons:50}") int hackathons,
+                               @Value("${app.synthetic.teams-per-hackathon:100}") int teamsPerHackathon,
+                               @Value("${app.synthetic.chat-messages:500000}") int chatMessages,
+                               @Value("${app.synthetic.notifications:1000000}") int notifications) {
+        this.generator = new SyntheticDataGenerator(jdbcTemplate, passwordEncoder, seed, threads, LocalDateTime.now());
+        this.volume = new SyntheticDataGenerator.Volume(colleges, users, events, registrations, hackathons,
+                teamsPerHackathon, chatMessages, notifications);
+        this.facultyRollupService = facultyRollupService;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (generator.isPresent()) {
+            logger.info("Synthetic data present; skipping");
+            return;
+        }
+        SyntheticDataGenerator.Result result = generator.generate(volume);
+        // The rows bypassed the entity listeners, so the faculty rollups are rebuilt in one pass;
+        // rankings and stats are rebuilt from the tables on ApplicationReadyEvent anyway
+        long start = System.currentTimeMillis();
+        facultyRollupService.rebuild(result.earliestDay(), LocalDate.now().plusDays(1), null);
+        logger.info("Rebuilt faculty rollups in {} ms", System.currentTimeMillis() - start);
+    }
+}
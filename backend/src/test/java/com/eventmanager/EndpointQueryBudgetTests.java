@@ -0,0 +1,545 @@
+package com.eventmanager;
+
+import com.eventmanager.model.*;
+import com.eventmanager.security.JwtUtils;
+import com.eventmanager.util.SyntheticDataGenerator;
+import com.eventmanager.util.SyntheticDataGenerator.Volume;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.SpringBootMockMvcBuilderCustomizer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Query budgets for every GET endpoint in {@code com.eventmanager.controller}, declared in
+ * {@code src/test/resources/query-budgets.tsv}.
+ *
+ * The application is started twice on an in-memory H2, once with about ten rows per table and once
+ * with about a thousand ({@link SyntheticDataGenerator} plus the rows in {@link Fixtures}). Each
+ * endpoint is called once to warm the caches and once more to count the JDBC statements prepared
+ * on the request thread, which covers JdbcTemplate as well as Hibernate; Hibernate's own
+ * prepared-statement count is reported alongside. An endpoint fails if it answers with another
+ * status than declared, prepares more statements than its budget on the small data set, or
+ * prepares more extra statements on the large one than its declared growth. Endpoints without an
+ * entry fail too, so new ones get a budget when they are added.
+ *
+ * With {@code -Dquery-budgets.record=true} nothing is asserted and the measured values are written
+ * to {@code target/query-budgets.tsv}, to review and copy over the declared file.
+ */
+class EndpointQueryBudgetTests {
+
+    private static final Volume SMALL = new Volume(1, 50, 10, 10, 1, 2, 10, 10);
+    private static final Volume LARGE = new Volume(2, 1000, 1000, 5000, 10, 100, 1000, 1000);
+    private static final int SMALL_ROWS = 10;
+    private static final int LARGE_ROWS = 1000;
+    private static final long SEED = 42;
+    private static final String BUDGETS = "/query-budgets.tsv";
+
+    /** One line of the budget file; {@code uri} may contain {@link Fixtures} placeholders. */
+    record Budget(String pattern, String caller, String uri, int status, long budget, long growth) {
+
+        static Budget parse(String line) {
+            String[] columns = line.split("\t+");
+            if (columns.length != 6) {
+                throw new IllegalArgumentException("Expected 6 tab-separated columns: " + line);
+            }
+            return new Budget(columns[0], columns[1], columns[2], Integer.parseInt(columns[3]),
+                    Long.parseLong(columns[4]), Long.parseLong(columns[5]));
+        }
+    }
+
+    record Measurement(int status, long statements, long hibernateStatements) {
+    }
+
+    @Test
+    void everyEndpointStaysWithinItsQueryBudget() throws Exception {
+        List<Budget> budgets = readBudgets();
+        Map<String, Measurement> small = new LinkedHashMap<>();
+        Set<String> endpoints = measure("small", SMALL, SMALL_ROWS, budgets, small);
+        Map<String, Measurement> large = new LinkedHashMap<>();
+        measure("large", LARGE, LARGE_ROWS, budgets, large);
+
+        List<String> failures = new ArrayList<>();
+        Set<String> declared = new HashSet<>();
+        budgets.forEach(b -> declared.add(b.pattern()));
+        endpoints.stream().filter(e -> !declared.contains(e)).sorted()
+                .forEach(e -> failures.add(e + ": no entry in " + BUDGETS));
+        declared.stream().filter(e -> !endpoints.contains(e)).sorted()
+                .forEach(e -> failures.add(e + ": declared in " + BUDGETS + " but not mapped"));
+
+        StringBuilder report = new StringBuilder(String.format("%-60s %-8s %6s %14s %14s%n",
+                "endpoint", "caller", "status", "small (hib)", "large (hib)"));
+        StringBuilder recorded = new StringBuilder();
+        readLines().stream().filter(line -> line.startsWith("#")).forEach(line -> recorded.append(line).append('\n'));
+        for (Budget budget : budgets) {
+            Measurement s = small.get(budget.pattern());
+            Measurement l = large.get(budget.pattern());
+            report.append(String.format("%-60s %-8s %6d %8d (%3d) %8d (%3d)%n", budget.pattern(), budget.caller(),
+                    s.status(), s.statements(), s.hibernateStatements(), l.statements(), l.hibernateStatements()));
+            recorded.append(String.join("\t", budget.pattern(), budget.caller(), budget.uri(),
+                    String.valueOf(s.status()), String.valueOf(s.statements()),
+                    String.valueOf(Math.max(0, l.statements() - s.statements())))).append('\n');
+
+            if (s.status() != budget.status() || l.status() != budget.status()) {
+                failures.add(budget.pattern() + ": status " + s.status() + " / " + l.status() + ", declared "
+                        + budget.status());
+            }
+            if (s.statements() > budget.budget()) {
+                failures.add(budget.pattern() + ": " + s.statements() + " statements, budget is " + budget.budget());
+            }
+            if (l.statements() - s.statements() > budget.growth()) {
+                failures.add(budget.pattern() + ": grew from " + s.statements() + " to " + l.statements()
+                        + " statements with " + LARGE_ROWS / SMALL_ROWS + "x the rows, allowed growth is "
+                        + budget.growth());
+            }
+        }
+        System.out.print(report);
+
+        if (Boolean.getBoolean("query-budgets.record")) {
+            Path out = Path.of("target", "query-budgets.tsv");
+            Files.writeString(out, recorded);
+            System.out.println("Recorded measured budgets in " + out.toAbsolutePath());
+            return;
+        }
+        assertTrue(failures.isEmpty(), failures.size() + " endpoint(s) over budget:\n" + String.join("\n", failures));
+    }
+
+    private static List<Budget> readBudgets() throws IOException {
+        return readLines().stream().filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .map(line -> Budget.parse(line.strip())).toList();
+    }
+
+    private static List<String> readLines() throws IOException {
+        try (InputStream in = EndpointQueryBudgetTests.class.getResourceAsStream(BUDGETS)) {
+            return List.of(new String(Objects.requireNonNull(in, BUDGETS).readAllBytes(), StandardCharsets.UTF_8)
+                    .split("\n"));
+        }
+    }
+
+    /** Starts the application on its own database, fills it, and measures every budgeted endpoint. */
+    private static Set<String> measure(String name, Volume volume, int rows, List<Budget> budgets,
+                                       Map<String, Measurement> results) throws Exception {
+        StatementCounter counter = new StatementCounter();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .initializers(c -> c.getBeanFactory().addBeanPostProcessor(counter))
+                .run("--spring.datasource.url=jdbc:h2:mem:query-budgets-" + name + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.sql.init.mode=never",
+                        "--server.port=0",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--app.seed.enabled=false",
+                        "--app.synthetic.enabled=true",
+                        "--app.synthetic.seed=" + SEED,
+                        "--app.synthetic.threads=1",
+                        "--app.synthetic.colleges=" + volume.colleges(),
+                        "--app.synthetic.users=" + volume.users(),
+                        "--app.synthetic.events=" + volume.events(),
+                        "--app.synthetic.registrations=" + volume.registrations(),
+                        "--app.synthetic.hackathons=" + volume.hackathons(),
+                        "--app.synthetic.teams-per-hackathon=" + volume.teamsPerHackathon(),
+                        "--app.synthetic.chat-messages=" + volume.chatMessages(),
+                        "--app.synthetic.notifications=" + volume.notifications())) {
+            Fixtures fixtures = new Fixtures(context, volume, rows);
+            fixtures.insert();
+
+            DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context);
+            new SpringBootMockMvcBuilderCustomizer((WebApplicationContext) context).customize(builder);
+            MockMvc mockMvc = builder.build();
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            for (Budget budget : budgets) {
+                String uri = fixtures.resolve(budget.uri());
+                String token = fixtures.token(budget.caller());
+                perform(mockMvc, uri, token);
+                statistics.clear();
+                counter.start();
+                int status;
+                try {
+                    status = perform(mockMvc, uri, token).getResponse().getStatus();
+                } finally {
+                    counter.stop();
+                }
+                results.put(budget.pattern(), new Measurement(status, counter.count(),
+                        statistics.getPrepareStatementCount()));
+            }
+            return getEndpoints(context);
+        }
+    }
+
+    private static MvcResult perform(MockMvc mockMvc, String uri, String token) throws Exception {
+        var request = get(uri);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return mockMvc.perform(request).andReturn();
+    }
+
+    /** "GET /path" for every GET handler in the controller package. */
+    private static Set<String> getEndpoints(ConfigurableApplicationContext context) {
+        Set<String> endpoints = new TreeSet<>();
+        Map<RequestMappingInfo, HandlerMethod> handlers = context
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class).getHandlerMethods();
+        handlers.forEach((info, method) -> {
+            if (method.getBeanType().getPackageName().equals("com.eventmanager.controller")
+                    && info.getMethodsCondition().getMethods().contains(RequestMethod.GET)) {
+                info.getPatternValues().forEach(pattern -> endpoints.add("GET " + pattern));
+            }
+        });
+        return endpoints;
+    }
+
+    /**
+     * Counts the statements prepared or created on one thread while started. Wraps the pool, so
+     * JdbcTemplate queries count as well as Hibernate's, and background writers do not.
+     */
+    static class StatementCounter implements BeanPostProcessor {
+
+        private final AtomicLong count = new AtomicLong();
+        private volatile Thread counted;
+
+        void start() {
+            count.set(0);
+            counted = Thread.currentThread();
+        }
+
+        void stop() {
+            counted = null;
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return counting(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return counting(super.getConnection(username, password));
+                }
+            };
+        }
+
+        private Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (counted == Thread.currentThread() && (name.equals("prepareStatement")
+                                || name.equals("prepareCall") || name.equals("createStatement"))) {
+                            count.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Rows the synthetic data set does not have (webinars, certificates, clubs, forum, support,
+     * event submissions and scores), {@code rows} of each, centred on the users and records the
+     * budget file addresses, plus the director and admin callers. Each list an endpoint returns
+     * is about ten times longer in the large data set.
+     */
+    static class Fixtures {
+
+        private final ConfigurableApplicationContext context;
+        private final Volume volume;
+        private final int rows;
+        private final SyntheticDataGenerator generator;
+        private final JwtUtils jwtUtils;
+        private final Map<String, String> ids = new HashMap<>();
+        private final Map<String, String> emails = new HashMap<>();
+
+        Fixtures(ConfigurableApplicationContext context, Volume volume, int rows) {
+            this.context = context;
+            this.volume = volume;
+            this.rows = rows;
+            // Only for the ids: the same seed addresses the rows SyntheticDataLoader inserted
+            this.generator = new SyntheticDataGenerator(context.getBean(JdbcTemplate.class), null, SEED, 1,
+                    LocalDateTime.now());
+            this.jwtUtils = context.getBean(JwtUtils.class);
+        }
+
+        void insert() {
+            ids.put("faculty", generator.userId(0));
+            ids.put("judge", generator.userId(1));
+            ids.put("student", generator.userId(2));
+            emails.put("faculty", SyntheticDataGenerator.email(0));
+            emails.put("judge", SyntheticDataGenerator.email(1));
+            emails.put("student", SyntheticDataGenerator.email(2));
+            ids.put("college", generator.collegeId(0));
+            ids.put("event", generator.eventId(0));
+            ids.put("room", generator.chatRoomId(0));
+            ids.put("hackathon", generator.hackathonId(0));
+            ids.put("team", generator.teamId(volume, 0, 0));
+
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            Set<String> registered = new HashSet<>(jdbcTemplate.queryForList(
+                    "select event_id from event_registrations where user_id = ?", String.class, ids.get("student")));
+            boolean inTeam = !jdbcTemplate.queryForList("select id from team_members where team_id = ? and user_id = ?",
+                    String.class, ids.get("team"), ids.get("student")).isEmpty();
+
+            EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(tx -> {
+                EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+                College college = em.getReference(College.class, ids.get("college"));
+                User student = em.getReference(User.class, ids.get("student"));
+                User faculty = em.getReference(User.class, ids.get("faculty"));
+                User judge = em.getReference(User.class, ids.get("judge"));
+                Event event = em.getReference(Event.class, ids.get("event"));
+                User director = user(em, "director", "director", college);
+                user(em, "admin", "college_admin", college);
+
+                for (int e = 0; e < Math.min(rows, volume.events()); e++) {
+                    if (!registered.contains(generator.eventId(e))) {
+                        EventRegistration registration = new EventRegistration();
+                        registration.setEvent(em.getReference(Event.class, generator.eventId(e)));
+                        registration.setUser(student);
+                        em.persist(registration);
+                    }
+                }
+                if (!inTeam) {
+                    TeamMember member = new TeamMember();
+                    member.setTeam(em.getReference(Team.class, ids.get("team")));
+                    member.setUser(student);
+                    em.persist(member);
+                }
+
+                ScoreLock lock = new ScoreLock();
+                lock.setEvent(event);
+                lock.setLockedBy(director);
+                em.persist(lock);
+
+                for (int i = 0; i < rows; i++) {
+                    // Another user per row for the lists of one record: registrants, members, scores
+                    User other = em.getReference(User.class, generator.userId(3 + i % (volume.users() - 3)));
+
+                    Webinar webinar = new Webinar();
+                    webinar.setTitle("Budget Webinar " + i);
+                    webinar.setSpeakerName("Speaker " + i);
+                    webinar.setMode("Online");
+                    webinar.setStartDate(LocalDateTime.now().plusDays(7 + i % 30));
+                    webinar.setEndDate(LocalDateTime.now().plusDays(7 + i % 30).plusHours(1));
+                    webinar.setDuration(60);
+                    webinar.setMaxParticipants(rows * 2);
+                    webinar.setCreatedBy(ids.get("faculty"));
+                    em.persist(webinar);
+                    em.persist(webinarRegistration(webinar, student));
+                    if (i == 0) {
+                        ids.put("webinar", webinar.getId());
+                        for (int j = 0; j < Math.min(rows, volume.users() - 3); j++) {
+                            em.persist(webinarRegistration(webinar, em.getReference(User.class, generator.userId(3 + j))));
+                        }
+                    }
+
+                    Certificate certificate = new Certificate();
+                    certificate.setUser(student);
+                    certificate.setEvent(em.getReference(Event.class, generator.eventId(i % volume.events())));
+                    certificate.setIssuer(faculty);
+                    certificate.setCertificateId("BUDGET-" + i);
+                    certificate.setVerificationCode("CODE" + i);
+                    certificate.setTitle("Budget Event " + i);
+                    certificate.setCategory("event");
+                    certificate.setStudentName("Budget Student");
+                    certificate.setIssuedAt(LocalDateTime.now());
+                    em.persist(certificate);
+                    if (i == 0) {
+                        ids.put("certificate", certificate.getId());
+                        ids.put("certificateCode", certificate.getCertificateId());
+                        ids.put("verificationCode", certificate.getVerificationCode());
+                    }
+
+                    Submission submission = new Submission();
+                    submission.setEvent(event);
+                    submission.setUser(other);
+                    submission.setProjectTitle("Budget Project " + i);
+                    em.persist(submission);
+                    if (i == 0) ids.put("submission", submission.getId());
+                    JudgeScore score = new JudgeScore();
+                    score.setJudge(judge);
+                    score.setSubmission(submission);
+                    score.setTotalScore((double) (i % 41));
+                    score.setStatus("SUBMITTED");
+                    score.setIsDraft(false);
+                    em.persist(score);
+
+                    Notification notification = new Notification();
+                    notification.setUser(student);
+                    notification.setTitle("Budget notification " + i);
+                    notification.setMessage("Budget notification " + i);
+                    notification.setType("INFO");
+                    notification.setCategory("SYSTEM");
+                    em.persist(notification);
+
+                    Club club = new Club();
+                    club.setName("Budget Club " + i);
+                    club.setCollege(college);
+                    club.setFacultyAdvisor(faculty);
+                    club.setCategory("Technical");
+                    em.persist(club);
+                    em.persist(membership(club, student));
+                    if (i == 0) {
+                        ids.put("club", club.getId());
+                        for (int j = 0; j < Math.min(rows, volume.users() - 3); j++) {
+                            em.persist(membership(club, em.getReference(User.class, generator.userId(3 + j))));
+                        }
+                    }
+
+                    ForumPost post = new ForumPost();
+                    post.setTitle("Budget Post " + i);
+                    post.setContent("Budget post " + i);
+                    post.setCategory("General");
+                    post.setAuthor(student);
+                    em.persist(post);
+                    if (i == 0) ids.put("post", post.getId());
+                    ForumComment comment = new ForumComment();
+                    comment.setPost(em.getReference(ForumPost.class, ids.get("post")));
+                    comment.setAuthor(other);
+                    comment.setContent("Budget comment " + i);
+                    em.persist(comment);
+
+                    SupportTicket ticket = new SupportTicket();
+                    ticket.setUser(student);
+                    ticket.setTitle("Budget ticket " + i);
+                    ticket.setDescription("Budget ticket " + i);
+                    ticket.setCategory("TECHNICAL");
+                    ticket.setPriority("LOW");
+                    ticket.setStatus("OPEN");
+                    em.persist(ticket);
+                    if (i == 0) ids.put("ticket", ticket.getId());
+                    SupportMessage message = new SupportMessage();
+                    message.setTicket(ticket);
+                    message.setSender(other);
+                    message.setMessage("Budget reply " + i);
+                    em.persist(message);
+                    SupportAttachment attachment = new SupportAttachment();
+                    attachment.setTicket(ticket);
+                    attachment.setFileName("budget-" + i + ".png");
+                    attachment.setFileUrl("/uploads/budget-" + i + ".png");
+                    em.persist(attachment);
+
+                    Complaint complaint = new Complaint();
+                    complaint.setReporter(student);
+                    complaint.setType("OTHER");
+                    complaint.setSubject("Budget complaint " + i);
+                    complaint.setDescription("Budget complaint " + i);
+                    complaint.setStatus("OPEN");
+                    em.persist(complaint);
+
+                    EventFeedback feedback = new EventFeedback();
+                    feedback.setEvent(event);
+                    feedback.setStudent(other);
+                    feedback.setRating(1 + i % 5);
+                    feedback.setComment("Budget feedback " + i);
+                    em.persist(feedback);
+
+                    if (i % 500 == 499) {
+                        em.flush();
+                    }
+                }
+            });
+        }
+
+        private User user(EntityManager em, String caller, String role, College college) {
+            User user = new User();
+            user.setName("Budget " + caller);
+            user.setEmail(caller + "@query-budgets.test");
+            user.setPassword("not-used");
+            user.setRole(role);
+            user.setCollege(college);
+            em.persist(user);
+            ids.put(caller, user.getId());
+            emails.put(caller, user.getEmail());
+            return user;
+        }
+
+        private static WebinarRegistration webinarRegistration(Webinar webinar, User student) {
+            WebinarRegistration registration = new WebinarRegistration();
+            registration.setWebinar(webinar);
+            registration.setStudent(student);
+            return registration;
+        }
+
+        private static ClubMembership membership(Club club, User user) {
+            ClubMembership membership = new ClubMembership();
+            membership.setClub(club);
+            membership.setUser(user);
+            membership.setRole("MEMBER");
+            membership.setStatus("ACTIVE");
+            return membership;
+        }
+
+        /** Replaces {student}, {event} and the other placeholders with this data set's ids. */
+        String resolve(String uri) {
+            String resolved = uri.replace("{today}", LocalDate.now().toString());
+            for (Map.Entry<String, String> id : ids.entrySet()) {
+                resolved = resolved.replace("{" + id.getKey() + "}", id.getValue());
+            }
+            if (resolved.contains("{")) {
+                throw new IllegalArgumentException("Unknown placeholder in " + uri);
+            }
+            return resolved;
+        }
+
+        /** A token for the caller, or null for "anonymous". */
+        String token(String caller) {
+            if (caller.equals("anonymous")) return null;
+            String email = emails.get(caller);
+            if (email == null) {
+                throw new IllegalArgumentException("Unknown caller " + caller);
+            }
+            return jwtUtils.generateToken(email);
+        }
+    }
+}
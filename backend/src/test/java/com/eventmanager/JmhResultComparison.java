@@ -0,0 +1,89 @@
+package com.eventmanager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (from {@code mvn -Pjmh test}) benchmark by benchmark; not
+ * picked up by Surefire.
+ *
+ * Run with:
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.eventmanager.JmhResultComparison
+ *     -Dexec.args="jmh-baseline.json target/jmh-result.json 10"
+ *
+ * Arguments: baseline file, current file, regression threshold in percent (default 10). A
+ * benchmark regresses when it is worse by more than the threshold and by more than the two
+ * results' error margins combined. Exits with status 1 if anything regressed.
+ */
+public class JmhResultComparison {
+
+    record Score(double value, double error, String unit, boolean higherIsBetter) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhResultComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, Score> entry : new TreeMap<>(current).entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", entry.getKey(), "-", format(now), "new");
+                continue;
+            }
+            double change = (now.value() - before.value()) / before.value() * 100;
+            double worse = now.higherIsBetter() ? -change : change;
+            boolean beyondNoise = Math.abs(now.value() - before.value()) > before.error() + now.error();
+            boolean regressed = worse > threshold && beyondNoise;
+            if (regressed) regressions++;
+            System.out.printf("%-70s %14s %14s %+8.1f%%%s%n", entry.getKey(), format(before), format(now), change,
+                    regressed ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream().filter(k -> !current.containsKey(k))
+                .forEach(k -> System.out.printf("%-70s %14s %14s %9s%n", k, format(baseline.get(k)), "-", "removed"));
+
+        System.out.println(regressions == 0 ? "No regressions over " + threshold + "%"
+                : regressions + " benchmark(s) regressed by more than " + threshold + "%");
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    /** Benchmark name plus its parameters, mapped to the primary score. */
+    static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.get("benchmark").asText()
+                    .replaceFirst("^com\\.eventmanager\\.", ""));
+            JsonNode params = run.get("params");
+            if (params != null) {
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            JsonNode metric = run.get("primaryMetric");
+            double error = metric.get("scoreError").asDouble();
+            scores.put(key.toString(), new Score(metric.get("score").asDouble(), Double.isNaN(error) ? 0 : error,
+                    metric.get("scoreUnit").asText(), "thrpt".equals(run.get("mode").asText())));
+        }
+        return scores;
+    }
+
+    private static String format(Score score) {
+        return String.format("%.3f %s", score.value(), score.unit());
+    }
+}
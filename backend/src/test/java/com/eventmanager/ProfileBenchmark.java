@@ -0,0 +1,185 @@
+package com.eventmanager;
+
+import com.eventmanager.model.Event;
+import com.eventmanager.model.EventRegistration;
+import com.eventmanager.model.User;
+import com.eventmanager.repository.EventRegistrationRepository;
+import com.eventmanager.repository.EventRepository;
+import com.eventmanager.repository.UserRepository;
+import com.eventmanager.service.NotificationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Runs the same seeded load against the application started with one profile, so profiles can be
+ * compared run by run; not picked up by Surefire. See PRODUCTION_PROFILE.md for results.
+ *
+ * Run with:
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.eventmanager.ProfileBenchmark -Dexec.args="prod 5000 200 4 16 20"
+ *
+ * Arguments: profile ("default" for none), users, events, registrations per user, read threads,
+ * read seconds. The database is an in-memory H2 unless -Dbench.url points elsewhere (a jdbc:mysql
+ * URL keeps the profile's driver, dialect and credentials). The schema is created and dropped by
+ * the run; data.sql is not loaded.
+ */
+public class ProfileBenchmark {
+
+    private static final int CHUNK = 1000;
+
+    public static void main(String[] args) throws Exception {
+        String profile = args.length > 0 ? args[0] : "default";
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int events = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int perUser = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+        int readThreads = args.length > 4 ? Integer.parseInt(args[4]) : 16;
+        int readSeconds = args.length > 5 ? Integer.parseInt(args[5]) : 20;
+        String url = System.getProperty("bench.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1");
+
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.sql.init.mode=never",
+                "--server.port=0"));
+        if (url.startsWith("jdbc:h2:")) {
+            appArgs.addAll(List.of(
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password="));
+        }
+        if (!"default".equals(profile)) {
+            appArgs.add("--spring.profiles.active=" + profile);
+        }
+
+        List<String> report = new ArrayList<>();
+        try (ConfigurableApplicationContext context = SpringApplication.run(BackendApplication.class,
+                appArgs.toArray(String[]::new))) {
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            EventRepository eventRepository = context.getBean(EventRepository.class);
+            EventRegistrationRepository registrationRepository = context.getBean(EventRegistrationRepository.class);
+            Random random = new Random(42);
+
+            List<String> userIds = new ArrayList<>(users);
+            List<String> eventIds = new ArrayList<>(events);
+            report.add(phase("insert users", users, statistics, () ->
+                    inChunks(users, tx, i -> {
+                        User user = new User();
+                        user.setName("Bench User " + i);
+                        user.setEmail("bench-" + i + "@bench.test");
+                        user.setPassword("not-used");
+                        user.setRole("STUDENT");
+                        userIds.add(userRepository.save(user).getId());
+                        return null;
+                    })));
+            report.add(phase("insert events", events, statistics, () ->
+                    inChunks(events, tx, i -> {
+                        Event event = new Event();
+                        event.setTitle("Bench Event " + i);
+                        event.setStatus("PUBLISHED");
+                        event.setOrganizer(userRepository.getReferenceById(userIds.get(i % userIds.size())));
+                        event.setStartDate(LocalDateTime.now().plusDays(1 + i % 30));
+                        eventIds.add(eventRepository.save(event).getId());
+                        return null;
+                    })));
+            int registrations = users * perUser;
+            report.add(phase("insert registrations", registrations, statistics, () ->
+                    inChunks(registrations, tx, i -> {
+                        EventRegistration registration = new EventRegistration();
+                        registration.setUser(userRepository.getReferenceById(userIds.get(i / perUser)));
+                        registration.setEvent(eventRepository.getReferenceById(
+                                eventIds.get((i * 7 + i / perUser) % eventIds.size())));
+                        return registrationRepository.save(registration);
+                    })));
+            report.add(phase("notification fan-out", users, statistics, () ->
+                    context.getBean(NotificationService.class).createNotifications(userIds,
+                            "Benchmark", "Fan-out to every user", "INFO", "SYSTEM")));
+            report.add(phase("mark attendance", events, statistics, () ->
+                    tx.executeWithoutResult(status -> eventIds.forEach(eventId ->
+                            registrationRepository.findByEventId(eventId).forEach(r -> r.setAttended(true))))));
+            report.add(reads(readThreads, readSeconds, events, eventRepository, statistics, random));
+        }
+
+        System.out.println();
+        System.out.printf("profile=%s url=%s users=%d events=%d registrations=%d%n",
+                profile, url, users, events, users * perUser);
+        report.forEach(System.out::println);
+    }
+
+    private static String phase(String name, int rows, Statistics statistics, Runnable body) {
+        statistics.clear();
+        long start = System.nanoTime();
+        body.run();
+        long micros = (System.nanoTime() - start) / 1000;
+        return String.format("%-22s %8d rows %9.1f ms %10.0f rows/s %8d statements",
+                name, rows, micros / 1000.0, rows * 1_000_000.0 / Math.max(1, micros),
+                statistics.getPrepareStatementCount());
+    }
+
+    private static void inChunks(int count, TransactionTemplate tx, IntFunction<Object> row) {
+        for (int from = 0; from < count; from += CHUNK) {
+            int start = from;
+            int end = Math.min(count, from + CHUNK);
+            tx.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    row.apply(i);
+                }
+            });
+        }
+    }
+
+    private static String reads(int threads, int seconds, int events, EventRepository eventRepository,
+                                Statistics statistics, Random random) throws Exception {
+        int pages = Math.max(1, events / 20);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        statistics.clear();
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = random.nextLong();
+            results.add(pool.submit(() -> {
+                Random local = new Random(seed);
+                long[] latencies = new long[1 << 16];
+                int n = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    eventRepository.findSummaries(PageRequest.of(local.nextInt(pages), 20)).getContent();
+                    if (n == latencies.length) latencies = Arrays.copyOf(latencies, n * 2);
+                    latencies[n++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, n);
+            }));
+        }
+        List<long[]> all = new ArrayList<>();
+        for (Future<long[]> result : results) all.add(result.get());
+        pool.shutdown();
+        long[] merged = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return String.format("%-22s %8d ops  %9.0f ops/s p50 %.2f ms p99 %.2f ms (%d threads)",
+                "event page reads", merged.length, merged.length / (double) seconds,
+                percentile(merged, 0.50) / 1e6, percentile(merged, 0.99) / 1e6, threads);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+}
@@ -0,0 +1,108 @@
+package com.eventmanager.config;
+
+import com.eventmanager.config.DataSourceBulkheadConfig.BulkheadDataSource;
+import com.eventmanager.config.DataSourceBulkheadConfig.Lane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Permit accounting of the connection bulkhead, against an in-memory H2 database. Threads without a
+ * request context, like the test's own, take background permits.
+ */
+class DataSourceBulkheadTests {
+
+    private final DriverManagerDataSource database = new DriverManagerDataSource(
+            "jdbc:h2:mem:bulkhead-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void givesThePermitBackOnClose() throws SQLException {
+        BulkheadDataSource bulkhead = new BulkheadDataSource(database, 1, 1, 50);
+
+        Connection connection = bulkhead.getConnection();
+        assertEquals(0, bulkhead.available(Lane.BACKGROUND));
+        connection.close();
+
+        assertEquals(1, bulkhead.available(Lane.BACKGROUND));
+        assertEquals(1, bulkhead.available(Lane.REQUEST));
+    }
+
+    @Test
+    void givesThePermitBackOnlyOnceWhenClosedTwice() throws SQLException {
+        BulkheadDataSource bulkhead = new BulkheadDataSource(database, 1, 1, 50);
+
+        Connection connection = bulkhead.getConnection();
+        connection.close();
+        connection.close();
+        assertEquals(1, bulkhead.available(Lane.BACKGROUND));
+
+        // A second permit would let both of these through
+        try (Connection held = bulkhead.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        }
+        assertEquals(1, bulkhead.available(Lane.BACKGROUND));
+    }
+
+    @Test
+    void givesThePermitBackWhenThePoolFails() {
+        SQLException refused = new SQLException("Connection refused", "08001");
+        BulkheadDataSource bulkhead = new BulkheadDataSource(new DelegatingDataSource(database) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw refused;
+            }
+        }, 1, 1, 50);
+
+        assertSame(refused, assertThrows(SQLException.class, bulkhead::getConnection));
+        assertEquals(1, bulkhead.available(Lane.BACKGROUND));
+    }
+
+    @Test
+    void aRejectedCallerGivesNothingBack() throws SQLException {
+        BulkheadDataSource bulkhead = new BulkheadDataSource(database, 1, 1, 50);
+
+        Connection held = bulkhead.getConnection();
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        assertEquals(0, bulkhead.available(Lane.BACKGROUND));
+
+        held.close();
+        assertEquals(1, bulkhead.available(Lane.BACKGROUND));
+    }
+
+    @Test
+    void requestsCannotTakeTheBackgroundPermits() throws SQLException {
+        BulkheadDataSource bulkhead = new BulkheadDataSource(database, 1, 1, 50);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        try (Connection request = bulkhead.getConnection()) {
+            assertEquals(0, bulkhead.available(Lane.REQUEST));
+            assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+            assertEquals(1, bulkhead.available(Lane.BACKGROUND));
+
+            RequestContextHolder.resetRequestAttributes();
+            try (Connection background = bulkhead.getConnection()) {
+                assertEquals(0, bulkhead.available(Lane.BACKGROUND));
+            }
+        }
+        assertEquals(1, bulkhead.available(Lane.REQUEST));
+        assertEquals(1, bulkhead.available(Lane.BACKGROUND));
+    }
+}
@@ -0,0 +1,62 @@
+package com.eventmanager.security;
+
+import com.eventmanager.model.College;
+import com.eventmanager.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for issuing a login token and for the two calls every authenticated request makes
+ * ({@code extractUsername}, {@code validateToken}). Run with {@code mvn -Pjmh test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private final JwtUtils jwtUtils = new JwtUtils();
+    private User user;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret",
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+
+        College college = new College();
+        college.setId("b7c9e0a2-55f1-4a51-9d0e-3f6a1c2b4d5e");
+        user = new User();
+        user.setEmail("student@college.edu");
+        user.setName("Alex Johnson");
+        user.setRole("student");
+        user.setAcademicYear(3);
+        user.setDepartment("Computer Science");
+        user.setCollege(college);
+        userDetails = org.springframework.security.core.userdetails.User
+                .withUsername(user.getEmail()).password("").roles("STUDENT").build();
+        token = jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtils.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.validateToken(token, userDetails);
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventmanager.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScrapeCredentialAuthorizationManagerTests {
+
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken("key", "anonymousUser",
+            AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    @Test
+    void grantsTheScrapeCredentialFromAnyAddress() {
+        ScrapeCredentialAuthorizationManager manager = new ScrapeCredentialAuthorizationManager("prometheus", "s3cret");
+
+        assertTrue(granted(manager, ANONYMOUS, request("203.0.113.7", basic("prometheus", "s3cret"))));
+        assertFalse(granted(manager, ANONYMOUS, request("203.0.113.7", basic("prometheus", "wrong"))));
+        assertFalse(granted(manager, ANONYMOUS, request("203.0.113.7", basic("admin", "s3cret"))));
+    }
+
+    @Test
+    void loopbackIsNotEnough() {
+        ScrapeCredentialAuthorizationManager manager = new ScrapeCredentialAuthorizationManager("prometheus", "s3cret");
+
+        assertFalse(granted(manager, ANONYMOUS, request("127.0.0.1", null)));
+        assertFalse(granted(manager, ANONYMOUS, request("::1", null)));
+    }
+
+    @Test
+    void credentialIsOffWithoutAPassword() {
+        ScrapeCredentialAuthorizationManager manager = new ScrapeCredentialAuthorizationManager("prometheus", "");
+
+        assertFalse(granted(manager, ANONYMOUS, request("127.0.0.1", basic("prometheus", ""))));
+    }
+
+    @Test
+    void grantsAdminsOnly() {
+        ScrapeCredentialAuthorizationManager manager = new ScrapeCredentialAuthorizationManager("prometheus", "");
+
+        assertTrue(granted(manager, user("ROLE_SUPER_ADMIN"), request("203.0.113.7", null)));
+        assertTrue(granted(manager, user("ROLE_COLLEGE_ADMIN"), request("203.0.113.7", null)));
+        assertFalse(granted(manager, user("ROLE_STUDENT"), request("127.0.0.1", null)));
+    }
+
+    private static boolean granted(ScrapeCredentialAuthorizationManager manager, Authentication authentication,
+                                   MockHttpServletRequest request) {
+        return manager.check(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.setRemoteAddr(remoteAddr);
+        if (authorization != null) request.addHeader("Authorization", authorization);
+        return request;
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Authentication user(String role) {
+        TestingAuthenticationToken token = new TestingAuthenticationToken("user", null, role);
+        token.setAuthenticated(true);
+        return token;
+    }
+}
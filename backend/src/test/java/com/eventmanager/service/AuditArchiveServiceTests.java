@@ -0,0 +1,112 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.AuditEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The hot-window prune must only delete rows the log store holds, whatever happened to their
+ * appends. Runs against a plain in-memory H2 database, without a Spring context.
+ */
+class AuditArchiveServiceTests {
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate jdbcTemplate;
+    private AuditArchiveService service;
+    private final LocalDateTime today = LocalDate.now().atTime(12, 0);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:archive-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("create table audit_events (id bigint auto_increment primary key, action varchar(64), "
+                + "entity_type varchar(64), entity_id varchar(64), user_id varchar(64), username varchar(64), "
+                + "user_role varchar(64), details varchar(255), ip_address varchar(64), user_agent varchar(255), "
+                + "status varchar(32), error_message varchar(255), timestamp timestamp)");
+        jdbcTemplate.execute("create table governance_events (id varchar(64) primary key, entity_type varchar(64), "
+                + "entity_id varchar(64), action_type varchar(64), actor_id varchar(64), actor_email varchar(64), "
+                + "from_status varchar(32), to_status varchar(32), comments varchar(255), metadata varchar(255), "
+                + "created_at timestamp)");
+        service = new AuditArchiveService(jdbcTemplate, new ObjectMapper().findAndRegisterModules(), true, dir, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        service.close();
+    }
+
+    @Test
+    void pruneStopsAtTheFirstDayThatIsNotFullyArchived() {
+        AuditEventDto fiveDaysAgo = insert(today.minusDays(5));
+        insert(today.minusDays(4));
+        AuditEventDto threeDaysAgo = insert(today.minusDays(3));
+        service.archive(List.of(fiveDaysAgo, threeDaysAgo));
+
+        service.pruneHotWindow();
+
+        assertEquals(List.of(today.minusDays(4), today.minusDays(3)), remaining());
+    }
+
+    @Test
+    void pruneKeepsRowsWhoseAppendFailed() throws IOException {
+        AuditEventDto archived = insert(today.minusDays(5));
+        service.archive(List.of(archived));
+        // A day that has no segment yet can no longer be opened
+        Path audit = dir.resolve(AuditArchiveService.AUDIT);
+        try (var files = Files.list(audit)) {
+            for (Path file : files.toList()) Files.delete(file);
+        }
+        Files.delete(audit);
+        Files.createFile(audit);
+        service.archive(List.of(insert(today.minusDays(3))));
+        insert(today.minusDays(2));
+
+        service.pruneHotWindow();
+
+        assertEquals(List.of(today.minusDays(3), today.minusDays(2)), remaining());
+    }
+
+    @Test
+    void backfillCopiesRowsOlderThanTheStoreEvenAfterTheWriterAppended() {
+        insert(today.minusDays(6));
+        insert(today.minusDays(5));
+        service.archive(List.of(insert(today)));
+
+        service.backfillOlderRows();
+        service.backfillOlderRows();
+
+        assertEquals(3, service.findAudit(null, null, null, null, PageRequest.of(0, 10)).getTotalElements());
+        service.pruneHotWindow();
+        assertEquals(List.of(today), remaining());
+    }
+
+    private AuditEventDto insert(LocalDateTime timestamp) {
+        jdbcTemplate.update("insert into audit_events (action, entity_type, entity_id, user_id, timestamp) "
+                + "values ('UPDATE', 'EVENT', 'e1', 'u1', ?)", Timestamp.valueOf(timestamp));
+        return new AuditEventDto("UPDATE", "EVENT", "e1", "u1", null, null, null, null, null, null, null, timestamp);
+    }
+
+    private List<LocalDateTime> remaining() {
+        return jdbcTemplate.queryForList("select timestamp from audit_events order by timestamp", Timestamp.class)
+                .stream().map(Timestamp::toLocalDateTime).toList();
+    }
+}
@@ -0,0 +1,224 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.AuditEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Overload policies and spill replay of {@link AuditLogWriter}, against an in-memory H2 database
+ * that can be taken offline. The writer thread is only started right before {@code stop()}, so the
+ * queue fills deterministically and everything is flushed by the shutdown path.
+ */
+class AuditLogWriterTests {
+
+    @TempDir
+    Path dir;
+
+    private SwitchableDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SwitchableDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:writer-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table audit_events (id bigint auto_increment primary key, action varchar(64), "
+                + "entity_type varchar(64), entity_id varchar(64), user_id varchar(64), username varchar(64), "
+                + "user_role varchar(64), details varchar(255), ip_address varchar(64), user_agent varchar(255), "
+                + "status varchar(32), error_message varchar(255), timestamp timestamp)");
+    }
+
+    @Test
+    void dropDiscardsRowsOnceTheQueueIsFull() throws Exception {
+        AuditLogWriter writer = writer(AuditLogWriter.OverloadPolicy.DROP);
+        for (int i = 0; i < 3; i++) writer.submit(event("e" + i));
+
+        assertEquals(2L, writer.getStats().get("dropped"));
+        assertEquals(1, writer.getQueueDepth());
+
+        writer.start();
+        writer.stop();
+        assertEquals(List.of("e0"), rows());
+    }
+
+    @Test
+    void blockWritesOnTheCallersThreadOnceTheQueueIsFull() throws Exception {
+        AuditLogWriter writer = writer(AuditLogWriter.OverloadPolicy.BLOCK);
+        writer.submit(event("e0"));
+        writer.submit(event("e1"));
+
+        assertEquals(1L, writer.getStats().get("writtenByCaller"));
+        assertEquals(List.of("e1"), rows());
+
+        writer.start();
+        writer.stop();
+        // The caller's row went in ahead of the queued one
+        assertEquals(List.of("e1", "e0"), rows());
+    }
+
+    @Test
+    void blockSpillsInsteadOfDroppingWhileTheDatabaseIsDown() throws Exception {
+        AuditLogWriter writer = writer(AuditLogWriter.OverloadPolicy.BLOCK);
+        writer.submit(event("e0"));
+        dataSource.down = true;
+        writer.submit(event("e1"));
+
+        assertEquals(1L, writer.getStats().get("spilled"));
+        assertEquals(0L, writer.getStats().get("failed"));
+        assertTrue(Files.exists(dir.resolve("audit-spill.jsonl")));
+
+        dataSource.down = false;
+        writer.start();
+        writer.stop();
+        assertEquals(List.of("e0", "e1"), rows());
+        assertEquals(false, writer.getStats().get("spillPending"));
+    }
+
+    @Test
+    void spillWritesOverflowToDiskAndReplaysIt() throws Exception {
+        AuditLogWriter writer = writer(AuditLogWriter.OverloadPolicy.SPILL);
+        for (int i = 0; i < 3; i++) writer.submit(event("e" + i));
+
+        assertEquals(2L, writer.getStats().get("spilled"));
+        assertEquals(2, Files.readAllLines(dir.resolve("audit-spill.jsonl")).size());
+        assertTrue(rows().isEmpty());
+
+        writer.start();
+        writer.stop();
+        assertEquals(List.of("e0", "e1", "e2"), rows());
+        assertFalse(Files.exists(dir.resolve("audit-spill.jsonl")));
+    }
+
+    @Test
+    void replaysAFileLeftMidReplayByACrash() throws Exception {
+        writeLines(dir.resolve("audit-spill.jsonl.replaying"), "e0", "e1", "e2");
+
+        AuditLogWriter writer = writer(AuditLogWriter.OverloadPolicy.SPILL);
+        writer.start();
+        writer.stop();
+
+        assertEquals(List.of("e0", "e1", "e2"), rows());
+        assertFalse(Files.exists(dir.resolve("audit-spill.jsonl.replaying")));
+    }
+
+    @Test
+    void keepsUnwrittenLinesWhenTheDatabaseGoesAwayDuringReplay() throws Exception {
+        writeLines(dir.resolve("audit-spill.jsonl"), "e0", "e1", "e2");
+        dataSource.down = true;
+
+        AuditLogWriter first = writer(AuditLogWriter.OverloadPolicy.SPILL);
+        first.start();
+        first.stop();
+        assertEquals(3, Files.readAllLines(dir.resolve("audit-spill.jsonl.replaying")).size());
+
+        dataSource.down = false;
+        AuditLogWriter second = writer(AuditLogWriter.OverloadPolicy.SPILL);
+        second.start();
+        second.stop();
+        assertEquals(List.of("e0", "e1", "e2"), rows());
+        assertEquals(false, second.getStats().get("spillPending"));
+    }
+
+    @Test
+    void keepsOnlyTheLinesAfterTheLastWrittenBatch() throws Exception {
+        writeLines(dir.resolve("audit-spill.jsonl"), "e0", "e1", "e2", "e3", "e4");
+        // The first batch goes in, the database is gone for the second
+        dataSource.downAfter = dataSource.connections.get() + 1;
+
+        AuditLogWriter writer = writer(AuditLogWriter.OverloadPolicy.SPILL);
+        writer.start();
+        writer.stop();
+
+        List<String> kept = new ArrayList<>();
+        for (String line : Files.readAllLines(dir.resolve("audit-spill.jsonl.replaying"))) {
+            kept.add(objectMapper.readValue(line, AuditEventDto.class).action());
+        }
+        assertEquals(List.of("e2", "e3", "e4"), kept);
+        dataSource.downAfter = Integer.MAX_VALUE;
+        assertEquals(List.of("e0", "e1"), rows());
+    }
+
+    @Test
+    void backsOffWhileTheDatabaseIsDown() throws Exception {
+        writeLines(dir.resolve("audit-spill.jsonl"), "e0", "e1");
+        dataSource.down = true;
+
+        // Would try every 10 ms without the backoff
+        AuditLogWriter writer = writer(AuditLogWriter.OverloadPolicy.SPILL, 10);
+        writer.start();
+        Thread.sleep(300);
+        assertEquals(1, dataSource.refused.get());
+
+        dataSource.down = false;
+        writer.stop();
+        assertEquals(List.of("e0", "e1"), rows());
+    }
+
+    // Queue of one, batches of two, and a flush interval long enough that the writer never wakes on its own
+    private AuditLogWriter writer(AuditLogWriter.OverloadPolicy policy) throws IOException {
+        return writer(policy, 60_000);
+    }
+
+    private AuditLogWriter writer(AuditLogWriter.OverloadPolicy policy, long flushIntervalMs) throws IOException {
+        AuditArchiveService archive = new AuditArchiveService(jdbcTemplate, objectMapper, false, dir, 30);
+        return new AuditLogWriter(jdbcTemplate, archive, objectMapper, 1, 2, flushIntervalMs, policy, 10, dir);
+    }
+
+    private void writeLines(Path file, String... actions) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String action : actions) lines.add(objectMapper.writeValueAsString(event(action)));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    private static AuditEventDto event(String action) {
+        return new AuditEventDto(action, "EVENT", "e1", "u1", null, null, null, null, null, "SUCCESS", null,
+                LocalDateTime.now());
+    }
+
+    private List<String> rows() {
+        return jdbcTemplate.queryForList("select action from audit_events order by id", String.class);
+    }
+
+    private static final class SwitchableDataSource extends DelegatingDataSource {
+        volatile boolean down;
+        // Goes down by itself after this many connections
+        volatile int downAfter = Integer.MAX_VALUE;
+        final AtomicInteger connections = new AtomicInteger();
+        final AtomicInteger refused = new AtomicInteger();
+
+        SwitchableDataSource(DriverManagerDataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down || connections.getAndIncrement() >= downAfter) {
+                refused.incrementAndGet();
+                throw new SQLException("Connection refused", "08001");
+            }
+            return super.getConnection();
+        }
+    }
+}
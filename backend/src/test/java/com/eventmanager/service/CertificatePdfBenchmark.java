@@ -0,0 +1,52 @@
+package com.eventmanager.service;
+
+import com.eventmanager.model.Certificate;
+import com.eventmanager.util.QRCodeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for rendering a certificate PDF, with and without the embedded QR code. Run with
+ * {@code mvn -Pjmh test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CertificatePdfBenchmark {
+
+    private final CertificateServiceImpl service = new CertificateServiceImpl();
+    private Certificate withQr;
+    private Certificate withoutQr;
+
+    @Setup
+    public void setUp() throws Exception {
+        QRCodeGenerator qr = new QRCodeGenerator();
+        withoutQr = new Certificate();
+        withoutQr.setCertificateId("CERT-" + qr.generateVerificationCode());
+        withoutQr.setStudentName("Alex Johnson");
+        withoutQr.setCategory("hackathon");
+        withoutQr.setTitle("Global Innovation Hackathon 2024");
+
+        withQr = new Certificate();
+        withQr.setCertificateId(withoutQr.getCertificateId());
+        withQr.setStudentName(withoutQr.getStudentName());
+        withQr.setCategory(withoutQr.getCategory());
+        withQr.setTitle(withoutQr.getTitle());
+        withQr.setQrCodeUrl(qr.generateQRCodeBase64(
+                "http://localhost:5173/verify-certificate/" + withQr.getCertificateId()));
+    }
+
+    @Benchmark
+    public byte[] generatePdf() {
+        return service.generatePdf(withQr);
+    }
+
+    @Benchmark
+    public byte[] generatePdfWithoutQr() {
+        return service.generatePdf(withoutQr);
+    }
+}
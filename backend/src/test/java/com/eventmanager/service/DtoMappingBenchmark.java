@@ -0,0 +1,112 @@
+package com.eventmanager.service;
+
+import com.eventmanager.dto.TeamDto;
+import com.eventmanager.dto.WebinarDto;
+import com.eventmanager.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the entity-to-DTO mapping in {@link WebinarServiceImpl} and
+ * {@link TeamServiceImpl}. The webinar mapping checks "is the caller registered" against the set of
+ * webinars the caller is registered for, loaded once per request, so it is measured per set size.
+ * Run with {@code mvn -Pjmh test}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Webinars {
+
+        @Param({"10", "1000"})
+        public int registrations;
+
+        WebinarServiceImpl service;
+        Webinar webinar;
+        Set<String> registeredWebinarIds;
+
+        @Setup
+        public void setUp() {
+            webinar = new Webinar();
+            webinar.setId("webinar-1");
+            webinar.setTitle("Scaling Spring Boot");
+            webinar.setDescription("Connection pools, caches and batching");
+            webinar.setSpeakerName("Dr. Sarah Chen");
+            webinar.setMode("Online");
+            webinar.setStartDate(LocalDateTime.of(2025, 3, 1, 10, 0));
+            webinar.setEndDate(LocalDateTime.of(2025, 3, 1, 11, 30));
+            webinar.setDuration(90);
+            webinar.setMaxParticipants(200);
+            webinar.setRegisteredCount(120);
+
+            registeredWebinarIds = new HashSet<>(registrations);
+            for (int i = 0; i < registrations - 1; i++) {
+                registeredWebinarIds.add("webinar-other-" + i);
+            }
+            registeredWebinarIds.add(webinar.getId());
+            service = new WebinarServiceImpl(null, null, null, null, null, null, null);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Teams {
+
+        TeamServiceImpl service;
+        Team team;
+
+        @Setup
+        public void setUp() {
+            Hackathon hackathon = new Hackathon();
+            hackathon.setId("hackathon-1");
+            hackathon.setTitle("Global Innovation Hackathon 2024");
+            team = new Team();
+            team.setId("team-1");
+            team.setName("Null Pointers");
+            team.setHackathon(hackathon);
+            team.setProjectName("Campus Navigator");
+            team.setJoinCode("K7QX2M");
+            team.setMaxMembers(4);
+            team.setCreatedAt(LocalDateTime.of(2025, 2, 1, 9, 0));
+            List<TeamMember> members = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                User user = new User();
+                user.setId("member-" + i);
+                user.setName("Member " + i);
+                user.setEmail("member" + i + "@college.edu");
+                TeamMember member = new TeamMember();
+                member.setTeam(team);
+                member.setUser(user);
+                member.setRole(i == 0 ? "LEADER" : "MEMBER");
+                members.add(member);
+            }
+            team.setLeader(members.get(0).getUser());
+            team.setMembers(members);
+            service = new TeamServiceImpl(null, null, null, null, null, null, null, null, null, null);
+        }
+    }
+
+    @Benchmark
+    public WebinarDto webinarAnonymous(Webinars state) {
+        return state.service.convertToDto(state.webinar, null);
+    }
+
+    @Benchmark
+    public WebinarDto webinarForRegisteredUser(Webinars state) {
+        return state.service.convertToDto(state.webinar, state.registeredWebinarIds);
+    }
+
+    @Benchmark
+    public TeamDto team(Teams state) {
+        return state.service.convertToDto(state.team);
+    }
+}
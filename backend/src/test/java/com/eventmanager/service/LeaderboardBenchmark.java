@@ -0,0 +1,51 @@
+package com.eventmanager.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the leaderboard's sort and rank step ({@link LeaderboardService#sortAndRank})
+ * at several field sizes. Each invocation ranks a fresh copy of the same unsorted entries (the
+ * copy is part of the measurement). Run with {@code mvn -Pjmh test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int submissions;
+
+    private List<Map<String, Object>> entries;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        entries = new ArrayList<>(submissions);
+        for (int i = 0; i < submissions; i++) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("submissionId", "submission-" + i);
+            entry.put("teamName", "Team " + i);
+            entry.put("title", "Project " + i);
+            // Averages of three judges' 0-40 totals, so ties are common
+            entry.put("score", (random.nextInt(41) + random.nextInt(41) + random.nextInt(41)) / 3.0);
+            entries.add(entry);
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> sortAndRank() {
+        List<Map<String, Object>> leaderboard = new ArrayList<>(entries);
+        LeaderboardService.sortAndRank(leaderboard);
+        return leaderboard;
+    }
+}
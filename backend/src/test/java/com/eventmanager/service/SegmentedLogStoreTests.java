@@ -0,0 +1,139 @@
+package com.eventmanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedLogStoreTests {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackWhatWasAppended() throws IOException {
+        try (SegmentedLogStore store = new SegmentedLogStore(dir, ZONE)) {
+            store.append(entry(DAY.plusHours(9), "EVENT", "u1", "a"));
+            store.append(entry(DAY.plusHours(10), "USER", "u2", "b"));
+            store.append(entry(DAY.plusHours(11), "EVENT", null, "c"));
+            store.append(entry(DAY.plusHours(12), null, "u1", "d"));
+
+            SegmentedLogStore.Slice all = store.query(0, Long.MAX_VALUE, null, null, 0, 10);
+            assertEquals(List.of("d", "c", "b", "a"), text(all));
+            assertEquals(4, all.total());
+            assertEquals(List.of("c", "a"), text(store.query(0, Long.MAX_VALUE, "EVENT", null, 0, 10)));
+            assertEquals(List.of("d", "a"), text(store.query(0, Long.MAX_VALUE, null, "u1", 0, 10)));
+            assertEquals(List.of("c", "b"), text(store.query(millis(DAY.plusHours(10)), millis(DAY.plusHours(11)),
+                    null, null, 0, 10)));
+            assertEquals(millis(DAY.plusHours(9)), store.firstTimestamp());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(4, store.export(0, Long.MAX_VALUE, out));
+            assertEquals("a\nb\nc\nd\n", out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void pagesAcrossSegments() throws IOException {
+        List<String> expected = new ArrayList<>();
+        try (SegmentedLogStore store = new SegmentedLogStore(dir, ZONE)) {
+            for (int day = 0; day < 3; day++) {
+                for (int i = 0; i < 100; i++) {
+                    String payload = day + "-" + i;
+                    store.append(entry(DAY.plusDays(day).plusMinutes(i), "EVENT", "u" + (i % 3), payload));
+                    expected.add(0, payload);
+                }
+            }
+
+            List<String> paged = new ArrayList<>();
+            for (int offset = 0; offset < 300; offset += 7) {
+                SegmentedLogStore.Slice page = store.query(0, Long.MAX_VALUE, null, null, offset, 7);
+                assertEquals(300, page.total());
+                paged.addAll(text(page));
+            }
+            assertEquals(expected, paged);
+
+            SegmentedLogStore.Slice filtered = store.query(0, Long.MAX_VALUE, "EVENT", "u0", 30, 10);
+            assertEquals(102, filtered.total());
+            assertEquals(10, filtered.payloads().size());
+        }
+    }
+
+    @Test
+    void filesLateRecordsUnderTheirOwnDay() throws IOException {
+        try (SegmentedLogStore store = new SegmentedLogStore(dir, ZONE)) {
+            store.append(entry(DAY.plusDays(1).plusHours(10), "EVENT", "u1", "day2-10h"));
+            store.append(entry(DAY.plusDays(1).plusHours(12), "EVENT", "u1", "day2-12h"));
+            // A spill replay or a backfill: older than what is already stored
+            store.append(entry(DAY.plusHours(9), "EVENT", "u1", "day1-9h"));
+            store.append(entry(DAY.plusDays(1).plusHours(11), "EVENT", "u1", "day2-11h"));
+            store.append(entry(DAY.plusDays(1).plusHours(8), "USER", "u2", "day2-8h"));
+
+            assertEquals(List.of("day1-9h"), text(store.query(millis(DAY), millis(DAY.plusDays(1)) - 1, null, null, 0, 10)));
+            assertEquals(List.of("day2-11h"), text(store.query(millis(DAY.plusDays(1).plusHours(10).plusMinutes(30)),
+                    millis(DAY.plusDays(1).plusHours(11).plusMinutes(30)), null, null, 0, 10)));
+            assertEquals(1, store.query(millis(DAY.plusDays(1).plusHours(7)), millis(DAY.plusDays(1).plusHours(9)),
+                    null, null, 0, 0).total());
+            assertEquals(1, store.query(millis(DAY.plusDays(1).plusHours(7)), millis(DAY.plusDays(1).plusHours(9)),
+                    "USER", null, 0, 0).total());
+            assertEquals(3, store.query(millis(DAY.plusDays(1).plusHours(9)), millis(DAY.plusDays(2)),
+                    null, null, 0, 0).total());
+            assertEquals(5, store.query(0, Long.MAX_VALUE, null, null, 0, 0).total());
+            assertEquals(millis(DAY.plusHours(9)), store.firstTimestamp());
+        }
+        try (SegmentedLogStore reopened = new SegmentedLogStore(dir, ZONE)) {
+            assertEquals(List.of("day1-9h"), text(reopened.query(millis(DAY), millis(DAY.plusDays(1)) - 1, null, null, 0, 10)));
+            assertEquals(millis(DAY.plusHours(9)), reopened.firstTimestamp());
+        }
+    }
+
+    @Test
+    void recoversAnUnsealedSegment() throws IOException {
+        SegmentedLogStore crashed = new SegmentedLogStore(dir, ZONE);
+        for (int i = 0; i < 150; i++) {
+            crashed.append(entry(DAY.plusMinutes(i), i % 2 == 0 ? "EVENT" : "USER", "u1", "r" + i));
+        }
+        // No close(): the segment has no index file and a zero-filled tail
+        assertFalse(Files.exists(dir.resolve("2025-03-10.idx")));
+
+        try (SegmentedLogStore reopened = new SegmentedLogStore(dir, ZONE)) {
+            assertEquals(150, reopened.query(0, Long.MAX_VALUE, null, null, 0, 0).total());
+            assertEquals(75, reopened.query(0, Long.MAX_VALUE, "USER", null, 0, 0).total());
+            reopened.append(entry(DAY.plusMinutes(200), "EVENT", "u1", "after"));
+            assertEquals(List.of("after", "r149"), text(reopened.query(0, Long.MAX_VALUE, null, null, 0, 2)));
+        }
+        assertTrue(Files.exists(dir.resolve("2025-03-10.idx")));
+        try (SegmentedLogStore sealed = new SegmentedLogStore(dir, ZONE)) {
+            assertEquals(151, sealed.query(0, Long.MAX_VALUE, null, null, 0, 0).total());
+            assertEquals(76, sealed.query(0, Long.MAX_VALUE, "EVENT", null, 0, 0).total());
+        }
+    }
+
+    private static SegmentedLogStore.Entry entry(LocalDateTime time, String type, String user, String payload) {
+        return new SegmentedLogStore.Entry(millis(time), type, user, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static List<String> text(SegmentedLogStore.Slice slice) {
+        return slice.payloads().stream().map(p -> new String(p, StandardCharsets.UTF_8)).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventmanager.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Standalone throughput check for {@link TeamMatcher}; not picked up by Surefire.
+ *
+ * Run with:
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.eventmanager.service.TeamMatcherBenchmark -Dexec.args="10000 2500 8"
+ *
+ * Arguments: solo participants, existing teams, hackathons matched in parallel.
+ */
+public class TeamMatcherBenchmark {
+
+    private static final String[] SKILLS = {
+            "Java", "Spring", "React", "Angular", "Vue", "Node", "Python", "Django", "Flask", "ML",
+            "TensorFlow", "PyTorch", "Data Science", "SQL", "MongoDB", "Kubernetes", "Docker", "AWS",
+            "GCP", "Azure", "Go", "Rust", "C++", "Android", "iOS", "Flutter", "UI/UX", "Figma",
+            "Blockchain", "Solidity", "Security", "DevOps", "Embedded", "IoT", "AR/VR", "Unity"
+    };
+
+    public static void main(String[] args) {
+        int participants = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int teams = args.length > 1 ? Integer.parseInt(args[1]) : participants / 4;
+        int hackathons = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        Random random = new Random(42);
+        List<List<TeamMatcher.Participant>> pools = new ArrayList<>();
+        List<List<TeamMatcher.OpenTeam>> openTeams = new ArrayList<>();
+        for (int h = 0; h < hackathons; h++) {
+            List<TeamMatcher.Participant> pool = new ArrayList<>(participants);
+            for (int i = 0; i < participants; i++) {
+                pool.add(new TeamMatcher.Participant("u" + h + "-" + i, randomSkills(random, 1 + random.nextInt(5))));
+            }
+            List<TeamMatcher.OpenTeam> teamList = new ArrayList<>(teams);
+            for (int t = 0; t < teams; t++) {
+                List<String> members = new ArrayList<>();
+                int size = 1 + random.nextInt(3);
+                for (int m = 0; m < size; m++) members.add(randomSkills(random, 1 + random.nextInt(4)));
+                teamList.add(new TeamMatcher.OpenTeam("t" + h + "-" + t, "Team " + t,
+                        randomSkills(random, 2 + random.nextInt(4)), members, 4 - size));
+            }
+            pools.add(pool);
+            openTeams.add(teamList);
+        }
+
+        TeamMatcher matcher = new TeamMatcher();
+        // Warm up the JIT on a small slice before measuring
+        for (int i = 0; i < 3; i++) {
+            matcher.match(pools.get(0).subList(0, Math.min(1000, participants)), openTeams.get(0), 4);
+        }
+
+        long start = System.nanoTime();
+        int placed = IntStream.range(0, hackathons).parallel()
+                .map(h -> matcher.match(pools.get(h), openTeams.get(h), 4).stream()
+                        .mapToInt(a -> a.getUserIds().size()).sum())
+                .sum();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("hackathons=%d participants/hackathon=%d teams/hackathon=%d placed=%d elapsed=%dms%n",
+                hackathons, participants, teams, placed, elapsedMs);
+    }
+
+    private static String randomSkills(Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(SKILLS[random.nextInt(SKILLS.length)]);
+        }
+        return sb.toString();
+    }
+}
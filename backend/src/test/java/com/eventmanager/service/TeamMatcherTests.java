@@ -0,0 +1,118 @@
+package com.eventmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamMatcherTests {
+
+    private final TeamMatcher matcher = new TeamMatcher();
+
+    @Test
+    void placesParticipantsWhereTheirSkillsAreMissing() {
+        List<TeamMatcher.OpenTeam> teams = List.of(
+                new TeamMatcher.OpenTeam("web", "Web", "Java, React", List.of("Java"), 2),
+                new TeamMatcher.OpenTeam("ml", "ML", "Python, ML", List.of(), 2));
+        List<TeamMatcher.Participant> participants = List.of(
+                new TeamMatcher.Participant("u1", "react"),
+                new TeamMatcher.Participant("u2", "Python,ML"),
+                new TeamMatcher.Participant("u3", "Java"));
+
+        Map<String, TeamMatcher.Assignment> byTeam = byTeam(matcher.match(participants, teams, 4));
+
+        // u1 adds the missing React and is placed first; u3's Java is already covered, so only overlap counts
+        assertEquals(List.of("u1", "u3"), byTeam.get("web").getUserIds());
+        assertEquals((0.5 + 0.15) / 2, byTeam.get("web").getScore(), 1e-9);
+        assertEquals(List.of("u2"), byTeam.get("ml").getUserIds());
+        assertEquals(1.0, byTeam.get("ml").getScore(), 1e-9);
+        assertEquals(2, byTeam.size());
+    }
+
+    @Test
+    void neverFillsMoreThanTheOpenSlots() {
+        List<TeamMatcher.OpenTeam> teams = List.of(new TeamMatcher.OpenTeam("t1", "One", "Java", List.of(), 1));
+        List<TeamMatcher.Participant> participants = List.of(
+                new TeamMatcher.Participant("u1", "Java"),
+                new TeamMatcher.Participant("u2", "Java"),
+                new TeamMatcher.Participant("u3", "Java"));
+
+        List<TeamMatcher.Assignment> result = matcher.match(participants, teams, 4);
+
+        assertEquals(1, byTeam(result).get("t1").getUserIds().size());
+        TeamMatcher.Assignment newTeam = result.get(1);
+        assertNull(newTeam.getTeamId());
+        assertEquals(2, newTeam.getUserIds().size());
+        assertEquals(Set.of("u1", "u2", "u3"), placed(result));
+    }
+
+    @Test
+    void balancesSkillsAcrossNewTeams() {
+        List<TeamMatcher.Participant> participants = List.of(
+                new TeamMatcher.Participant("java1", "Java, Spring"),
+                new TeamMatcher.Participant("java2", "Java, Spring"),
+                new TeamMatcher.Participant("web1", "React, CSS"),
+                new TeamMatcher.Participant("web2", "React, CSS"));
+
+        List<TeamMatcher.Assignment> result = matcher.match(participants, List.of(), 2);
+
+        assertEquals(2, result.size());
+        for (TeamMatcher.Assignment assignment : result) {
+            assertNull(assignment.getTeamId());
+            assertEquals(2, assignment.getUserIds().size());
+            assertTrue(assignment.getUserIds().stream().anyMatch(id -> id.startsWith("java")));
+            assertTrue(assignment.getUserIds().stream().anyMatch(id -> id.startsWith("web")));
+            assertEquals(1.0, assignment.getScore(), 1e-9);
+        }
+    }
+
+    @Test
+    void leavesASingleLeftoverUnproposed() {
+        List<TeamMatcher.Participant> participants = List.of(
+                new TeamMatcher.Participant("u1", "Go"),
+                new TeamMatcher.Participant("u2", "Rust"),
+                new TeamMatcher.Participant("u3", "C++"),
+                new TeamMatcher.Participant("u4", "Docker"),
+                new TeamMatcher.Participant("u5", null));
+        // Nobody scores above zero against a team that wants Java
+        List<TeamMatcher.OpenTeam> teams = List.of(new TeamMatcher.OpenTeam("t1", "One", "Java", List.of(), 3));
+
+        List<TeamMatcher.Assignment> result = matcher.match(participants, teams, 1);
+
+        assertEquals(2, result.size());
+        result.forEach(assignment -> {
+            assertNull(assignment.getTeamId());
+            assertEquals(2, assignment.getUserIds().size());
+        });
+        assertEquals(4, placed(result).size());
+        assertFalse(placed(result).contains("u5"));
+        assertEquals("Matched Team 1", result.get(0).getTeamName());
+        assertEquals("Matched Team 2", result.get(1).getTeamName());
+    }
+
+    @Test
+    void returnsNothingForAnEmptyPool() {
+        assertTrue(matcher.match(List.of(), List.of(new TeamMatcher.OpenTeam("t1", "One", "Java", List.of(), 3)), 4)
+                .isEmpty());
+    }
+
+    private static Map<String, TeamMatcher.Assignment> byTeam(List<TeamMatcher.Assignment> result) {
+        return result.stream().filter(a -> a.getTeamId() != null)
+                .collect(Collectors.toMap(TeamMatcher.Assignment::getTeamId, Function.identity()));
+    }
+
+    private static Set<String> placed(List<TeamMatcher.Assignment> result) {
+        Set<String> ids = new HashSet<>();
+        result.forEach(a -> ids.addAll(a.getUserIds()));
+        return ids;
+    }
+}
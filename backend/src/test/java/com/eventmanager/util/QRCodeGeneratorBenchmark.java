@@ -0,0 +1,30 @@
+package com.eventmanager.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for certificate QR codes. Run with {@code mvn -Pjmh test}; see LOAD_TESTING.md.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QRCodeGeneratorBenchmark {
+
+    private final QRCodeGenerator generator = new QRCodeGenerator();
+    private String verificationUrl;
+
+    @Setup
+    public void setUp() {
+        verificationUrl = "http://localhost:5173/verify-certificate/" + generator.generateVerificationCode();
+    }
+
+    @Benchmark
+    public String generateQRCodeBase64() throws Exception {
+        return generator.generateQRCodeBase64(verificationUrl);
+    }
+}
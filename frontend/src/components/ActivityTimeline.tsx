@@ -17,9 +17,9 @@ import { formatDistanceToNow } from 'date-fns';
 
 interface ActivityItem {
     id: string;
-    type: string;
+    activityType: string;
     description: string;
-    createdAt: string;
+    timestamp: string;
     targetId?: string;
     targetName?: string;
 }
@@ -39,9 +39,9 @@ const ActivityTimeline: React.FC<ActivityTimelineProps> = ({ userId, clubId, lim
             try {
                 let data = [];
                 if (userId) {
-                    data = await activityApi.getByUser(userId);
+                    data = await activityApi.getByUser(userId, limit);
                 } else if (clubId) {
-                    data = await activityApi.getByUser(clubId); // Using clubId as key for now
+                    data = await activityApi.getByUser(clubId, limit); // Using clubId as key for now
                 } else {
                     data = await activityApi.getAll();
                 }
@@ -100,7 +100,7 @@ const ActivityTimeline: React.FC<ActivityTimelineProps> = ({ userId, clubId, lim
                     className="relative flex gap-4 items-start"
                 >
                     <div className="relative z-10 h-8 w-8 rounded-full bg-white dark:bg-slate-950 border-2 border-slate-100 dark:border-slate-800 flex items-center justify-center shrink-0 shadow-sm">
-                        {getIcon(activity.type)}
+                        {getIcon(activity.activityType)}
                     </div>
                     <div className="flex-1 pt-0.5">
                         <p className="text-sm font-bold text-slate-900 dark:text-slate-100 leading-tight">
@@ -108,7 +108,7 @@ const ActivityTimeline: React.FC<ActivityTimelineProps> = ({ userId, clubId, lim
                         </p>
                         <div className="flex items-center gap-2 mt-1">
                             <span className="text-[10px] font-bold text-slate-400 uppercase tracking-widest">
-                                {formatDistanceToNow(new Date(activity.createdAt), { addSuffix: true })}
+                                {formatDistanceToNow(new Date(activity.timestamp), { addSuffix: true })}
                             </span>
                             {activity.targetId && (
                                 <>
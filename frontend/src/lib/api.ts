@@ -385,16 +385,25 @@ export const chatApi = {
 
 export const forumApi = {
     getPosts: () => api.get<any[]>('/forum/posts'),
+    getFeed: (params: { sort?: 'new' | 'hot'; category?: string; cursor?: string; size?: number } = {}) => {
+        const query = new URLSearchParams();
+        Object.entries(params).forEach(([key, value]) => {
+            if (value !== undefined && value !== null && value !== '') query.append(key, String(value));
+        });
+        return api.get<any>(`/forum/feed?${query.toString()}`);
+    },
     getPost: (id: string) => api.get<any>(`/forum/posts/${id}`),
     createPost: (authorId: string, title: string, content: string, category: string) => api.post<any>('/forum/posts', { authorId, title, content, category }),
     upvotePost: (id: string) => api.post<any>(`/forum/posts/${id}/upvote`, {}),
     downvotePost: (id: string) => api.post<any>(`/forum/posts/${id}/downvote`, {}),
+    clearVote: (id: string) => api.delete<any>(`/forum/posts/${id}/vote`),
     addComment: (id: string, authorId: string, content: string) => api.post<any>(`/forum/posts/${id}/comments`, { authorId, content }),
     getComments: (id: string) => api.get<any[]>(`/forum/posts/${id}/comments`),
 };
 
 export const activityApi = {
-    getByUser: (userId: string) => api.get<any[]>(`/activities/user/${userId}`),
+    getByUser: (userId: string, limit = 20) => api.get<any[]>(`/activities/user/${userId}?limit=${limit}`),
+    getRecent: (userId: string) => api.get<any[]>(`/activities/user/${userId}/recent`),
     getAll: () => Promise.resolve([]),
 };
 
@@ -181,18 +181,18 @@ const FacultyAnalyticsDashboard = () => {
             {/* Event Trend Chart */}
             <Card>
                 <CardHeader>
-                    <CardTitle>Event & Hackathon Trend</CardTitle>
+                    <CardTitle>Event & Registration Trend</CardTitle>
                 </CardHeader>
                 <CardContent>
                     <ResponsiveContainer width="100%" height={300}>
                         <LineChart data={analytics.eventTrend}>
                             <CartesianGrid strokeDasharray="3 3" />
-                            <XAxis dataKey="month" />
+                            <XAxis dataKey="date" />
                             <YAxis />
                             <Tooltip />
                             <Legend />
                             <Line type="monotone" dataKey="events" stroke="#0088FE" strokeWidth={2} />
-                            <Line type="monotone" dataKey="hackathons" stroke="#00C49F" strokeWidth={2} />
+                            <Line type="monotone" dataKey="registrations" stroke="#00C49F" strokeWidth={2} />
                         </LineChart>
                     </ResponsiveContainer>
                 </CardContent>
@@ -70,7 +70,9 @@ interface ForumPost {
     upvotes: number;
     downvotes: number;
     createdAt: string;
-    comments: ForumComment[];
+    commentCount?: number;
+    userVote?: number;
+    comments?: ForumComment[];
 }
 
 const CATEGORIES = [
@@ -87,6 +89,9 @@ const ForumPage = () => {
     const { user } = useAuthStore();
     const [posts, setPosts] = useState<ForumPost[]>([]);
     const [loading, setLoading] = useState(true);
+    const [sort, setSort] = useState<'new' | 'hot'>('new');
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [searchQuery, setSearchQuery] = useState('');
     const [selectedCategory, setSelectedCategory] = useState<string>('All');
     const [isCreateOpen, setIsCreateOpen] = useState(false);
@@ -98,11 +103,19 @@ const ForumPage = () => {
     const [newComment, setNewComment] = useState('');
     const [commenting, setCommenting] = useState(false);
 
+    // Feed cards carry an excerpt; the full post and its comments are fetched when opened
+    const toPost = (summary: any): ForumPost => ({ ...summary, content: summary.excerpt });
+
     const fetchPosts = async () => {
         try {
             setLoading(true);
-            const data = await forumApi.getPosts();
-            setPosts(data);
+            const page = await forumApi.getFeed({
+                sort,
+                category: selectedCategory === 'All' ? undefined : selectedCategory,
+                size: 20
+            });
+            setPosts(page.posts.map(toPost));
+            setNextCursor(page.nextCursor);
         } catch (error: any) {
             console.error('Failed to fetch posts:', error);
             if (error.message && error.message.includes("401")) {
@@ -117,7 +130,36 @@ const ForumPage = () => {
 
     useEffect(() => {
         fetchPosts();
-    }, []);
+    }, [sort, selectedCategory]);
+
+    const loadMore = async () => {
+        if (!nextCursor) return;
+        try {
+            setLoadingMore(true);
+            const page = await forumApi.getFeed({
+                sort,
+                category: selectedCategory === 'All' ? undefined : selectedCategory,
+                cursor: nextCursor,
+                size: 20
+            });
+            setPosts(prev => [...prev, ...page.posts.map(toPost)]);
+            setNextCursor(page.nextCursor);
+        } catch (error) {
+            toast.error('Failed to load more posts');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
+    const openPost = async (post: ForumPost) => {
+        setSelectedPost(post);
+        try {
+            const [full, comments] = await Promise.all([forumApi.getPost(post.id), forumApi.getComments(post.id)]);
+            setSelectedPost(prev => prev?.id === post.id ? { ...full, comments } : prev);
+        } catch (error) {
+            toast.error('Failed to load discussion');
+        }
+    };
 
     const handleCreatePost = async () => {
         if (!user) {
@@ -150,36 +192,36 @@ const ForumPage = () => {
         }
     };
 
-    const handleUpvote = async (postId: string, e: React.MouseEvent) => {
-        e.stopPropagation();
-        try {
-            await forumApi.upvotePost(postId);
-            setPosts(posts.map(p => p.id === postId ? { ...p, upvotes: p.upvotes + 1 } : p));
-            if (selectedPost?.id === postId) {
-                setSelectedPost(prev => prev ? { ...prev, upvotes: prev.upvotes + 1 } : null);
-            }
-            toast.success('Upvoted!');
-        } catch (error) {
-            toast.error('Failed to upvote');
-        }
-    };
+    // Votes are per user: repeating a vote is a no-op and switching moves the count across
+    const applyVote = (post: ForumPost, previousVote: number, vote: number): ForumPost => ({
+        ...post,
+        upvotes: post.upvotes + (vote === 1 ? 1 : 0) - (previousVote === 1 ? 1 : 0),
+        downvotes: post.downvotes + (vote === -1 ? 1 : 0) - (previousVote === -1 ? 1 : 0),
+        userVote: vote
+    });
 
-    const handleDownvote = async (postId: string, e: React.MouseEvent) => {
+    const handleVote = async (postId: string, value: 1 | -1, e: React.MouseEvent) => {
         e.stopPropagation();
         try {
-            await forumApi.downvotePost(postId);
-            // Typically downvotes might reduce score or be tracked separately. 
-            // Assuming we just increment downvotes count.
-            setPosts(posts.map(p => p.id === postId ? { ...p, downvotes: p.downvotes + 1 } : p));
+            const result = value === 1 ? await forumApi.upvotePost(postId) : await forumApi.downvotePost(postId);
+            if (!result.changed) {
+                toast.info(value === 1 ? 'You already upvoted this' : 'You already downvoted this');
+                return;
+            }
+            setPosts(prev => prev.map(p => p.id === postId ? applyVote(p, result.previousVote, result.vote) : p));
             if (selectedPost?.id === postId) {
-                setSelectedPost(prev => prev ? { ...prev, downvotes: prev.downvotes + 1 } : null);
+                setSelectedPost(prev => prev ? applyVote(prev, result.previousVote, result.vote) : null);
             }
-            toast.success('Downvoted');
+            toast.success(value === 1 ? 'Upvoted!' : 'Downvoted');
         } catch (error) {
-            toast.error('Failed to downvote');
+            toast.error(value === 1 ? 'Failed to upvote' : 'Failed to downvote');
         }
     };
 
+    const handleUpvote = (postId: string, e: React.MouseEvent) => handleVote(postId, 1, e);
+
+    const handleDownvote = (postId: string, e: React.MouseEvent) => handleVote(postId, -1, e);
+
     const handleAddComment = async () => {
         if (!user || !selectedPost || !newComment.trim()) return;
 
@@ -190,12 +232,13 @@ const ForumPage = () => {
             // Update selected post
             const updatedPost = {
                 ...selectedPost,
+                commentCount: (selectedPost.commentCount || 0) + 1,
                 comments: [...(selectedPost.comments || []), comment]
             };
             setSelectedPost(updatedPost);
 
             // Update posts list
-            setPosts(posts.map(p => p.id === selectedPost.id ? updatedPost : p));
+            setPosts(posts.map(p => p.id === selectedPost.id ? { ...p, commentCount: updatedPost.commentCount } : p));
 
             setNewComment('');
             toast.success('Comment added!');
@@ -334,9 +377,13 @@ const ForumPage = () => {
                                 </SelectContent>
                             </Select>
                             <div className="h-6 w-px bg-slate-200 dark:bg-slate-700 hidden sm:block" />
-                            <Button variant="ghost" className="gap-2 h-10 rounded-xl">
-                                <Clock className="h-4 w-4" />
-                                Recent
+                            <Button
+                                variant="ghost"
+                                className="gap-2 h-10 rounded-xl"
+                                onClick={() => setSort(sort === 'new' ? 'hot' : 'new')}
+                            >
+                                {sort === 'new' ? <Clock className="h-4 w-4" /> : <TrendingUp className="h-4 w-4" />}
+                                {sort === 'new' ? 'Recent' : 'Hot'}
                             </Button>
                         </div>
                     </div>
@@ -370,7 +417,7 @@ const ForumPage = () => {
                                         >
                                             <Card
                                                 className="group hover:shadow-xl transition-all duration-300 border-slate-100 dark:border-slate-800 hover:border-[hsl(var(--teal))]/30 overflow-hidden bg-white/50 dark:bg-slate-900/50 backdrop-blur-sm cursor-pointer"
-                                                onClick={() => setSelectedPost(post)}
+                                                onClick={() => openPost(post)}
                                             >
                                                 <div className="flex gap-4 p-6">
                                                     {/* Voting Side */}
@@ -420,7 +467,7 @@ const ForumPage = () => {
                                                             <div className="flex items-center gap-4">
                                                                 <div className="flex items-center gap-1.5 text-slate-500 bg-slate-100 dark:bg-slate-800 px-3 py-1.5 rounded-full text-xs font-bold">
                                                                     <MessageCircle className="h-4 w-4" />
-                                                                    {post.comments?.length || 0} Comments
+                                                                    {post.commentCount || 0} Comments
                                                                 </div>
                                                             </div>
                                                             <div className="flex items-center gap-2">
@@ -446,6 +493,11 @@ const ForumPage = () => {
                                         </motion.div>
                                     ))}
                                 </AnimatePresence>
+                                {nextCursor && (
+                                    <Button variant="outline" className="rounded-xl" onClick={loadMore} disabled={loadingMore}>
+                                        {loadingMore ? 'Loading...' : 'Load more discussions'}
+                                    </Button>
+                                )}
                             </div>
                         )}
                     </div>
@@ -536,11 +588,11 @@ const ForumPage = () => {
                                 <div className="p-6 bg-white dark:bg-slate-950">
                                     <h3 className="font-bold flex items-center gap-2 mb-6">
                                         <MessageCircle className="h-5 w-5" />
-                                        Comments ({selectedPost.comments?.length || 0})
+                                        Comments ({selectedPost.commentCount ?? selectedPost.comments?.length ?? 0})
                                     </h3>
 
                                     <div className="space-y-6 mb-8">
-                                        {selectedPost.comments?.length > 0 ? (
+                                        {selectedPost.comments && selectedPost.comments.length > 0 ? (
                                             selectedPost.comments.map((comment) => (
                                                 <div key={comment.id} className="flex gap-4">
                                                     <Avatar className="h-8 w-8 mt-1">
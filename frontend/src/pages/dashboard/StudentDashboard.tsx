@@ -109,7 +109,7 @@ const StudentDashboard = () => {
           hackathonApi.getRegistered(user.id),
           eventApi.getStudentEvents(user.id),
           webinarApi.getMyRegistrations(user.id),
-          activityApi.getByUser(user.id),
+          activityApi.getRecent(user.id),
           certificateApi.getUserCertificates(user.id)
         ]);
 
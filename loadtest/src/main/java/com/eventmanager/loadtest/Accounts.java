@@ -0,0 +1,44 @@
+package com.eventmanager.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Account conventions of the backend's {@code SyntheticDataGenerator}: {@code user<i>@synthetic.test} with
+ * password {@code password}; every 25th index is faculty, indexes 1, 501, 1001... are judges and the rest
+ * are students. Kept as a copy so that this module does not depend on the backend.
+ */
+final class Accounts {
+
+    static final String PASSWORD = "password";
+    static final int FACULTY = 0;
+
+    private static final int FACULTY_EVERY = 25;
+    private static final int JUDGE_EVERY = 500;
+
+    private Accounts() {
+    }
+
+    static String email(int index) {
+        return "user" + index + "@synthetic.test";
+    }
+
+    /** The first {@code count} student indexes from {@code first} on. */
+    static List<Integer> students(int first, int count) {
+        List<Integer> students = new ArrayList<>(count);
+        for (int i = first; students.size() < count; i++) {
+            if (i % FACULTY_EVERY != 0 && i % JUDGE_EVERY != 1) {
+                students.add(i);
+            }
+        }
+        return students;
+    }
+
+    static List<Integer> judges(int count) {
+        List<Integer> judges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            judges.add(i * JUDGE_EVERY + 1);
+        }
+        return judges;
+    }
+}
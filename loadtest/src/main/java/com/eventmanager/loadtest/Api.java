@@ -0,0 +1,142 @@
+package com.eventmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Asynchronous JSON client for the backend. Measured operations use {@link #status}, which reads and
+ * discards the body; set-up code uses the blocking {@link #call}, which fails on anything but 2xx.
+ */
+final class Api implements AutoCloseable {
+
+    /** A logged-in synthetic account. */
+    record Session(int index, String userId, String token) {
+    }
+
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final ExecutorService executor;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+
+    Api(URI baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.executor = executor();
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(executor)
+                .build();
+    }
+
+    HttpClient http() {
+        return http;
+    }
+
+    ObjectMapper json() {
+        return json;
+    }
+
+    URI webSocketUri(String path) {
+        return URI.create(baseUrl.toString().replaceFirst("^http", "ws")).resolve(path);
+    }
+
+    CompletableFuture<Integer> status(String method, String path, String token, Object body) {
+        return http.sendAsync(request(method, path, token, body), HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    JsonNode call(String method, String path, String token, Object body) {
+        HttpResponse<byte[]> response = http.sendAsync(request(method, path, token, body),
+                HttpResponse.BodyHandlers.ofByteArray()).join();
+        return parse(method, path, response);
+    }
+
+    CompletableFuture<Session> login(int index) {
+        HttpRequest request = request("POST", "/api/auth/login", null,
+                Map.of("email", Accounts.email(index), "password", Accounts.PASSWORD));
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            JsonNode data = parse("POST", "/api/auth/login as " + Accounts.email(index), response).path("data");
+            return new Session(index, data.path("user").path("id").asText(), data.path("accessToken").asText());
+        });
+    }
+
+    /** Logs the accounts in, {@code concurrency} at a time; BCrypt makes this the slow part of most set-ups. */
+    List<Session> loginAll(List<Integer> indexes, int concurrency) {
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<Session>> sessions = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            permits.acquireUninterruptibly();
+            sessions.add(login(index).whenComplete((session, error) -> permits.release()));
+        }
+        return sessions.stream().map(CompletableFuture::join).toList();
+    }
+
+    private HttpRequest request(String method, String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(timeout);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode parse(String method, String path, HttpResponse<byte[]> response) {
+        String body = new String(response.body());
+        if (response.statusCode() / 100 != 2) {
+            throw new CompletionException(new IllegalStateException(method + " " + path + " returned "
+                    + response.statusCode() + ": " + body.substring(0, Math.min(body.length(), 300))));
+        }
+        try {
+            return body.isEmpty() ? json.nullNode() : json.readTree(body);
+        } catch (IOException e) {
+            return json.getNodeFactory().textNode(body);
+        }
+    }
+
+    /**
+     * Virtual threads when the JVM has them (Java 21+), otherwise a cached pool. The client is asynchronous
+     * either way; the executor only runs response handling and completion callbacks.
+     */
+    private static ExecutorService executor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "loadtest-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,63 @@
+package com.eventmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code GET /api/certificates/{id}/download} by many students at once, as after certificates for a large
+ * event are published. Set-up issues certificates for one of user0's events to the {@code --users} students
+ * through {@code POST /api/faculty/certificates/generate}, which skips students who already have one.
+ */
+final class CertificateSpike implements Scenario {
+
+    private static final int ISSUE_BATCH = 100;
+
+    @Override
+    public String name() {
+        return "certificates";
+    }
+
+    @Override
+    public String description() {
+        return "--users students download their certificate PDF";
+    }
+
+    @Override
+    public List<Phase> prepare(Api api, Options options) {
+        String facultyToken = api.login(Accounts.FACULTY).join().token();
+        String eventId = Fixtures.organizedEvent(api, options, facultyToken);
+        System.out.println("Event " + eventId);
+
+        List<Api.Session> students = api.loginAll(Accounts.students(options.firstUser(), options.users()),
+                options.concurrency());
+        for (int from = 0; from < students.size(); from += ISSUE_BATCH) {
+            List<String> userIds = students.subList(from, Math.min(from + ISSUE_BATCH, students.size())).stream()
+                    .map(Api.Session::userId).toList();
+            api.call("POST", "/api/faculty/certificates/generate", facultyToken,
+                    Map.of("eventId", eventId, "userIds", userIds));
+        }
+
+        List<String> downloads = new ArrayList<>(students.size());
+        for (Api.Session student : students) {
+            JsonNode certificates = api.call("GET", "/api/student/certificates?userId=" + student.userId(),
+                    student.token(), null).path("data");
+            String certificateId = null;
+            for (JsonNode certificate : certificates) {
+                if (eventId.equals(certificate.path("eventId").asText())) {
+                    certificateId = certificate.path("id").asText();
+                }
+            }
+            if (certificateId == null) {
+                throw new IllegalStateException("No certificate issued to " + Accounts.email(student.index()));
+            }
+            downloads.add("/api/certificates/" + certificateId + "/download?userId=" + student.userId());
+        }
+
+        return List.of(new Phase("download", options.requests(), options.warmup(), i ->
+                api.status("GET", downloads.get(i % downloads.size()), students.get(i % students.size()).token(),
+                        null)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.eventmanager.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every logged-in student connects over STOMP to the raw WebSocket transport of {@code /ws}, subscribes to
+ * one event's chat room and sends to {@code /app/chat/{roomId}}. A message's latency is the time until its
+ * sender receives it back from {@code /topic/messages/{roomId}}, which includes saving it and fanning it out
+ * to all {@code --users} subscribers.
+ */
+final class ChatFlood implements Scenario {
+
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "chat";
+    }
+
+    @Override
+    public String description() {
+        return "--users STOMP sessions post to one chat room";
+    }
+
+    @Override
+    public List<Phase> prepare(Api api, Options options) throws Exception {
+        List<Api.Session> students = api.loginAll(Accounts.students(options.firstUser(), options.users()),
+                options.concurrency());
+        String eventId = Fixtures.anyEvent(api, options, students.get(0).token());
+        String roomId = api.call("GET", "/api/chat/rooms/EVENT/" + eventId + "?name=Load%20test",
+                students.get(0).token(), null).path("id").asText();
+        System.out.println("Event " + eventId + ", chat room " + roomId);
+
+        List<CompletableFuture<StompSession>> connecting = new ArrayList<>();
+        for (Api.Session student : students) {
+            connecting.add(StompSession.connect(api.http(), api.webSocketUri("/ws/websocket"), student.token()));
+        }
+        for (CompletableFuture<StompSession> session : connecting) {
+            sessions.add(session.get(options.timeout().toSeconds(), TimeUnit.SECONDS));
+        }
+        String topic = "/topic/messages/" + roomId;
+        for (int i = 0; i < sessions.size(); i++) {
+            sessions.get(i).subscribe(topic, "sub-" + i);
+        }
+
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        String destination = "/app/chat/" + roomId;
+        // One message per session, awaited before measuring, so that every subscription is active
+        List<CompletableFuture<Integer>> hellos = new ArrayList<>();
+        for (int i = 0; i < sessions.size(); i++) {
+            hellos.add(send(api, students.get(i), sessions.get(i), destination, run + "-hello-" + i, options));
+        }
+        CompletableFuture.allOf(hellos.toArray(CompletableFuture[]::new)).join();
+
+        return List.of(new Phase("chat", options.requests(), options.warmup(), i -> {
+            int session = i % sessions.size();
+            return send(api, students.get(session), sessions.get(session), destination, run + "-" + i, options);
+        }));
+    }
+
+    private static CompletableFuture<Integer> send(Api api, Api.Session student, StompSession session,
+                                                   String destination, String nonce, Options options) {
+        try {
+            String message = api.json().writeValueAsString(Map.of(
+                    "sender", Map.of("id", student.userId()), "content", nonce, "type", "TEXT"));
+            return session.publish(destination, message, nonce)
+                    .orTimeout(options.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        long received = sessions.stream().mapToLong(StompSession::received).sum();
+        if (received > 0) {
+            System.out.println("Messages delivered to subscribers: " + received);
+        }
+        sessions.forEach(StompSession::close);
+    }
+}
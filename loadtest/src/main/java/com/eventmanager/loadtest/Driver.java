@@ -0,0 +1,65 @@
+package com.eventmanager.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a phase with at most {@code concurrency} requests in flight.
+ *
+ * Closed loop (rate 0): a request starts as soon as a previous one finishes, and latency is measured from
+ * when it was sent. Open loop (rate > 0): request {@code i} is due at {@code start + i / rate}, and latency
+ * is measured from when it was due. When the backend falls behind, the time a request waited for a free
+ * slot therefore counts, instead of the generator quietly slowing down to the server's pace (coordinated
+ * omission).
+ */
+final class Driver {
+
+    private Driver() {
+    }
+
+    static PhaseReport run(Phase phase, Options options) {
+        if (phase.warmup() > 0) {
+            execute(phase, 0, phase.warmup(), options.concurrency(), 0, null);
+        }
+        Recording recording = new Recording();
+        execute(phase, phase.warmup(), phase.requests(), options.concurrency(), options.rate(), recording);
+        return recording.report(phase.name());
+    }
+
+    private static void execute(Phase phase, int first, int count, int concurrency, double rate,
+                                Recording recording) {
+        Semaphore inFlight = new Semaphore(concurrency);
+        long interval = rate > 0 ? (long) (1_000_000_000L / rate) : 0;
+        long start = System.nanoTime();
+        if (recording != null) {
+            recording.start(start);
+        }
+        for (int i = 0; i < count; i++) {
+            long due = start + i * interval;
+            if (interval > 0) {
+                for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            inFlight.acquireUninterruptibly();
+            long sent = interval > 0 ? due : System.nanoTime();
+            CompletableFuture<Integer> request;
+            try {
+                request = phase.operation().apply(first + i);
+            } catch (RuntimeException e) {
+                request = CompletableFuture.failedFuture(e);
+            }
+            request.whenComplete((status, error) -> {
+                if (recording != null) {
+                    recording.record(System.nanoTime() - sent, status, error);
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquireUninterruptibly(concurrency);
+        if (recording != null) {
+            recording.finish(System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.eventmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Set-up lookups shared by the scenarios. */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * {@code --event-id} if given, otherwise a random event from {@code /api/events}, so that repeated runs
+     * against the same database do not pile onto one event.
+     */
+    static String anyEvent(Api api, Options options, String token) {
+        if (options.eventId() != null) {
+            return options.eventId();
+        }
+        long total = api.call("GET", "/api/events?page=0&size=1", token, null).path("data").path("totalElements")
+                .asLong();
+        if (total == 0) {
+            throw new IllegalStateException("No events; load the synthetic data set first");
+        }
+        long page = ThreadLocalRandom.current().nextLong(total);
+        return first(api.call("GET", "/api/events?page=" + page + "&size=1", token, null), "events").asText();
+    }
+
+    /** {@code --event-id} if given, otherwise the first event organized by the faculty member. */
+    static String organizedEvent(Api api, Options options, String facultyToken) {
+        if (options.eventId() != null) {
+            return options.eventId();
+        }
+        return first(api.call("GET", "/api/faculty/events?page=0&size=1", facultyToken, null), "faculty events")
+                .asText();
+    }
+
+    private static JsonNode first(JsonNode response, String what) {
+        JsonNode content = response.path("data").path("content");
+        if (content.isEmpty()) {
+            throw new IllegalStateException("No " + what + "; load the synthetic data set first");
+        }
+        return content.get(0).path("id");
+    }
+}
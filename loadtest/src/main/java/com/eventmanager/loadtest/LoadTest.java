@@ -0,0 +1,78 @@
+package com.eventmanager.loadtest;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Load generator for a locally started backend. See the "Load generator" section of LOAD_TESTING.md.
+ *
+ * <pre>
+ * java -jar target/loadtest-0.0.1-SNAPSHOT.jar run &lt;scenario&gt; [options]
+ * java -jar target/loadtest-0.0.1-SNAPSHOT.jar compare &lt;baseline.json&gt; &lt;current.json&gt; [threshold-percent]
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final Map<String, Supplier<Scenario>> SCENARIOS = Stream.<Supplier<Scenario>>of(
+                    LoginStorm::new, RegistrationBurst::new, ScoringWave::new, ChatFlood::new, CertificateSpike::new)
+            .collect(Collectors.toMap(supplier -> supplier.get().name(), Function.identity(), (a, b) -> a,
+                    LinkedHashMap::new));
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length >= 2 && args[0].equals("run") && SCENARIOS.containsKey(args[1])) {
+            run(SCENARIOS.get(args[1]).get(), Options.parse(args, 2));
+        } else if (args.length >= 3 && args[0].equals("compare")) {
+            double threshold = args.length > 3 ? Double.parseDouble(args[3]) : 10;
+            System.exit(RunComparison.compare(Path.of(args[1]), Path.of(args[2]), threshold, System.out) == 0 ? 0 : 1);
+        } else {
+            usage();
+            System.exit(2);
+        }
+    }
+
+    private static void run(Scenario scenario, Options options) throws Exception {
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<PhaseReport> phases = new ArrayList<>();
+        try (Api api = new Api(options.baseUrl(), options.timeout()); scenario) {
+            long setUp = System.nanoTime();
+            List<Phase> plan = scenario.prepare(api, options);
+            System.out.printf("Set-up took %.1f s%n", (System.nanoTime() - setUp) / 1e9);
+
+            RunReport.printHeader(System.out);
+            for (Phase phase : plan) {
+                PhaseReport report = Driver.run(phase, options);
+                RunReport.print(System.out, report);
+                phases.add(report);
+            }
+        }
+        RunReport report = new RunReport(scenario.name(), options.label(), startedAt.toString(), options.asMap(),
+                phases);
+        System.out.println("Saved " + report.save(options.out()));
+    }
+
+    private static void usage() {
+        System.err.println("Usage:");
+        System.err.println("  loadtest run <scenario> [options]");
+        System.err.println("  loadtest compare <baseline.json> <current.json> [threshold-percent, default 10]");
+        System.err.println();
+        System.err.println("Scenarios:");
+        SCENARIOS.values().forEach(supplier -> {
+            Scenario scenario = supplier.get();
+            System.err.printf("  %-14s %s%n", scenario.name(), scenario.description());
+        });
+        System.err.println();
+        System.err.println(Options.USAGE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.eventmanager.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/** {@code POST /api/auth/login} for many accounts at once, e.g. everyone opening the app when an event starts. */
+final class LoginStorm implements Scenario {
+
+    @Override
+    public String name() {
+        return "login";
+    }
+
+    @Override
+    public String description() {
+        return "logins cycling over --users student accounts";
+    }
+
+    @Override
+    public List<Phase> prepare(Api api, Options options) {
+        List<Integer> students = Accounts.students(options.firstUser(), options.users());
+        return List.of(new Phase("login", options.requests(), options.warmup(), i -> api.status("POST",
+                "/api/auth/login", null, Map.of("email", Accounts.email(students.get(i % students.size())),
+                        "password", Accounts.PASSWORD))));
+    }
+}
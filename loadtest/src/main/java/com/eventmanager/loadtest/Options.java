@@ -0,0 +1,89 @@
+package com.eventmanager.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options of a run. Every option has a default, so {@code run login} alone works against
+ * a backend on port 8080 loaded with the synthetic data set.
+ */
+record Options(URI baseUrl, int users, int firstUser, int concurrency, int requests, int warmup, double rate,
+               Duration timeout, int judges, int submissions, String eventId, Path out, String label) {
+
+    static final String USAGE = """
+            Options:
+              --base-url URL      backend to load (default http://localhost:8080)
+              --users N           accounts logged in during set-up (default 200)
+              --first-user N      index of the first synthetic account to use (default 2)
+              --concurrency N     requests in flight at most (default 50)
+              --requests N        measured requests per phase (default 1000)
+              --warmup N          unmeasured requests before each repeatable phase (default 100)
+              --rate N            requests per second, open loop; 0 runs closed loop (default 0)
+              --timeout SECONDS   per request (default 30)
+              --judges N          judges scoring in the scoring scenario (default 2)
+              --submissions N     submissions they score (default 20)
+              --event-id ID       event to use instead of picking one
+              --out DIR           where run reports are written (default runs)
+              --label TEXT        stored with the report, e.g. the commit under test""";
+
+    private static final Set<String> NAMES = Set.of("base-url", "users", "first-user", "concurrency", "requests",
+            "warmup", "rate", "timeout", "judges", "submissions", "event-id", "out", "label");
+
+    static Options parse(String[] args, int from) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = from; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            String name = args[i].substring(2);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+            values.put(name, args[i + 1]);
+        }
+        Options options = new Options(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                integer(values, "users", 200),
+                integer(values, "first-user", 2),
+                integer(values, "concurrency", 50),
+                integer(values, "requests", 1000),
+                integer(values, "warmup", 100),
+                Double.parseDouble(values.getOrDefault("rate", "0")),
+                Duration.ofSeconds(integer(values, "timeout", 30)),
+                integer(values, "judges", 2),
+                integer(values, "submissions", 20),
+                values.get("event-id"),
+                Path.of(values.getOrDefault("out", "runs")),
+                values.getOrDefault("label", ""));
+        if (options.users() < 1 || options.concurrency() < 1 || options.requests() < 1 || options.judges() < 1
+                || options.submissions() < 1 || options.warmup() < 0 || options.rate() < 0) {
+            throw new IllegalArgumentException("Counts must be positive");
+        }
+        return options;
+    }
+
+    /** The options that shape the load, stored in the report so that two runs can be checked for comparability. */
+    Map<String, Object> asMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("base-url", baseUrl.toString());
+        map.put("users", users);
+        map.put("first-user", firstUser);
+        map.put("concurrency", concurrency);
+        map.put("requests", requests);
+        map.put("warmup", warmup);
+        map.put("rate", rate);
+        map.put("timeout", timeout.toSeconds());
+        map.put("judges", judges);
+        map.put("submissions", submissions);
+        return map;
+    }
+
+    private static int integer(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
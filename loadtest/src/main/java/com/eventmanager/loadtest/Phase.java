@@ -0,0 +1,12 @@
+package com.eventmanager.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+/**
+ * One measured step of a scenario. {@code operation} starts request {@code i} and completes with its HTTP
+ * status; {@code warmup} requests run first and are not recorded. Phases that cannot repeat a request,
+ * such as registering each account once, set it to 0.
+ */
+record Phase(String name, int requests, int warmup, IntFunction<CompletableFuture<Integer>> operation) {
+}
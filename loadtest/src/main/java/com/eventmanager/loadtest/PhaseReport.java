@@ -0,0 +1,16 @@
+package com.eventmanager.loadtest;
+
+import java.util.Map;
+
+/**
+ * Result of one phase as stored in a run report. {@code latencyMillis} holds mean, p50, p90, p99, p99.9
+ * and max of the successful requests; {@code histogram} is the full HdrHistogram (microseconds), compressed
+ * and Base64 encoded, so other percentiles can be read from a saved run later.
+ */
+record PhaseReport(String name, long requests, long succeeded, Map<String, Long> outcomes, double seconds,
+                   double throughput, Map<String, Double> latencyMillis, String histogram) {
+
+    long failed() {
+        return requests - succeeded;
+    }
+}
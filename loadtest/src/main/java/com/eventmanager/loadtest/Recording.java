@@ -0,0 +1,75 @@
+package com.eventmanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one phase, recorded from the client's callback threads. Latency goes into an
+ * HdrHistogram in microseconds with three significant digits, for successful (2xx) requests only; every
+ * request is counted under its status code or exception name.
+ */
+final class Recording {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Recorder recorder = new Recorder(HIGHEST_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    void start(long nanos) {
+        startNanos = nanos;
+    }
+
+    void finish(long nanos) {
+        endNanos = nanos;
+    }
+
+    void record(long nanos, Integer status, Throwable error) {
+        String outcome;
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            outcome = cause.getClass().getSimpleName();
+        } else {
+            outcome = String.valueOf(status);
+            if (status / 100 == 2) {
+                recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_MICROS));
+            }
+        }
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    PhaseReport report(String phase) {
+        Histogram histogram = recorder.getIntervalHistogram();
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        long requests = counts.values().stream().mapToLong(Long::longValue).sum();
+        double seconds = (endNanos - startNanos) / 1e9;
+
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("mean", histogram.getMean() / 1000);
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            latency.put("p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                    histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        latency.put("max", histogram.getMaxValue() / 1000.0);
+
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        String encoded = Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+
+        return new PhaseReport(phase, requests, histogram.getTotalCount(), counts, seconds,
+                histogram.getTotalCount() / seconds, latency, encoded);
+    }
+}
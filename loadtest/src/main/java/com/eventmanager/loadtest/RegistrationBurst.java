@@ -0,0 +1,34 @@
+package com.eventmanager.loadtest;
+
+import java.util.List;
+
+/**
+ * {@code POST /api/events/{eventId}/register} by every logged-in student for the same event, as when
+ * registration for a popular event opens. Each account registers once, so there is no warm-up and the phase
+ * has {@code --users} requests; a second run against the same event gets 400 "Already registered".
+ */
+final class RegistrationBurst implements Scenario {
+
+    @Override
+    public String name() {
+        return "register";
+    }
+
+    @Override
+    public String description() {
+        return "--users students register for one event";
+    }
+
+    @Override
+    public List<Phase> prepare(Api api, Options options) {
+        List<Api.Session> students = api.loginAll(Accounts.students(options.firstUser(), options.users()),
+                options.concurrency());
+        String eventId = Fixtures.anyEvent(api, options, students.get(0).token());
+        System.out.println("Event " + eventId);
+        return List.of(new Phase("register", students.size(), 0, i -> {
+            Api.Session student = students.get(i);
+            return api.status("POST", "/api/events/" + eventId + "/register?userId=" + student.userId(),
+                    student.token(), null);
+        }));
+    }
+}
@@ -0,0 +1,74 @@
+package com.eventmanager.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares two saved runs phase by phase. A phase regresses when its throughput drops, or its p99 grows,
+ * by more than the threshold, or when it fails a larger share of its requests than the baseline did.
+ */
+final class RunComparison {
+
+    private RunComparison() {
+    }
+
+    /** Prints the comparison and returns the number of regressed phases. */
+    static int compare(Path baselineFile, Path currentFile, double threshold, PrintStream out) throws IOException {
+        RunReport baseline = RunReport.load(baselineFile);
+        RunReport current = RunReport.load(currentFile);
+        if (!baseline.scenario().equals(current.scenario())) {
+            throw new IllegalArgumentException("Cannot compare a " + baseline.scenario() + " run with a "
+                    + current.scenario() + " run");
+        }
+        if (!baseline.options().equals(current.options())) {
+            out.println("Warning: the runs used different options");
+            out.println("  baseline " + baseline.options());
+            out.println("  current  " + current.options());
+        }
+
+        Map<String, PhaseReport> before = baseline.phases().stream()
+                .collect(Collectors.toMap(PhaseReport::name, Function.identity()));
+        int regressions = 0;
+        out.printf("%-12s %-8s %12s %12s %9s%n", "phase", "metric", "baseline", "current", "change");
+        for (PhaseReport now : current.phases()) {
+            PhaseReport then = before.get(now.name());
+            if (then == null) {
+                out.printf("%-12s %s%n", now.name(), "not in baseline");
+                continue;
+            }
+            double throughput = change(then.throughput(), now.throughput());
+            double p99 = change(then.latencyMillis().get("p99"), now.latencyMillis().get("p99"));
+            boolean moreFailures = failureRate(now) > failureRate(then);
+            boolean regressed = -throughput > threshold || p99 > threshold || moreFailures;
+            if (regressed) regressions++;
+
+            row(out, now.name(), "req/s", then.throughput(), now.throughput(), -throughput > threshold);
+            for (String metric : new String[]{"p50", "p99", "p99.9"}) {
+                row(out, "", metric, then.latencyMillis().get(metric), now.latencyMillis().get(metric),
+                        metric.equals("p99") && p99 > threshold);
+            }
+            out.printf("%-12s %-8s %12d %12d %9s%n", "", "failed", then.failed(), now.failed(),
+                    moreFailures ? "REGRESSION" : "");
+        }
+        out.println(regressions == 0 ? "No regressions over " + threshold + "%"
+                : regressions + " phase(s) regressed by more than " + threshold + "%");
+        return regressions;
+    }
+
+    private static void row(PrintStream out, String phase, String metric, double before, double now, boolean flagged) {
+        out.printf("%-12s %-8s %12.1f %12.1f %+8.1f%%%s%n", phase, metric, before, now, change(before, now),
+                flagged ? "  REGRESSION" : "");
+    }
+
+    private static double change(double before, double now) {
+        return before == 0 ? 0 : (now - before) / before * 100;
+    }
+
+    private static double failureRate(PhaseReport phase) {
+        return phase.requests() == 0 ? 0 : (double) phase.failed() / phase.requests();
+    }
+}
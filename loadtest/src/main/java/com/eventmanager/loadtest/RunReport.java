@@ -0,0 +1,48 @@
+package com.eventmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/** A saved run: what was run, with which options, and the result of each phase. */
+record RunReport(String scenario, String label, String startedAt, Map<String, Object> options,
+                 List<PhaseReport> phases) {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /** Writes the report to {@code <dir>/<scenario>-<yyyyMMdd-HHmmss>.json}. */
+    Path save(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        String stamp = LocalDateTime.parse(startedAt).format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = dir.resolve(scenario + "-" + stamp + ".json");
+        JSON.writeValue(file.toFile(), this);
+        return file;
+    }
+
+    static RunReport load(Path file) throws IOException {
+        return JSON.readValue(file.toFile(), RunReport.class);
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-12s %9s %9s %10s %9s %9s %9s %9s %9s%n", "phase", "requests", "failed", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    static void print(PrintStream out, PhaseReport phase) {
+        Map<String, Double> latency = phase.latencyMillis();
+        out.printf("%-12s %9d %9d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", phase.name(), phase.requests(),
+                phase.failed(), phase.throughput(), latency.get("p50"), latency.get("p90"), latency.get("p99"),
+                latency.get("p99.9"), latency.get("max"));
+        if (phase.failed() > 0) {
+            out.println("             outcomes " + phase.outcomes());
+        }
+    }
+}
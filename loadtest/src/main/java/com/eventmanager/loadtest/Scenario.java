@@ -0,0 +1,18 @@
+package com.eventmanager.loadtest;
+
+import java.util.List;
+
+/** A load scenario: an unmeasured set-up that returns the phases to run, in order. */
+interface Scenario extends AutoCloseable {
+
+    String name();
+
+    String description();
+
+    /** Logs accounts in, looks up ids and creates the rows the phases need. Nothing here is measured. */
+    List<Phase> prepare(Api api, Options options) throws Exception;
+
+    @Override
+    default void close() {
+    }
+}
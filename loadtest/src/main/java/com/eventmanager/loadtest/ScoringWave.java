@@ -0,0 +1,75 @@
+package com.eventmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Judges scoring an event's submissions, then everyone reading the leaderboard, as at the end of a judging
+ * round.
+ *
+ * Set-up: the faculty account (user0) assigns {@code --judges} judges to one of its events, and students
+ * submit projects until the event has {@code --submissions}. Scores are drafts, which a judge may overwrite,
+ * so the scoring phase can cycle over the judge x submission pairs for any number of requests and the same
+ * event can be used again.
+ */
+final class ScoringWave implements Scenario {
+
+    @Override
+    public String name() {
+        return "scoring";
+    }
+
+    @Override
+    public String description() {
+        return "--judges judges score --submissions submissions, then leaderboard reads";
+    }
+
+    @Override
+    public List<Phase> prepare(Api api, Options options) {
+        String facultyToken = api.login(Accounts.FACULTY).join().token();
+        String eventId = Fixtures.organizedEvent(api, options, facultyToken);
+        System.out.println("Event " + eventId);
+
+        List<Api.Session> judges = api.loginAll(Accounts.judges(options.judges()), options.concurrency());
+        for (Api.Session judge : judges) {
+            // 400 when the judge is already assigned from an earlier run
+            api.status("POST", "/api/judge-assignment/assign", facultyToken,
+                    Map.of("eventId", eventId, "judgeEmail", Accounts.email(judge.index()))).join();
+        }
+
+        List<String> submissions = new ArrayList<>();
+        api.call("GET", "/api/submissions/event/" + eventId, judges.get(0).token(), null).path("data")
+                .forEach(submission -> submissions.add(submission.path("id").asText()));
+        int missing = options.submissions() - submissions.size();
+        if (missing > 0) {
+            for (Api.Session student : api.loginAll(Accounts.students(options.firstUser(), missing),
+                    options.concurrency())) {
+                JsonNode created = api.call("POST", "/api/submissions", student.token(), Map.of(
+                        "event", Map.of("id", eventId),
+                        "user", Map.of("id", student.userId()),
+                        "projectTitle", "Load test project " + student.index(),
+                        "description", "Created by the load test"));
+                submissions.add(created.path("data").path("id").asText());
+            }
+        }
+        List<String> scored = submissions.subList(0, options.submissions());
+
+        Phase scoring = new Phase("score", options.requests(), options.warmup(), i -> {
+            Api.Session judge = judges.get(i % judges.size());
+            String submissionId = scored.get(i / judges.size() % scored.size());
+            int total = 60 + i % 40;
+            return api.status("POST", "/api/evaluation/submit/" + submissionId, judge.token(), Map.of(
+                    "criteriaScores", "{\"innovation\":" + total / 4 + ",\"execution\":" + total / 4 + "}",
+                    "totalScore", total,
+                    "feedback", "Load test score " + i,
+                    "isDraft", true));
+        });
+        Phase leaderboard = new Phase("leaderboard", options.requests(), options.warmup(), i ->
+                api.status("GET", "/api/evaluation/leaderboard/" + eventId, judges.get(i % judges.size()).token(),
+                        null));
+        return List.of(scoring, leaderboard);
+    }
+}
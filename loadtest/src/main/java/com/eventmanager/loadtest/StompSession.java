@@ -0,0 +1,136 @@
+package com.eventmanager.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Minimal STOMP 1.2 client over {@link WebSocket}, enough to subscribe to a topic and publish to it.
+ * {@link #publish} completes when this session receives a MESSAGE whose {@code content} is the given
+ * nonce, so its latency covers the application handler and the broker fan-out, not only the send.
+ */
+final class StompSession implements WebSocket.Listener {
+
+    private final StringBuilder partial = new StringBuilder();
+    private final CompletableFuture<Void> connected = new CompletableFuture<>();
+    private final Map<String, CompletableFuture<Integer>> pending = new ConcurrentHashMap<>();
+    private final LongAdder received = new LongAdder();
+    private WebSocket socket;
+    private CompletableFuture<WebSocket> sending;
+
+    static CompletableFuture<StompSession> connect(HttpClient http, URI uri, String token) {
+        StompSession session = new StompSession();
+        return http.newWebSocketBuilder()
+                .header("Authorization", "Bearer " + token)
+                .buildAsync(uri, session)
+                .thenCompose(socket -> {
+                    session.sending = CompletableFuture.completedFuture(socket);
+                    session.send(frame("CONNECT", Map.of("accept-version", "1.2", "host", uri.getHost(),
+                            "heart-beat", "0,0"), ""));
+                    return session.connected;
+                })
+                .thenApply(ignored -> session);
+    }
+
+    void subscribe(String destination, String id) {
+        send(frame("SUBSCRIBE", Map.of("destination", destination, "id", id), ""));
+    }
+
+    CompletableFuture<Integer> publish(String destination, String json, String nonce) {
+        CompletableFuture<Integer> delivered = new CompletableFuture<>();
+        pending.put(nonce, delivered);
+        delivered.whenComplete((status, error) -> pending.remove(nonce));
+        send(frame("SEND", Map.of("destination", destination, "content-type", "application/json"), json))
+                .whenComplete((socket, error) -> {
+                    if (error != null) delivered.completeExceptionally(error);
+                });
+        return delivered;
+    }
+
+    /** MESSAGE frames received, including other sessions' messages fanned out to this one. */
+    long received() {
+        return received.sum();
+    }
+
+    void close() {
+        if (socket != null && !socket.isOutputClosed()) {
+            send(frame("DISCONNECT", Map.of(), ""))
+                    .thenCompose(socket -> socket.sendClose(WebSocket.NORMAL_CLOSURE, ""));
+        }
+    }
+
+    /** {@link WebSocket} allows one outstanding send, so sends are chained. */
+    private synchronized CompletableFuture<WebSocket> send(String frame) {
+        sending = sending.thenCompose(socket -> socket.sendText(frame, true));
+        return sending;
+    }
+
+    private static String frame(String command, Map<String, String> headers, String body) {
+        StringBuilder frame = new StringBuilder(command).append('\n');
+        headers.forEach((name, value) -> frame.append(name).append(':').append(value).append('\n'));
+        return frame.append('\n').append(body).append('\0').toString();
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        socket = webSocket;
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            for (String frame : partial.toString().split("\0")) {
+                handle(frame.stripLeading());
+            }
+            partial.setLength(0);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    private void handle(String frame) {
+        if (frame.startsWith("CONNECTED")) {
+            connected.complete(null);
+        } else if (frame.startsWith("MESSAGE")) {
+            received.increment();
+            CompletableFuture<Integer> delivered = pending.get(content(frame));
+            if (delivered != null) {
+                delivered.complete(200);
+            }
+        } else if (frame.startsWith("ERROR")) {
+            fail(new IllegalStateException("STOMP error: " + frame.replace('\n', ' ').trim()));
+        }
+    }
+
+    /** The {@code content} field of the JSON body; load-test nonces never contain quotes. */
+    private static String content(String frame) {
+        int start = frame.indexOf("\"content\":\"");
+        if (start < 0) return null;
+        start += "\"content\":\"".length();
+        int end = frame.indexOf('"', start);
+        return end < 0 ? null : frame.substring(start, end);
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        fail(new IllegalStateException("WebSocket closed: " + statusCode + " " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        fail(error);
+    }
+
+    private void fail(Throwable error) {
+        connected.completeExceptionally(error);
+        pending.values().forEach(delivered -> delivered.completeExceptionally(error));
+    }
+}